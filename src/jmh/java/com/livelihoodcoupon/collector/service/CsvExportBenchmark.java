@@ -0,0 +1,86 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
+
+/**
+ * 장소 CSV 행 출력 성능 비교 (기존 {@code PrintWriter.printf} vs {@link CsvWriter})
+ *
+ * <p>실제 수집 데이터와 비슷한 길이의 장소 {@value #ROW_COUNT}건을 출력하는 시간을 측정합니다.
+ * 디스크 I/O를 빼고 변환 비용만 비교하도록 출력은 버리는 Writer로 보냅니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvExportBenchmark {
+
+	private static final int ROW_COUNT = 10_000;
+
+	private List<PlaceEntity> places;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42L);
+		places = new ArrayList<>(ROW_COUNT);
+		for (int i = 0; i < ROW_COUNT; i++) {
+			places.add(PlaceEntity.builder()
+				.placeId(Integer.toString(10_000_000 + random.nextInt(90_000_000)))
+				.region("서울특별시 종로구")
+				.placeName("소비쿠폰 가맹점 " + i)
+				.roadAddress("서울 종로구 세종대로 " + random.nextInt(300))
+				.lotAddress("서울 종로구 세종로 " + random.nextInt(300) + "-" + random.nextInt(50))
+				.lat(37.5 + random.nextDouble() * 0.1)
+				.lng(126.9 + random.nextDouble() * 0.1)
+				.phone("02-" + (1000 + random.nextInt(9000)) + "-" + (1000 + random.nextInt(9000)))
+				.category("음식점 > 한식 > 육류,고기")
+				.keyword("소비쿠폰")
+				.categoryGroupCode("FD6")
+				.categoryGroupName("음식점")
+				.placeUrl("http://place.map.kakao.com/" + i)
+				.build());
+		}
+	}
+
+	@Benchmark
+	public Writer printf() {
+		Writer out = Writer.nullWriter();
+		PrintWriter writer = new PrintWriter(new BufferedWriter(out));
+		writer.println(String.join(",", CsvExportService.PLACE_COLUMNS));
+		for (PlaceEntity place : places) {
+			writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%f,%f,\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
+				place.getPlaceId(), place.getRegion(), place.getPlaceName(), place.getRoadAddress(),
+				place.getLotAddress(), place.getLat(), place.getLng(), place.getPhone(), place.getCategory(),
+				place.getKeyword(), place.getCategoryGroupCode(), place.getCategoryGroupName(), place.getPlaceUrl());
+		}
+		writer.flush();
+		return out;
+	}
+
+	@Benchmark
+	public Writer csvWriter() throws IOException {
+		Writer out = Writer.nullWriter();
+		CsvWriter writer = new CsvWriter(out);
+		writer.header(CsvExportService.PLACE_COLUMNS);
+		for (PlaceEntity place : places) {
+			CsvExportService.writePlaceRow(writer, place);
+		}
+		writer.flush();
+		return out;
+	}
+}
@@ -0,0 +1,84 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 점-폴리곤 포함 검사 성능 비교 (기존 리스트 순회 vs {@link PreparedPolygon})
+ *
+ * <p>시군구 경계와 비슷하게 꼭짓점이 많고 들쭉날쭉한 폴리곤에 대해, 경계 상자 주변의 무작위 점
+ * {@value #QUERY_COUNT}개를 검사하는 시간을 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointInPolygonBenchmark {
+
+	private static final int QUERY_COUNT = 1024;
+
+	@Param({"100", "1000", "5000"})
+	private int vertexCount;
+
+	private List<List<Double>> ring;
+	private PreparedPolygon preparedPolygon;
+	private double[] queryLats;
+	private double[] queryLngs;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42L);
+		ring = new ArrayList<>(vertexCount + 1);
+		for (int i = 0; i < vertexCount; i++) {
+			double angle = 2 * Math.PI * i / vertexCount;
+			double radius = 0.05 + random.nextDouble() * 0.05;
+			ring.add(List.of(127.0 + radius * Math.cos(angle), 37.0 + radius * Math.sin(angle)));
+		}
+		ring.add(ring.get(0));
+		preparedPolygon = PreparedPolygon.of(ring);
+
+		queryLats = new double[QUERY_COUNT];
+		queryLngs = new double[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			queryLats[i] = 36.88 + random.nextDouble() * 0.24;
+			queryLngs[i] = 126.88 + random.nextDouble() * 0.24;
+		}
+	}
+
+	@Benchmark
+	public int listRayCasting() {
+		int outside = 0;
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			if (GridUtil.isPointNotInPolygon(queryLats[i], queryLngs[i], ring)) {
+				outside++;
+			}
+		}
+		return outside;
+	}
+
+	@Benchmark
+	public int preparedPolygon() {
+		int outside = 0;
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			if (preparedPolygon.excludes(queryLats[i], queryLngs[i])) {
+				outside++;
+			}
+		}
+		return outside;
+	}
+
+	@Benchmark
+	public PreparedPolygon prepare() {
+		return PreparedPolygon.of(ring);
+	}
+}
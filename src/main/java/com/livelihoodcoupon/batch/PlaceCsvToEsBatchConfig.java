@@ -79,8 +79,9 @@ public class PlaceCsvToEsBatchConfig {
 	public MultiResourceItemReader<PlaceCsvDto> esMultiResourceItemReader(
 		@Value("#{jobParameters['fileResources']}") String fileResources) {
 		MultiResourceItemReader<PlaceCsvDto> reader = new MultiResourceItemReader<>();
+		Resource[] resources;
 		try {
-			Resource[] resources = Arrays.stream(fileResources.split(","))
+			resources = Arrays.stream(fileResources.split(","))
 				.map(path -> {
 					try {
 						return new org.springframework.core.io.UrlResource(path);
@@ -97,7 +98,8 @@ public class PlaceCsvToEsBatchConfig {
 			log.error("잡 파라미터에서 리소스를 로드하는 중 오류 발생: {}", fileResources, e);
 			throw new RuntimeException("리소스 로드 실패", e);
 		}
-		reader.setDelegate(placeCsvReaderDelegate());
+		// 스냅샷 파일은 바이너리 리더로, CSV 파일은 CSV 리더로 읽음 (지역마다 스냅샷이 있으면 스냅샷을 골라 섞여 있을 수 있음)
+		reader.setDelegate(new PlaceFileItemReader(placeCsvReaderDelegate()));
 		return reader;
 	}
 
@@ -75,14 +75,16 @@ public class PlaceCsvToEsIncrementalAddBatchConfig {
 	public MultiResourceItemReader<PlaceCsvDto> esIncrementalMultiResourceItemReader(
 		@Value("${batch.csv.incremental-path}") String csvFilePath) {
 		MultiResourceItemReader<PlaceCsvDto> reader = new MultiResourceItemReader<>();
+		Resource[] resources;
 		try {
-			Resource[] resources = resourcePatternResolver.getResources("file:" + csvFilePath + "/*.csv");
+			resources = PlaceSnapshotItemReader.resolvePlaceResources(resourcePatternResolver, csvFilePath);
 			reader.setResources(resources);
 		} catch (IOException e) {
 			log.error("증분 CSV 리소스 경로에서 파일을 로드하는 중 오류 발생: {}", csvFilePath, e);
 			throw new RuntimeException("증분 CSV 리소스 로드 실패", e);
 		}
-		reader.setDelegate(esIncrementalReaderDelegate());
+		// 스냅샷 파일은 바이너리 리더로, CSV 파일은 CSV 리더로 읽음 (지역마다 스냅샷이 있으면 스냅샷을 골라 섞여 있을 수 있음)
+		reader.setDelegate(new PlaceFileItemReader(esIncrementalReaderDelegate()));
 		return reader;
 	}
 
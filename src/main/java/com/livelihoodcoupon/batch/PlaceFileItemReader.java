@@ -0,0 +1,51 @@
+package com.livelihoodcoupon.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.ResourceAwareItemReaderItemStream;
+import org.springframework.core.io.Resource;
+
+/**
+ * 파일마다 스냅샷 리더와 CSV 리더 중 하나로 읽는 배치 리더
+ *
+ * <p>{@link PlaceSnapshotItemReader#resolvePlaceResources}는 지역마다 스냅샷 파일이 있으면 스냅샷 파일을, 없으면
+ * CSV 파일을 고르므로 한 디렉토리의 파일 목록에 두 형식이 섞일 수 있습니다. {@code MultiResourceItemReader}의 위임 리더로
+ * 사용하면 파일이 바뀔 때마다 확장자를 보고 읽을 리더를 정합니다.</p>
+ */
+public class PlaceFileItemReader implements ResourceAwareItemReaderItemStream<PlaceCsvDto> {
+
+	private final PlaceSnapshotItemReader snapshotReader = new PlaceSnapshotItemReader();
+	private final ResourceAwareItemReaderItemStream<PlaceCsvDto> csvReader;
+	private ResourceAwareItemReaderItemStream<PlaceCsvDto> current;
+
+	public PlaceFileItemReader(ResourceAwareItemReaderItemStream<PlaceCsvDto> csvReader) {
+		this.csvReader = csvReader;
+		this.current = csvReader;
+	}
+
+	@Override
+	public void setResource(Resource resource) {
+		current = PlaceSnapshotItemReader.isSnapshot(resource) ? snapshotReader : csvReader;
+		current.setResource(resource);
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		current.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		current.update(executionContext);
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		current.close();
+	}
+
+	@Override
+	public PlaceCsvDto read() throws Exception {
+		return current.read();
+	}
+}
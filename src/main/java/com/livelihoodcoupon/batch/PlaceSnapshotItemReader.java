@@ -0,0 +1,210 @@
+package com.livelihoodcoupon.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.ResourceAwareItemReaderItemStream;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import com.livelihoodcoupon.collector.service.PlaceSnapshotWriter;
+
+/**
+ * {@link PlaceSnapshotWriter}가 만든 바이너리 스냅샷 파일을 읽는 배치 리더
+ *
+ * <p>파일을 메모리 매핑한 뒤 블록 단위로 컬럼을 디코딩하여 {@link PlaceCsvDto}를 만듭니다. CSV 리더처럼 줄을
+ * 토큰화하거나 {@code BeanWrapperFieldSetMapper}로 리플렉션 매핑을 하지 않으며, 사전 컬럼의 문자열은 파일마다
+ * 한 번만 디코딩하여 모든 행이 같은 인스턴스를 공유합니다.</p>
+ *
+ * <p>{@code MultiResourceItemReader}의 위임 리더로 사용할 수 있습니다. (CSV 파일과 섞인 목록은
+ * {@link PlaceFileItemReader}로 읽음) 재시작 시에는 저장된 읽은 건수만큼 건너뛰고 이어서 읽습니다. 파일 하나는
+ * 2GB 미만이어야 합니다.</p>
+ */
+public class PlaceSnapshotItemReader extends AbstractItemCountingItemStreamItemReader<PlaceCsvDto>
+	implements ResourceAwareItemReaderItemStream<PlaceCsvDto> {
+
+	private static final String CSV_EXTENSION = ".csv";
+
+	private Resource resource;
+	private FileChannel channel;
+	private ByteBuffer buffer;
+	private long dictionaryOffset;
+	private String[] dictionary;
+
+	private int blockSize;
+	private int blockRow;
+	private double[] lat = new double[0];
+	private double[] lng = new double[0];
+	private int[][] codes = new int[PlaceSnapshotWriter.DICTIONARY_COLUMNS][0];
+	private String[][] texts = new String[PlaceSnapshotWriter.TEXT_COLUMNS][0];
+
+	public PlaceSnapshotItemReader() {
+		setName("placeSnapshotItemReader");
+	}
+
+	/**
+	 * 디렉토리의 장소 파일을 찾습니다.
+	 *
+	 * <p>지역·키워드별 파일(확장자를 뺀 이름)마다 하나를 고릅니다. 같은 이름의 스냅샷 파일이 있으면 스냅샷 파일을,
+	 * 없으면 CSV 파일을 반환하며, 결과는 파일 이름 순입니다. 수정 시각은 비교하지 않습니다. 내보내기
+	 * ({@code CsvExportService})는 CSV를 다시 쓰기 전에 이전 스냅샷을 지우고, 새 스냅샷은 CSV를 닫은 뒤에야 임시
+	 * 파일에서 제자리로 옮기므로 스냅샷이 있으면 항상 옆의 CSV와 같은 실행에서 만든 것입니다. (스냅샷 없이 CSV만 다시
+	 * 만든 지역이나 도중에 실패한 지역은 CSV를 읽음)</p>
+	 *
+	 * @param resolver 리소스 탐색기
+	 * @param directory 디렉토리 경로
+	 * @return 읽을 파일 목록
+	 * @throws IOException 탐색 오류
+	 */
+	public static Resource[] resolvePlaceResources(ResourcePatternResolver resolver, String directory)
+		throws IOException {
+		Map<String, Resource> byBaseName = new TreeMap<>();
+		for (Resource csv : resolver.getResources("file:" + directory + "/*" + CSV_EXTENSION)) {
+			byBaseName.put(baseName(csv, CSV_EXTENSION), csv);
+		}
+		for (Resource snapshot : resolver.getResources("file:" + directory + "/*" + PlaceSnapshotWriter.EXTENSION)) {
+			byBaseName.put(baseName(snapshot, PlaceSnapshotWriter.EXTENSION), snapshot);
+		}
+		return byBaseName.values().toArray(Resource[]::new);
+	}
+
+	/**
+	 * 스냅샷 파일인지 확인합니다.
+	 *
+	 * @param resource 파일
+	 * @return 스냅샷 확장자면 true
+	 */
+	public static boolean isSnapshot(Resource resource) {
+		return resource.getFilename() != null && resource.getFilename().endsWith(PlaceSnapshotWriter.EXTENSION);
+	}
+
+	private static String baseName(Resource resource, String extension) {
+		String filename = resource.getFilename();
+		return filename.substring(0, filename.length() - extension.length());
+	}
+
+	@Override
+	public void setResource(Resource resource) {
+		this.resource = resource;
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+		int limit = buffer.limit();
+		if (limit < Integer.BYTES * 2 + PlaceSnapshotWriter.TRAILER_BYTES
+			|| buffer.getInt(0) != PlaceSnapshotWriter.MAGIC
+			|| buffer.getInt(limit - Integer.BYTES) != PlaceSnapshotWriter.MAGIC) {
+			throw new ItemStreamException("장소 스냅샷 파일 형식이 아닙니다: " + resource);
+		}
+		int version = buffer.getInt(Integer.BYTES);
+		if (version != PlaceSnapshotWriter.VERSION) {
+			throw new ItemStreamException("지원하지 않는 장소 스냅샷 버전입니다: " + version + " (" + resource + ")");
+		}
+
+		dictionaryOffset = buffer.getLong(limit - PlaceSnapshotWriter.TRAILER_BYTES);
+		buffer.position((int)dictionaryOffset);
+		dictionary = new String[buffer.getInt()];
+		for (int i = 0; i < dictionary.length; i++) {
+			dictionary[i] = readString(buffer.getInt());
+		}
+
+		buffer.position(Integer.BYTES * 2);
+		blockSize = 0;
+		blockRow = 0;
+	}
+
+	@Override
+	protected PlaceCsvDto doRead() {
+		if (blockRow == blockSize) {
+			if (buffer.position() >= dictionaryOffset) {
+				return null;
+			}
+			readBlock();
+		}
+
+		int row = blockRow++;
+		PlaceCsvDto dto = new PlaceCsvDto();
+		dto.setPlaceId(texts[0][row]);
+		dto.setRegion(lookup(codes[0][row]));
+		dto.setPlaceName(texts[1][row]);
+		dto.setRoadAddress(texts[2][row]);
+		dto.setLotAddress(texts[3][row]);
+		dto.setLat(lat[row]);
+		dto.setLng(lng[row]);
+		dto.setPhone(texts[4][row]);
+		dto.setCategoryName(lookup(codes[1][row]));
+		dto.setKeyword(lookup(codes[2][row]));
+		dto.setCategoryGroupCode(lookup(codes[3][row]));
+		dto.setCategoryGroupName(lookup(codes[4][row]));
+		dto.setPlaceUrl(texts[5][row]);
+		return dto;
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		buffer = null;
+		dictionary = null;
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	private void readBlock() {
+		int n = buffer.getInt();
+		if (lat.length < n) {
+			lat = new double[n];
+			lng = new double[n];
+			for (int c = 0; c < codes.length; c++) {
+				codes[c] = new int[n];
+			}
+			for (int c = 0; c < texts.length; c++) {
+				texts[c] = new String[n];
+			}
+		}
+
+		buffer.asDoubleBuffer().get(lat, 0, n);
+		buffer.position(buffer.position() + n * Double.BYTES);
+		buffer.asDoubleBuffer().get(lng, 0, n);
+		buffer.position(buffer.position() + n * Double.BYTES);
+		for (int[] column : codes) {
+			buffer.asIntBuffer().get(column, 0, n);
+			buffer.position(buffer.position() + n * Integer.BYTES);
+		}
+		for (String[] column : texts) {
+			int lengthsStart = buffer.position();
+			buffer.position(lengthsStart + n * Integer.BYTES);
+			for (int i = 0; i < n; i++) {
+				column[i] = readString(buffer.getInt(lengthsStart + i * Integer.BYTES));
+			}
+		}
+
+		blockSize = n;
+		blockRow = 0;
+	}
+
+	private String readString(int length) {
+		if (length < 0) {
+			return null;
+		}
+		int start = buffer.position();
+		buffer.position(start + length);
+		byte[] bytes = new byte[length];
+		buffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private String lookup(int code) {
+		return code < 0 ? null : dictionary[code];
+	}
+}
@@ -2,6 +2,7 @@ package com.livelihoodcoupon.batch.controller;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
+import com.livelihoodcoupon.batch.PlaceSnapshotItemReader;
 import com.livelihoodcoupon.common.exception.ErrorCode;
 import com.livelihoodcoupon.common.response.CustomApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -115,7 +116,7 @@ public class ElasticsearchBatchController {
 	public ResponseEntity<CustomApiResponse<?>> runStagedCsvToEsBatchFullReload() {
 		try {
 			log.info("CSV to ES 단계적 전체 재구성 배치 작업 시작 요청됨");
-			Resource[] resources = resourcePatternResolver.getResources("file:" + csvFilePath + "/*.csv");
+			Resource[] resources = PlaceSnapshotItemReader.resolvePlaceResources(resourcePatternResolver, csvFilePath);
 			log.info("Resolved csvFilePath in controller: {}", csvFilePath);
 			log.info("Number of resources found by controller: {}", resources.length);
 			startStagedBatchJobAsync(placeCsvToEsJob, "placeCsvToEsJob", Arrays.asList(resources));
@@ -6,11 +6,18 @@ import java.util.Optional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus;
+import com.livelihoodcoupon.collector.dto.ScannedGridMigrationResult;
+import com.livelihoodcoupon.collector.service.CollectionJobService;
 import com.livelihoodcoupon.collector.service.CouponDataCollector;
-import com.livelihoodcoupon.collector.service.RegionLoader;
+import com.livelihoodcoupon.collector.service.DistributedCollectionService;
+import com.livelihoodcoupon.collector.service.RegionStore;
+import com.livelihoodcoupon.collector.service.ScannedGridMigration;
 import com.livelihoodcoupon.collector.vo.RegionData;
 import com.livelihoodcoupon.common.exception.BusinessException;
 import com.livelihoodcoupon.common.exception.ErrorCode;
@@ -24,7 +31,10 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <h3>주요 기능:</h3>
  * <ul>
- *     <li><b>전국 데이터 수집:</b> 모든 지역에 대한 소비쿠폰 장소 데이터 수집</li>
+ *     <li><b>전국 데이터 수집:</b> 모든 지역에 대한 소비쿠폰 장소 데이터 수집 (백그라운드 작업, 체크포인트 재개)</li>
+ *     <li><b>수집 작업 관리:</b> 전국 수집 작업의 진행 상태 조회 및 취소</li>
+ *     <li><b>분산 수집:</b> 전국 수집을 Redis 작업 큐에 등록하여 여러 인스턴스가 나누어 수집</li>
+ *     <li><b>격자 상태 마이그레이션:</b> 이전 DB의 격자 상태 테이블에 upsert용 유니크 제약 추가</li>
  *     <li>
  *       <b>지역별 데이터 수집:</b> 특정 지역에 대한 소비쿠폰 장소 데이터 수집
  *       <ul>
@@ -35,7 +45,11 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <h3>API 엔드포인트:</h3>
  * <ul>
- *   <li><code>GET /admin/collect/nationwide</code> - 전국 데이터 수집 시작</li>
+ *   <li><code>GET /admin/collect/nationwide</code> - 전국 데이터 수집 작업 시작</li>
+ *   <li><code>GET /admin/collect/nationwide/status</code> - 전국 데이터 수집 작업 진행 상태 조회</li>
+ *   <li><code>POST /admin/collect/nationwide/cancel</code> - 전국 데이터 수집 작업 취소</li>
+ *   <li><code>GET /admin/collect/nationwide/distributed</code> - 전국 데이터 분산 수집 작업 등록</li>
+ *   <li><code>POST /admin/collect/migrations/scanned-grid</code> - 격자 상태 테이블 마이그레이션 실행</li>
  *   <li><code>GET /admin/collect/{regionName}</code> - 특정 지역 데이터 수집 시작</li>
  * </ul>
  */
@@ -48,24 +62,37 @@ public class DataCollectionController {
 	/** 소비쿠폰 데이터 수집 서비스 */
 	private final CouponDataCollector collector;
 
-	/** 지역 정보 로더 서비스 */
-	private final RegionLoader regionLoader;
+	/** 시군구 경계 저장소 */
+	private final RegionStore regionStore;
+
+	/** 전국 수집 작업 관리 서비스 */
+	private final CollectionJobService collectionJobService;
+
+	/** 분산 수집 서비스 */
+	private final DistributedCollectionService distributedCollectionService;
+
+	/** 격자 상태 테이블 마이그레이션 */
+	private final ScannedGridMigration scannedGridMigration;
 
 	/**
 	 * 전국 데이터 수집 시작
 	 *
-	 * <p>모든 지역에 대한 소비쿠폰 장소 데이터를 수집합니다.
-	 * 이 작업은 비동기적으로 실행되며, 완료까지 상당한 시간이 소요될 수 있습니다.</p>
+	 * <p>모든 지역에 대한 소비쿠폰 장소 데이터 수집 작업을 백그라운드에서 시작하고 즉시 응답합니다.
+	 * 지역은 설정된 수만큼 병렬로 수집되며, 완료까지 상당한 시간이 소요될 수 있습니다.
+	 * 진행 상태는 <code>/admin/collect/nationwide/status</code>로 확인합니다.</p>
 	 *
-	 * @return 수집 시작 성공 메시지
-	 * @throws BusinessException 데이터 수집 시작 중 오류 발생 시
+	 * @param resume true(기본값)면 이전 작업에서 완료된 지역은 건너뛰고 나머지 지역부터 수집
+	 * @return 시작한 작업의 진행 상태 (202 Accepted)
+	 * @throws BusinessException 이미 실행 중인 작업이 있거나 작업 시작 중 오류 발생 시
 	 */
 	@GetMapping("/nationwide")
-	public ResponseEntity<CustomApiResponse<?>> collectNationwide() {
+	public ResponseEntity<CustomApiResponse<CollectionJobStatus>> collectNationwide(
+		@RequestParam(defaultValue = "true") boolean resume) {
 		try {
-			List<RegionData> regions = regionLoader.loadRegions();
-			collector.collectForRegions(regions);
-			return ResponseEntity.ok(CustomApiResponse.success("Nationwide data collection started successfully."));
+			List<RegionData> regions = regionStore.getRegions();
+			return ResponseEntity.accepted().body(CustomApiResponse.success(collectionJobService.start(regions, resume)));
+		} catch (BusinessException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("Error starting nationwide data collection: {}", e.getMessage(), e);
 			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
@@ -73,6 +100,78 @@ public class DataCollectionController {
 		}
 	}
 
+	/**
+	 * 전국 데이터 수집 작업 진행 상태 조회
+	 *
+	 * <p>현재(또는 마지막) 작업의 초당 격자 처리 수, 초당 API 호출 수, 예상 남은 시간, 지역별 진행 상태를 반환합니다.</p>
+	 *
+	 * @return 작업 진행 상태
+	 * @throws BusinessException 실행한 작업이 없을 때
+	 */
+	@GetMapping("/nationwide/status")
+	public ResponseEntity<CustomApiResponse<CollectionJobStatus>> getNationwideStatus() {
+		return ResponseEntity.ok(CustomApiResponse.success(collectionJobService.getStatus()));
+	}
+
+	/**
+	 * 전국 데이터 수집 작업 취소
+	 *
+	 * <p>수집 중인 지역은 처리한 격자까지 저장하고 중단하며, 대기 중인 지역은 시작하지 않습니다.
+	 * 취소된 지역은 다음 작업에서 이어서 수집됩니다.</p>
+	 *
+	 * @return 취소 요청 후의 작업 상태
+	 * @throws BusinessException 실행한 작업이 없을 때
+	 */
+	@PostMapping("/nationwide/cancel")
+	public ResponseEntity<CustomApiResponse<CollectionJobStatus>> cancelNationwide() {
+		return ResponseEntity.ok(CustomApiResponse.success(collectionJobService.cancel()));
+	}
+
+	/**
+	 * 전국 데이터 분산 수집 작업 등록
+	 *
+	 * <p>모든 지역을 Redis 작업 큐에 등록하고 즉시 응답합니다. 수집은 분산 수집 작업자가 켜진
+	 * (collector.distributed.enabled) 인스턴스들이 작업 큐를 나누어 처리하며, 지역별 완료 여부는 체크포인트에 기록됩니다.</p>
+	 *
+	 * @param resume true(기본값)면 이전 작업에서 완료된 지역은 건너뜀
+	 * @return 등록 결과 메시지 (202 Accepted)
+	 * @throws BusinessException 작업 등록 중 오류 발생 시
+	 */
+	@GetMapping("/nationwide/distributed")
+	public ResponseEntity<CustomApiResponse<?>> collectNationwideDistributed(
+		@RequestParam(defaultValue = "true") boolean resume) {
+		try {
+			List<RegionData> regions = regionStore.getRegions();
+			int enqueued = distributedCollectionService.enqueue(regions, resume);
+			return ResponseEntity.accepted().body(
+				CustomApiResponse.success("Distributed data collection enqueued for " + enqueued + " regions."));
+		} catch (Exception e) {
+			log.error("Error enqueuing distributed data collection: {}", e.getMessage(), e);
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+				"Error enqueuing distributed data collection: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 격자 상태 테이블 마이그레이션 실행
+	 *
+	 * <p>격자 상태 유니크 제약이 생기기 전에 쌓인 DB에서 수집을 시작하기 전에 한 번 실행합니다. 격자 식별자가 없는 행을
+	 * 채우고 중복 행을 정리한 뒤 유니크 제약을 추가하며, 이미 적용된 DB에서는 아무것도 바꾸지 않습니다.</p>
+	 *
+	 * @return 마이그레이션 결과
+	 * @throws BusinessException 마이그레이션 중 오류 발생 시
+	 */
+	@PostMapping("/migrations/scanned-grid")
+	public ResponseEntity<CustomApiResponse<ScannedGridMigrationResult>> migrateScannedGrid() {
+		try {
+			return ResponseEntity.ok(CustomApiResponse.success(scannedGridMigration.migrate()));
+		} catch (Exception e) {
+			log.error("Error migrating scanned_grid: {}", e.getMessage(), e);
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+				"Error migrating scanned_grid: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * 특정 지역 데이터 수집 시작
 	 *
@@ -86,10 +185,7 @@ public class DataCollectionController {
 	@GetMapping("/{regionName}")
 	public ResponseEntity<CustomApiResponse<?>> collectForRegionByName(@PathVariable String regionName) {
 		try {
-			List<RegionData> allRegions = regionLoader.loadRegions();
-			Optional<RegionData> targetRegion = allRegions.stream()
-				.filter(r -> r.getName().equalsIgnoreCase(regionName))
-				.findFirst();
+			Optional<RegionData> targetRegion = regionStore.findByName(regionName);
 
 			if (targetRegion.isPresent()) {
 				collector.collectForSingleRegion(targetRegion.get());
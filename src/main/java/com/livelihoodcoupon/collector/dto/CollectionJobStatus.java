@@ -0,0 +1,73 @@
+package com.livelihoodcoupon.collector.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전국 수집 작업의 진행 상태 (상태 조회 API 응답)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionJobStatus {
+	private String jobId;
+	private JobState state;
+	private String keyword;
+	private int parallelism;
+	private OffsetDateTime startedAt;
+	private OffsetDateTime finishedAt;
+	private long elapsedSeconds;
+
+	private int totalRegions;
+	private int completedRegions;
+	/** 이전 실행에서 이미 완료되어 건너뛴 지역 수 */
+	private int skippedRegions;
+	private int failedRegions;
+	private int runningRegions;
+
+	private long scannedCells;
+	private double cellsPerSecond;
+	private long apiCalls;
+	private double apiCallsPerSecond;
+	/** 남은 지역 수와 지역당 평균 소요 시간으로 계산한 예상 남은 시간 (완료한 지역이 없으면 null) */
+	private Long etaSeconds;
+
+	private List<RegionProgress> regions;
+
+	public enum JobState {
+		RUNNING,
+		COMPLETED,
+		CANCELLING,
+		CANCELLED
+	}
+
+	/**
+	 * 지역별 진행 상태
+	 */
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RegionProgress {
+		private String regionName;
+		private RegionState state;
+		private OffsetDateTime startedAt;
+		private Long elapsedMs;
+		private String errorMessage;
+	}
+
+	public enum RegionState {
+		PENDING,
+		RUNNING,
+		COMPLETED,
+		SKIPPED,
+		FAILED,
+		CANCELLED
+	}
+}
@@ -0,0 +1,38 @@
+package com.livelihoodcoupon.collector.dto;
+
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수집 재개 시 한 번에 미리 읽어오는 격자 상태 (엔티티 전체 대신 필요한 컬럼만 조회)
+ *
+ * <p>관측된 총 장소 수(totalCount)는 밀집도 예측({@code DensityQuadtree})에, 완료 격자의 지문(fingerprint)은
+ * 증분 수집의 변경 여부 판단에 사용됩니다.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GridStateDto {
+	private Long cellId;
+	private double gridCenterLat;
+	private double gridCenterLng;
+	private int gridRadius;
+	private Integer totalCount;
+	private ScannedGrid.GridStatus status;
+	private Long fingerprint;
+	/** 밀집도 예측만으로 분할한 격자 여부 (null이면 관측한 격자로 취급) */
+	private Boolean estimated;
+
+	public GridStateDto(Long cellId, double gridCenterLat, double gridCenterLng, int gridRadius, Integer totalCount,
+		ScannedGrid.GridStatus status) {
+		this(cellId, gridCenterLat, gridCenterLng, gridRadius, totalCount, status, null);
+	}
+
+	public GridStateDto(Long cellId, double gridCenterLat, double gridCenterLng, int gridRadius, Integer totalCount,
+		ScannedGrid.GridStatus status, Long fingerprint) {
+		this(cellId, gridCenterLat, gridCenterLng, gridRadius, totalCount, status, fingerprint, null);
+	}
+}
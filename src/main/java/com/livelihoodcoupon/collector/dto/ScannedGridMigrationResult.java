@@ -0,0 +1,18 @@
+package com.livelihoodcoupon.collector.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 격자 상태 테이블 마이그레이션 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ScannedGridMigrationResult {
+	/** 격자 식별자(cell_id)를 채운 이전 행 수 */
+	private int backfilledRows;
+	/** 격자별로 가장 최근 행만 남기고 삭제한 중복 행 수 */
+	private int removedDuplicates;
+	/** 이번 실행에서 유니크 제약을 추가했는지 여부 (이미 있었으면 false) */
+	private boolean constraintAdded;
+}
@@ -0,0 +1,87 @@
+package com.livelihoodcoupon.collector.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.livelihoodcoupon.common.entity.BaseEntity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전국 수집 작업의 지역별 체크포인트
+ *
+ * <p>지역 단위로 수집 시작/완료를 기록하여, 작업이 중단되거나 서버가 재시작되어도 완료된 지역은 건너뛰고
+ * 남은 지역부터 다시 수집할 수 있게 합니다. 지역 내부의 진행 상태는 {@link ScannedGrid}가 격자 단위로 기록합니다.</p>
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_collection_checkpoint_region_keyword",
+	columnNames = {"regionName", "keyword"}))
+@Getter
+@NoArgsConstructor
+public class CollectionCheckpoint extends BaseEntity {
+
+	@Column(nullable = false)
+	private String regionName;
+
+	@Column(nullable = false)
+	private String keyword;
+
+	/** 마지막으로 이 지역을 처리한 작업 ID */
+	private String jobId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private CheckpointStatus status;
+
+	/** 마지막 처리 소요 시간 (밀리초) */
+	private Long elapsedMs;
+
+	/** 실패 시 오류 메시지 */
+	@Column(length = 1000)
+	private String errorMessage;
+
+	public CollectionCheckpoint(String regionName, String keyword) {
+		this.regionName = regionName;
+		this.keyword = keyword;
+		this.status = CheckpointStatus.RUNNING;
+	}
+
+	/**
+	 * 지역 수집 시작을 기록합니다.
+	 *
+	 * @param jobId 수집 작업 ID
+	 */
+	public void markRunning(String jobId) {
+		this.jobId = jobId;
+		this.status = CheckpointStatus.RUNNING;
+		this.elapsedMs = null;
+		this.errorMessage = null;
+	}
+
+	/**
+	 * 지역 수집 종료를 기록합니다.
+	 *
+	 * @param status 종료 상태
+	 * @param elapsedMs 소요 시간 (밀리초)
+	 * @param errorMessage 실패 시 오류 메시지 (없으면 null)
+	 */
+	public void markFinished(CheckpointStatus status, long elapsedMs, String errorMessage) {
+		this.status = status;
+		this.elapsedMs = elapsedMs;
+		this.errorMessage = errorMessage == null || errorMessage.length() <= 1000
+			? errorMessage
+			: errorMessage.substring(0, 1000);
+	}
+
+	public enum CheckpointStatus {
+		RUNNING,    // 수집 중 (서버가 중단되면 이 상태로 남으며, 재시작 시 이어서 수집)
+		COMPLETED,  // 수집 및 파일 생성 완료
+		FAILED,     // 오류로 중단
+		CANCELLED   // 사용자 요청으로 중단
+	}
+}
@@ -6,7 +6,10 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
+import com.livelihoodcoupon.collector.service.GridUtil;
 import com.livelihoodcoupon.common.entity.BaseEntity;
 
 import lombok.Builder;
@@ -14,10 +17,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = ScannedGrid.UNIQUE_CELL_CONSTRAINT,
+	columnNames = {"regionName", "keyword", "cellId"}))
 @Getter
 @NoArgsConstructor
 public class ScannedGrid extends BaseEntity implements Serializable {
 
+	/** 지역·키워드별로 격자 하나에 한 행만 두는 유니크 제약 (격자 상태 저장은 이 키로 upsert) */
+	public static final String UNIQUE_CELL_CONSTRAINT = "uk_scanned_grid_region_keyword_cell";
+
 	@Column(nullable = false)
 	private String regionName;
 
@@ -32,18 +40,39 @@ public class ScannedGrid extends BaseEntity implements Serializable {
 
 	@Column(nullable = false)
 	private int gridRadius;
+
+	/** 격자 중심점과 반경으로 만든 모턴 코드 식별자 ({@link GridUtil#cellId}) */
+	@Column(nullable = false)
+	private Long cellId;
+
+	/** 밀집도 검사 때 카카오 API가 응답한 총 장소 수 (API 호출 없이 처리한 격자는 null) */
+	private Integer totalCount;
+
+	/** 완료 격자의 첫 페이지 지문 (총 장소 수와 장소 ID로 계산, 증분 수집에서 변경 여부 판단에 사용) */
+	private Long fingerprint;
+
+	/**
+	 * 탐색 호출 없이 밀집도 예측만으로 분할한 격자인지 여부 (관측값이 없으므로 밀집도 관측값으로 쓰지 않음,
+	 * 이 컬럼이 생기기 전의 행은 null)
+	 */
+	private Boolean estimated;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private GridStatus status;
 
 	@Builder
 	public ScannedGrid(String regionName, String keyword, double gridCenterLat, double gridCenterLng, int gridRadius,
-		GridStatus status) {
+		Integer totalCount, Long fingerprint, boolean estimated, GridStatus status) {
 		this.regionName = regionName;
 		this.keyword = keyword;
 		this.gridCenterLat = gridCenterLat;
 		this.gridCenterLng = gridCenterLng;
 		this.gridRadius = gridRadius;
+		this.cellId = GridUtil.cellId(gridCenterLat, gridCenterLng, gridRadius);
+		this.totalCount = totalCount;
+		this.fingerprint = fingerprint;
+		this.estimated = estimated;
 		this.status = status;
 	}
 
@@ -0,0 +1,15 @@
+package com.livelihoodcoupon.collector.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint;
+
+public interface CollectionCheckpointRepository extends JpaRepository<CollectionCheckpoint, Long> {
+
+	Optional<CollectionCheckpoint> findByRegionNameAndKeyword(String regionName, String keyword);
+
+	List<CollectionCheckpoint> findByKeywordAndStatus(String keyword, CollectionCheckpoint.CheckpointStatus status);
+}
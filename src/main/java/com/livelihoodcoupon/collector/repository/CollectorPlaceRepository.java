@@ -1,10 +1,15 @@
 package com.livelihoodcoupon.collector.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.livelihoodcoupon.collector.dto.RegionKeywordDto;
@@ -14,9 +19,20 @@ import com.livelihoodcoupon.collector.entity.PlaceEntity;
 public interface CollectorPlaceRepository extends JpaRepository<PlaceEntity, Long> {
 	boolean existsByPlaceId(String placeId);
 
+	@Query("SELECT p.placeId FROM PlaceEntity p WHERE p.placeId IN :placeIds")
+	List<String> findExistingPlaceIds(Collection<String> placeIds);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+	@Query("SELECT p.placeId FROM PlaceEntity p")
+	Stream<String> streamAllPlaceIds();
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
 	@Query("SELECT p FROM PlaceEntity p WHERE p.region = :region and p.keyword = :keyword")
 	Stream<PlaceEntity> streamByRegionAndKeyword(String region, String keyword);
 
+	List<PlaceEntity> findByRegionAndKeywordAndLatBetweenAndLngBetween(String region, String keyword, double minLat,
+		double maxLat, double minLng, double maxLng);
+
 	@Query("SELECT new com.livelihoodcoupon.collector.dto.RegionKeywordDto(p.region, p.keyword) FROM PlaceEntity p GROUP BY p.region, p.keyword")
 	List<RegionKeywordDto> findDistinctRegionAndKeyword();
 }
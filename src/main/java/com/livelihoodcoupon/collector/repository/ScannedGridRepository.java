@@ -1,21 +1,31 @@
 package com.livelihoodcoupon.collector.repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.livelihoodcoupon.collector.dto.GridStateDto;
 import com.livelihoodcoupon.collector.dto.RegionKeywordDto;
 import com.livelihoodcoupon.collector.entity.ScannedGrid;
 
 public interface ScannedGridRepository extends JpaRepository<ScannedGrid, Long> {
 
-	Optional<ScannedGrid> findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(
-		String regionName, String keyword, double lat, double lng, int radius);
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT new com.livelihoodcoupon.collector.dto.GridStateDto(s.cellId, s.gridCenterLat, s.gridCenterLng, s.gridRadius, s.totalCount, s.status, s.fingerprint, s.estimated) FROM ScannedGrid s WHERE s.regionName = :regionName AND s.keyword = :keyword")
+	Stream<GridStateDto> streamGridStates(String regionName, String keyword);
+
+	@Query("SELECT new com.livelihoodcoupon.collector.dto.GridStateDto(s.cellId, s.gridCenterLat, s.gridCenterLng, s.gridRadius, s.totalCount, s.status, s.fingerprint, s.estimated) FROM ScannedGrid s WHERE s.regionName = :regionName AND s.keyword = :keyword ORDER BY s.id")
+	List<GridStateDto> findGridStates(String regionName, String keyword);
 
-	Stream<ScannedGrid> findByRegionNameAndKeyword(String regionName, String keyword);
+	@Query("SELECT new com.livelihoodcoupon.collector.dto.GridStateDto(s.cellId, s.gridCenterLat, s.gridCenterLng, s.gridRadius, s.totalCount, s.status, s.fingerprint, s.estimated) FROM ScannedGrid s WHERE s.regionName = :regionName AND s.keyword = :keyword AND s.cellId IN :cellIds ORDER BY s.id")
+	List<GridStateDto> findGridStatesByCellIds(String regionName, String keyword, Collection<Long> cellIds);
 
 	@Query("SELECT new com.livelihoodcoupon.collector.dto.RegionKeywordDto(s.regionName, s.keyword) FROM ScannedGrid s GROUP BY s.regionName, s.keyword")
 	List<RegionKeywordDto> findDistinctRegionAndKeyword();
@@ -0,0 +1,134 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 경계 상자 목록에 대한 정적 R-트리 (STR: Sort-Tile-Recursive 방식으로 한 번에 구성)
+ *
+ * <p>노드 상자를 레벨별로 이어 붙인 원시 배열에 보관합니다. 가장 아래 레벨은 입력 상자 자체(경도로 나눈 띠 안에서
+ * 위도 순으로 정렬)이고, 윗 레벨 노드는 아래 레벨의 연속된 {@value #NODE_SIZE}개 노드를 감싸는 상자입니다.
+ * 점 질의는 점을 포함하는 노드만 따라 내려가므로 상자 수가 늘어도 확인하는 상자 수는 거의 늘지 않습니다.</p>
+ *
+ * <p>구성 이후 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.</p>
+ */
+final class BoundingBoxRTree {
+
+	static final int NODE_SIZE = 8;
+
+	private final double[] minLats;
+	private final double[] maxLats;
+	private final double[] minLngs;
+	private final double[] maxLngs;
+	/** 가장 아래 레벨 노드 위치 → 입력 상자 번호 */
+	private final int[] itemIds;
+	/** 레벨 l의 노드는 [levelStarts[l], levelStarts[l + 1]) 위치에 있음 (0이 가장 아래 레벨) */
+	private final int[] levelStarts;
+
+	BoundingBoxRTree(List<GridUtil.BoundingBox> boxes) {
+		int n = boxes.size();
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		// 경도 중심으로 정렬해 띠로 나누고, 띠 안에서는 위도 중심으로 정렬
+		Arrays.sort(order, Comparator.comparingDouble(i -> centerLng(boxes.get(i))));
+		int leafCount = (n + NODE_SIZE - 1) / NODE_SIZE;
+		int sliceSize = (int)Math.ceil(Math.sqrt(Math.max(1, leafCount))) * NODE_SIZE;
+		for (int start = 0; start < n; start += sliceSize) {
+			Arrays.sort(order, start, Math.min(n, start + sliceSize),
+				Comparator.comparingDouble(i -> centerLat(boxes.get(i))));
+		}
+
+		int total = n;
+		int levels = 1;
+		for (int size = n; size > 1; size = (size + NODE_SIZE - 1) / NODE_SIZE) {
+			total += (size + NODE_SIZE - 1) / NODE_SIZE;
+			levels++;
+		}
+		this.minLats = new double[total];
+		this.maxLats = new double[total];
+		this.minLngs = new double[total];
+		this.maxLngs = new double[total];
+		this.itemIds = new int[n];
+		this.levelStarts = new int[levels + 1];
+
+		for (int k = 0; k < n; k++) {
+			GridUtil.BoundingBox box = boxes.get(order[k]);
+			itemIds[k] = order[k];
+			minLats[k] = box.getLatStart();
+			maxLats[k] = box.getLatEnd();
+			minLngs[k] = box.getLngStart();
+			maxLngs[k] = box.getLngEnd();
+		}
+
+		levelStarts[0] = 0;
+		levelStarts[1] = n;
+		int level = 1;
+		int childStart = 0;
+		int childEnd = n;
+		while (childEnd - childStart > 1) {
+			int position = childEnd;
+			for (int first = childStart; first < childEnd; first += NODE_SIZE) {
+				int last = Math.min(childEnd, first + NODE_SIZE);
+				minLats[position] = Double.POSITIVE_INFINITY;
+				maxLats[position] = Double.NEGATIVE_INFINITY;
+				minLngs[position] = Double.POSITIVE_INFINITY;
+				maxLngs[position] = Double.NEGATIVE_INFINITY;
+				for (int c = first; c < last; c++) {
+					minLats[position] = Math.min(minLats[position], minLats[c]);
+					maxLats[position] = Math.max(maxLats[position], maxLats[c]);
+					minLngs[position] = Math.min(minLngs[position], minLngs[c]);
+					maxLngs[position] = Math.max(maxLngs[position], maxLngs[c]);
+				}
+				position++;
+			}
+			childStart = childEnd;
+			childEnd = position;
+			levelStarts[++level] = position;
+		}
+	}
+
+	/**
+	 * 점을 포함하는 상자를 차례로 넘겨줍니다.
+	 *
+	 * @param lat 위도
+	 * @param lng 경도
+	 * @param visitor 상자 번호를 받아 계속 찾으려면 true, 멈추려면 false를 반환
+	 * @return visitor가 중간에 멈췄으면 false
+	 */
+	boolean visitContaining(double lat, double lng, IntPredicate visitor) {
+		if (itemIds.length == 0) {
+			return true;
+		}
+		int rootLevel = levelStarts.length - 2;
+		return visit(rootLevel, levelStarts[rootLevel], lat, lng, visitor);
+	}
+
+	private boolean visit(int level, int node, double lat, double lng, IntPredicate visitor) {
+		if (lat < minLats[node] || lat > maxLats[node] || lng < minLngs[node] || lng > maxLngs[node]) {
+			return true;
+		}
+		if (level == 0) {
+			return visitor.test(itemIds[node]);
+		}
+		int first = levelStarts[level - 1] + (node - levelStarts[level]) * NODE_SIZE;
+		int last = Math.min(levelStarts[level], first + NODE_SIZE);
+		for (int child = first; child < last; child++) {
+			if (!visit(level - 1, child, lat, lng, visitor)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double centerLat(GridUtil.BoundingBox box) {
+		return (box.getLatStart() + box.getLatEnd()) / 2;
+	}
+
+	private static double centerLng(GridUtil.BoundingBox box) {
+		return (box.getLngStart() + box.getLngEnd()) / 2;
+	}
+}
@@ -0,0 +1,50 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.livelihoodcoupon.common.dto.KakaoPlace;
+
+/**
+ * 격자 첫 페이지 응답의 지문 (증분 수집에서 격자 내용이 바뀌었는지 판단하는 데 사용)
+ *
+ * <p>총 장소 수와 첫 페이지 장소 ID들을 64비트 FNV-1a로 해시합니다. 장소 ID는 정렬한 뒤 해시하므로 응답 순서가
+ * 바뀌어도 지문은 같습니다.</p>
+ */
+final class CellFingerprint {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private CellFingerprint() {
+	}
+
+	/**
+	 * @param totalCount 응답의 총 장소 수
+	 * @param firstPage 첫 페이지 장소 목록
+	 * @return 지문
+	 */
+	static long of(int totalCount, List<KakaoPlace> firstPage) {
+		String[] placeIds = new String[firstPage == null ? 0 : firstPage.size()];
+		for (int i = 0; i < placeIds.length; i++) {
+			placeIds[i] = firstPage.get(i).getId();
+		}
+		Arrays.sort(placeIds);
+
+		long hash = mix(FNV_OFFSET_BASIS, totalCount);
+		for (String placeId : placeIds) {
+			hash = mix(hash, placeId == null ? 0 : placeId.length());
+			for (int i = 0; placeId != null && i < placeId.length(); i++) {
+				hash = (hash ^ placeId.charAt(i)) * FNV_PRIME;
+			}
+		}
+		return hash;
+	}
+
+	private static long mix(long hash, int value) {
+		for (int shift = 0; shift < 32; shift += 8) {
+			hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,395 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus;
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus.JobState;
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus.RegionProgress;
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus.RegionState;
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint;
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint.CheckpointStatus;
+import com.livelihoodcoupon.collector.repository.CollectionCheckpointRepository;
+import com.livelihoodcoupon.collector.vo.RegionData;
+import com.livelihoodcoupon.common.config.CollectorProperties;
+import com.livelihoodcoupon.common.exception.BusinessException;
+import com.livelihoodcoupon.common.exception.ErrorCode;
+import com.livelihoodcoupon.common.service.MdcLogging;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전국 소비쿠폰 데이터 수집 작업 관리 서비스
+ *
+ * <p>전국 수집은 수 시간이 걸리므로 HTTP 요청 안에서 실행하지 않고 백그라운드 작업으로 실행합니다.
+ * 지역 단위 체크포인트({@link CollectionCheckpoint})를 남겨, 중단된 작업을 다시 시작하면 완료된 지역은
+ * 건너뛰고 나머지 지역부터 이어서 수집합니다. (지역 내부는 {@code ScannedGrid}로 격자 단위 재개)</p>
+ *
+ * <h3>주요 기능:</h3>
+ * <ul>
+ *   <li><b>지역 병렬 수집:</b> 설정된 수(collector.region-parallelism)만큼 지역을 동시에 수집.
+ *   카카오 API 동시 호출 수는 수집기의 공용 제한을 그대로 따름</li>
+ *   <li><b>체크포인트 재개:</b> 이전 작업에서 완료된 지역은 건너뜀</li>
+ *   <li><b>진행 상태:</b> 초당 격자 처리 수, 초당 API 호출 수, 예상 남은 시간, 지역별 상태 제공</li>
+ *   <li><b>취소:</b> 실행 중인 지역은 인터럽트하여 처리한 격자까지 저장하고, 대기 중인 지역은 시작하지 않음</li>
+ * </ul>
+ *
+ * <p>한 서버(JVM)에서 동시에 하나의 작업만 실행할 수 있습니다.</p>
+ */
+@Slf4j
+@Service
+public class CollectionJobService {
+
+	private final CouponDataCollector collector;
+	private final CollectionCheckpointRepository checkpointRepository;
+	private final CollectorProperties collectorProperties;
+	private final AtomicReference<CollectionJob> currentJob = new AtomicReference<>();
+
+	public CollectionJobService(CouponDataCollector collector, CollectionCheckpointRepository checkpointRepository,
+		CollectorProperties collectorProperties) {
+		this.collector = collector;
+		this.checkpointRepository = checkpointRepository;
+		this.collectorProperties = collectorProperties;
+	}
+
+	/**
+	 * 전국 수집 작업을 백그라운드에서 시작합니다.
+	 *
+	 * @param regions 수집할 지역 목록
+	 * @param resume true면 이전 작업에서 완료된 지역을 건너뜀
+	 * @return 시작한 작업의 상태
+	 * @throws BusinessException 이미 실행 중인 작업이 있을 때 (CONFLICT)
+	 */
+	public CollectionJobStatus start(List<RegionData> regions, boolean resume) {
+		CollectionJob previous = currentJob.get();
+		if (previous != null && !previous.isFinished()) {
+			throw new BusinessException(ErrorCode.CONFLICT, "전국 수집 작업이 이미 실행 중입니다. jobId=" + previous.jobId);
+		}
+
+		String keyword = CouponDataCollector.DEFAULT_KEYWORD;
+		Set<String> completedRegions = resume
+			? checkpointRepository.findByKeywordAndStatus(keyword, CheckpointStatus.COMPLETED).stream()
+			.map(CollectionCheckpoint::getRegionName)
+			.collect(Collectors.toSet())
+			: Set.of();
+
+		CollectionJob job = new CollectionJob(UUID.randomUUID().toString(), keyword, regions, completedRegions,
+			Math.max(1, collectorProperties.getRegionParallelism()), collector.getScannedCellCount(),
+			collector.getApiCallCount());
+		if (!currentJob.compareAndSet(previous, job)) {
+			throw new BusinessException(ErrorCode.CONFLICT, "전국 수집 작업이 이미 실행 중입니다.");
+		}
+
+		Thread coordinator = new Thread(() -> runJob(job), "collection-job-" + job.jobId);
+		coordinator.setDaemon(true);
+		coordinator.setUncaughtExceptionHandler((thread, e) ->
+			log.error("[수집 작업] 처리되지 않은 예외 발생 (jobId={})", job.jobId, e));
+		coordinator.start();
+
+		log.info("[수집 작업] 시작 (jobId={}, 지역 {}개, 건너뛴 지역 {}개, 병렬 {})", job.jobId, regions.size(),
+			job.skippedCount(), job.parallelism);
+		return snapshot(job);
+	}
+
+	/**
+	 * 현재(또는 마지막) 수집 작업의 진행 상태를 조회합니다.
+	 *
+	 * @return 작업 진행 상태
+	 * @throws BusinessException 실행한 작업이 없을 때 (NOT_FOUND)
+	 */
+	public CollectionJobStatus getStatus() {
+		return snapshot(requireJob());
+	}
+
+	/**
+	 * 실행 중인 수집 작업을 취소합니다.
+	 *
+	 * @return 취소 요청 후의 작업 상태
+	 * @throws BusinessException 실행한 작업이 없을 때 (NOT_FOUND)
+	 */
+	public CollectionJobStatus cancel() {
+		CollectionJob job = requireJob();
+		if (!job.isFinished() && !job.cancelled) {
+			job.cancelled = true;
+			ExecutorService pool = job.pool;
+			if (pool != null) {
+				pool.shutdownNow();
+			}
+			log.warn("[수집 작업] 취소 요청 (jobId={})", job.jobId);
+		}
+		return snapshot(job);
+	}
+
+	private CollectionJob requireJob() {
+		CollectionJob job = currentJob.get();
+		if (job == null) {
+			throw new BusinessException(ErrorCode.NOT_FOUND, "실행한 수집 작업이 없습니다.");
+		}
+		return job;
+	}
+
+	private void runJob(CollectionJob job) {
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(job.parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "collection-region-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		job.pool = pool;
+
+		try {
+			for (RegionData region : job.regionsToRun) {
+				if (job.cancelled) {
+					break;
+				}
+				pool.submit(() -> runRegion(job, region));
+			}
+		} catch (RuntimeException e) {
+			// 취소로 풀이 먼저 종료되면 남은 지역은 제출하지 않음
+			log.debug("[수집 작업] 남은 지역 제출 중단 (jobId={}): {}", job.jobId, e.getMessage());
+		}
+		pool.shutdown();
+
+		try {
+			while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+				log.info("[수집 작업] 진행 중 (jobId={}, 완료 {}/{})", job.jobId, job.countOf(RegionState.COMPLETED),
+					job.progress.size());
+			}
+		} catch (InterruptedException e) {
+			pool.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+
+		job.finish();
+		log.info("[수집 작업] 종료 (jobId={}, 상태={}, 완료 {}, 실패 {}, 취소 {})", job.jobId, job.state,
+			job.countOf(RegionState.COMPLETED), job.countOf(RegionState.FAILED), job.countOf(RegionState.CANCELLED));
+	}
+
+	private void runRegion(CollectionJob job, RegionData region) {
+		RegionTracker tracker = job.progress.get(region.getName());
+		if (job.cancelled) {
+			tracker.finish(RegionState.CANCELLED, null);
+			return;
+		}
+
+		tracker.start();
+		CollectionCheckpoint checkpoint = checkpointRepository.findByRegionNameAndKeyword(region.getName(),
+				job.keyword)
+			.orElseGet(() -> new CollectionCheckpoint(region.getName(), job.keyword));
+		checkpoint.markRunning(job.jobId);
+		checkpointRepository.save(checkpoint);
+
+		RegionState result;
+		String errorMessage = null;
+		try (MdcLogging.MdcContext ignored = MdcLogging.withContext("traceId", job.jobId)) {
+			collector.collectForSingleRegion(region);
+			result = job.cancelled || Thread.currentThread().isInterrupted()
+				? RegionState.CANCELLED
+				: RegionState.COMPLETED;
+		} catch (Exception e) {
+			log.error("[수집 작업] [ {} ] 지역 수집 실패 (jobId={}): {}", region.getName(), job.jobId, e.getMessage(), e);
+			result = job.cancelled ? RegionState.CANCELLED : RegionState.FAILED;
+			errorMessage = e.getMessage();
+		}
+
+		// 취소로 인터럽트된 상태에서도 체크포인트는 저장되도록 인터럽트 상태를 지운 뒤 기록
+		Thread.interrupted();
+		tracker.finish(result, errorMessage);
+		checkpoint.markFinished(CheckpointStatus.valueOf(result.name()), tracker.elapsedMs(), errorMessage);
+		checkpointRepository.save(checkpoint);
+	}
+
+	private CollectionJobStatus snapshot(CollectionJob job) {
+		OffsetDateTime now = OffsetDateTime.now();
+		OffsetDateTime end = job.finishedAt != null ? job.finishedAt : now;
+		long elapsedMs = Math.max(1, Duration.between(job.startedAt, end).toMillis());
+		long scannedCells = collector.getScannedCellCount() - job.baselineCells;
+		long apiCalls = collector.getApiCallCount() - job.baselineApiCalls;
+		if (job.finishedAt != null) {
+			scannedCells = job.finalCells;
+			apiCalls = job.finalApiCalls;
+		}
+
+		List<RegionProgress> regions = new ArrayList<>(job.progress.size());
+		for (RegionTracker tracker : job.progress.values()) {
+			regions.add(tracker.toProgress());
+		}
+
+		int completed = job.countOf(RegionState.COMPLETED);
+		int skipped = job.countOf(RegionState.SKIPPED);
+		int failed = job.countOf(RegionState.FAILED);
+		int cancelled = job.countOf(RegionState.CANCELLED);
+		int remaining = job.progress.size() - completed - skipped - failed - cancelled;
+
+		// 이번 작업에서 완료한 지역의 평균 소요 시간으로 남은 지역의 소요 시간 추정
+		Long etaSeconds = null;
+		double averageRegionMs = job.progress.values().stream()
+			.filter(tracker -> tracker.state == RegionState.COMPLETED)
+			.mapToLong(RegionTracker::elapsedMs)
+			.average()
+			.orElse(-1);
+		if (job.finishedAt != null || remaining == 0) {
+			etaSeconds = 0L;
+		} else if (averageRegionMs >= 0) {
+			etaSeconds = (long)Math.ceil(remaining * averageRegionMs / job.parallelism / 1000.0);
+		}
+
+		return CollectionJobStatus.builder()
+			.jobId(job.jobId)
+			.state(job.state())
+			.keyword(job.keyword)
+			.parallelism(job.parallelism)
+			.startedAt(job.startedAt)
+			.finishedAt(job.finishedAt)
+			.elapsedSeconds(elapsedMs / 1000)
+			.totalRegions(job.progress.size())
+			.completedRegions(completed)
+			.skippedRegions(skipped)
+			.failedRegions(failed)
+			.runningRegions(job.countOf(RegionState.RUNNING))
+			.scannedCells(scannedCells)
+			.cellsPerSecond(scannedCells * 1000.0 / elapsedMs)
+			.apiCalls(apiCalls)
+			.apiCallsPerSecond(apiCalls * 1000.0 / elapsedMs)
+			.etaSeconds(etaSeconds)
+			.regions(regions)
+			.build();
+	}
+
+	/**
+	 * 실행 중인 수집 작업 하나의 상태
+	 */
+	private final class CollectionJob {
+		private final String jobId;
+		private final String keyword;
+		private final int parallelism;
+		private final OffsetDateTime startedAt = OffsetDateTime.now();
+		private final long baselineCells;
+		private final long baselineApiCalls;
+		/** 지역명 → 진행 상태 (요청한 지역 순서 유지) */
+		private final Map<String, RegionTracker> progress = new LinkedHashMap<>();
+		private final List<RegionData> regionsToRun = new ArrayList<>();
+
+		private volatile ExecutorService pool;
+		private volatile boolean cancelled;
+		private volatile JobState state = JobState.RUNNING;
+		private volatile OffsetDateTime finishedAt;
+		private volatile long finalCells;
+		private volatile long finalApiCalls;
+
+		CollectionJob(String jobId, String keyword, List<RegionData> regions, Set<String> completedRegions,
+			int parallelism, long baselineCells, long baselineApiCalls) {
+			this.jobId = jobId;
+			this.keyword = keyword;
+			this.parallelism = parallelism;
+			this.baselineCells = baselineCells;
+			this.baselineApiCalls = baselineApiCalls;
+			for (RegionData region : regions) {
+				RegionTracker tracker = new RegionTracker(region.getName());
+				if (completedRegions.contains(region.getName())) {
+					tracker.state = RegionState.SKIPPED;
+				} else {
+					regionsToRun.add(region);
+				}
+				progress.put(region.getName(), tracker);
+			}
+		}
+
+		boolean isFinished() {
+			return finishedAt != null;
+		}
+
+		JobState state() {
+			if (cancelled) {
+				return isFinished() ? JobState.CANCELLED : JobState.CANCELLING;
+			}
+			return state;
+		}
+
+		int skippedCount() {
+			return countOf(RegionState.SKIPPED);
+		}
+
+		int countOf(RegionState regionState) {
+			int count = 0;
+			for (RegionTracker tracker : progress.values()) {
+				if (tracker.state == regionState) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		void finish() {
+			// 시작하지 못한 지역은 취소로 기록
+			for (RegionTracker tracker : progress.values()) {
+				if (tracker.state == RegionState.PENDING || tracker.state == RegionState.RUNNING) {
+					tracker.finish(RegionState.CANCELLED, null);
+				}
+			}
+			finalCells = collector.getScannedCellCount() - baselineCells;
+			finalApiCalls = collector.getApiCallCount() - baselineApiCalls;
+			state = cancelled ? JobState.CANCELLED : JobState.COMPLETED;
+			finishedAt = OffsetDateTime.now();
+		}
+	}
+
+	/**
+	 * 지역 하나의 진행 상태
+	 */
+	private static final class RegionTracker {
+		private final String regionName;
+		private volatile RegionState state = RegionState.PENDING;
+		private volatile OffsetDateTime startedAt;
+		private volatile long startedNanos;
+		private volatile Long elapsedMs;
+		private volatile String errorMessage;
+
+		RegionTracker(String regionName) {
+			this.regionName = regionName;
+		}
+
+		void start() {
+			startedAt = OffsetDateTime.now();
+			startedNanos = System.nanoTime();
+			state = RegionState.RUNNING;
+		}
+
+		void finish(RegionState result, String error) {
+			elapsedMs = startedAt == null ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+			errorMessage = error;
+			state = result;
+		}
+
+		long elapsedMs() {
+			if (elapsedMs != null) {
+				return elapsedMs;
+			}
+			return startedAt == null ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+		}
+
+		RegionProgress toProgress() {
+			return RegionProgress.builder()
+				.regionName(regionName)
+				.state(state)
+				.startedAt(startedAt)
+				.elapsedMs(state == RegionState.PENDING || state == RegionState.SKIPPED ? null : elapsedMs())
+				.errorMessage(errorMessage)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
+
+/**
+ * 수집한 장소(collector_place)를 JDBC 배치 INSERT로 저장하는 컴포넌트
+ *
+ * <p>JPA {@code saveAll()}은 IDENTITY 키 때문에 단건 INSERT가 반복되고, 한 건이라도 중복(place_id 유니크 제약)이면
+ * 예외로 묶음 전체가 롤백되어 중복이 아닌 장소까지 저장되지 않습니다. 이 컴포넌트는
+ * {@code INSERT ... ON CONFLICT (place_id) DO NOTHING}으로 중복 장소만 건너뛰고 나머지는 그대로 저장합니다.</p>
+ */
+@Component
+public class CollectorPlaceWriter {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO collector_place (place_id, region, place_name, road_address, lot_address, lat, lng, phone,
+		                             category, keyword, category_group_code, category_group_name, place_url,
+		                             distance, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+		ON CONFLICT (place_id) DO NOTHING
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CollectorPlaceWriter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 장소를 한 번의 배치로 저장하고, 이미 저장된 장소(place_id 중복)는 건너뜁니다.
+	 *
+	 * @param places 저장할 장소 목록
+	 * @return 실제로 저장된 장소 (건너뛴 장소 제외, 입력 순서 유지)
+	 */
+	public List<PlaceEntity> insertIgnoringDuplicates(List<PlaceEntity> places) {
+		if (places.isEmpty()) {
+			return List.of();
+		}
+
+		int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, places, places.size(), (ps, place) -> {
+			ps.setString(1, place.getPlaceId());
+			ps.setString(2, place.getRegion());
+			ps.setString(3, place.getPlaceName());
+			ps.setString(4, place.getRoadAddress());
+			ps.setString(5, place.getLotAddress());
+			ps.setObject(6, place.getLat(), Types.DOUBLE);
+			ps.setObject(7, place.getLng(), Types.DOUBLE);
+			ps.setString(8, place.getPhone());
+			ps.setString(9, place.getCategory());
+			ps.setString(10, place.getKeyword());
+			ps.setString(11, place.getCategoryGroupCode());
+			ps.setString(12, place.getCategoryGroupName());
+			ps.setString(13, place.getPlaceUrl());
+			ps.setObject(14, place.getDistance(), Types.DOUBLE);
+		});
+
+		// 행별 결과는 입력 순서와 같음. 건너뛴 행은 0, 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 저장된 것으로 봄
+		List<PlaceEntity> inserted = new ArrayList<>(places.size());
+		int index = 0;
+		for (int[] batch : results) {
+			for (int count : batch) {
+				if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+					inserted.add(places.get(index));
+				}
+				index++;
+			}
+		}
+		return inserted;
+	}
+}
@@ -1,42 +1,47 @@
 package com.livelihoodcoupon.collector.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import jakarta.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.livelihoodcoupon.collector.dto.GridStateDto;
 import com.livelihoodcoupon.collector.entity.PlaceEntity;
 import com.livelihoodcoupon.collector.entity.ScannedGrid;
 import com.livelihoodcoupon.collector.repository.CollectorPlaceRepository;
 import com.livelihoodcoupon.collector.repository.ScannedGridRepository;
+import com.livelihoodcoupon.collector.vo.GridCellInfo;
 import com.livelihoodcoupon.collector.vo.RegionData;
+import com.livelihoodcoupon.common.config.CollectorProperties;
 import com.livelihoodcoupon.common.dto.KakaoPlace;
 import com.livelihoodcoupon.common.dto.KakaoResponse;
+import com.livelihoodcoupon.common.exception.KakaoApiException;
 import com.livelihoodcoupon.common.service.KakaoApiService;
+import com.livelihoodcoupon.common.service.KakaoRateLimiter;
 import com.livelihoodcoupon.common.service.MdcLogging;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
-@RequiredArgsConstructor
 public class CouponDataCollector {
 
 	public static final String DEFAULT_KEYWORD = "소비쿠폰";
@@ -45,18 +50,63 @@ public class CouponDataCollector {
 	private static final int SMALL_REGION_GRID_RADIUS_METERS = 256;
 	private static final int SMALL_REGION_THRESHOLD_METERS = 7500; // 7.5km
 	private static final int MAX_PAGE_PER_QUERY = 45;
-	private static final int DENSE_AREA_THRESHOLD = 45;
-	private static final int MAX_RECURSION_DEPTH = 9;
-	private static final int API_CALL_DELAY_MS = 30; // Base delay
+	static final int DENSE_AREA_THRESHOLD = 45;
+	static final int MAX_RECURSION_DEPTH = 9;
 	private static final int MAX_RETRIES = 5; // Max retry attempts for 429 errors
 	private static final long INITIAL_RETRY_DELAY_MS = 1000; // Initial delay for retry (1 second)
+	private static final double METERS_PER_DEGREE = 111000;
 
 	private final KakaoApiService kakaoApiService;
+	private final CollectorPlaceWriter collectorPlaceWriter;
+	private final PlaceDedupService placeDedupService;
 	private final CollectorPlaceRepository collectorPlaceRepository;
 	private final ScannedGridRepository scannedGridRepository;
 	private final CsvExportService csvExportService;
 	private final GeoJsonExportService geoJsonExportService;
-	private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	private final ScannedGridWriter scannedGridWriter;
+	private final CollectorProperties collectorProperties;
+	/** 격자 탐색은 대부분 카카오 API 응답 대기이므로 코어 수에 묶이지 않도록 가상 스레드에서 실행 */
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	/** 동시에 진행 중인 카카오 API 호출 수를 제한하는 세마포어 (배압 역할) */
+	private final Semaphore apiCallPermits;
+	/** 진행률 집계용 누적 카운터 (처리한 격자 수, 카카오 API 호출 수) */
+	private final LongAdder scannedCellCount = new LongAdder();
+	private final LongAdder apiCallCount = new LongAdder();
+
+	public CouponDataCollector(KakaoApiService kakaoApiService, CollectorPlaceWriter collectorPlaceWriter,
+		PlaceDedupService placeDedupService, CollectorPlaceRepository collectorPlaceRepository,
+		ScannedGridRepository scannedGridRepository, CsvExportService csvExportService,
+		GeoJsonExportService geoJsonExportService, ScannedGridWriter scannedGridWriter,
+		CollectorProperties collectorProperties) {
+		this.kakaoApiService = kakaoApiService;
+		this.collectorPlaceWriter = collectorPlaceWriter;
+		this.placeDedupService = placeDedupService;
+		this.collectorPlaceRepository = collectorPlaceRepository;
+		this.scannedGridRepository = scannedGridRepository;
+		this.csvExportService = csvExportService;
+		this.geoJsonExportService = geoJsonExportService;
+		this.scannedGridWriter = scannedGridWriter;
+		this.collectorProperties = collectorProperties;
+		this.apiCallPermits = new Semaphore(Math.max(1, collectorProperties.getMaxConcurrentRequests()), true);
+	}
+
+	/**
+	 * 애플리케이션 시작 이후 처리한 격자 수를 반환합니다. (진행률 집계용)
+	 *
+	 * @return 누적 처리 격자 수
+	 */
+	public long getScannedCellCount() {
+		return scannedCellCount.sum();
+	}
+
+	/**
+	 * 애플리케이션 시작 이후 수집기가 호출한 카카오 API 횟수를 반환합니다. (재시도 포함, 진행률 집계용)
+	 *
+	 * @return 누적 API 호출 수
+	 */
+	public long getApiCallCount() {
+		return apiCallCount.sum();
+	}
 
 	@PreDestroy
 	public void shutdownExecutor() {
@@ -67,17 +117,37 @@ public class CouponDataCollector {
 	/**
 	 * 여러 지역에 대한 소비쿠폰 데이터 수집을 시작합니다.
 	 *
-	 * <p>전국 또는 여러 지역의 소비쿠폰 장소 데이터를 순차적으로 수집합니다.
-	 * 각 지역별로 독립적인 수집 프로세스를 실행하며, MDC 로깅을 통해 추적 가능합니다.</p>
+	 * <p>전국 또는 여러 지역의 소비쿠폰 장소 데이터를 수집합니다. 최대 {@code collector.region-parallelism}개
+	 * 지역을 동시에 수집하며, 지역 안의 격자 탐색은 모든 지역이 같은 가상 스레드 실행기와 API 호출 상한을 나누어
+	 * 사용합니다. MDC 로깅을 통해 추적 가능합니다.</p>
 	 *
 	 * @param regions 수집할 지역 목록 (RegionData 리스트)
 	 */
 	public void collectForRegions(List<RegionData> regions) {
-		try (MdcLogging.MdcContext ignored = MdcLogging.withContext("traceId", UUID.randomUUID().toString())) {
+		String traceId = UUID.randomUUID().toString();
+		try (MdcLogging.MdcContext ignored = MdcLogging.withContext("traceId", traceId)) {
 			log.info("======== 전체 지역, 키워드 [{}] 데이터 수집 시작 ========", DEFAULT_KEYWORD);
-			// 각 지역별로 순차적으로 데이터 수집 실행
+			Semaphore regionPermits = new Semaphore(Math.max(1, collectorProperties.getRegionParallelism()));
+			List<Callable<Void>> regionTasks = new ArrayList<>(regions.size());
 			for (RegionData region : regions) {
-				collectForSingleRegion(region);
+				regionTasks.add(() -> {
+					regionPermits.acquire();
+					try (MdcLogging.MdcContext regionContext = MdcLogging.withContext("traceId", traceId)) {
+						collectForSingleRegion(region);
+					} catch (Exception e) {
+						log.error(">>> [ {} ] 지역 수집 실패: {}", region.getName(), e.getMessage(), e);
+					} finally {
+						regionPermits.release();
+					}
+					return null;
+				});
+			}
+			try {
+				executor.invokeAll(regionTasks);
+			} catch (InterruptedException e) {
+				log.warn("전체 지역 수집이 중단되었습니다.");
+				Thread.currentThread().interrupt();
+				return;
 			}
 			log.info("======== 전체 지역, 키워드 [{}] 데이터 수집 완료 ========", DEFAULT_KEYWORD);
 		}
@@ -98,6 +168,9 @@ public class CouponDataCollector {
 	 *   <li>CSV 및 GeoJSON 파일 생성</li>
 	 * </ol>
 	 *
+	 * <p>증분 수집(collector.incremental)에서는 완료 격자의 첫 페이지만 다시 조회하여 지문이 바뀐 격자만 전체
+	 * 수집하고, 지역 전체 파일 대신 추가/삭제된 장소의 변경분 CSV만 생성합니다.</p>
+	 *
 	 * @param region 수집할 지역 정보 (폴리곤 좌표 포함)
 	 */
 	public void collectForSingleRegion(RegionData region) {
@@ -112,92 +185,271 @@ public class CouponDataCollector {
 
 		log.info(">>> [ {} ] 지역, 키워드 [ {} ]로 데이터 수집을 시작합니다.", region.getName(), DEFAULT_KEYWORD);
 
-		// 중복 방지를 위한 발견된 장소 ID 집합
-		Set<String> foundPlaceIds = ConcurrentHashMap.newKeySet();
+		// 중복 방지를 위한 장소 ID 저장소 (DB에 저장된 장소와 다른 지역에서 발견한 장소까지 공유)
+		PlaceIdRegistry foundPlaceIds = placeDedupService;
 
 		// 2. 초기 격자 생성 및 밀집도 검사
-		List<List<List<Double>>> initialRings = new ArrayList<>();
-		for (List<List<List<Double>>> polygon : multiPolygon) {
-			if (polygon != null && !polygon.isEmpty()) {
-				initialRings.add(polygon.get(0));
-			}
-		}
+		List<List<List<Double>>> initialRings = outerRings(multiPolygon);
 
 		if (initialRings.isEmpty()) {
 			log.warn("    - 경고: [ {} ] 지역에 유효한 폴리곤 데이터가 없습니다.", region.getName());
 			return;
 		}
 
-		for (List<List<Double>> ring : initialRings) {
-			GridUtil.BoundingBox bbox = GridUtil.getBoundingBoxForPolygon(ring);
-			double bboxHeight = (bbox.getLatEnd() - bbox.getLatStart()) * 111000;
-			double bboxWidth =
-				(bbox.getLngEnd() - bbox.getLngStart()) * 111000 * Math.cos(Math.toRadians(bbox.getLatStart()));
-
-			int initialRadius = (Math.max(bboxWidth, bboxHeight) < SMALL_REGION_THRESHOLD_METERS)
-				? SMALL_REGION_GRID_RADIUS_METERS
-				: INITIAL_GRID_RADIUS_METERS;
+		// 이전 실행에서 처리한 격자 상태를 한 번의 쿼리로 미리 읽어옴 (격자별 단건 조회 제거)
+		List<GridStateDto> history = scannedGridRepository.findGridStates(region.getName(), DEFAULT_KEYWORD);
+		// 재수집 시에는 기존 상태로 격자를 건너뛰지 않고, 관측된 밀집도만 탐색 단계 예측에 사용
+		// (다시 처리한 격자는 ScannedGridWriter가 같은 격자 행을 upsert하므로 행이 늘어나지 않음)
+		// (증분 수집은 완료 격자의 지문이 필요하므로 재수집 설정과 관계없이 기존 상태를 사용)
+		boolean incremental = collectorProperties.isIncremental();
+		GridStateIndex gridStates = collectorProperties.isRecollect() && !incremental
+			? GridStateIndex.empty()
+			: GridStateIndex.of(history);
+		IncrementalDelta delta = incremental ? new IncrementalDelta() : null;
+		DensityQuadtree densityModel = DensityQuadtree.of(history, DENSE_AREA_THRESHOLD);
+		if (gridStates.size() > 0) {
+			log.info("    - [ {} ] 지역의 기존 격자 상태 {}건을 불러와 이어서 수집합니다.", region.getName(), gridStates.size());
+		} else if (densityModel.size() > 0) {
+			log.info("    - [ {} ] 지역을 다시 수집합니다. 이전 밀집도 관측값 {}건으로 탐색 단계를 예측합니다.", region.getName(),
+				densityModel.size());
+		}
 
+		for (List<List<Double>> ring : initialRings) {
+			int initialRadius = initialRadiusFor(ring);
 			if (initialRadius != INITIAL_GRID_RADIUS_METERS) {
 				log.info("    - [ {} ] 지역의 일부가 작아, 격자 크기를 {}m로 조정합니다.", region.getName(), initialRadius);
 			}
 
-			scanAndCollectForPolygon(ring, initialRadius, foundPlaceIds, region.getName());
+			scanAndCollectForPolygon(ring, initialRadius, foundPlaceIds, gridStates, densityModel, region.getName(),
+				delta);
+		}
+
+		// 파일 생성 전에 버퍼에 남은 격자 상태를 모두 DB에 반영
+		scannedGridWriter.flush();
+
+		// 수집 작업이 취소된 경우 (스레드 인터럽트) 파일 생성 없이 종료, 처리한 격자는 다음 실행에서 이어서 수집
+		if (Thread.currentThread().isInterrupted()) {
+			log.warn(">>> [ {} ] 지역 수집이 중단되었습니다. 처리한 격자 상태까지 저장했습니다.", region.getName());
+			return;
 		}
 
 		log.info(">>> [ {} ] 지역, 키워드 [ {} ] 데이터 수집 및 DB 저장 완료.", region.getName(), DEFAULT_KEYWORD);
 
-		log.info(">>> [ {} ] 지역 파일 생성을 시작합니다...", region.getName());
-		csvExportService.exportSingleRegionToCsv(region.getName(), DEFAULT_KEYWORD);
-		geoJsonExportService.exportSingleRegionToGeoJson(region.getName(), DEFAULT_KEYWORD);
-		log.info(">>> [ {} ] 지역 파일 생성을 완료했습니다.", region.getName());
+		if (delta != null) {
+			log.info(">>> [ {} ] 증분 수집 결과: 변경 없는 격자 {}개, 변경된 격자 {}개, 추가 장소 {}개, 삭제 장소 {}개",
+				region.getName(), delta.getUnchangedCells(), delta.getChangedCells(), delta.getAdded().size(),
+				delta.getRemoved().size());
+			csvExportService.exportDelta(region.getName(), DEFAULT_KEYWORD, delta);
+		} else {
+			exportRegion(region.getName());
+		}
 
 		long endTime = System.currentTimeMillis();
 		log.info(">>> [ {} ] 지역 수집 완료. 총 소요 시간: {}ms", region.getName(), (endTime - startTime));
 	}
 
-	protected void scanAndCollectForPolygon(List<List<Double>> polygon, int initialRadius, Set<String> foundPlaceIds,
-		String regionName) {
-		List<List<List<Double>>> currentLevelPolygons = new ArrayList<>();
-		currentLevelPolygons.add(polygon);
-		int currentRadius = initialRadius;
-		int depth = 0;
-
-		// 3. 밀집 지역 재귀적 세분화 (최대 5단계) & 4. 수집된 데이터 DB 저장
-		while (!currentLevelPolygons.isEmpty() && depth < MAX_RECURSION_DEPTH) {
-			log.info("    - [{}단계, 반경 {}m] 총 {}개 지역 병렬 탐색 시작...", depth, currentRadius, currentLevelPolygons.size());
-
-			// 각 격자별 처리
-			List<Callable<List<List<List<Double>>>>> tasks = new ArrayList<>();
-			for (List<List<Double>> polygonToScan : currentLevelPolygons) {
-				final int radiusForTask = currentRadius;
-				Callable<List<List<List<Double>>>> task = () -> scanPolygon(regionName, DEFAULT_KEYWORD,
-					polygonToScan, radiusForTask, foundPlaceIds);
-				tasks.add(task);
+	/**
+	 * 멀티폴리곤에서 수집 대상인 외곽 링(각 폴리곤의 첫 번째 링)만 골라냅니다.
+	 *
+	 * @param multiPolygon 지역 멀티폴리곤 좌표
+	 * @return 외곽 링 목록 (비어있는 폴리곤 제외)
+	 */
+	static List<List<List<Double>>> outerRings(List<List<List<List<Double>>>> multiPolygon) {
+		List<List<List<Double>>> rings = new ArrayList<>();
+		if (multiPolygon == null) {
+			return rings;
+		}
+		for (List<List<List<Double>>> polygon : multiPolygon) {
+			if (polygon != null && !polygon.isEmpty()) {
+				rings.add(polygon.get(0));
 			}
+		}
+		return rings;
+	}
 
-			// 다음 단계 격자 생성
-			List<List<List<Double>>> nextLevelPolygons = new CopyOnWriteArrayList<>();
+	/**
+	 * 폴리곤 크기에 맞는 초기 격자 반경을 결정합니다. (작은 지역은 더 작은 격자로 시작)
+	 *
+	 * @param ring 지역 폴리곤 좌표
+	 * @return 초기 격자 반경 (미터)
+	 */
+	static int initialRadiusFor(List<List<Double>> ring) {
+		GridUtil.BoundingBox bbox = GridUtil.getBoundingBoxForPolygon(ring);
+		double bboxHeight = (bbox.getLatEnd() - bbox.getLatStart()) * 111000;
+		double bboxWidth =
+			(bbox.getLngEnd() - bbox.getLngStart()) * 111000 * Math.cos(Math.toRadians(bbox.getLatStart()));
+
+		return (Math.max(bboxWidth, bboxHeight) < SMALL_REGION_THRESHOLD_METERS)
+			? SMALL_REGION_GRID_RADIUS_METERS
+			: INITIAL_GRID_RADIUS_METERS;
+	}
+
+	/**
+	 * 지역의 수집 결과를 CSV 및 GeoJSON 파일로 생성합니다.
+	 *
+	 * @param regionName 지역명
+	 */
+	void exportRegion(String regionName) {
+		log.info(">>> [ {} ] 지역 파일 생성을 시작합니다...", regionName);
+		csvExportService.exportSingleRegionToCsv(regionName, DEFAULT_KEYWORD);
+		geoJsonExportService.exportSingleRegionToGeoJson(regionName, DEFAULT_KEYWORD);
+		log.info(">>> [ {} ] 지역 파일 생성을 완료했습니다.", regionName);
+	}
+
+	/**
+	 * 지역 폴리곤 하나를 밀집도에 따라 세분화하며 수집합니다.
+	 *
+	 * <p>단계별로 모든 격자가 끝나기를 기다리지 않습니다. 격자 하나가 밀집 지역으로 판단되면 그 하위 격자들을 바로
+	 * 작업으로 제출하므로, 느린 격자 하나 때문에 다른 격자의 하위 탐색이 멈추지 않습니다. 최대 재귀 깊이에서 밀집한
+	 * 격자는 하위 격자를 강제 수집합니다. 모든 작업이 끝나면 반환합니다.</p>
+	 *
+	 * @param polygon 지역 폴리곤 (외곽 링)
+	 * @param initialRadius 초기 격자 반경 (미터)
+	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
+	 * @param gridStates 이전 실행에서 처리한 격자 상태 색인
+	 * @param densityModel 관측된 밀집도로 구성한 쿼드트리
+	 * @param regionName 지역명
+	 * @param delta 증분 수집 변경 내역 (증분 수집이 아니면 null)
+	 */
+	protected void scanAndCollectForPolygon(List<List<Double>> polygon, int initialRadius, PlaceIdRegistry foundPlaceIds,
+		GridStateIndex gridStates, DensityQuadtree densityModel, String regionName, IncrementalDelta delta) {
+		log.info("    - [반경 {}m부터] 격자 병렬 탐색 시작...", initialRadius);
+		PolygonScan scan = new PolygonScan(regionName, PreparedPolygon.of(polygon), foundPlaceIds, gridStates,
+			densityModel, delta);
+		scan.submitPolygon(polygon, initialRadius, 0, null);
+		try {
+			scan.await();
+		} catch (InterruptedException e) {
+			log.error("Parallel collection interrupted for region {}", regionName);
+			scan.cancel();
+			Thread.currentThread().interrupt();
+			return;
+		}
+		log.info("    - 격자 탐색 완료. 단계별 격자 수: {}, 강제 수집 격자 수: {}", scan.cellsPerDepth, scan.forcedCells);
+	}
+
+	/**
+	 * 폴리곤 하나의 격자 탐색 작업 묶음
+	 *
+	 * <p>남은 작업 수를 세어 0이 되면 완료로 판단합니다. 작업은 자신의 하위 작업을 제출한 뒤에 끝나므로, 남은 작업
+	 * 수는 탐색이 모두 끝나기 전에 0이 되지 않습니다.</p>
+	 *
+	 * <p>밀집 격자의 정사각형은 하위 격자를 만드는 데만 쓰고, 장소 위치 검증은 모든 단계에서 지역 폴리곤으로 합니다.
+	 * (격자 정사각형으로 거르면 격자 밖 장소는 버리고 지역 밖 장소는 저장하게 됨)</p>
+	 */
+	private final class PolygonScan {
+
+		private final String regionName;
+		/** 장소 위치 검증용 지역 폴리곤 (전처리됨) */
+		private final PreparedPolygon regionPolygon;
+		private final PlaceIdRegistry foundPlaceIds;
+		private final GridStateIndex gridStates;
+		private final DensityQuadtree densityModel;
+		private final IncrementalDelta delta;
+		/** 남은 작업 수 (시드 제출이 끝날 때까지 유지하는 토큰 1개 포함) */
+		private final AtomicInteger pending = new AtomicInteger(1);
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+		/** 취소 시 인터럽트할 실행 중인 작업 스레드 */
+		private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+		private final AtomicIntegerArray cellsPerDepth = new AtomicIntegerArray(MAX_RECURSION_DEPTH);
+		private final LongAdder forcedCells = new LongAdder();
+		private volatile boolean cancelled;
+
+		PolygonScan(String regionName, PreparedPolygon regionPolygon, PlaceIdRegistry foundPlaceIds,
+			GridStateIndex gridStates, DensityQuadtree densityModel, IncrementalDelta delta) {
+			this.regionName = regionName;
+			this.regionPolygon = regionPolygon;
+			this.foundPlaceIds = foundPlaceIds;
+			this.gridStates = gridStates;
+			this.densityModel = densityModel;
+			this.delta = delta;
+		}
+
+		/**
+		 * 탐색 영역(지역 폴리곤 또는 밀집 격자의 정사각형)과 겹치는 격자마다 밀집도 검사 작업을 제출합니다.
+		 */
+		void submitPolygon(List<List<Double>> area, int radius, int depth, Integer parentTotalCount) {
+			GridUtil.streamGridForPolygon(area, radius).forEach(center -> {
+				cellsPerDepth.incrementAndGet(depth);
+				submit(() -> scanCell(regionName, DEFAULT_KEYWORD, regionPolygon, center, radius, parentTotalCount,
+					foundPlaceIds, gridStates, densityModel, denseCell -> onDense(denseCell, depth), delta));
+			});
+		}
+
+		/**
+		 * 밀집 격자의 하위 격자를 바로 제출합니다. (최대 재귀 깊이면 하위 격자를 강제 수집)
+		 */
+		private void onDense(GridCellInfo denseCell, int depth) {
+			List<List<Double>> cellPolygon = GridUtil.createPolygonForCell(denseCell.getLat(), denseCell.getLng(),
+				denseCell.getRadius());
+			int childRadius = denseCell.getRadius() / 2;
+			if (depth + 1 < MAX_RECURSION_DEPTH) {
+				// 부모 격자의 총 장소 수를 넘겨 하위 격자의 밀집도 예측에 사용
+				submitPolygon(cellPolygon, childRadius, depth + 1, denseCell.getTotalCount());
+				return;
+			}
+			log.warn("    - 최대 재귀 깊이({})에 도달하여 격자 강제 수집 (좌표: {},{})", MAX_RECURSION_DEPTH,
+				denseCell.getLat(), denseCell.getLng());
+			GridUtil.streamGridForPolygon(cellPolygon, childRadius).forEach(center -> {
+				forcedCells.increment();
+				submit(() -> {
+					scannedCellCount.increment();
+					savePaginatedPlaces(null, regionName, DEFAULT_KEYWORD, regionPolygon, center, childRadius,
+						foundPlaceIds, delta, null);
+				});
+			});
+		}
+
+		private void submit(Runnable task) {
+			if (cancelled) {
+				return;
+			}
+			pending.incrementAndGet();
+			try {
+				executor.execute(() -> run(task));
+			} catch (RuntimeException e) {
+				finishOne();
+				throw e;
+			}
+		}
+
+		private void run(Runnable task) {
+			Thread current = Thread.currentThread();
+			runningThreads.add(current);
 			try {
-				List<Future<List<List<List<Double>>>>> futures = executor.invokeAll(tasks);
-				for (Future<List<List<List<Double>>>> future : futures) {
-					nextLevelPolygons.addAll(future.get());
+				if (!cancelled) {
+					task.run();
 				}
-			} catch (InterruptedException | ExecutionException e) {
-				log.error("Parallel collection failed at depth {}", depth, e);
-				Thread.currentThread().interrupt();
-				break;
+			} finally {
+				runningThreads.remove(current);
+				finishOne();
 			}
+		}
 
-			currentLevelPolygons = new ArrayList<>(nextLevelPolygons);
-			currentRadius /= 2;
-			depth++;
+		private void finishOne() {
+			if (pending.decrementAndGet() == 0) {
+				done.complete(null);
+			}
 		}
 
-		if (!currentLevelPolygons.isEmpty() && depth >= MAX_RECURSION_DEPTH) {
-			log.warn("    - 최대 재귀 깊이({})에 도달하여 마지막 {}개 지역 강제 수집 시작...", depth, currentLevelPolygons.size());
-			forceCollectInParallel(regionName, DEFAULT_KEYWORD, currentLevelPolygons, currentRadius,
-				foundPlaceIds);
+		/**
+		 * 시드 토큰을 반납하고 모든 작업(하위 작업 포함)이 끝날 때까지 기다립니다.
+		 */
+		void await() throws InterruptedException {
+			finishOne();
+			try {
+				done.get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+
+		/**
+		 * 아직 시작하지 않은 작업은 건너뛰게 하고, 실행 중인 작업은 인터럽트합니다.
+		 */
+		void cancel() {
+			cancelled = true;
+			runningThreads.forEach(Thread::interrupt);
 		}
 	}
 
@@ -205,138 +457,219 @@ public class CouponDataCollector {
 	 * 폴리곤 영역을 격자로 나누어 소비쿠폰 장소 데이터를 수집합니다.
 	 *
 	 * <p>지정된 폴리곤을 격자로 분할하고, 각 격자별로 카카오 API를 호출하여 소비쿠폰 장소를 검색합니다.
-	 * 밀집도가 높은 격자는 하위 폴리곤으로 분할하여 재귀적으로 처리합니다.</p>
+	 * 밀집도가 높은 격자는 하위 단계에서 더 작은 격자로 나누어 처리하도록 반환합니다.</p>
 	 *
 	 * @param regionName 지역명
 	 * @param keyword 검색 키워드
-	 * @param polygon 검색할 폴리곤 좌표
+	 * @param regionPolygon 장소 위치 검증에 사용할 지역 폴리곤 (전처리됨)
+	 * @param area 격자를 만들 영역 (지역 폴리곤 또는 밀집 격자의 정사각형)
 	 * @param radius 격자 반경 (미터)
+	 * @param parentTotalCount 영역이 밀집 격자인 경우 그 격자의 총 장소 수 (지역 폴리곤이면 null)
 	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
-	 * @return 밀집도가 높아 재분할이 필요한 하위 폴리곤 목록
+	 * @param gridStates 이전 실행에서 처리한 격자 상태 색인
+	 * @param densityModel 관측된 밀집도로 구성한 쿼드트리
+	 * @return 밀집도가 높아 재분할이 필요한 격자 목록
 	 */
-	private List<List<List<Double>>> scanPolygon(String regionName, String keyword, List<List<Double>> polygon,
-		int radius, Set<String> foundPlaceIds) {
-		List<List<List<Double>>> denseSubPolygons = new ArrayList<>();
+	List<GridCellInfo> scanPolygon(String regionName, String keyword, PreparedPolygon regionPolygon,
+		List<List<Double>> area, int radius, Integer parentTotalCount, PlaceIdRegistry foundPlaceIds,
+		GridStateIndex gridStates, DensityQuadtree densityModel) {
+		List<GridCellInfo> denseCells = new CopyOnWriteArrayList<>();
+
+		// 영역과 겹치는 격자만 생성하여 (경계선이 지나가는 격자 포함) 각각을 개별 작업으로 만들어
+		// 가상 스레드에서 동시에 탐색
+		List<Callable<Void>> cellTasks = GridUtil.streamGridForPolygon(area, radius)
+			.<Callable<Void>>map(center -> () -> {
+				scanCell(regionName, keyword, regionPolygon, center, radius, parentTotalCount, foundPlaceIds,
+					gridStates, densityModel, denseCells::add, null);
+				return null;
+			})
+			.toList();
 
-		// 1. 폴리곤의 경계 상자(Bounding Box) 계산
-		GridUtil.BoundingBox bbox = GridUtil.getBoundingBoxForPolygon(polygon);
+		try {
+			executor.invokeAll(cellTasks);
+		} catch (InterruptedException e) {
+			log.error("Parallel cell scan interrupted for region {}", regionName, e);
+			Thread.currentThread().interrupt();
+		}
+		return denseCells;
+	}
 
-		// 2. 경계 상자 내에서 격자 중심점들 생성
-		List<double[]> gridCenters = GridUtil.generateGridForBoundingBox(bbox.getLatStart(),
-			bbox.getLatEnd(), bbox.getLngStart(), bbox.getLngEnd(), radius);
+	/**
+	 * 단일 격자에 대해 밀집도 검사 및 장소 수집을 수행합니다.
+	 *
+	 * @param regionName 지역명
+	 * @param keyword 검색 키워드
+	 * @param polygon 검색할 폴리곤 (전처리됨)
+	 * @param center 격자 중심점
+	 * @param radius 격자 반경 (미터)
+	 * @param parentTotalCount 부모 격자의 총 장소 수 (최상위 격자면 null)
+	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
+	 * @param gridStates 이전 실행에서 처리한 격자 상태 색인
+	 * @param densityModel 관측된 밀집도로 구성한 쿼드트리
+	 * @param onDense 재분할이 필요한 격자를 받아 처리할 함수
+	 * @param delta 증분 수집 변경 내역 (증분 수집이 아니면 null)
+	 */
+	private void scanCell(String regionName, String keyword, PreparedPolygon polygon, double[] center,
+		int radius, Integer parentTotalCount, PlaceIdRegistry foundPlaceIds, GridStateIndex gridStates,
+		DensityQuadtree densityModel, Consumer<GridCellInfo> onDense, IncrementalDelta delta) {
+		scannedCellCount.increment();
+		try {
+			// 3-1. 미리 읽어온 격자 상태 색인으로 이미 처리된 격자인지 확인 (중복 처리 방지)
+			long cellId = GridUtil.cellId(center[0], center[1], radius);
+			ScannedGrid.GridStatus status = gridStates.get(cellId);
+			boolean revisit = false;
+			if (status != null) {
+				if (status == ScannedGrid.GridStatus.COMPLETED) {
+					if (delta == null) {
+						// 이미 완료된 격자는 넘어감
+						log.debug("    - [완료 격자] 건너뛰기 (좌표: {},{})", center[0], center[1]);
+						return;
+					}
+					// 증분 수집: 완료 격자도 첫 페이지를 다시 조회하여 지문을 비교
+					revisit = true;
+				}
+				if (status == ScannedGrid.GridStatus.SUBDIVIDED) {
+					// 분할된 격자는 하위 탐색 목록에 추가 후 넘어감
+					log.debug("    - [분할 격자] 하위 탐색 목록에 추가 (좌표: {},{})", center[0], center[1]);
+					onDense.accept(denseCell(center, radius,
+						densityModel.estimate(center[0], center[1], radius, parentTotalCount)));
+					return;
+				}
+			}
 
-		// 3. 각 격자 중심점에 대해 데이터 수집 수행
-		for (double[] center : gridCenters) {
-			// 3-1. 격자 중심점이 폴리곤 내부에 있는지 확인 (없으면 넘어감)
-			if (GridUtil.isPointNotInPolygon(center[0], center[1], polygon)) {
-				continue;
+			// 3-2. 관측된 밀집도로 밀집 지역임이 확실한 격자는 탐색 호출 없이 바로 하위 단계로 내려감
+			if (densityModel.predictsDense(center[0], center[1], radius, parentTotalCount)) {
+				Integer estimated = densityModel.estimate(center[0], center[1], radius, parentTotalCount);
+				log.debug("    - [밀집 예측 격자] 탐색 호출 생략, 하위 탐색 목록에 추가 (좌표: {},{}, 예상 장소 수: {})",
+					center[0], center[1], estimated);
+				onDense.accept(denseCell(center, radius, estimated));
+				scannedGridWriter.enqueue(ScannedGrid.builder()
+					.regionName(regionName).keyword(keyword).gridCenterLat(center[0]).gridCenterLng(center[1])
+					.gridRadius(radius).estimated(true).status(ScannedGrid.GridStatus.SUBDIVIDED).build());
+				return;
 			}
 
-			try {
-				// 3-2. Redis 캐싱을 사용한 격자 상태 확인: 이미 처리된 격자인지 확인 (중복 처리 방지)
-				ScannedGrid cachedGrid = getCachedGrid(regionName, keyword, center[0], center[1], radius);
-				if (cachedGrid != null) {
-					ScannedGrid.GridStatus status = cachedGrid.getStatus();
-					if (status == ScannedGrid.GridStatus.COMPLETED) {
-						// 이미 완료된 격자는 넘어감
-						log.debug("    - [캐시된 완료 격자] 건너뛰기 (좌표: {},{})", center[0], center[1]);
-						continue;
-					}
-					if (status == ScannedGrid.GridStatus.SUBDIVIDED) {
-						// 분할된 격자는 하위 탐색 목록에 추가 후 넘어감
-						log.debug("    - [캐시된 분할 격자] 하위 탐색 목록에 추가 (좌표: {},{})", center[0], center[1]);
-						denseSubPolygons.add(GridUtil.createPolygonForCell(center[0], center[1], radius));
-						continue;
-					}
+			// 3-3. (이미 완료하거나 분할 처리한 격자가 아닌 탐색 대상) 신규 격자에 대해 카카오 API 호출하여 밀집도 검사
+			log.debug("    - [신규 격자] 밀집도 검사 API 호출 (좌표: {},{})", center[0], center[1]);
+			KakaoResponse response = callKakaoApiWithRetry(
+				() -> kakaoApiService.searchPlaces(keyword, center[1], center[0], radius, 1), "키워드 검색");
+			if (response == null || response.getDocuments() == null)
+				return;
+
+			// 3-4. API 응답에서 총 장소 수 확인
+			int totalCount = response.getMeta().getTotal_count();
+			long fingerprint = CellFingerprint.of(totalCount, response.getDocuments());
+			if (delta != null) {
+				delta.addReturned(response.getDocuments().stream().map(KakaoPlace::getId).toList());
+			}
+			if (revisit) {
+				Long previousFingerprint = gridStates.fingerprint(cellId);
+				if (previousFingerprint != null && previousFingerprint == fingerprint) {
+					log.debug("    - [변경 없는 격자] 페이지 수집 생략 (좌표: {},{})", center[0], center[1]);
+					delta.markUnchanged();
+					return;
 				}
+				delta.markChanged();
+			}
 
-				// 3-3. (이미 완료하거나 분할 처리한 격자가 아닌 탐색 대상) 신규 격자에 대해 카카오 API 호출하여 밀집도 검사
-				log.debug("    - [신규 격자] 밀집도 검사 API 호출 (좌표: {},{})", center[0], center[1]);
-				KakaoResponse response = callKakaoApiWithRetry(
-					() -> kakaoApiService.searchPlaces(keyword, center[1], center[0], radius, 1), "키워드 검색");
-				if (response == null || response.getDocuments() == null)
-					continue;
-
-				// 3-4. API 응답에서 총 장소 수 확인
-				int totalCount = response.getMeta().getTotal_count();
-
-				// 3-5. 밀집도에 따른 처리 분기
-				if (totalCount > DENSE_AREA_THRESHOLD) {
-					// 밀집도가 높은 지역: 하위 폴리곤으로 분할하여 재귀 처리
-					denseSubPolygons.add(GridUtil.createPolygonForCell(center[0], center[1], radius));
-					// Redis 캐시에 분할 격자 상태 저장
-					ScannedGrid subdividedGrid = ScannedGrid.builder()
-						.regionName(regionName).keyword(keyword).gridCenterLat(center[0]).gridCenterLng(center[1])
-						.gridRadius(radius).status(ScannedGrid.GridStatus.SUBDIVIDED).build();
-					cacheGrid(subdividedGrid);
-					scannedGridRepository.save(subdividedGrid);
-				} else {
-					// 일반 지역: 페이지네이션을 통해 모든 장소 데이터 수집 및 저장
-					int foundCountInCell = savePaginatedPlaces(response, regionName, keyword, polygon, center, radius,
-						foundPlaceIds);
-					// Redis 캐시에 완료 격자 상태 저장
-					ScannedGrid completedGrid = ScannedGrid.builder()
-						.regionName(regionName).keyword(keyword).gridCenterLat(center[0]).gridCenterLng(center[1])
-						.gridRadius(radius).status(ScannedGrid.GridStatus.COMPLETED).build();
-					cacheGrid(completedGrid);
-					scannedGridRepository.save(completedGrid);
-					if (foundCountInCell > 0) {
-						log.info("        - 일반 지역 (결과: {}개). {}개의 새 장소를 DB에 저장.", totalCount, foundCountInCell);
-					}
+			// 3-5. 밀집도에 따른 처리 분기
+			if (totalCount > DENSE_AREA_THRESHOLD) {
+				// 밀집도가 높은 지역: 하위 격자로 분할하여 재귀 처리
+				onDense.accept(denseCell(center, radius, totalCount));
+				// 분할 격자 상태를 (관측한 총 장소 수와 함께) 배치 저장 버퍼에 추가
+				scannedGridWriter.enqueue(ScannedGrid.builder()
+					.regionName(regionName).keyword(keyword).gridCenterLat(center[0]).gridCenterLng(center[1])
+					.gridRadius(radius).totalCount(totalCount).status(ScannedGrid.GridStatus.SUBDIVIDED).build());
+			} else {
+				// 일반 지역: 페이지네이션을 통해 모든 장소 데이터 수집 및 저장
+				IncrementalDelta.CellScan cellScan = revisit ? new IncrementalDelta.CellScan() : null;
+				int foundCountInCell = savePaginatedPlaces(response, regionName, keyword, polygon, center, radius,
+					foundPlaceIds, delta, cellScan);
+				if (cellScan != null && cellScan.isComplete()) {
+					recordRemovedPlaces(regionName, keyword, center, radius, cellScan, delta);
+				}
+				// 완료 격자 상태를 (첫 페이지 지문과 함께) 배치 저장 버퍼에 추가
+				scannedGridWriter.enqueue(ScannedGrid.builder()
+					.regionName(regionName).keyword(keyword).gridCenterLat(center[0]).gridCenterLng(center[1])
+					.gridRadius(radius).totalCount(totalCount).fingerprint(fingerprint)
+					.status(ScannedGrid.GridStatus.COMPLETED).build());
+				if (foundCountInCell > 0) {
+					log.info("        - 일반 지역 (결과: {}개). {}개의 새 장소를 DB에 저장.", totalCount, foundCountInCell);
 				}
-			} catch (Exception e) {
-				if (e instanceof InterruptedException)
-					Thread.currentThread().interrupt();
-				log.error("    - 격자 수집 중 오류 발생 (좌표: {},{}): {}", center[0], center[1], e.getMessage());
 			}
+		} catch (Exception e) {
+			if (e instanceof InterruptedException)
+				Thread.currentThread().interrupt();
+			log.error("    - 격자 수집 중 오류 발생 (좌표: {},{}): {}", center[0], center[1], e.getMessage());
 		}
-		return denseSubPolygons;
 	}
 
 	/**
-	 * 최대 재귀 깊이에 도달하여 강제로 수집을 (병렬적으로) 시작합니다.
-	 * <p>내부에서 forceCollectAtMaxDepth() 호출</p>
+	 * 다시 수집한 격자의 반경 안에 저장되어 있지만 이번 응답에는 없는 장소를 삭제된 장소로 기록합니다.
+	 *
 	 * @param regionName 지역명
 	 * @param keyword 검색 키워드
-	 * @param polygons 검색할 폴리곤 좌표
+	 * @param center 격자 중심점
 	 * @param radius 격자 반경 (미터)
-	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
+	 * @param cellScan 격자의 모든 페이지 응답 기록
+	 * @param delta 증분 수집 변경 내역
 	 */
-	private void forceCollectInParallel(String regionName, String keyword, List<List<List<Double>>> polygons,
-		int radius, Set<String> foundPlaceIds) {
-		List<Callable<Void>> tasks = new ArrayList<>();
-		for (List<List<Double>> polygon : polygons) {
-			tasks.add(() -> {
-				forceCollectAtMaxDepth(regionName, keyword, polygon, radius, foundPlaceIds);
-				return null;
-			});
-		}
-		try {
-			executor.invokeAll(tasks);
-		} catch (InterruptedException e) {
-			log.error("Parallel force collection failed", e);
-			Thread.currentThread().interrupt();
+	private void recordRemovedPlaces(String regionName, String keyword, double[] center, int radius,
+		IncrementalDelta.CellScan cellScan, IncrementalDelta delta) {
+		double latDelta = radius / METERS_PER_DEGREE;
+		double lngDelta = radius / (METERS_PER_DEGREE * Math.cos(Math.toRadians(center[0])));
+		List<PlaceEntity> storedPlaces = collectorPlaceRepository.findByRegionAndKeywordAndLatBetweenAndLngBetween(
+			regionName, keyword, center[0] - latDelta, center[0] + latDelta, center[1] - lngDelta, center[1] + lngDelta);
+		for (PlaceEntity place : storedPlaces) {
+			if (place.getLat() == null || place.getLng() == null || cellScan.returned(place.getPlaceId())) {
+				continue;
+			}
+			if (distanceMeters(center[0], center[1], place.getLat(), place.getLng()) <= radius) {
+				delta.addRemovalCandidate(place);
+			}
 		}
 	}
 
+	/** 두 좌표 사이의 거리 (미터, 격자 크기 계산과 같은 평면 근사) */
+	private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = (lat2 - lat1) * METERS_PER_DEGREE;
+		double dLng = (lng2 - lng1) * METERS_PER_DEGREE * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+		return Math.sqrt(dLat * dLat + dLng * dLng);
+	}
+
+	private GridCellInfo denseCell(double[] center, int radius, Integer totalCount) {
+		GridCellInfo cell = new GridCellInfo();
+		cell.setLat(center[0]);
+		cell.setLng(center[1]);
+		cell.setRadius(radius);
+		cell.setTotalCount(totalCount == null ? DENSE_AREA_THRESHOLD + 1 : totalCount);
+		cell.setDense(true);
+		return cell;
+	}
+
 	/**
 	 * 최대 재귀 깊이에 도달하여 강제로 수집을 시작합니다.
 	 * @param regionName 지역명
 	 * @param keyword 검색 키워드
-	 * @param polygon 검색할 폴리곤 좌표
+	 * @param regionPolygon 장소 위치 검증에 사용할 지역 폴리곤 (전처리됨)
+	 * @param area 격자를 만들 영역 (밀집 격자의 정사각형)
 	 * @param radius 격자 반경 (미터)
 	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
 	 */
-	private void forceCollectAtMaxDepth(String regionName, String keyword, List<List<Double>> polygon,
-		int radius, Set<String> foundPlaceIds) {
-		GridUtil.BoundingBox bbox = GridUtil.getBoundingBoxForPolygon(polygon);
-		List<double[]> gridCenters = GridUtil.generateGridForBoundingBox(bbox.getLatStart(),
-			bbox.getLatEnd(), bbox.getLngStart(), bbox.getLngEnd(), radius);
-
-		for (double[] center : gridCenters) {
-			if (GridUtil.isPointNotInPolygon(center[0], center[1], polygon))
-				continue;
-			savePaginatedPlaces(null, regionName, keyword, polygon, center, radius, foundPlaceIds);
+	void forceCollectAtMaxDepth(String regionName, String keyword, PreparedPolygon regionPolygon,
+		List<List<Double>> area, int radius, PlaceIdRegistry foundPlaceIds) {
+		List<Callable<Integer>> cellTasks = GridUtil.streamGridForPolygon(area, radius)
+			.<Callable<Integer>>map(center -> () -> {
+				scannedCellCount.increment();
+				return savePaginatedPlaces(null, regionName, keyword, regionPolygon, center, radius, foundPlaceIds,
+					null, null);
+			})
+			.toList();
+		try {
+			executor.invokeAll(cellTasks);
+		} catch (InterruptedException e) {
+			log.error("Parallel force collection interrupted for region {}", regionName, e);
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -346,14 +679,17 @@ public class CouponDataCollector {
 	 * @param firstPageResponse 첫 페이지 응답
 	 * @param regionName 지역명
 	 * @param keyword 검색 키워드
-	 * @param regionPolygon 지역 폴리곤 좌표
+	 * @param regionPolygon 지역 폴리곤 (전처리됨)
 	 * @param center 격자 중심점
 	 * @param radius 격자 반경 (미터)
 	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
+	 * @param delta 증분 수집 변경 내역 (증분 수집이 아니면 null)
+	 * @param cellScan 응답한 장소 ID를 기록할 격자 기록 (삭제 판단이 필요 없으면 null)
 	 * @return 실제로 저장된 장소 수
 	 */
 	private int savePaginatedPlaces(KakaoResponse firstPageResponse, String regionName, String keyword,
-		List<List<Double>> regionPolygon, double[] center, int radius, Set<String> foundPlaceIds) {
+		PreparedPolygon regionPolygon, double[] center, int radius, PlaceIdRegistry foundPlaceIds,
+		IncrementalDelta delta, IncrementalDelta.CellScan cellScan) {
 		int foundCount = 0;
 		try {
 			// 1. 첫 페이지 응답 처리
@@ -371,18 +707,32 @@ public class CouponDataCollector {
 			while (true) {
 				if (currentResponse == null || currentResponse.getDocuments() == null || currentResponse.getDocuments()
 					.isEmpty()) {
+					if (cellScan != null && currentResponse != null) {
+						cellScan.markComplete();
+					}
 					break;
 				}
 
+				List<String> returnedIds = currentResponse.getDocuments().stream().map(KakaoPlace::getId).toList();
+				if (cellScan != null) {
+					cellScan.addReturned(returnedIds);
+				}
+				if (delta != null) {
+					delta.addReturned(returnedIds);
+				}
 				int savedInPage = savePlaces(currentResponse.getDocuments(), regionName, keyword, regionPolygon,
-					foundPlaceIds);
+					foundPlaceIds, delta);
 				if (savedInPage > 0) {
-					log.info("        - 페이지 {}에서 {}개의 새 장소를 DB에 저장 시도.", currentPage, savedInPage);
+					log.info("        - 페이지 {}에서 {}개의 새 장소를 DB에 저장.", currentPage, savedInPage);
 				}
 				foundCount += savedInPage;
 
-				if (currentResponse.getMeta().is_end())
+				if (currentResponse.getMeta().is_end()) {
+					if (cellScan != null) {
+						cellScan.markComplete();
+					}
 					break;
+				}
 
 				currentPage++;
 				if (currentPage > MAX_PAGE_PER_QUERY)
@@ -407,43 +757,45 @@ public class CouponDataCollector {
 	 *
 	 * <p>이 메서드는 데이터 수집 프로세스의 핵심 부분으로, 다음과 같은 과정을 거칩니다:</p>
 	 * <ol>
-	 *   <li><b>데이터 변환:</b> KakaoPlace DTO를 PlaceEntity로 변환</li>
 	 *   <li><b>위치 검증:</b> 장소가 지정된 폴리곤 내부에 있는지 확인</li>
-	 *   <li><b>중복 검사:</b> 메모리 Set을 사용한 중복 방지</li>
-	 *   <li><b>배치 저장:</b> JPA saveAll()을 통한 효율적인 DB 저장</li>
-	 *   <li><b>예외 처리:</b> 중복 데이터 등 무결성 제약 조건 처리</li>
+	 *   <li><b>중복 검사:</b> {@link PlaceIdRegistry}로 페이지의 장소 ID를 한 번에 확인</li>
+	 *   <li><b>데이터 변환:</b> KakaoPlace DTO를 PlaceEntity로 변환</li>
+	 *   <li><b>배치 저장:</b> {@code ON CONFLICT DO NOTHING} 배치 INSERT로 저장 (중복 장소만 건너뜀)</li>
 	 * </ol>
 	 *
 	 * @param places 카카오 API에서 수집한 장소 목록
 	 * @param regionName 지역명
 	 * @param keyword 검색 키워드
-	 * @param regionPolygon 지역 폴리곤 (위치 검증용)
-	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 집합
+	 * @param regionPolygon 지역 폴리곤 (위치 검증용, 전처리됨)
+	 * @param foundPlaceIds 중복 방지를 위한 발견된 장소 ID 저장소
+	 * @param delta 증분 수집 변경 내역 (증분 수집이 아니면 null, 있으면 새로 저장한 장소를 추가분으로 기록)
 	 * @return 실제로 저장된 장소 수
 	 */
 	private int savePlaces(List<KakaoPlace> places, String regionName, String keyword,
-		List<List<Double>> regionPolygon, Set<String> foundPlaceIds) {
+		PreparedPolygon regionPolygon, PlaceIdRegistry foundPlaceIds, IncrementalDelta delta) {
 
-		List<PlaceEntity> placeEntities = new ArrayList<>();
-
-		// 1. 각 장소에 대해 데이터 변환 및 검증 수행
+		// 1. 폴리곤 내부 위치 검증 (카카오 API는 좌표를 문자열로 반환, 같은 페이지 안의 중복도 제거)
+		Map<String, KakaoPlace> placesInRegion = new LinkedHashMap<>();
 		for (KakaoPlace place : places) {
-			// 1-1. 좌표 파싱 (카카오 API는 문자열로 반환)
-			double lat = Double.parseDouble(place.getY());
-			double lng = Double.parseDouble(place.getX());
-
-			// 1-2. 폴리곤 내부 위치 검증
-			if (GridUtil.isPointNotInPolygon(lat, lng, regionPolygon)) {
+			if (regionPolygon.excludes(Double.parseDouble(place.getY()), Double.parseDouble(place.getX()))) {
 				continue; // 폴리곤 외부 장소는 제외
 			}
+			placesInRegion.putIfAbsent(place.getId(), place);
+		}
+		if (placesInRegion.isEmpty()) {
+			return 0;
+		}
 
-			// 1-3. 메모리 기반 중복 검사 (DB 조회보다 빠름)
-			if (foundPlaceIds.contains(place.getId())) {
-				continue; // 이미 이번 작업에서 추가된 장소이므로 건너뛰기
-			}
+		// 2. 중복 검사 (격자 작업이 동시에 실행되므로 등록 결과로 판단)
+		Set<String> newPlaceIds = foundPlaceIds.registerAll(placesInRegion.keySet());
 
-			// 1-4. KakaoPlace → PlaceEntity 변환
-			PlaceEntity entity = PlaceEntity.builder()
+		// 3. KakaoPlace → PlaceEntity 변환
+		List<PlaceEntity> placeEntities = new ArrayList<>(newPlaceIds.size());
+		for (KakaoPlace place : placesInRegion.values()) {
+			if (!newPlaceIds.contains(place.getId())) {
+				continue; // 이미 저장되었거나 이번 작업에서 추가된 장소이므로 건너뛰기
+			}
+			placeEntities.add(PlaceEntity.builder()
 				.placeId(place.getId())
 				.placeName(place.getPlaceName())
 				.category(place.getCategoryName())
@@ -452,31 +804,21 @@ public class CouponDataCollector {
 				.phone(place.getPhone())
 				.lotAddress(place.getAddressName())
 				.roadAddress(place.getRoadAddressName())
-				.lng(lng)
-				.lat(lat)
+				.lng(Double.parseDouble(place.getX()))
+				.lat(Double.parseDouble(place.getY()))
 				.placeUrl(place.getPlaceUrl())
 				.region(regionName)
 				.keyword(keyword)
-				.build();
-
-			placeEntities.add(entity);
-			foundPlaceIds.add(place.getId()); // 중복 방지를 위해 Set에 추가
+				.build());
 		}
 
-		// 2. 저장할 데이터가 없으면 0 반환
-		if (placeEntities.isEmpty()) {
-			return 0;
-		}
-
-		// 3. JPA를 통한 배치 저장 (효율적인 DB 작업)
-		try {
-			collectorPlaceRepository.saveAll(placeEntities);
-			return placeEntities.size();
-		} catch (DataIntegrityViolationException e) {
-			// 4. 중복 데이터 등 무결성 제약 조건 위반 시 로그만 남기고 계속 진행
-			log.warn("    - 데이터 저장 중 무결성 제약 조건 위반 발생 (예: 중복 데이터). 건너뜁니다.");
-			return 0;
+		// 4. 배치 저장 (동시에 발견되어 이미 저장된 장소는 DB에서 건너뜀)
+		List<PlaceEntity> inserted = collectorPlaceWriter.insertIgnoringDuplicates(placeEntities);
+		if (delta != null) {
+			// 다른 작업이 먼저 저장해 DB에서 건너뛴 장소는 추가분이 아님
+			delta.addAdded(inserted);
 		}
+		return inserted.size();
 	}
 
 	/**
@@ -489,65 +831,29 @@ public class CouponDataCollector {
 	 */
 	private <T> T callKakaoApiWithRetry(Callable<T> apiCall, String errorMessage) throws Exception {
 		int attempts = 0;
-		long currentDelay = API_CALL_DELAY_MS;
 
+		// 호출 간격은 KakaoApiService 내부의 공용 속도 제한기(KakaoRateLimiter)가 조절하므로 고정 대기는 두지 않음
 		while (attempts < MAX_RETRIES) {
+			long retryDelay;
+			apiCallPermits.acquire();
 			try {
-				Thread.sleep(currentDelay);
+				apiCallCount.increment();
 				return apiCall.call();
-			} catch (WebClientResponseException e) {
-				if (e.getStatusCode().value() == 429) {
-					attempts++;
-					log.warn("    - API 호출 429 오류 발생 (재시도 {}/{}) - {}", attempts, MAX_RETRIES, errorMessage);
-					currentDelay = (long)(INITIAL_RETRY_DELAY_MS * Math.pow(2, attempts - 1));
-					if (currentDelay > 60000)
-						currentDelay = 60000;
-					log.warn("    - 다음 재시도까지 {}ms 대기...", currentDelay);
-				} else {
+			} catch (KakaoApiException | WebClientResponseException e) {
+				if (!KakaoRateLimiter.isTooManyRequests(e)) {
 					throw e;
 				}
+				attempts++;
+				log.warn("    - API 호출 429 오류 발생 (재시도 {}/{}) - {}", attempts, MAX_RETRIES, errorMessage);
+				retryDelay = Math.min((long)(INITIAL_RETRY_DELAY_MS * Math.pow(2, attempts - 1)), 60000);
+				log.warn("    - 다음 재시도까지 {}ms 대기...", retryDelay);
+			} finally {
+				apiCallPermits.release();
 			}
+			// 재시도 대기 중에는 동시 호출 슬롯을 점유하지 않음
+			Thread.sleep(retryDelay);
 			// 기타 Exception들(InterruptedException, TimeoutException 등)은 자동으로 상위로 전파됨
 		}
 		throw new RuntimeException("API 호출 최대 재시도 횟수 초과: " + errorMessage);
 	}
-
-	/**
-	 * Redis에서 격자 상태를 조회
-	 *
-	 * <p>지정된 좌표와 반경에 해당하는 격자의 처리 상태를 Redis 캐시에서 조회합니다.
-	 * 캐시에 데이터가 없으면 데이터베이스에서 조회하여 반환합니다.</p>
-	 *
-	 * <p><strong>캐시 키 형식:</strong> {regionName}_{keyword}_{lat}_{lng}_{radius}</p>
-	 *
-	 * @param regionName 지역명
-	 * @param keyword 검색 키워드
-	 * @param lat 격자 중심 위도
-	 * @param lng 격자 중심 경도
-	 * @param radius 격자 반경 (미터)
-	 * @return 캐시된 격자 정보 (없으면 null)
-	 */
-	@Cacheable(value = "gridCache", key = "#regionName + '_' + #keyword + '_' + #lat + '_' + #lng + '_' + #radius")
-	public ScannedGrid getCachedGrid(String regionName, String keyword, double lat, double lng, int radius) {
-		// Redis 캐시에서 조회 (실패 시 DB에서 조회)
-		Optional<ScannedGrid> existingGrid = scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(
-			regionName, keyword, lat, lng, radius);
-		return existingGrid.orElse(null);
-	}
-
-	/**
-	 * Redis에 격자 상태를 저장
-	 *
-	 * <p>처리된 격자의 상태 정보를 Redis 캐시에 저장합니다.
-	 * 이후 동일한 격자에 대한 조회 시 데이터베이스 접근 없이 캐시에서 빠르게 조회할 수 있습니다.</p>
-	 *
-	 * <p><strong>캐시 키 형식:</strong> {regionName}_{keyword}_{lat}_{lng}_{radius}</p>
-	 *
-	 * @param grid 저장할 격자 정보
-	 * @return 저장된 격자 정보
-	 */
-	@CachePut(value = "gridCache", key = "#grid.regionName + '_' + #grid.keyword + '_' + #grid.gridCenterLat + '_' + #grid.gridCenterLng + '_' + #grid.gridRadius")
-	public ScannedGrid cacheGrid(ScannedGrid grid) {
-		return grid;
-	}
 }
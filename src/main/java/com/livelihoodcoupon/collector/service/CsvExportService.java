@@ -1,38 +1,86 @@
 package com.livelihoodcoupon.collector.service;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
 import org.locationtech.jts.geom.Point;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.livelihoodcoupon.collector.dto.RegionKeywordDto;
 import com.livelihoodcoupon.collector.entity.PlaceEntity;
 import com.livelihoodcoupon.collector.repository.CollectorPlaceRepository;
+import com.livelihoodcoupon.common.config.CollectorProperties;
 import com.livelihoodcoupon.parkinglot.entity.ParkingLot;
 import com.livelihoodcoupon.parkinglot.repository.ParkingLotRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
-@RequiredArgsConstructor
 public class CsvExportService {
 
 	private static final Logger log = LoggerFactory.getLogger(CsvExportService.class);
 	private final CollectorPlaceRepository collectorPlaceRepository;
 	private final ParkingLotRepository parkingLotRepository;
+	private final CollectorProperties collectorProperties;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate readOnlyTransaction;
+	private final EntityManager entityManager;
+
+	/** 내보내는 중인 스냅샷 파일의 접미사 (CSV를 닫은 뒤 이 접미사를 뗀 이름으로 옮김) */
+	static final String SNAPSHOT_TEMP_SUFFIX = ".tmp";
+	private static final DateTimeFormatter DELTA_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	static final String[] PLACE_COLUMNS = {"placeId", "region", "placeName", "roadAddress", "lotAddress", "lat", "lng",
+		"phone", "categoryName", "keyword", "categoryGroupCode", "categoryGroupName", "placeUrl"};
+	static final String[] PARKING_COLUMNS = {"parkingLotNo", "parkingLotNm", "parkingLotSe", "parkingLotType",
+		"roadAddress", "lotAddress", "parkingCapacity", "feedingSe", "enforceSe", "operDay", "weekOpenTime",
+		"weekCloseTime", "satOpenTime", "satCloseTime", "holidayOpenTime", "holidayCloseTime", "parkingChargeInfo",
+		"basicTime", "basicCharge", "addUnitTime", "addUnitCharge", "dayTicketApplyTime", "dayTicketCharge",
+		"paymentMethod", "specialComment", "institutionName", "phoneNumber", "lat", "lng", "disabledParkingZoneYn",
+		"referenceDate", "institutionCode"};
+
+	public CsvExportService(CollectorPlaceRepository collectorPlaceRepository,
+		ParkingLotRepository parkingLotRepository, CollectorProperties collectorProperties,
+		MeterRegistry meterRegistry, PlatformTransactionManager transactionManager, EntityManager entityManager) {
+		this.collectorPlaceRepository = collectorPlaceRepository;
+		this.parkingLotRepository = parkingLotRepository;
+		this.collectorProperties = collectorProperties;
+		this.meterRegistry = meterRegistry;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.entityManager = entityManager;
+	}
 
 	/**
 	 * DB에 저장된 모든 (지역, 키워드) 조합의 데이터를 각각의 CSV 파일로 생성합니다.
+	 *
+	 * <p>조합별 파일은 서로 독립적이므로 설정된 수(collector.export-parallelism)의 작업 스레드에 나누어 동시에
+	 * 생성합니다. 작업마다 자체 읽기 전용 트랜잭션과 스트리밍 커서를 사용하며, 작업 스레드별 처리량은
+	 * {@code export.csv.rows}(행 수), {@code export.csv.region.duration}(조합별 소요 시간) 메트릭으로 기록합니다.
+	 * 한 조합이 실패해도 나머지 조합은 계속 생성합니다.</p>
 	 */
 	public void exportAllRegionsToCsv() {
 		log.info("전체 (지역, 키워드) 조합의 CSV 파일 내보내기 작업을 시작합니다.");
@@ -43,13 +91,71 @@ public class CsvExportService {
 			return;
 		}
 
-		log.info("총 {}개 (지역, 키워드) 조합에 대한 CSV 파일 생성을 시작합니다.", regionKeywords.size());
+		int parallelism = Math.max(1, Math.min(collectorProperties.getExportParallelism(), regionKeywords.size()));
+		log.info("총 {}개 (지역, 키워드) 조합에 대한 CSV 파일 생성을 시작합니다. (동시 작업 {}개)", regionKeywords.size(),
+			parallelism);
+
+		long startTime = System.currentTimeMillis();
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "csv-export-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 
-		for (RegionKeywordDto dto : regionKeywords) {
-			exportSingleRegionToCsv(dto.getRegionName(), dto.getKeyword());
+		long totalRows = 0;
+		try {
+			List<Future<Long>> futures = new ArrayList<>(regionKeywords.size());
+			for (RegionKeywordDto dto : regionKeywords) {
+				futures.add(pool.submit(() -> exportRegionInTransaction(dto.getRegionName(), dto.getKeyword())));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					totalRows += futures.get(i).get();
+				} catch (ExecutionException e) {
+					// 한 조합이 실패해도 나머지 조합은 계속 생성
+					RegionKeywordDto dto = regionKeywords.get(i);
+					log.error("[{}-{}] CSV 파일 저장 중 오류가 발생했습니다: {}", dto.getRegionName(), dto.getKeyword(),
+						e.getCause().getMessage(), e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("CSV 파일 내보내기 작업이 중단되었습니다.");
+		} finally {
+			pool.shutdownNow();
 		}
 
-		log.info("전체 (지역, 키워드) 조합의 CSV 파일 내보내기 작업을 완료했습니다.");
+		long elapsedMs = Math.max(1, System.currentTimeMillis() - startTime);
+		log.info("전체 (지역, 키워드) 조합의 CSV 파일 내보내기 작업을 완료했습니다. (총 {}건, {}ms, 초당 {}건)", totalRows,
+			elapsedMs, totalRows * 1000 / elapsedMs);
+	}
+
+	/**
+	 * 작업 스레드에서 (지역, 키워드) 조합 하나를 자체 읽기 전용 트랜잭션으로 내보내고 처리량을 기록합니다.
+	 *
+	 * @return 저장한 행 수 (실패 시 0)
+	 */
+	private long exportRegionInTransaction(String regionName, String keyword) {
+		String worker = Thread.currentThread().getName();
+		long startNanos = System.nanoTime();
+		Long rows = readOnlyTransaction.execute(status -> exportSingleRegion(regionName, keyword));
+		long elapsedNanos = System.nanoTime() - startNanos;
+
+		long written = rows == null ? 0 : rows;
+		Counter.builder("export.csv.rows")
+			.tag("worker", worker)
+			.description("CSV로 내보낸 장소 행 수")
+			.register(meterRegistry)
+			.increment(written);
+		Timer.builder("export.csv.region.duration")
+			.tag("worker", worker)
+			.description("(지역, 키워드) 조합 하나의 CSV 생성 시간")
+			.register(meterRegistry)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		log.debug("[{}-{}] {} 처리량: 초당 {}건", regionName, keyword, worker,
+			written * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+		return written;
 	}
 
 	/**
@@ -59,43 +165,115 @@ public class CsvExportService {
 	 */
 	@Transactional(readOnly = true)
 	public void exportSingleRegionToCsv(String regionName, String keyword) {
-		String filename = String.format("data/csv/%s_%s_places_data.csv",
-			regionName.replace(" ", "_"),
-			keyword.replace(" ", "_"));
-		log.info("[{}-{}] CSV 파일 저장을 시작합니다. 파일명: {}", regionName, keyword, filename);
-
-		new File("data/csv").mkdirs();
-
-		AtomicLong count = new AtomicLong(0);
-
-		try (Stream<PlaceEntity> placesStream = collectorPlaceRepository
-			.streamByRegionAndKeyword(regionName, keyword); PrintWriter writer = new PrintWriter(
-			new BufferedWriter(new FileWriter(filename)))) {
-			writer.println(
-				"placeId,region,placeName,roadAddress,lotAddress,lat,lng,phone,categoryName,keyword,categoryGroupCode,categoryGroupName,placeUrl");
-
-			placesStream.forEach(place -> {
-				writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%f,%f,\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
-					place.getPlaceId(),
-					place.getRegion(),
-					place.getPlaceName(),
-					place.getRoadAddress(),
-					place.getLotAddress(),
-					place.getLat(),
-					place.getLng(),
-					place.getPhone(),
-					place.getCategory(),
-					place.getKeyword(),
-					place.getCategoryGroupCode(),
-					place.getCategoryGroupName(),
-					place.getPlaceUrl()
-				);
-				count.getAndIncrement();
-			});
-
-			log.info("[{}-{}] CSV 파일 저장을 완료했습니다. (총 {}건)", regionName, keyword, count.get());
+		exportSingleRegion(regionName, keyword);
+	}
+
+	/**
+	 * 특정 지역과 키워드의 데이터를 CSV 파일로 생성합니다. (호출하는 쪽에서 트랜잭션을 열어야 함)
+	 *
+	 * <p>스냅샷을 함께 저장할 때는 다음 순서를 지킵니다. 배치 작업은 같은 이름의 스냅샷이 있으면 CSV 대신 스냅샷을
+	 * 읽으므로({@link com.livelihoodcoupon.batch.PlaceSnapshotItemReader#resolvePlaceResources}), 스냅샷은 항상
+	 * 옆의 CSV와 같은 실행에서 만든 것이어야 합니다.</p>
+	 * <ol>
+	 *   <li>CSV를 다시 쓰기 전에 이전 스냅샷을 지웁니다. (실패하거나 스냅샷을 끈 실행에서 새 CSV 옆에 오래된 스냅샷이
+	 *   남지 않음)</li>
+	 *   <li>스냅샷은 임시 파일({@value #SNAPSHOT_TEMP_SUFFIX})에 씁니다.</li>
+	 *   <li>CSV 파일을 닫은 뒤에야 임시 스냅샷을 제자리로 옮깁니다. 도중에 실패하면 임시 파일을 지우고 CSV만 남깁니다.</li>
+	 * </ol>
+	 *
+	 * <p>스트림으로 읽은 장소는 파일에 쓴 뒤 영속성 컨텍스트에서 분리하여, 트랜잭션이 끝날 때까지 모든 행이 메모리에
+	 * 남지 않게 합니다.</p>
+	 *
+	 * @return 저장한 행 수 (실패 시 0)
+	 */
+	private long exportSingleRegion(String regionName, String keyword) {
+		String baseName = String.format("%s_%s_places_data", regionName.replace(" ", "_"), keyword.replace(" ", "_"));
+		Path exportDir = Path.of(collectorProperties.getExportDir());
+		Path csvPath = exportDir.resolve(csvFilename(baseName + ".csv"));
+		Path snapshotPath = exportDir.resolve(baseName + PlaceSnapshotWriter.EXTENSION);
+		Path snapshotTempPath = exportDir.resolve(baseName + PlaceSnapshotWriter.EXTENSION + SNAPSHOT_TEMP_SUFFIX);
+		boolean withSnapshot = collectorProperties.isExportSnapshot();
+		log.info("[{}-{}] CSV 파일 저장을 시작합니다. 파일명: {}", regionName, keyword, csvPath);
+
+		try {
+			Files.createDirectories(exportDir);
+			Files.deleteIfExists(snapshotPath);
+
+			long rowCount;
+			try (Stream<PlaceEntity> placesStream = collectorPlaceRepository
+				.streamByRegionAndKeyword(regionName, keyword);
+				 CsvWriter writer = CsvWriter.open(csvPath, collectorProperties.isExportGzip());
+				 PlaceSnapshotWriter snapshot = withSnapshot ? PlaceSnapshotWriter.open(snapshotTempPath) : null) {
+				writer.header(PLACE_COLUMNS);
+
+				for (PlaceEntity place : (Iterable<PlaceEntity>)placesStream::iterator) {
+					writePlaceRow(writer, place);
+					if (snapshot != null) {
+						snapshot.write(place);
+					}
+					entityManager.detach(place);
+				}
+				rowCount = writer.getRowCount();
+			}
+
+			// CSV와 스냅샷을 모두 닫은 뒤에 스냅샷을 제자리로 옮김
+			if (withSnapshot) {
+				Files.move(snapshotTempPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+			}
+			log.info("[{}-{}] CSV 파일 저장을 완료했습니다. (총 {}건)", regionName, keyword, rowCount);
+			return rowCount;
 		} catch (IOException e) {
 			log.error("[{}-{}] CSV 파일 저장 중 오류가 발생했습니다: {}", regionName, keyword, e.getMessage());
+			return 0;
+		} finally {
+			deleteQuietly(snapshotTempPath);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("임시 파일을 지우지 못했습니다: {} ({})", path, e.getMessage());
+		}
+	}
+
+	/**
+	 * 증분 수집에서 발견한 변경분을 CSV 파일로 저장합니다.
+	 *
+	 * <p>추가된 장소는 증분 배치 작업의 입력 디렉토리(collector.delta-dir)에 지역 CSV와 같은 형식으로 저장하므로
+	 * 증분 적재 작업이 그대로 읽을 수 있습니다. 삭제된 장소는 적재 대상에 섞이지 않도록 하위 removed 디렉토리에 같은
+	 * 형식으로 저장합니다. 변경분이 없으면 파일을 만들지 않으며, 압축 설정과 관계없이 항상 일반 CSV로 저장합니다.</p>
+	 *
+	 * @param regionName 지역 이름
+	 * @param keyword 키워드
+	 * @param delta 증분 수집 변경 내역
+	 */
+	public void exportDelta(String regionName, String keyword, IncrementalDelta delta) {
+		String baseName = String.format("%s_%s_%s", regionName.replace(" ", "_"), keyword.replace(" ", "_"),
+			LocalDateTime.now().format(DELTA_TIMESTAMP));
+		Path deltaDir = Path.of(collectorProperties.getDeltaDir());
+		writeDeltaFile(regionName, keyword, deltaDir.resolve(baseName + "_added.csv"), delta.getAdded());
+		writeDeltaFile(regionName, keyword, deltaDir.resolve("removed").resolve(baseName + "_removed.csv"),
+			delta.getRemoved());
+	}
+
+	private void writeDeltaFile(String regionName, String keyword, Path path, List<PlaceEntity> places) {
+		if (places.isEmpty()) {
+			return;
+		}
+		try {
+			Files.createDirectories(path.getParent());
+			try (CsvWriter writer = CsvWriter.open(path, false)) {
+				writer.header(PLACE_COLUMNS);
+				for (PlaceEntity place : places) {
+					writePlaceRow(writer, place);
+				}
+			}
+			log.info("[{}-{}] 변경분 CSV 파일을 저장했습니다. 파일명: {} ({}건)", regionName, keyword, path, places.size());
+		} catch (IOException e) {
+			log.error("[{}-{}] 변경분 CSV 파일 저장 중 오류가 발생했습니다: {}", regionName, keyword, e.getMessage());
 		}
 	}
 
@@ -106,62 +284,88 @@ public class CsvExportService {
 	 */
 	@Transactional(readOnly = true)
 	public void exportParkingFinalToCsv() {
-		String filename = "data/parkinglotcsv/전국주차장정보표준데이터.csv";
+		String filename = csvFilename("data/parkinglotcsv/전국주차장정보표준데이터.csv");
 		log.info("[parking-final] CSV 파일 저장을 시작합니다. 파일명: {}", filename);
 
 		new File("data/parkinglotcsv").mkdirs();
-		AtomicLong count = new AtomicLong(0);
 
 		try (Stream<ParkingLot> stream = parkingLotRepository.streamAllWithLocation();
-			 PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(filename)))) {
-
-			writer.println("parkingLotNo,parkingLotNm,parkingLotSe,parkingLotType,roadAddress,lotAddress,parkingCapacity,feedingSe,enforceSe,operDay,weekOpenTime,weekCloseTime,satOpenTime,satCloseTime,holidayOpenTime,holidayCloseTime,parkingChargeInfo,basicTime,basicCharge,addUnitTime,addUnitCharge,dayTicketApplyTime,dayTicketCharge,paymentMethod,specialComment,institutionName,phoneNumber,lat,lng,disabledParkingZoneYn,referenceDate,institutionCode");
-
-			stream.forEach(p -> {
-				Point loc = p.getLocation(); // NOT NULL (쿼리에서 필터)
-				java.util.function.Function<String, String> s = str -> str == null ? "" : str;
-
-				writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%f,%f,\"%s\",\"%s\",\"%s\"%n",
-					s.apply(p.getParkingLotNo()),
-					s.apply(p.getParkingLotNm()),
-					s.apply(p.getParkingLotSe()),
-					s.apply(p.getParkingLotType()),
-					s.apply(p.getRoadAddress()),
-					s.apply(p.getLotAddress()),
-					s.apply(p.getParkingCapacity()),
-					s.apply(p.getFeedingSe()),
-					s.apply(p.getEnforceSe()),
-					s.apply(p.getOperDay()),
-					s.apply(p.getWeekOpenTime()),
-					s.apply(p.getWeekCloseTime()),
-					s.apply(p.getSatOpenTime()),
-					s.apply(p.getSatCloseTime()),
-					s.apply(p.getHolidayOpenTime()),
-					s.apply(p.getHolidayCloseTime()),
-					s.apply(p.getParkingChargeInfo()),
-					s.apply(p.getBasicTime()),
-					s.apply(p.getBasicCharge()),
-					s.apply(p.getAddUnitTime()),
-					s.apply(p.getAddUnitCharge()),
-					s.apply(p.getDayTicketApplyTime()),
-					s.apply(p.getDayTicketCharge()),
-					s.apply(p.getPaymentMethod()),
-					s.apply(p.getSpecialComment()),
-					s.apply(p.getInstitutionName()),
-					s.apply(p.getPhoneNumber()),
-					loc.getY(), // lat
-					loc.getX(), // lng
-					s.apply(p.getDisabledParkingZoneYn()),
-					s.apply(p.getReferenceDate()),
-					s.apply(p.getInstitutionCode())
-				);
-				count.getAndIncrement();
-			});
-
-			log.info("[parking-final] CSV 파일 저장을 완료했습니다. (총 {}건)", count.get());
+			 CsvWriter writer = CsvWriter.open(Path.of(filename), collectorProperties.isExportGzip())) {
+			writer.header(PARKING_COLUMNS);
+
+			for (ParkingLot parkingLot : (Iterable<ParkingLot>)stream::iterator) {
+				writeParkingRow(writer, parkingLot);
+				entityManager.detach(parkingLot);
+			}
+
+			log.info("[parking-final] CSV 파일 저장을 완료했습니다. (총 {}건)", writer.getRowCount());
 		} catch (IOException e) {
 			log.error("[parking-final] CSV 파일 저장 중 오류가 발생했습니다: {}", e.getMessage());
 		}
 	}
 
+	/**
+	 * 장소 한 건을 CSV 행으로 씁니다.
+	 */
+	static void writePlaceRow(CsvWriter writer, PlaceEntity place) throws IOException {
+		writer.quoted(place.getPlaceId())
+			.quoted(place.getRegion())
+			.quoted(place.getPlaceName())
+			.quoted(place.getRoadAddress())
+			.quoted(place.getLotAddress())
+			.decimal(place.getLat())
+			.decimal(place.getLng())
+			.quoted(place.getPhone())
+			.quoted(place.getCategory())
+			.quoted(place.getKeyword())
+			.quoted(place.getCategoryGroupCode())
+			.quoted(place.getCategoryGroupName())
+			.quoted(place.getPlaceUrl())
+			.endRow();
+	}
+
+	/**
+	 * 주차장 한 건을 CSV 행으로 씁니다.
+	 */
+	static void writeParkingRow(CsvWriter writer, ParkingLot p) throws IOException {
+		Point loc = p.getLocation(); // NOT NULL (쿼리에서 필터)
+		writer.quoted(p.getParkingLotNo())
+			.quoted(p.getParkingLotNm())
+			.quoted(p.getParkingLotSe())
+			.quoted(p.getParkingLotType())
+			.quoted(p.getRoadAddress())
+			.quoted(p.getLotAddress())
+			.quoted(p.getParkingCapacity())
+			.quoted(p.getFeedingSe())
+			.quoted(p.getEnforceSe())
+			.quoted(p.getOperDay())
+			.quoted(p.getWeekOpenTime())
+			.quoted(p.getWeekCloseTime())
+			.quoted(p.getSatOpenTime())
+			.quoted(p.getSatCloseTime())
+			.quoted(p.getHolidayOpenTime())
+			.quoted(p.getHolidayCloseTime())
+			.quoted(p.getParkingChargeInfo())
+			.quoted(p.getBasicTime())
+			.quoted(p.getBasicCharge())
+			.quoted(p.getAddUnitTime())
+			.quoted(p.getAddUnitCharge())
+			.quoted(p.getDayTicketApplyTime())
+			.quoted(p.getDayTicketCharge())
+			.quoted(p.getPaymentMethod())
+			.quoted(p.getSpecialComment())
+			.quoted(p.getInstitutionName())
+			.quoted(p.getPhoneNumber())
+			.decimal(loc.getY()) // lat
+			.decimal(loc.getX()) // lng
+			.quoted(p.getDisabledParkingZoneYn())
+			.quoted(p.getReferenceDate())
+			.quoted(p.getInstitutionCode())
+			.endRow();
+	}
+
+	private String csvFilename(String filename) {
+		return collectorProperties.isExportGzip() ? filename + ".gz" : filename;
+	}
+
 }
@@ -0,0 +1,110 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+/**
+ * 격자별로 관측한 장소 밀집도(카카오 API total_count)를 담는 선형 쿼드트리
+ *
+ * <p>격자 식별자({@link GridUtil#cellId})는 모턴 코드에 반경 단계를 붙인 값이므로, 식별자 → 관측값 맵 자체가
+ * 단계별 노드를 가진 선형 쿼드트리가 됩니다. 이전 실행에서 저장한 {@code ScannedGrid}의 관측값으로 구성하며,
+ * 수집 중에는 이 값을 보고 밀집 지역인지 미리 판단하여 탐색(API) 호출 없이 바로 하위 단계로 내려갑니다.</p>
+ *
+ * <h3>밀집도 예측 규칙:</h3>
+ * <ul>
+ *   <li><b>관측값이 있는 격자:</b> 이전에 관측한 총 장소 수를 그대로 사용
+ *   (관측값 없이 SUBDIVIDED로 기록된 격자는 기준값을 넘은 것으로 간주, 예측만으로 분할한 격자는 관측값이 아니므로
+ *   제외)</li>
+ *   <li><b>관측값이 없는 격자:</b> 부모 격자의 총 장소 수를 면적 비율(1/4)로 나눈 값으로 추정.
+ *   추정치는 오차가 있으므로 기준값의 {@value #ESTIMATE_MARGIN}배를 넘을 때만 밀집 지역으로 판단</li>
+ * </ul>
+ *
+ * <p>밀집 지역을 잘못 판단하더라도 더 작은 격자로 나누어 탐색할 뿐 수집 범위는 같으므로 누락은 생기지 않습니다.
+ * 구성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.</p>
+ */
+public class DensityQuadtree {
+
+	/** 부모 격자로부터 추정한 값으로 밀집 지역을 판단할 때 적용하는 여유 배수 */
+	static final double ESTIMATE_MARGIN = 2.0;
+
+	private final Map<Long, Integer> observedCounts;
+	private final int denseThreshold;
+
+	private DensityQuadtree(Map<Long, Integer> observedCounts, int denseThreshold) {
+		this.observedCounts = observedCounts;
+		this.denseThreshold = denseThreshold;
+	}
+
+	/**
+	 * 이전 실행에서 저장한 격자 상태로 밀집도 쿼드트리를 구성합니다.
+	 *
+	 * @param history 지역의 격자 상태 목록 (같은 격자가 여러 번 있으면 나중 값 사용)
+	 * @param denseThreshold 밀집 지역으로 판단하는 총 장소 수 기준
+	 * @return 밀집도 쿼드트리
+	 */
+	public static DensityQuadtree of(List<GridStateDto> history, int denseThreshold) {
+		Map<Long, Integer> observedCounts = new HashMap<>();
+		if (history != null) {
+			for (GridStateDto state : history) {
+				long cellId = state.getCellId() != null
+					? state.getCellId()
+					: GridUtil.cellId(state.getGridCenterLat(), state.getGridCenterLng(), state.getGridRadius());
+				if (state.getTotalCount() != null) {
+					observedCounts.put(cellId, state.getTotalCount());
+				} else if (state.getStatus() == ScannedGrid.GridStatus.SUBDIVIDED
+					&& !Boolean.TRUE.equals(state.getEstimated())) {
+					// 관측값 없이 저장된 분할 격자는 최소한 기준값을 넘었던 격자
+					observedCounts.put(cellId, denseThreshold + 1);
+				}
+			}
+		}
+		return new DensityQuadtree(observedCounts, denseThreshold);
+	}
+
+	/**
+	 * 격자의 총 장소 수를 추정합니다.
+	 *
+	 * @param lat 격자 중심 위도
+	 * @param lng 격자 중심 경도
+	 * @param radius 격자 반경 (미터)
+	 * @param parentTotalCount 부모 격자의 총 장소 수 (최상위 격자이거나 알 수 없으면 null)
+	 * @return 추정한 총 장소 수 (추정할 근거가 없으면 null)
+	 */
+	public Integer estimate(double lat, double lng, int radius, Integer parentTotalCount) {
+		Integer observed = observedCounts.get(GridUtil.cellId(lat, lng, radius));
+		if (observed != null) {
+			return observed;
+		}
+		return parentTotalCount == null ? null : parentTotalCount / 4;
+	}
+
+	/**
+	 * 탐색 호출 없이 밀집 지역으로 판단할 수 있는 격자인지 확인합니다.
+	 *
+	 * @param lat 격자 중심 위도
+	 * @param lng 격자 중심 경도
+	 * @param radius 격자 반경 (미터)
+	 * @param parentTotalCount 부모 격자의 총 장소 수 (최상위 격자이거나 알 수 없으면 null)
+	 * @return 밀집 지역 예측 여부
+	 */
+	public boolean predictsDense(double lat, double lng, int radius, Integer parentTotalCount) {
+		Integer observed = observedCounts.get(GridUtil.cellId(lat, lng, radius));
+		if (observed != null) {
+			return observed > denseThreshold;
+		}
+		return parentTotalCount != null && parentTotalCount / 4.0 > denseThreshold * ESTIMATE_MARGIN;
+	}
+
+	/**
+	 * 관측값이 있는 격자 수를 반환합니다.
+	 *
+	 * @return 관측 격자 수
+	 */
+	public int size() {
+		return observedCounts.size();
+	}
+}
@@ -0,0 +1,474 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint;
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint.CheckpointStatus;
+import com.livelihoodcoupon.collector.repository.CollectionCheckpointRepository;
+import com.livelihoodcoupon.collector.repository.ScannedGridRepository;
+import com.livelihoodcoupon.collector.vo.CollectionWorkUnit;
+import com.livelihoodcoupon.collector.vo.GridCellInfo;
+import com.livelihoodcoupon.collector.vo.RegionData;
+import com.livelihoodcoupon.common.config.CollectorProperties;
+import com.livelihoodcoupon.common.service.MdcLogging;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Stream 작업 큐를 이용한 분산 소비쿠폰 데이터 수집 서비스
+ *
+ * <p>한 서버의 수집 속도는 카카오 API 호출 한도와 한 JVM의 처리량에 묶이므로, 여러 인스턴스가 같은 작업 큐를
+ * 소비자 그룹으로 나누어 처리하게 합니다. 지역 폴리곤과 밀집 격자가 각각 작업 단위({@link CollectionWorkUnit})가
+ * 되며, 밀집 격자에서 나온 하위 격자도 다시 큐에 넣으므로 큰 지역도 여러 인스턴스에 고르게 나뉩니다.</p>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li><b>작업 등록:</b> 지역별 외곽 링을 작업 단위로 등록하고, 지역별 남은 작업 단위 수를 Redis 카운터로 관리</li>
+ *   <li><b>작업 처리:</b> 작업자는 소비자 그룹으로 작업 단위를 읽어(XREADGROUP) 수집기로 탐색하고, 밀집 격자는
+ *   하위 작업 단위로 다시 등록한 뒤 확인(XACK)</li>
+ *   <li><b>공유 상태:</b> 격자 처리 상태는 DB({@code ScannedGrid})에서 작업 단위마다 필요한 격자만 조회하고,
+ *   발견한 장소 ID는 Redis 집합({@link RedisPlaceIdRegistry})으로 인스턴스 간에 중복을 걸러냄</li>
+ *   <li><b>장애 복구:</b> 설정한 시간(collector.distributed.claim-timeout) 넘게 확인되지 않은 작업 단위는
+ *   다른 작업자가 가져가(XCLAIM) 다시 처리. 반복해서 실패하는 작업 단위는 실패 작업 스트림
+ *   ({@value #DEAD_LETTER_STREAM_KEY})으로 옮기고 지역의 실패 작업 단위 수를 올림</li>
+ *   <li><b>지역 완료:</b> 남은 작업 단위 수가 0이 되면 마지막 작업자가 파일을 생성하고 체크포인트를 완료로 기록.
+ *   실패 작업 단위가 있던 지역은 빠진 영역이 있으므로 파일을 만들지 않고 체크포인트를 실패로 기록하여, 이어서
+ *   수집(resume)할 때 다시 등록되게 함 (처리된 격자는 건너뛰고 분할 격자부터 빠진 하위 영역을 다시 탐색)</li>
+ * </ul>
+ *
+ * <p>작업 단위는 최소 한 번(at-least-once) 처리됩니다. 같은 작업 단위를 다시 처리해도 처리된 격자는 건너뛰고
+ * 장소는 중복 저장되지 않으므로 결과는 같습니다.</p>
+ */
+@Slf4j
+@Service
+public class DistributedCollectionService {
+
+	static final String STREAM_KEY = "collector:work";
+	static final String GROUP = "collector";
+	/** 반복해서 실패하여 건너뛴 작업 단위를 보관하는 스트림 (원래 항목 ID와 전달 횟수를 함께 기록) */
+	static final String DEAD_LETTER_STREAM_KEY = "collector:dead";
+	private static final String PENDING_KEY_PREFIX = "collector:pending:";
+	private static final String FAILED_KEY_PREFIX = "collector:failed:";
+	private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+	private static final int PENDING_SCAN_SIZE = 100;
+	/** 이 횟수만큼 전달되고도 확인되지 않은 작업 단위는 처리하지 않고 건너뜀 */
+	private static final long MAX_DELIVERIES = 3;
+
+	/** 작업 단위 확인(XACK), 스트림에서 삭제, 지역의 남은 작업 단위 수 감소를 원자적으로 수행 (이미 확인된 항목이면 -1) */
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('XACK', KEYS[1], ARGV[1], ARGV[2]) == 1 then "
+			+ "redis.call('XDEL', KEYS[1], ARGV[2]) "
+			+ "return redis.call('DECR', KEYS[2]) "
+			+ "end "
+			+ "return -1", Long.class);
+
+	/**
+	 * 작업 단위 확인과 함께 실패 작업 스트림에 옮기고 지역의 실패 작업 단위 수를 올림 (반환값은 COMPLETE_SCRIPT와 같음)
+	 */
+	private static final RedisScript<Long> DEAD_LETTER_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('XACK', KEYS[1], ARGV[1], ARGV[2]) == 1 then "
+			+ "redis.call('XDEL', KEYS[1], ARGV[2]) "
+			+ "redis.call('XADD', KEYS[3], '*', unpack(ARGV, 3)) "
+			+ "redis.call('INCR', KEYS[4]) "
+			+ "return redis.call('DECR', KEYS[2]) "
+			+ "end "
+			+ "return -1", Long.class);
+
+	private final CouponDataCollector collector;
+	private final ScannedGridRepository scannedGridRepository;
+	private final ScannedGridWriter scannedGridWriter;
+	private final CollectionCheckpointRepository checkpointRepository;
+	private final RegionStore regionStore;
+	private final StringRedisTemplate redisTemplate;
+	private final CollectorProperties collectorProperties;
+	private final String consumerPrefix = ManagementFactory.getRuntimeMXBean().getName();
+
+	private volatile boolean running;
+	private ExecutorService workers;
+
+	public DistributedCollectionService(CouponDataCollector collector, ScannedGridRepository scannedGridRepository,
+		ScannedGridWriter scannedGridWriter, CollectionCheckpointRepository checkpointRepository,
+		RegionStore regionStore, StringRedisTemplate redisTemplate, CollectorProperties collectorProperties) {
+		this.collector = collector;
+		this.scannedGridRepository = scannedGridRepository;
+		this.scannedGridWriter = scannedGridWriter;
+		this.checkpointRepository = checkpointRepository;
+		this.regionStore = regionStore;
+		this.redisTemplate = redisTemplate;
+		this.collectorProperties = collectorProperties;
+	}
+
+	/**
+	 * 지역 목록을 분산 수집 작업 큐에 등록합니다.
+	 *
+	 * @param regions 수집할 지역 목록
+	 * @param resume true면 이전 작업에서 완료된 지역을 건너뛰고(실패한 지역은 다시 등록), false면 공유된 장소 ID도 초기화
+	 * @return 등록한 지역 수
+	 */
+	public int enqueue(List<RegionData> regions, boolean resume) {
+		String keyword = CouponDataCollector.DEFAULT_KEYWORD;
+		ensureGroup();
+
+		Set<String> completedRegions = resume
+			? checkpointRepository.findByKeywordAndStatus(keyword, CheckpointStatus.COMPLETED).stream()
+			.map(CollectionCheckpoint::getRegionName)
+			.collect(Collectors.toSet())
+			: Set.of();
+		if (!resume) {
+			new RedisPlaceIdRegistry(redisTemplate, keyword).clear();
+		}
+
+		String jobId = "distributed-" + UUID.randomUUID();
+		int enqueued = 0;
+		for (RegionData region : regions) {
+			List<List<List<Double>>> rings = CouponDataCollector.outerRings(region.getPolygons());
+			if (rings.isEmpty() || completedRegions.contains(region.getName())) {
+				continue;
+			}
+
+			CollectionCheckpoint checkpoint = checkpointRepository.findByRegionNameAndKeyword(region.getName(), keyword)
+				.orElseGet(() -> new CollectionCheckpoint(region.getName(), keyword));
+			checkpoint.markRunning(jobId);
+			checkpointRepository.save(checkpoint);
+
+			// 작업 단위를 넣기 전에 카운터를 먼저 올려, 먼저 끝난 작업자가 지역 완료로 오판하지 않게 함
+			redisTemplate.opsForValue().increment(pendingKey(region.getName(), keyword), rings.size());
+			for (int i = 0; i < rings.size(); i++) {
+				add(CollectionWorkUnit.builder()
+					.type(CollectionWorkUnit.Type.RING)
+					.regionName(region.getName())
+					.keyword(keyword)
+					.ringIndex(i)
+					.scanRadius(CouponDataCollector.initialRadiusFor(rings.get(i)))
+					.depth(0)
+					.build());
+			}
+			enqueued++;
+		}
+
+		log.info("[분산 수집] 작업 등록 (jobId={}, 지역 {}개, 건너뛴 지역 {}개)", jobId, enqueued, regions.size() - enqueued);
+		return enqueued;
+	}
+
+	/**
+	 * 설정에서 분산 수집이 켜져 있으면 애플리케이션 시작 후 작업자를 실행합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void startWorkers() {
+		CollectorProperties.Distributed distributed = collectorProperties.getDistributed();
+		if (!distributed.isEnabled()) {
+			return;
+		}
+		ensureGroup();
+
+		int threads = Math.max(1, distributed.getWorkerThreads());
+		AtomicInteger threadIndex = new AtomicInteger();
+		workers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "collection-worker-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		running = true;
+		for (int i = 0; i < threads; i++) {
+			String consumerName = consumerPrefix + "-" + i;
+			workers.submit(() -> consume(consumerName));
+		}
+		log.info("[분산 수집] 작업자 {}개 시작 (소비자 {})", threads, consumerPrefix);
+	}
+
+	@PreDestroy
+	public void stopWorkers() {
+		running = false;
+		if (workers != null) {
+			// 처리 중이던 작업 단위는 확인하지 않은 채 남겨 다른 작업자가 이어서 처리
+			workers.shutdownNow();
+			try {
+				workers.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void consume(String consumerName) {
+		StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+		Consumer consumer = Consumer.from(GROUP, consumerName);
+		while (running && !Thread.currentThread().isInterrupted()) {
+			try {
+				List<MapRecord<String, String, String>> records = streamOps.read(consumer,
+					StreamReadOptions.empty().count(1).block(POLL_TIMEOUT),
+					StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+				if (records == null || records.isEmpty()) {
+					claimStale(streamOps, consumerName);
+					continue;
+				}
+				for (MapRecord<String, String, String> record : records) {
+					process(record);
+				}
+			} catch (Exception e) {
+				if (!running) {
+					break;
+				}
+				log.error("[분산 수집] 작업 큐 처리 중 오류 (소비자 {}): {}", consumerName, e.getMessage(), e);
+				try {
+					Thread.sleep(POLL_TIMEOUT.toMillis());
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 다른 작업자가 오래 확인하지 않은 작업 단위를 하나 가져와 처리합니다.
+	 */
+	private void claimStale(StreamOperations<String, String, String> streamOps, String consumerName) {
+		Duration claimTimeout = collectorProperties.getDistributed().getClaimTimeout();
+		PendingMessages pending = streamOps.pending(STREAM_KEY, GROUP, Range.unbounded(), PENDING_SCAN_SIZE);
+		PendingMessage stale = pending.stream()
+			.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimTimeout) >= 0)
+			.findFirst()
+			.orElse(null);
+		if (stale == null) {
+			return;
+		}
+
+		// 최소 유휴 시간 조건으로 가져오므로, 여러 작업자가 동시에 시도해도 한 작업자만 가져감
+		List<MapRecord<String, String, String>> claimed = streamOps.claim(STREAM_KEY, GROUP, consumerName,
+			claimTimeout, stale.getId());
+		for (MapRecord<String, String, String> record : claimed) {
+			if (stale.getTotalDeliveryCount() >= MAX_DELIVERIES) {
+				CollectionWorkUnit unit = CollectionWorkUnit.fromFields(record.getValue());
+				log.error("[분산 수집] [ {} ] 작업 단위 {}가 {}회 실패하여 실패 작업 스트림으로 옮깁니다: {}",
+					unit.getRegionName(), record.getId(), stale.getTotalDeliveryCount(), unit);
+				deadLetter(record, unit, stale.getTotalDeliveryCount());
+			} else {
+				log.warn("[분산 수집] 확인되지 않은 작업 단위 {}를 가져와 다시 처리합니다.", record.getId());
+				process(record);
+			}
+		}
+	}
+
+	private void process(MapRecord<String, String, String> record) {
+		CollectionWorkUnit unit = CollectionWorkUnit.fromFields(record.getValue());
+		try (MdcLogging.MdcContext ignored = MdcLogging.withContext("traceId", record.getId().getValue())) {
+			List<CollectionWorkUnit> children = execute(unit);
+
+			// 확인하기 전에 격자 상태를 DB에 반영하여, 다시 처리되더라도 처리된 격자는 건너뛰게 함
+			scannedGridWriter.flush();
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+
+			if (!children.isEmpty()) {
+				redisTemplate.opsForValue().increment(pendingKey(unit.getRegionName(), unit.getKeyword()),
+					children.size());
+				children.forEach(this::add);
+			}
+			complete(record, unit);
+		} catch (Exception e) {
+			// 확인하지 않은 작업 단위는 claim-timeout 이후 다른 작업자가 다시 처리
+			log.error("[분산 수집] [ {} ] 작업 단위 {} 처리 실패: {}", unit.getRegionName(), record.getId(),
+				e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 작업 단위를 수집기로 탐색하고, 밀집 격자를 하위 작업 단위로 만들어 반환합니다.
+	 */
+	private List<CollectionWorkUnit> execute(CollectionWorkUnit unit) {
+		String regionName = unit.getRegionName();
+		String keyword = unit.getKeyword();
+		PlaceIdRegistry foundPlaceIds = new RedisPlaceIdRegistry(redisTemplate, keyword);
+		// 장소 위치는 모든 단계에서 작업 단위가 속한 지역 폴리곤으로 검증 (밀집 격자 정사각형은 하위 격자 생성에만 사용)
+		// 지역 저장소가 보관한 전처리된 외곽 링을 그대로 사용하여 작업 단위마다 경계를 다시 만들지 않음
+		PreparedPolygon regionPolygon = boundary(regionName).getOuterRings().get(unit.getRingIndex());
+
+		if (unit.getType() == CollectionWorkUnit.Type.FORCE) {
+			List<List<Double>> cellPolygon = GridUtil.createPolygonForCell(unit.getLat(), unit.getLng(),
+				unit.getCellRadius());
+			collector.forceCollectAtMaxDepth(regionName, keyword, regionPolygon, cellPolygon, unit.getScanRadius(),
+				foundPlaceIds);
+			return List.of();
+		}
+
+		List<List<Double>> polygon;
+		List<GridStateDto> history;
+		if (unit.getType() == CollectionWorkUnit.Type.RING) {
+			polygon = regionPolygon.toRing();
+			history = scannedGridRepository.findGridStates(regionName, keyword);
+		} else {
+			// 밀집 격자 하나는 하위 격자 몇 개뿐이므로 그 격자들의 상태만 조회
+			polygon = GridUtil.createPolygonForCell(unit.getLat(), unit.getLng(), unit.getCellRadius());
+			int scanRadius = unit.getScanRadius();
+			List<Long> cellIds = GridUtil.streamGridForPolygon(polygon, scanRadius)
+				.map(center -> GridUtil.cellId(center[0], center[1], scanRadius))
+				.toList();
+			history = scannedGridRepository.findGridStatesByCellIds(regionName, keyword, cellIds);
+		}
+
+		GridStateIndex gridStates = collectorProperties.isRecollect() ? GridStateIndex.empty() : GridStateIndex.of(history);
+		DensityQuadtree densityModel = DensityQuadtree.of(history, CouponDataCollector.DENSE_AREA_THRESHOLD);
+		List<GridCellInfo> denseCells = collector.scanPolygon(regionName, keyword, regionPolygon, polygon,
+			unit.getScanRadius(), unit.getParentTotalCount(), foundPlaceIds, gridStates, densityModel);
+
+		int childDepth = unit.getDepth() + 1;
+		CollectionWorkUnit.Type childType = childDepth >= CouponDataCollector.MAX_RECURSION_DEPTH
+			? CollectionWorkUnit.Type.FORCE
+			: CollectionWorkUnit.Type.CELL;
+		return denseCells.stream()
+			.map(cell -> CollectionWorkUnit.builder()
+				.type(childType)
+				.regionName(regionName)
+				.keyword(keyword)
+				.ringIndex(unit.getRingIndex())
+				.lat(cell.getLat())
+				.lng(cell.getLng())
+				.cellRadius(cell.getRadius())
+				.scanRadius(unit.getScanRadius() / 2)
+				.parentTotalCount(cell.getTotalCount())
+				.depth(childDepth)
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 작업 단위를 확인하고, 지역의 마지막 작업 단위였으면 지역 수집을 마무리합니다.
+	 */
+	private void complete(MapRecord<String, String, String> record, CollectionWorkUnit unit) {
+		String pendingKey = pendingKey(unit.getRegionName(), unit.getKeyword());
+		Long remaining = redisTemplate.execute(COMPLETE_SCRIPT, List.of(STREAM_KEY, pendingKey), GROUP,
+			record.getId().getValue());
+		finishIfLast(unit, remaining);
+	}
+
+	/**
+	 * 반복해서 실패한 작업 단위를 확인하고 실패 작업 스트림으로 옮깁니다. 지역의 마지막 작업 단위였으면 지역 수집을
+	 * 마무리합니다.
+	 */
+	private void deadLetter(MapRecord<String, String, String> record, CollectionWorkUnit unit, long deliveries) {
+		List<String> args = new ArrayList<>();
+		args.add(GROUP);
+		args.add(record.getId().getValue());
+		unit.toFields().forEach((field, value) -> {
+			args.add(field);
+			args.add(value);
+		});
+		args.add("sourceId");
+		args.add(record.getId().getValue());
+		args.add("deliveries");
+		args.add(Long.toString(deliveries));
+
+		Long remaining = redisTemplate.execute(DEAD_LETTER_SCRIPT,
+			List.of(STREAM_KEY, pendingKey(unit.getRegionName(), unit.getKeyword()), DEAD_LETTER_STREAM_KEY,
+				failedKey(unit.getRegionName(), unit.getKeyword())),
+			args.toArray());
+		finishIfLast(unit, remaining);
+	}
+
+	/**
+	 * 지역의 남은 작업 단위 수가 0이 되었으면 지역 수집을 마무리합니다.
+	 *
+	 * <p>건너뛴 작업 단위가 없으면 파일을 생성하고 체크포인트를 완료로 기록합니다. 건너뛴 작업 단위가 있으면 그 하위
+	 * 영역의 장소가 빠져 있으므로 파일을 만들지 않고 체크포인트를 실패로 기록합니다.</p>
+	 */
+	private void finishIfLast(CollectionWorkUnit unit, Long remaining) {
+		if (remaining == null || remaining != 0) {
+			return;
+		}
+
+		String regionName = unit.getRegionName();
+		String keyword = unit.getKeyword();
+		redisTemplate.delete(pendingKey(regionName, keyword));
+		String failedKey = failedKey(regionName, keyword);
+		String failedValue = redisTemplate.opsForValue().getAndDelete(failedKey);
+		long failedUnits = failedValue == null ? 0 : Long.parseLong(failedValue);
+
+		String errorMessage = null;
+		if (failedUnits > 0) {
+			errorMessage = String.format("작업 단위 %d개가 %d회 실패하여 건너뜀 (실패 작업 스트림: %s)", failedUnits,
+				MAX_DELIVERIES, DEAD_LETTER_STREAM_KEY);
+			log.error(">>> [ {} ] 지역, 키워드 [ {} ] 분산 수집 실패: {}", regionName, keyword, errorMessage);
+		} else {
+			log.info(">>> [ {} ] 지역, 키워드 [ {} ] 분산 수집 및 DB 저장 완료.", regionName, keyword);
+			collector.exportRegion(regionName);
+		}
+
+		CheckpointStatus status = failedUnits > 0 ? CheckpointStatus.FAILED : CheckpointStatus.COMPLETED;
+		String message = errorMessage;
+		checkpointRepository.findByRegionNameAndKeyword(regionName, keyword)
+			.ifPresent(checkpoint -> {
+				long elapsedMs = checkpoint.getUpdatedAt() == null
+					? 0L
+					: Duration.between(checkpoint.getUpdatedAt(), OffsetDateTime.now()).toMillis();
+				checkpoint.markFinished(status, elapsedMs, message);
+				checkpointRepository.save(checkpoint);
+			});
+	}
+
+	private void add(CollectionWorkUnit unit) {
+		redisTemplate.opsForStream().add(StreamRecords.mapBacked(unit.toFields()).withStreamKey(STREAM_KEY));
+	}
+
+	/**
+	 * 작업 큐 스트림과 소비자 그룹을 만듭니다. (이미 있으면 그대로 사용)
+	 */
+	private void ensureGroup() {
+		try {
+			redisTemplate.execute((RedisCallback<String>)connection -> connection.streamCommands()
+				.xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+		} catch (RedisSystemException e) {
+			String message = e.getMostSpecificCause().getMessage();
+			if (message == null || !message.contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+	}
+
+	private RegionBoundary boundary(String regionName) {
+		return regionStore.findBoundaryByName(regionName)
+			.orElseThrow(() -> new IllegalStateException("Region '" + regionName + "' not found."));
+	}
+
+	private static String pendingKey(String regionName, String keyword) {
+		return PENDING_KEY_PREFIX + keyword + ":" + regionName;
+	}
+
+	private static String failedKey(String regionName, String keyword) {
+		return FAILED_KEY_PREFIX + keyword + ":" + regionName;
+	}
+}
@@ -1,12 +1,13 @@
 package com.livelihoodcoupon.collector.service;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -14,20 +15,39 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.livelihoodcoupon.collector.dto.GridStateDto;
 import com.livelihoodcoupon.collector.dto.RegionKeywordDto;
-import com.livelihoodcoupon.collector.entity.ScannedGrid;
 import com.livelihoodcoupon.collector.repository.ScannedGridRepository;
+import com.livelihoodcoupon.common.config.CollectorProperties;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 수집한 격자 상태를 GeoJSON 파일로 내보내는 서비스
+ *
+ * <p>격자 목록을 메모리에 모으지 않고, DB 스트림에서 격자를 하나 읽을 때마다 {@link JsonGenerator}로 Feature를
+ * 바로 출력합니다. 스트림은 정해진 행 수씩 가져오고(fetch size) 엔티티 대신 DTO로 읽으므로 영속성 컨텍스트에도
+ * 쌓이지 않아, 밀집 지역처럼 격자가 수십만 개인 경우에도 메모리 사용량이 격자 수와 무관하게 일정합니다.</p>
+ *
+ * <h3>출력 옵션:</h3>
+ * <ul>
+ *   <li><b>collector.geojson-pretty:</b> true면 들여쓰기한 출력, false면 공백 없는 압축 출력</li>
+ *   <li><b>collector.geojson-coordinate-decimals:</b> 좌표를 소수점 아래 이 자릿수로 반올림
+ *   (음수면 반올림하지 않음. 6자리면 약 0.1m 정밀도)</li>
+ * </ul>
+ */
 @Service
 @RequiredArgsConstructor
 public class GeoJsonExportService {
 
 	private static final Logger log = LoggerFactory.getLogger(GeoJsonExportService.class);
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 	private final ScannedGridRepository scannedGridRepository;
 	private final ObjectMapper objectMapper;
+	private final CollectorProperties collectorProperties;
 
 	@Transactional(readOnly = true)
 	public void exportAllRegionsToGeoJson() {
@@ -55,39 +75,79 @@ public class GeoJsonExportService {
 
 		new File("data/geojson").mkdirs();
 
-		Map<String, Object> geoJson = new LinkedHashMap<>();
-		geoJson.put("type", "FeatureCollection");
-		List<Map<String, Object>> features = new ArrayList<>();
+		try (Stream<GridStateDto> gridStream = scannedGridRepository.streamGridStates(regionName, keyword);
+			 OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(filename)), OUTPUT_BUFFER_SIZE);
+			 JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+			if (collectorProperties.isGeojsonPretty()) {
+				generator.useDefaultPrettyPrinter();
+			}
+			long count = writeFeatureCollection(generator, gridStream.iterator(), keyword,
+				collectorProperties.getGeojsonCoordinateDecimals());
+			log.info("[{}-{}] GeoJSON 파일 저장을 완료했습니다. (총 {}개 격자)", regionName, keyword, count);
 
-		try (Stream<ScannedGrid> gridStream = scannedGridRepository.findByRegionNameAndKeyword(regionName, keyword)) {
-			gridStream.forEach(cell -> {
-				Map<String, Object> feature = new LinkedHashMap<>();
-				feature.put("type", "Feature");
-
-				Map<String, Object> geometry = new LinkedHashMap<>();
-				geometry.put("type", "Polygon");
-				geometry.put("coordinates", Collections.singletonList(
-					GridUtil.createPolygonForCell(cell.getGridCenterLat(), cell.getGridCenterLng(),
-						cell.getGridRadius()))
-				);
-				feature.put("geometry", geometry);
+		} catch (IOException e) {
+			log.error("[{}-{}] GeoJSON 파일 저장 중 오류가 발생했습니다: {}", regionName, keyword, e.getMessage());
+		}
+	}
 
-				Map<String, Object> properties = new LinkedHashMap<>();
-				properties.put("radius", cell.getGridRadius());
-				properties.put("status", cell.getStatus().toString());
-				properties.put("keyword", cell.getKeyword());
-				feature.put("properties", properties);
+	/**
+	 * 격자들을 하나씩 읽으면서 FeatureCollection을 출력합니다.
+	 *
+	 * @param generator JSON 출력기
+	 * @param cells 격자 목록 (한 번만 순회)
+	 * @param keyword 격자를 수집한 키워드
+	 * @param coordinateDecimals 좌표 소수점 자릿수 (음수면 반올림하지 않음)
+	 * @return 출력한 Feature 수
+	 * @throws IOException 출력 오류
+	 */
+	static long writeFeatureCollection(JsonGenerator generator, Iterator<GridStateDto> cells, String keyword,
+		int coordinateDecimals) throws IOException {
+		double scale = coordinateDecimals < 0 ? 0 : Math.pow(10, coordinateDecimals);
+		long count = 0;
+
+		generator.writeStartObject();
+		generator.writeStringField("type", "FeatureCollection");
+		generator.writeArrayFieldStart("features");
+		while (cells.hasNext()) {
+			writeFeature(generator, cells.next(), keyword, scale);
+			count++;
+		}
+		generator.writeEndArray();
+		generator.writeEndObject();
+		generator.flush();
+		return count;
+	}
 
-				features.add(feature);
-			});
+	private static void writeFeature(JsonGenerator generator, GridStateDto cell, String keyword, double scale)
+		throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("type", "Feature");
+
+		generator.writeObjectFieldStart("geometry");
+		generator.writeStringField("type", "Polygon");
+		generator.writeArrayFieldStart("coordinates");
+		generator.writeStartArray();
+		for (List<Double> point : GridUtil.createPolygonForCell(cell.getGridCenterLat(), cell.getGridCenterLng(),
+			cell.getGridRadius())) {
+			generator.writeStartArray();
+			generator.writeNumber(round(point.get(0), scale));
+			generator.writeNumber(round(point.get(1), scale));
+			generator.writeEndArray();
+		}
+		generator.writeEndArray();
+		generator.writeEndArray();
+		generator.writeEndObject();
 
-			geoJson.put("features", features);
+		generator.writeObjectFieldStart("properties");
+		generator.writeNumberField("radius", cell.getGridRadius());
+		generator.writeStringField("status", cell.getStatus().toString());
+		generator.writeStringField("keyword", keyword);
+		generator.writeEndObject();
 
-			objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filename), geoJson);
-			log.info("[{}-{}] GeoJSON 파일 저장을 완료했습니다. (총 {}개 격자)", regionName, keyword, features.size());
+		generator.writeEndObject();
+	}
 
-		} catch (IOException e) {
-			log.error("[{}-{}] GeoJSON 파일 저장 중 오류가 발생했습니다: {}", regionName, keyword, e.getMessage());
-		}
+	private static double round(double value, double scale) {
+		return scale == 0 ? value : Math.round(value * scale) / scale;
 	}
 }
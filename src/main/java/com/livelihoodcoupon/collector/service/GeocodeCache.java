@@ -0,0 +1,83 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.livelihoodcoupon.common.dto.Coordinate;
+
+/**
+ * 주소 → 좌표 변환 결과를 Redis 해시에 보관하는 캐시
+ *
+ * <p>여러 주차장이 같은 지번/도로명 주소를 공유하고, 백필을 다시 실행해도 같은 주소를 다시 검색하게 되므로 한 번
+ * 변환한 결과를 인스턴스 재시작과 관계없이 재사용합니다. 좌표는 {@code "위도,경도"}로, 좌표가 없는 주소는 빈
+ * 문자열로 저장하여 무매칭 주소도 다시 검색하지 않습니다. 호출 실패(시간 초과, API 오류)는 저장하지 않습니다.</p>
+ */
+@Component
+public class GeocodeCache {
+
+	static final String KEY = "geocode:address";
+	private static final String NO_MATCH = "";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public GeocodeCache(StringRedisTemplate redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 저장된 변환 결과를 한 번의 HMGET으로 조회합니다.
+	 *
+	 * @param addresses 조회할 주소 목록
+	 * @return 저장된 주소만 담은 결과 (좌표가 없는 주소로 저장된 경우 빈 Optional)
+	 */
+	public Map<String, Optional<Coordinate>> getAll(Collection<String> addresses) {
+		Map<String, Optional<Coordinate>> cached = new HashMap<>();
+		if (addresses.isEmpty()) {
+			return cached;
+		}
+		List<Object> fields = new ArrayList<>(addresses);
+		List<Object> values = redisTemplate.opsForHash().multiGet(KEY, fields);
+		for (int i = 0; i < fields.size(); i++) {
+			Object value = values == null ? null : values.get(i);
+			if (value != null) {
+				cached.put((String)fields.get(i), decode((String)value));
+			}
+		}
+		return cached;
+	}
+
+	/**
+	 * 변환 결과를 한 번의 HMSET으로 저장합니다.
+	 *
+	 * @param results 주소별 변환 결과 (좌표가 없는 주소는 빈 Optional)
+	 */
+	public void putAll(Map<String, Optional<Coordinate>> results) {
+		if (results.isEmpty()) {
+			return;
+		}
+		Map<String, String> encoded = new HashMap<>(results.size() * 2);
+		results.forEach((address, coordinate) -> encoded.put(address, encode(coordinate)));
+		redisTemplate.opsForHash().putAll(KEY, encoded);
+	}
+
+	static String encode(Optional<Coordinate> coordinate) {
+		return coordinate.map(c -> c.getLat() + "," + c.getLng()).orElse(NO_MATCH);
+	}
+
+	static Optional<Coordinate> decode(String value) {
+		int comma = value.indexOf(',');
+		if (comma < 0) {
+			return Optional.empty();
+		}
+		double lat = Double.parseDouble(value.substring(0, comma));
+		double lng = Double.parseDouble(value.substring(comma + 1));
+		return Optional.of(Coordinate.builder().lat(lat).lng(lng).build());
+	}
+}
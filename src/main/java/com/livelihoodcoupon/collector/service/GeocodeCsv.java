@@ -1,92 +1,248 @@
 package com.livelihoodcoupon.collector.service;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.FileWriter;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * 지오코딩 시도 결과를 월별 CSV(events-YYYYMM.csv)에 append-only로 기록.
  * 문자열은 CSV-safe하게 큰따옴표로 감싸고 내부 따옴표는 "" 로 이스케이프.
+ *
+ * <p>호출 스레드는 이벤트를 대기열에 넣기만 하고, 백그라운드 스레드 하나가 주기적으로 모아서 계속 열어 둔
+ * {@link FileChannel}에 한 번에 씁니다. 파일 I/O가 지오코딩 작업을 멈추지 않습니다. 이벤트 시각의 월이 바뀌면
+ * 새 파일로 바꿉니다.</p>
+ *
+ * <p>대기열은 잠금 없는 큐에 크기 상한({@code geocode.csv.queue-capacity})을 둔 것으로, 가득 차면 새 이벤트를
+ * 버리고 {@code geocode.csv.events.dropped} 카운터를 올립니다. 대기 중인 이벤트 수는
+ * {@code geocode.csv.queue.depth} 게이지로 확인할 수 있습니다.</p>
  */
 @Service
 public class GeocodeCsv {
 
 	private static final Logger log = LoggerFactory.getLogger(GeocodeCsv.class);
 
-	@Value("${geocode.csv.dir:data/geocode}")
-	private String dir;
+	private static final String HEADER =
+		"event_id,parking_lot_id,address,lat,lng,confidence,source,status,error,requested_at,resolved_at\n";
+	private static final DateTimeFormatter FILE_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+	private static final long FLUSH_INTERVAL_MS = 200;
+	private static final int BATCH_SIZE = 1024;
+
+	private final Path dir;
+	private final int capacity;
+	private final Clock clock;
+
+	private final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+	/** 대기열 크기 (ConcurrentLinkedQueue.size()는 전체를 순회하므로 따로 셈) */
+	private final AtomicInteger depth = new AtomicInteger();
+	private final Counter droppedEvents;
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "geocode-csv-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/* 아래 필드는 flushLock을 잡은 스레드에서만 사용 */
+	private FileChannel channel;
+	private YearMonth channelMonth;
 
-	private File currentFile() {
-		String ym = OffsetDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-		new File(dir).mkdirs();
-		return new File(dir, "events-" + ym + ".csv");
+	public GeocodeCsv(@Value("${geocode.csv.dir:data/geocode}") String dir,
+		@Value("${geocode.csv.queue-capacity:65536}") int capacity, MeterRegistry meterRegistry) {
+		this(Paths.get(dir), capacity, meterRegistry, Clock.systemDefaultZone());
 	}
 
-	private void ensureHeader(File f) throws Exception {
-		if (!f.exists()) {
-			try (PrintWriter w = new PrintWriter(
-				new OutputStreamWriter(new FileOutputStream(f), StandardCharsets.UTF_8))) {
-				w.println("event_id,parking_lot_id,address,lat,lng,confidence,source,status,error,requested_at,resolved_at");
-			}
+	GeocodeCsv(Path dir, int capacity, MeterRegistry meterRegistry, Clock clock) {
+		this.dir = dir;
+		this.capacity = Math.max(1, capacity);
+		this.clock = clock;
+		this.droppedEvents = Counter.builder("geocode.csv.events.dropped")
+			.description("대기열이 가득 차 기록하지 못한 지오코딩 이벤트 수")
+			.register(meterRegistry);
+		Gauge.builder("geocode.csv.queue.depth", depth, AtomicInteger::get)
+			.description("파일에 기록되기를 기다리는 지오코딩 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void startFlusher() {
+		flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flusher.shutdown();
+		flushQuietly();
+		flushLock.lock();
+		try {
+			closeChannel();
+		} finally {
+			flushLock.unlock();
 		}
 	}
 
 	/** 지오코딩 성공 */
 	public void ok(long id, String address, double lat, double lng, double confidence, String source) {
-		write(id, address, d(lat), d(lng), s(confidence), source, "OK", null);
+		enqueue(new Event(id, address, lat, lng, confidence, source, "OK", null));
 	}
 
 	/** 무매칭 */
 	public void noMatch(long id, String address, String reason) {
-		write(id, address, "", "", "0.0", "kakao", "NO_MATCH", reason);
+		enqueue(new Event(id, address, Double.NaN, Double.NaN, 0.0, "kakao", "NO_MATCH", reason));
 	}
 
 	/** 예외 */
 	public void error(long id, String address, String reason) {
-		write(id, address, "", "", "0.0", "kakao", "ERROR", reason);
+		enqueue(new Event(id, address, Double.NaN, Double.NaN, 0.0, "kakao", "ERROR", reason));
 	}
 
-	/** 공통 쓰기 */
-	private void write(long id, String address, String lat, String lng, String confidence,
-		String source, String status, String error) {
-		File f = currentFile();
+	/**
+	 * 대기 중인 이벤트를 모두 파일에 기록합니다. (호출 스레드에서 동기 실행)
+	 *
+	 * @throws IOException 파일 쓰기 실패 시
+	 */
+	public void flush() throws IOException {
+		flushLock.lock();
 		try {
-			ensureHeader(f);
-			try (PrintWriter w = new PrintWriter(
-				new BufferedWriter(new FileWriter(f, true)))) {
-
-				String now = OffsetDateTime.now().toString();
-
-				// 모두 %s로 출력하고, 문자열은 q(), 숫자는 이미 문자열로 전달
-				w.printf("%s,%d,%s,%s,%s,%s,%s,%s,%s,%s,%s%n",
-					q(UUID.randomUUID().toString()),
-					id,
-					q(address),
-					lat,               // "" 또는 "37.123456"
-					lng,               // "" 또는 "127.123456"
-					confidence,        // "0.95" 등
-					q(source),
-					q(status),
-					q(error),
-					q(now),            // requested_at
-					q(now)             // resolved_at
-				);
+			StringBuilder lines = new StringBuilder();
+			YearMonth linesMonth = null;
+			int count = 0;
+			Event event;
+			while ((event = queue.poll()) != null) {
+				depth.decrementAndGet();
+				YearMonth month = YearMonth.from(event.time);
+				// 월이 바뀌면 지금까지 모은 줄을 이전 월 파일에 쓰고 파일을 바꿈
+				if (linesMonth != null && (!month.equals(linesMonth) || count >= BATCH_SIZE)) {
+					writeLines(linesMonth, lines);
+					lines.setLength(0);
+					count = 0;
+				}
+				linesMonth = month;
+				appendLine(lines, event);
+				count++;
+			}
+			if (linesMonth != null) {
+				writeLines(linesMonth, lines);
 			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 파일에 기록되기를 기다리는 이벤트 수를 반환합니다.
+	 *
+	 * @return 대기 중인 이벤트 수
+	 */
+	public int pendingCount() {
+		return depth.get();
+	}
+
+	private void enqueue(Event event) {
+		if (depth.incrementAndGet() > capacity) {
+			depth.decrementAndGet();
+			droppedEvents.increment();
+			return;
+		}
+		queue.offer(event);
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
 		} catch (Exception e) {
 			log.error("CSV write failed: {}", e.getMessage(), e);
+			flushLock.lock();
+			try {
+				// 다음 기록 때 파일을 다시 열도록 닫음
+				closeChannel();
+			} finally {
+				flushLock.unlock();
+			}
+		}
+	}
+
+	private void writeLines(YearMonth month, StringBuilder lines) throws IOException {
+		FileChannel target = channelFor(month);
+		ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			target.write(buffer);
+		}
+	}
+
+	private FileChannel channelFor(YearMonth month) throws IOException {
+		if (channel != null && month.equals(channelMonth)) {
+			return channel;
+		}
+		closeChannel();
+		Files.createDirectories(dir);
+		Path file = dir.resolve("events-" + month.format(FILE_MONTH) + ".csv");
+		FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.APPEND);
+		if (opened.size() == 0) {
+			opened.write(ByteBuffer.wrap(HEADER.getBytes(StandardCharsets.UTF_8)));
+		}
+		channel = opened;
+		channelMonth = month;
+		return opened;
+	}
+
+	private void closeChannel() {
+		if (channel == null) {
+			return;
 		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			log.warn("CSV close failed: {}", e.getMessage());
+		}
+		channel = null;
+		channelMonth = null;
+	}
+
+	private static void appendLine(StringBuilder lines, Event e) {
+		String now = e.time.toString();
+		lines.append(q(UUID.randomUUID().toString())).append(',')
+			.append(e.id).append(',')
+			.append(q(e.address)).append(',')
+			.append(Double.isNaN(e.lat) ? "" : d(e.lat)).append(',')   // "" 또는 "37.123456"
+			.append(Double.isNaN(e.lng) ? "" : d(e.lng)).append(',')   // "" 또는 "127.123456"
+			.append(s(e.confidence)).append(',')                        // "0.95" 등
+			.append(q(e.source)).append(',')
+			.append(q(e.status)).append(',')
+			.append(q(e.error)).append(',')
+			.append(q(now)).append(',')                                 // requested_at
+			.append(q(now)).append('\n');                               // resolved_at
 	}
 
 	/** 문자열을 CSV-safe 하게 큰따옴표로 감싸고 내부 따옴표 이스케이프 */
@@ -95,13 +251,39 @@ public class GeocodeCsv {
 		return "\"" + s.replace("\"", "\"\"") + "\"";
 	}
 
-	/** double 포맷 → 소수 6자리 문자열. 필요 없으면 빈 문자열 반환 */
+	/** double 포맷 → 소수 6자리 문자열 */
 	private static String d(double v) {
-		return String.format(java.util.Locale.ROOT, "%.6f", v);
+		return String.format(Locale.ROOT, "%.6f", v);
 	}
 
 	/** 소수 포맷 문자열 */
 	private static String s(double v) {
-		return String.format(java.util.Locale.ROOT, "%.2f", v);
+		return String.format(Locale.ROOT, "%.2f", v);
+	}
+
+	/** 기록 대기 중인 이벤트 (시각은 호출 시점에 정함) */
+	private final class Event {
+		final long id;
+		final String address;
+		final double lat;
+		final double lng;
+		final double confidence;
+		final String source;
+		final String status;
+		final String error;
+		final OffsetDateTime time;
+
+		Event(long id, String address, double lat, double lng, double confidence, String source, String status,
+			String error) {
+			this.id = id;
+			this.address = address;
+			this.lat = lat;
+			this.lng = lng;
+			this.confidence = confidence;
+			this.source = source;
+			this.status = status;
+			this.error = error;
+			this.time = OffsetDateTime.now(clock);
+		}
 	}
 }
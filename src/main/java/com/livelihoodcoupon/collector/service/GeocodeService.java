@@ -1,64 +1,223 @@
 package com.livelihoodcoupon.collector.service;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.livelihoodcoupon.common.config.CollectorProperties;
 import com.livelihoodcoupon.common.dto.Coordinate;
 import com.livelihoodcoupon.common.service.KakaoApiService;
 import com.livelihoodcoupon.parkinglot.repository.ParkingLotRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * location(NULL)인 주차장에 대해
  * lotAddress → (실패 시) roadAddress 순으로 카카오 지오코딩 후 location 업데이트.
+ *
+ * <h3>처리 방식:</h3>
+ * <ul>
+ *   <li><b>청크 단위:</b> 대상을 id 순으로 {@code collector.geocode.chunk-size}개씩 읽고(키셋 페이지), 청크마다
+ *   좌표를 배치 UPDATE 한 번으로 저장하여 별도 트랜잭션으로 커밋. 긴 백필이 하나의 트랜잭션이 되지 않음</li>
+ *   <li><b>주소 중복 제거:</b> 청크 안에서 같은 주소는 한 번만 변환. 도로명 주소는 지번 주소로 찾지 못한 행만 변환</li>
+ *   <li><b>캐시:</b> 변환 결과(무매칭 포함)를 {@link GeocodeCache}에 보관하여 다시 검색하지 않음</li>
+ *   <li><b>동시 호출:</b> 캐시에 없는 주소는 최대 {@code collector.geocode.concurrency}개까지 동시에 검색하며,
+ *   호출 속도는 {@link com.livelihoodcoupon.common.service.KakaoRateLimiter}가 제한. 같은 주소를 동시에
+ *   검색하는 요청(다른 백필 실행 등)은 진행 중인 호출 하나를 함께 기다림</li>
+ * </ul>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GeocodeService {
 
+	/** 주소 하나를 변환하는 최대 시간 (속도 제한기의 토큰 대기 포함) */
+	private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(10);
+
 	private final ParkingLotRepository parkingLotRepository;
 	private final KakaoApiService kakaoApiService;
-	private final GeocodeCsv geocodeCsv; // 이벤트 로그 남기기(원하면 주입 제거해도 됨)
+	private final GeocodeCsv geocodeCsv; // 이벤트 로그 남기기
+	private final GeocodeCache geocodeCache;
+	private final ParkingLotLocationWriter locationWriter;
+	private final CollectorProperties collectorProperties;
+	private final TransactionTemplate chunkTransaction;
+
+	/** 진행 중인 주소 검색 (같은 주소를 동시에 검색하면 하나의 호출 결과를 공유) */
+	private final Map<String, Mono<Optional<Coordinate>>> inFlight = new ConcurrentHashMap<>();
+
+	public GeocodeService(ParkingLotRepository parkingLotRepository, KakaoApiService kakaoApiService,
+		GeocodeCsv geocodeCsv, GeocodeCache geocodeCache, ParkingLotLocationWriter locationWriter,
+		CollectorProperties collectorProperties, PlatformTransactionManager transactionManager) {
+		this.parkingLotRepository = parkingLotRepository;
+		this.kakaoApiService = kakaoApiService;
+		this.geocodeCsv = geocodeCsv;
+		this.geocodeCache = geocodeCache;
+		this.locationWriter = locationWriter;
+		this.collectorProperties = collectorProperties;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+	}
 
-	@Transactional
+	/**
+	 * 좌표가 없는 주차장을 최대 limit개까지 지오코딩하여 저장합니다.
+	 *
+	 * @param limit 처리할 최대 주차장 수
+	 * @return 좌표를 저장한 주차장 수
+	 */
 	public int backfill(int limit) {
-		List<ParkingLotRepository.ToGeocode> rows = parkingLotRepository.findTargets(limit);
+		int chunkSize = Math.max(1, collectorProperties.getGeocode().getChunkSize());
+		long afterId = 0;
+		int remaining = limit;
 		int ok = 0;
 
+		while (remaining > 0) {
+			List<ParkingLotRepository.ToGeocode> rows = parkingLotRepository.findTargets(afterId,
+				Math.min(chunkSize, remaining));
+			if (rows.isEmpty()) {
+				break;
+			}
+			ok += processChunk(rows);
+			afterId = rows.get(rows.size() - 1).getId();
+			remaining -= rows.size();
+		}
+		return ok;
+	}
+
+	private int processChunk(List<ParkingLotRepository.ToGeocode> rows) {
+		Map<String, Optional<Coordinate>> results = new HashMap<>();
+		Map<String, String> failures = new ConcurrentHashMap<>();
+
+		// 1) 지번 주소 변환
+		Set<String> lotAddresses = new LinkedHashSet<>();
+		for (ParkingLotRepository.ToGeocode r : rows) {
+			addIfPresent(lotAddresses, r.getLotAddress());
+		}
+		resolve(lotAddresses, results, failures);
+
+		// 2) 지번 주소로 찾지 못한 행만 도로명 주소 변환
+		Set<String> roadAddresses = new LinkedHashSet<>();
 		for (ParkingLotRepository.ToGeocode r : rows) {
-			try {
-				Coordinate c = null;
-				String used = null;
+			if (lookup(results, r.getLotAddress()).isEmpty()) {
+				addIfPresent(roadAddresses, r.getRoadAddress());
+			}
+		}
+		resolve(roadAddresses, results, failures);
 
-				if (r.getLotAddress() != null && !r.getLotAddress().trim().isEmpty()) {
-					c = kakaoApiService.getCoordinatesFromAddress(r.getLotAddress()).block(Duration.ofSeconds(3));
-					used = r.getLotAddress();
-				}
-				if (c == null && r.getRoadAddress() != null && !r.getRoadAddress().trim().isEmpty()) {
-					c = kakaoApiService.getCoordinatesFromAddress(r.getRoadAddress()).block(Duration.ofSeconds(3));
-					used = r.getRoadAddress();
-				}
+		// 3) 행별 좌표 선택
+		Map<Long, Coordinate> locations = new LinkedHashMap<>();
+		Map<Long, String> usedAddresses = new HashMap<>();
+		for (ParkingLotRepository.ToGeocode r : rows) {
+			String lot = trimToNull(r.getLotAddress());
+			String road = trimToNull(r.getRoadAddress());
+			Optional<Coordinate> lotCoordinate = lookup(results, lot);
+			Optional<Coordinate> coordinate = lotCoordinate.isPresent() ? lotCoordinate : lookup(results, road);
+			String used = lotCoordinate.isPresent() || road == null ? lot : road;
 
-				if (c == null) {
-					if (geocodeCsv != null) geocodeCsv.noMatch(r.getId(), used, "no_result");
-					continue;
+			if (coordinate.isPresent()) {
+				locations.put(r.getId(), coordinate.get());
+				usedAddresses.put(r.getId(), used);
+				continue;
+			}
+			String failure = lot != null && failures.containsKey(lot) ? failures.get(lot)
+				: road != null ? failures.get(road) : null;
+			if (geocodeCsv != null) {
+				if (failure != null) {
+					geocodeCsv.error(r.getId(), used, failure);
+				} else {
+					geocodeCsv.noMatch(r.getId(), used, "no_result");
 				}
-
-				// Kakao: x=lng, y=lat → ST_MakePoint(lng,lat)
-				parkingLotRepository.updateLocation(r.getId(), c.getLat(), c.getLng());
-				if (geocodeCsv != null) geocodeCsv.ok(r.getId(), used, c.getLat(), c.getLng(), 1.00, "kakao");
-				ok++;
-			} catch (Exception e) {
-				if (geocodeCsv != null) geocodeCsv.error(r.getId(), null, e.getMessage());
-				log.warn("geocode error id={}: {}", r.getId(), e.toString());
 			}
 		}
-		return ok;
+
+		// 4) 청크 단위 배치 UPDATE + 커밋
+		chunkTransaction.executeWithoutResult(status -> locationWriter.updateLocations(locations));
+		if (geocodeCsv != null) {
+			locations.forEach((id, c) -> geocodeCsv.ok(id, usedAddresses.get(id), c.getLat(), c.getLng(), 1.00,
+				"kakao"));
+		}
+		return locations.size();
+	}
+
+	/**
+	 * 주소들을 캐시 → 카카오 API 순으로 변환하여 results에 담습니다. 호출에 실패한 주소는 failures에 담습니다.
+	 */
+	private void resolve(Set<String> addresses, Map<String, Optional<Coordinate>> results,
+		Map<String, String> failures) {
+		if (addresses.isEmpty()) {
+			return;
+		}
+		Map<String, Optional<Coordinate>> cached = readCache(addresses);
+		results.putAll(cached);
+
+		Map<String, Optional<Coordinate>> fetched = new ConcurrentHashMap<>();
+		Flux.fromIterable(addresses)
+			.filter(address -> !cached.containsKey(address))
+			.flatMap(address -> geocode(address)
+				.doOnNext(result -> fetched.put(address, result))
+				.onErrorResume(e -> {
+					log.warn("geocode error address={}: {}", address, e.toString());
+					failures.put(address, String.valueOf(e.getMessage()));
+					return Mono.empty();
+				}), Math.max(1, collectorProperties.getGeocode().getConcurrency()))
+			.blockLast();
+
+		results.putAll(fetched);
+		writeCache(fetched);
+	}
+
+	private Mono<Optional<Coordinate>> geocode(String address) {
+		return inFlight.computeIfAbsent(address, key -> kakaoApiService.geocodeAddress(key)
+			.timeout(LOOKUP_TIMEOUT)
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.doFinally(signal -> inFlight.remove(key))
+			.cache());
+	}
+
+	private Map<String, Optional<Coordinate>> readCache(Set<String> addresses) {
+		try {
+			return geocodeCache.getAll(addresses);
+		} catch (RuntimeException e) {
+			log.warn("지오코딩 캐시를 읽지 못해 모든 주소를 검색합니다: {}", e.toString());
+			return Map.of();
+		}
+	}
+
+	private void writeCache(Map<String, Optional<Coordinate>> fetched) {
+		try {
+			geocodeCache.putAll(fetched);
+		} catch (RuntimeException e) {
+			log.warn("지오코딩 결과를 캐시에 저장하지 못했습니다: {}", e.toString());
+		}
+	}
+
+	private static Optional<Coordinate> lookup(Map<String, Optional<Coordinate>> results, String address) {
+		String key = trimToNull(address);
+		return key == null ? Optional.empty() : results.getOrDefault(key, Optional.empty());
+	}
+
+	private static void addIfPresent(Set<String> addresses, String address) {
+		String key = trimToNull(address);
+		if (key != null) {
+			addresses.add(key);
+		}
+	}
+
+	private static String trimToNull(String address) {
+		if (address == null) {
+			return null;
+		}
+		String trimmed = address.trim();
+		return trimmed.isEmpty() ? null : trimmed;
 	}
 }
@@ -0,0 +1,157 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.List;
+
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+/**
+ * 한 지역의 격자 처리 상태를 메모리에 올려둔 읽기 전용 색인
+ *
+ * <p>수집 시작 시 {@code ScannedGrid} 상태를 한 번의 쿼리로 읽어와 구성하며, 이후 격자마다 DB나 Redis를
+ * 조회하지 않고 상태를 확인할 수 있습니다. 키는 격자 식별자({@link GridUtil#cellId})를 그대로 사용하여
+ * 부동소수점 오차에 영향받지 않고, {@code long} 키 → 상태를 담는 개방 주소법 해시로 박싱 없이 조회합니다.
+ * 완료 격자의 지문({@code fingerprint})도 같은 슬롯에 함께 보관합니다.</p>
+ *
+ * <p>구성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.</p>
+ */
+public class GridStateIndex {
+
+	private static final ScannedGrid.GridStatus[] STATUSES = ScannedGrid.GridStatus.values();
+
+	private final LongByteHashMap states;
+	private final int size;
+
+	private GridStateIndex(LongByteHashMap states, int size) {
+		this.states = states;
+		this.size = size;
+	}
+
+	/**
+	 * 비어있는 색인을 반환합니다. (신규 지역)
+	 *
+	 * @return 빈 격자 상태 색인
+	 */
+	public static GridStateIndex empty() {
+		return new GridStateIndex(new LongByteHashMap(0), 0);
+	}
+
+	/**
+	 * 미리 조회한 격자 상태 목록으로 색인을 구성합니다.
+	 *
+	 * @param states 지역의 격자 상태 목록
+	 * @return 격자 상태 색인
+	 */
+	public static GridStateIndex of(List<GridStateDto> states) {
+		if (states == null || states.isEmpty()) {
+			return empty();
+		}
+
+		LongByteHashMap index = new LongByteHashMap(states.size());
+		for (GridStateDto state : states) {
+			// 식별자 컬럼이 생기기 전에 저장된 격자는 좌표로 식별자를 계산
+			long cellId = state.getCellId() != null
+				? state.getCellId()
+				: GridUtil.cellId(state.getGridCenterLat(), state.getGridCenterLng(), state.getGridRadius());
+			index.put(cellId, (byte)(state.getStatus().ordinal() + 1), state.getFingerprint());
+		}
+		return new GridStateIndex(index, states.size());
+	}
+
+	/**
+	 * 격자의 처리 상태를 조회합니다.
+	 *
+	 * @param lat 격자 중심 위도
+	 * @param lng 격자 중심 경도
+	 * @param radius 격자 반경 (미터)
+	 * @return 처리 상태 (처리 이력이 없으면 null)
+	 */
+	public ScannedGrid.GridStatus get(double lat, double lng, int radius) {
+		return get(GridUtil.cellId(lat, lng, radius));
+	}
+
+	/**
+	 * 격자 식별자로 처리 상태를 조회합니다.
+	 *
+	 * @param cellId 격자 식별자
+	 * @return 처리 상태 (처리 이력이 없으면 null)
+	 */
+	public ScannedGrid.GridStatus get(long cellId) {
+		byte value = states.get(cellId);
+		return value == 0 ? null : STATUSES[value - 1];
+	}
+
+	/**
+	 * 격자의 마지막 지문을 조회합니다.
+	 *
+	 * @param cellId 격자 식별자
+	 * @return 지문 (처리 이력이 없거나 지문 없이 저장된 격자면 null)
+	 */
+	public Long fingerprint(long cellId) {
+		return states.fingerprint(cellId);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * long 키 → byte 값(과 선택적인 long 지문)을 저장하는 개방 주소법(선형 탐사) 해시 테이블
+	 *
+	 * <p>값 0은 빈 슬롯을 의미하므로 저장하는 값은 항상 1 이상이어야 합니다.</p>
+	 */
+	private static final class LongByteHashMap {
+		/** 값의 이 비트가 켜져 있으면 지문이 있음 */
+		private static final byte HAS_FINGERPRINT = 0x40;
+
+		private final long[] keys;
+		private final byte[] values;
+		private final long[] fingerprints;
+		private final int mask;
+
+		LongByteHashMap(int expectedSize) {
+			// 적재율 50% 이하를 유지하는 2의 거듭제곱 크기
+			int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+			this.keys = new long[capacity];
+			this.values = new byte[capacity];
+			this.fingerprints = new long[capacity];
+			this.mask = capacity - 1;
+		}
+
+		void put(long key, byte value, Long fingerprint) {
+			int slot = slot(key);
+			while (values[slot] != 0 && keys[slot] != key) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = key;
+			values[slot] = fingerprint == null ? value : (byte)(value | HAS_FINGERPRINT);
+			fingerprints[slot] = fingerprint == null ? 0 : fingerprint;
+		}
+
+		byte get(long key) {
+			int slot = find(key);
+			return slot < 0 ? 0 : (byte)(values[slot] & ~HAS_FINGERPRINT);
+		}
+
+		Long fingerprint(long key) {
+			int slot = find(key);
+			return slot < 0 || (values[slot] & HAS_FINGERPRINT) == 0 ? null : fingerprints[slot];
+		}
+
+		private int find(long key) {
+			int slot = slot(key);
+			while (values[slot] != 0) {
+				if (keys[slot] == key) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return -1;
+		}
+
+		private int slot(long key) {
+			long hash = key * 0x9E3779B97F4A7C15L;
+			return (int)(hash ^ (hash >>> 32)) & mask;
+		}
+	}
+}
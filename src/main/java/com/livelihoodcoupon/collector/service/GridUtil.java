@@ -3,6 +3,10 @@ package com.livelihoodcoupon.collector.service;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,7 +20,9 @@ import lombok.NoArgsConstructor;
  *   <li><b>경계 상자 계산:</b> 폴리곤의 최소/최대 좌표를 계산하여 경계 상자 생성</li>
  *   <li><b>점-폴리곤 포함 검사:</b> 특정 좌표가 폴리곤 내부에 있는지 판단</li>
  *   <li><b>격자 생성:</b> 지정된 영역을 격자로 분할하여 중심점 목록 생성</li>
+ *   <li><b>폴리곤 격자 생성:</b> 폴리곤과 겹치는 격자만 래스터화하여 지연 생성</li>
  *   <li><b>격자 폴리곤 생성:</b> 격자 중심점과 반경을 기반으로 폴리곤 생성</li>
+ *   <li><b>격자 식별자:</b> 격자 중심점과 반경을 64비트 정수(모턴 코드)로 변환</li>
  * </ul>
  *
  * <h3>사용 사례:</h3>
@@ -31,6 +37,13 @@ public class GridUtil {
 	/** 1미터당 위도/경도 차이 (대략적인 값) */
 	public static final double DEGREE_PER_METER = 1.0 / 111_000.0;
 
+	/** 격자 식별자 생성 시 좌표 정수화 배율 (1e-6도 ≒ 0.1m, 가장 작은 격자 간격보다 충분히 작음) */
+	private static final double CELL_ID_COORD_SCALE = 1e6;
+	/** 위도/경도 각각에 할당하는 비트 수 (경도 360도 * 1e6 < 2^29) */
+	private static final int CELL_ID_COORD_BITS = 29;
+	/** 반경 단계(log2 반경)에 할당하는 비트 수 */
+	private static final int CELL_ID_LEVEL_BITS = 5;
+
 	/**
 	 * 폴리곤의 경계 상자(Bounding Box)를 계산합니다.
 	 *
@@ -129,6 +142,26 @@ public class GridUtil {
 		return gridCenters;
 	}
 
+	/**
+	 * 폴리곤과 겹치는 격자의 중심점을 차례로 생성합니다.
+	 *
+	 * <p>{@link #generateGridForBoundingBox}와 같은 격자 배치를 사용하지만, 폴리곤을 위도 방향으로 한 행씩
+	 * 래스터화하여 폴리곤과 겹치는 격자만 돌려줍니다. 해안이나 모양이 복잡한 지역처럼 경계 상자 대부분이
+	 * 폴리곤 밖인 경우 불필요한 격자를 만들지 않으며, 중심점은 밖에 있지만 경계선이 지나가는 격자도 포함하여
+	 * 경계 부근의 수집 누락을 막습니다.</p>
+	 *
+	 * <p>격자는 소비하는 시점에 한 행씩 계산되므로 전체 목록을 메모리에 만들지 않습니다.</p>
+	 *
+	 * @param polygon 폴리곤 좌표 리스트 (각 점은 [경도, 위도] 형식)
+	 * @param gridCellRadiusMeters 격자 셀 반경 (미터)
+	 * @return 격자 중심점([위도, 경도]) 스트림
+	 */
+	public static Stream<double[]> streamGridForPolygon(List<List<Double>> polygon, int gridCellRadiusMeters) {
+		PolygonGridIterator iterator = new PolygonGridIterator(polygon, gridCellRadiusMeters);
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
 	/**
 	 * 격자 중심점과 반경을 기반으로 폴리곤을 생성합니다.
 	 *
@@ -151,6 +184,50 @@ public class GridUtil {
 			Arrays.asList(lngEnd, latEnd), Arrays.asList(lngStart, latEnd), Arrays.asList(lngStart, latStart)));
 	}
 
+	/**
+	 * 격자 중심점과 반경으로 격자 식별자를 만듭니다.
+	 *
+	 * <p>위도/경도를 1e-6도 단위 정수로 바꾼 뒤 비트를 교차 배치(모턴 코드, Z-order)하고, 하위 비트에 반경 단계를
+	 * 붙인 64비트 정수입니다. 부동소수점 비교 없이 격자를 식별할 수 있고, 가까운 격자는 가까운 값을 가지므로
+	 * DB 인덱스와 캐시 키로 사용하기 좋습니다.</p>
+	 *
+	 * <p><strong>비트 구성:</strong> [모턴 코드 58비트][반경 단계 5비트] (최상위 비트는 항상 0)</p>
+	 *
+	 * @param lat 격자 중심 위도
+	 * @param lng 격자 중심 경도
+	 * @param radius 격자 반경 (미터, 2의 거듭제곱)
+	 * @return 격자 식별자
+	 */
+	public static long cellId(double lat, double lng, int radius) {
+		long latKey = Math.round((lat + 90) * CELL_ID_COORD_SCALE);
+		long lngKey = Math.round((lng + 180) * CELL_ID_COORD_SCALE);
+		long level = 31 - Integer.numberOfLeadingZeros(Math.max(radius, 1));
+		return (interleave(lngKey) | (interleave(latKey) << 1)) << CELL_ID_LEVEL_BITS | level;
+	}
+
+	/**
+	 * 격자 식별자에서 반경을 복원합니다.
+	 *
+	 * @param cellId 격자 식별자
+	 * @return 격자 반경 (미터)
+	 */
+	public static int radiusOfCellId(long cellId) {
+		return 1 << (int)(cellId & ((1L << CELL_ID_LEVEL_BITS) - 1));
+	}
+
+	/**
+	 * 29비트 정수의 각 비트 사이에 0을 끼워 넣습니다. (abc -> 0a0b0c)
+	 */
+	private static long interleave(long value) {
+		long x = value & ((1L << CELL_ID_COORD_BITS) - 1);
+		x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+		x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+		x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+		x = (x | (x << 2)) & 0x3333333333333333L;
+		x = (x | (x << 1)) & 0x5555555555555555L;
+		return x;
+	}
+
 	/**
 	 * 경계 상자 정보를 담는 클래스
 	 */
@@ -0,0 +1,104 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
+
+/**
+ * 증분 수집 중 한 지역에서 발견한 변경 내역 (추가/삭제된 장소와 격자 집계)
+ *
+ * <p>격자 작업이 동시에 기록하므로 스레드 안전한 컬렉션을 사용합니다. 격자는 서로 겹치므로 한 격자 응답에서 빠진
+ * 장소도 이웃 격자 응답에는 있을 수 있습니다. 삭제 후보는 지역 전체에서 한 번도 응답에 나오지 않은 경우에만
+ * 삭제분으로 봅니다.</p>
+ */
+public final class IncrementalDelta {
+
+	private final Queue<PlaceEntity> added = new ConcurrentLinkedQueue<>();
+	private final Map<String, PlaceEntity> removalCandidates = new ConcurrentHashMap<>();
+	private final Set<String> returnedPlaceIds = ConcurrentHashMap.newKeySet();
+	private final LongAdder unchangedCells = new LongAdder();
+	private final LongAdder changedCells = new LongAdder();
+
+	void addAdded(Collection<PlaceEntity> places) {
+		added.addAll(places);
+	}
+
+	void addRemovalCandidate(PlaceEntity place) {
+		removalCandidates.putIfAbsent(place.getPlaceId(), place);
+	}
+
+	void addReturned(Collection<String> placeIds) {
+		returnedPlaceIds.addAll(placeIds);
+	}
+
+	void markUnchanged() {
+		unchangedCells.increment();
+	}
+
+	void markChanged() {
+		changedCells.increment();
+	}
+
+	/** 새로 저장한 장소 */
+	public List<PlaceEntity> getAdded() {
+		return new ArrayList<>(added);
+	}
+
+	/** 다시 수집한 격자 응답에서 사라지고 지역 내 어느 응답에도 나오지 않은 장소 */
+	public List<PlaceEntity> getRemoved() {
+		List<PlaceEntity> removed = new ArrayList<>();
+		for (PlaceEntity place : removalCandidates.values()) {
+			if (!returnedPlaceIds.contains(place.getPlaceId())) {
+				removed.add(place);
+			}
+		}
+		return removed;
+	}
+
+	/** 지문이 같아 페이지 수집을 생략한 격자 수 */
+	public long getUnchangedCells() {
+		return unchangedCells.sum();
+	}
+
+	/** 지문이 달라 다시 수집한 격자 수 */
+	public long getChangedCells() {
+		return changedCells.sum();
+	}
+
+	public boolean isEmpty() {
+		return added.isEmpty() && getRemoved().isEmpty();
+	}
+
+	/**
+	 * 다시 수집하는 격자 하나의 페이지 응답 기록 (모든 페이지를 받은 경우에만 삭제 판단에 사용)
+	 */
+	static final class CellScan {
+		private final Set<String> returnedPlaceIds = new HashSet<>();
+		private boolean complete;
+
+		void addReturned(Collection<String> placeIds) {
+			returnedPlaceIds.addAll(placeIds);
+		}
+
+		void markComplete() {
+			complete = true;
+		}
+
+		boolean isComplete() {
+			return complete;
+		}
+
+		boolean returned(String placeId) {
+			return returnedPlaceIds.contains(placeId);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.livelihoodcoupon.common.dto.Coordinate;
+
+/**
+ * 지오코딩한 주차장 좌표(parking_lot.location)를 JDBC 배치 UPDATE로 저장하는 컴포넌트
+ *
+ * <p>행마다 UPDATE를 따로 실행하지 않고 한 묶음을 한 번의 배치로 보냅니다. 이미 좌표가 있는 행(다른 백필이 먼저
+ * 저장한 경우)은 덮어쓰지 않습니다.</p>
+ */
+@Component
+public class ParkingLotLocationWriter {
+
+	// 주의: ST_MakePoint(경도 lng, 위도 lat)
+	private static final String UPDATE_SQL = """
+		UPDATE parking_lot
+		   SET location = ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography
+		 WHERE id = ?
+		   AND location IS NULL
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ParkingLotLocationWriter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 주차장 좌표를 한 번의 배치로 저장합니다.
+	 *
+	 * @param locations 주차장 ID → 좌표
+	 */
+	public void updateLocations(Map<Long, Coordinate> locations) {
+		if (locations.isEmpty()) {
+			return;
+		}
+		List<Map.Entry<Long, Coordinate>> entries = new ArrayList<>(locations.entrySet());
+		jdbcTemplate.batchUpdate(UPDATE_SQL, entries, entries.size(), (ps, entry) -> {
+			ps.setDouble(1, entry.getValue().getLng());
+			ps.setDouble(2, entry.getValue().getLat());
+			ps.setLong(3, entry.getKey());
+		});
+	}
+}
@@ -0,0 +1,126 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.livelihoodcoupon.collector.repository.CollectorPlaceRepository;
+import com.livelihoodcoupon.common.config.CollectorProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블룸 필터 기반 장소 중복 검사 서비스
+ *
+ * <p>수집한 모든 장소 ID를 메모리 집합에 담으면 전국 수집 시 수백만 개의 문자열을 들고 있어야 하고, 지역마다 집합을
+ * 새로 만들면 다른 지역에서 이미 저장한 장소는 걸러내지 못합니다. 이 서비스는 DB에 저장된 장소 ID로 블록 블룸 필터를
+ * 한 번 채워두고, 수집 중 발견한 장소 ID도 같은 필터에 추가하여 작은 메모리로 지역 구분 없이 중복을 걸러냅니다.</p>
+ *
+ * <h3>판단 방식:</h3>
+ * <ul>
+ *   <li><b>필터에 없음:</b> 처음 발견한 장소로 확정하고 필터에 추가 (DB 조회 없음)</li>
+ *   <li><b>필터에 있음:</b> 오탐일 수 있으므로 해당 장소들만 한 번의 IN 쿼리로 DB에 있는지 확인</li>
+ * </ul>
+ *
+ * <p>동시에 같은 장소를 발견하여 둘 다 처음 발견한 것으로 판단되더라도 저장은 {@code ON CONFLICT DO NOTHING}으로
+ * 처리되므로({@link CollectorPlaceWriter}) 중복 저장되지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class PlaceDedupService implements PlaceIdRegistry {
+
+	private final CollectorPlaceRepository collectorPlaceRepository;
+	private final CollectorProperties collectorProperties;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ReentrantLock seedLock = new ReentrantLock();
+
+	private volatile BlockedBloomFilter filter;
+
+	public PlaceDedupService(CollectorPlaceRepository collectorPlaceRepository,
+		CollectorProperties collectorProperties, PlatformTransactionManager transactionManager) {
+		this.collectorPlaceRepository = collectorPlaceRepository;
+		this.collectorProperties = collectorProperties;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	@Override
+	public boolean register(String placeId) {
+		return !registerAll(List.of(placeId)).isEmpty();
+	}
+
+	@Override
+	public Set<String> registerAll(Collection<String> placeIds) {
+		BlockedBloomFilter bloomFilter = filter();
+		Set<String> registered = new HashSet<>();
+		List<String> candidates = new ArrayList<>();
+		for (String placeId : placeIds) {
+			if (bloomFilter.put(placeId)) {
+				registered.add(placeId);
+			} else {
+				candidates.add(placeId);
+			}
+		}
+
+		// 필터가 있다고 답한 장소만 DB에서 정확히 확인
+		if (!candidates.isEmpty()) {
+			Set<String> existing = new HashSet<>(collectorPlaceRepository.findExistingPlaceIds(candidates));
+			for (String candidate : candidates) {
+				if (!existing.contains(candidate)) {
+					registered.add(candidate);
+				}
+			}
+		}
+		return registered;
+	}
+
+	private BlockedBloomFilter filter() {
+		BlockedBloomFilter current = filter;
+		if (current != null) {
+			return current;
+		}
+		seedLock.lock();
+		try {
+			if (filter == null) {
+				filter = seed();
+			}
+			return filter;
+		} finally {
+			seedLock.unlock();
+		}
+	}
+
+	/**
+	 * DB에 저장된 장소 ID로 블룸 필터를 채웁니다. (처음 사용할 때 한 번 실행)
+	 */
+	private BlockedBloomFilter seed() {
+		long startTime = System.currentTimeMillis();
+		BlockedBloomFilter bloomFilter = BlockedBloomFilter.create(collectorProperties.getDedupExpectedPlaces(),
+			collectorProperties.getDedupFalsePositiveRate());
+		LongAdder seeded = new LongAdder();
+		readOnlyTransaction.executeWithoutResult(status -> {
+			try (Stream<String> placeIds = collectorPlaceRepository.streamAllPlaceIds()) {
+				placeIds.forEach(placeId -> {
+					bloomFilter.put(placeId);
+					seeded.increment();
+				});
+			}
+		});
+		log.info("장소 중복 검사 필터 준비 완료 (기존 장소 {}건, 필터 {}KB, 소요 {}ms)", seeded.sum(),
+			bloomFilter.bitSize() / 8 / 1024, System.currentTimeMillis() - startTime);
+		if (seeded.sum() > collectorProperties.getDedupExpectedPlaces()) {
+			log.warn("기존 장소 수가 예상치(collector.dedup-expected-places={})를 넘어 오탐(DB 확인)이 늘어납니다.",
+				collectorProperties.getDedupExpectedPlaces());
+		}
+		return bloomFilter;
+	}
+}
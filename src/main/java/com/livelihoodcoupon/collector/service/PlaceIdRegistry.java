@@ -0,0 +1,40 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 수집 중 이미 발견한 장소 ID를 기록하여 같은 장소를 중복 저장하지 않도록 하는 저장소
+ *
+ * <p>인접한 격자는 검색 반경이 겹치므로 같은 장소가 여러 격자에서 반복해서 조회됩니다.
+ * 단일 인스턴스 수집은 블룸 필터({@link PlaceDedupService})를, 여러 인스턴스가 나누어 수집하는 분산 수집은
+ * Redis 집합({@link RedisPlaceIdRegistry})을 사용하여 인스턴스 사이에서도 중복을 걸러냅니다.</p>
+ */
+@FunctionalInterface
+public interface PlaceIdRegistry {
+
+	/**
+	 * 장소 ID를 등록합니다.
+	 *
+	 * @param placeId 카카오 장소 ID
+	 * @return 처음 발견한 장소면 true, 이미 등록된 장소면 false
+	 */
+	boolean register(String placeId);
+
+	/**
+	 * 여러 장소 ID를 한 번에 등록합니다. (구현체는 저장소 조회를 묶어서 처리할 수 있음)
+	 *
+	 * @param placeIds 카카오 장소 ID 목록
+	 * @return 처음 발견한 장소 ID
+	 */
+	default Set<String> registerAll(Collection<String> placeIds) {
+		Set<String> registered = new HashSet<>();
+		for (String placeId : placeIds) {
+			if (register(placeId)) {
+				registered.add(placeId);
+			}
+		}
+		return registered;
+	}
+}
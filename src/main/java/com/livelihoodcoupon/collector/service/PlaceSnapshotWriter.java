@@ -0,0 +1,204 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
+
+/**
+ * 수집한 장소를 바이너리 열 기반(columnar) 스냅샷 파일로 저장하는 작성기
+ *
+ * <p>배치 작업이 CSV를 다시 토큰화하고 리플렉션으로 DTO에 매핑하는 대신, 파일을 메모리 매핑하여 바로 디코딩할 수
+ * 있도록 만든 형식입니다. 행을 {@value #BLOCK_ROWS}개씩 블록으로 모으고, 블록 안에서는 컬럼별로 이어서 씁니다.
+ * 값 종류가 적은 지역/카테고리/키워드 컬럼은 사전 번호(int)로, 위도/경도는 double 배열로 저장합니다.</p>
+ *
+ * <h3>파일 구조 (모든 정수는 빅엔디언):</h3>
+ * <ul>
+ *   <li><b>헤더:</b> 매직 넘버(int), 버전(int)</li>
+ *   <li><b>블록:</b> 행 수 n(int), 위도 double[n], 경도 double[n], 사전 컬럼 int[n] × {@value #DICTIONARY_COLUMNS},
+ *   문자열 컬럼 × {@value #TEXT_COLUMNS} (각각 바이트 길이 int[n] 다음에 UTF-8 바이트를 이어서 씀)</li>
+ *   <li><b>사전:</b> 항목 수(int), 항목마다 바이트 길이(int) + UTF-8 바이트</li>
+ *   <li><b>트레일러:</b> 사전 시작 위치(long), 매직 넘버(int)</li>
+ * </ul>
+ *
+ * <p>null 문자열은 사전 번호와 바이트 길이 모두 {@code -1}로, null 좌표는 NaN으로 저장합니다.
+ * 컬럼 순서는 {@link CsvExportService#PLACE_COLUMNS}와 같은 의미를 가집니다. 한 스레드에서만 사용해야 합니다.</p>
+ */
+public final class PlaceSnapshotWriter implements Closeable {
+
+	/** 스냅샷 파일 확장자 */
+	public static final String EXTENSION = ".lcps";
+	/** 파일 시작과 끝에 쓰는 매직 넘버 ("LCPS") */
+	public static final int MAGIC = 0x4C435053;
+	/** 형식 버전 (형식이 바뀌면 올림) */
+	public static final int VERSION = 1;
+	/** 블록 하나에 모으는 최대 행 수 */
+	public static final int BLOCK_ROWS = 4096;
+	/** 사전 번호로 저장하는 컬럼 수 (region, categoryName, keyword, categoryGroupCode, categoryGroupName) */
+	public static final int DICTIONARY_COLUMNS = 5;
+	/** 문자열 그대로 저장하는 컬럼 수 (placeId, placeName, roadAddress, lotAddress, phone, placeUrl) */
+	public static final int TEXT_COLUMNS = 6;
+	/** 트레일러 크기 (사전 시작 위치 long + 매직 넘버 int) */
+	public static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+	private final DataOutputStream out;
+	private final Map<String, Integer> dictionary = new HashMap<>();
+	private final List<byte[]> dictionaryEntries = new ArrayList<>();
+
+	private final double[] lat = new double[BLOCK_ROWS];
+	private final double[] lng = new double[BLOCK_ROWS];
+	private final int[][] codes = new int[DICTIONARY_COLUMNS][BLOCK_ROWS];
+	private final byte[][][] texts = new byte[TEXT_COLUMNS][BLOCK_ROWS][];
+	private int blockSize;
+	private long position;
+	private long rowCount;
+
+	public PlaceSnapshotWriter(OutputStream out) throws IOException {
+		this.out = new DataOutputStream(out);
+		this.out.writeInt(MAGIC);
+		this.out.writeInt(VERSION);
+		this.position = Integer.BYTES * 2;
+	}
+
+	/**
+	 * 파일에 쓰는 작성기를 엽니다.
+	 *
+	 * @param path 파일 경로
+	 * @return 스냅샷 작성기
+	 * @throws IOException 파일을 열 수 없을 때
+	 */
+	public static PlaceSnapshotWriter open(Path path) throws IOException {
+		OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path), OUTPUT_BUFFER_SIZE);
+		try {
+			return new PlaceSnapshotWriter(stream);
+		} catch (IOException e) {
+			stream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 장소 한 건을 씁니다. (블록이 차면 블록 단위로 내보냄)
+	 *
+	 * @param place 장소
+	 * @throws IOException 출력 오류
+	 */
+	public void write(PlaceEntity place) throws IOException {
+		int row = blockSize;
+		lat[row] = place.getLat() == null ? Double.NaN : place.getLat();
+		lng[row] = place.getLng() == null ? Double.NaN : place.getLng();
+
+		codes[0][row] = code(place.getRegion());
+		codes[1][row] = code(place.getCategory());
+		codes[2][row] = code(place.getKeyword());
+		codes[3][row] = code(place.getCategoryGroupCode());
+		codes[4][row] = code(place.getCategoryGroupName());
+
+		texts[0][row] = utf8(place.getPlaceId());
+		texts[1][row] = utf8(place.getPlaceName());
+		texts[2][row] = utf8(place.getRoadAddress());
+		texts[3][row] = utf8(place.getLotAddress());
+		texts[4][row] = utf8(place.getPhone());
+		texts[5][row] = utf8(place.getPlaceUrl());
+
+		rowCount++;
+		if (++blockSize == BLOCK_ROWS) {
+			writeBlock();
+		}
+	}
+
+	/**
+	 * 지금까지 쓴 행 수를 반환합니다.
+	 *
+	 * @return 행 수
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * 남은 블록과 사전, 트레일러를 쓰고 파일을 닫습니다.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			writeBlock();
+			long dictionaryOffset = position;
+			out.writeInt(dictionaryEntries.size());
+			for (byte[] entry : dictionaryEntries) {
+				out.writeInt(entry.length);
+				out.write(entry);
+			}
+			out.writeLong(dictionaryOffset);
+			out.writeInt(MAGIC);
+		} finally {
+			out.close();
+		}
+	}
+
+	private void writeBlock() throws IOException {
+		if (blockSize == 0) {
+			return;
+		}
+		int n = blockSize;
+		long bytes = Integer.BYTES + (long)n * Double.BYTES * 2 + (long)n * Integer.BYTES * DICTIONARY_COLUMNS;
+
+		out.writeInt(n);
+		for (int i = 0; i < n; i++) {
+			out.writeDouble(lat[i]);
+		}
+		for (int i = 0; i < n; i++) {
+			out.writeDouble(lng[i]);
+		}
+		for (int[] column : codes) {
+			for (int i = 0; i < n; i++) {
+				out.writeInt(column[i]);
+			}
+		}
+		for (byte[][] column : texts) {
+			for (int i = 0; i < n; i++) {
+				out.writeInt(column[i] == null ? -1 : column[i].length);
+			}
+			bytes += (long)n * Integer.BYTES;
+			for (int i = 0; i < n; i++) {
+				if (column[i] != null) {
+					out.write(column[i]);
+					bytes += column[i].length;
+				}
+				column[i] = null;
+			}
+		}
+
+		position += bytes;
+		blockSize = 0;
+	}
+
+	private int code(String value) {
+		if (value == null) {
+			return -1;
+		}
+		Integer code = dictionary.get(value);
+		if (code == null) {
+			code = dictionaryEntries.size();
+			dictionary.put(value, code);
+			dictionaryEntries.add(value.getBytes(StandardCharsets.UTF_8));
+		}
+		return code;
+	}
+
+	private static byte[] utf8(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,207 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * 폴리곤과 겹치는 격자만 행(위도) 단위로 래스터화하여 차례로 돌려주는 반복자
+ *
+ * <p>경계 상자의 모든 격자를 만든 뒤 중심점으로 거르는 대신, 위도 방향으로 한 행씩 내려가며(scanline)
+ * 그 행에 걸친 변만 활성 변 목록으로 유지하고 해당 행에서 폴리곤과 겹치는 열만 계산합니다.
+ * 한 번에 한 행의 열 정보만 메모리에 두므로 격자 수와 무관하게 가볍게 동작합니다.</p>
+ *
+ * <h3>포함되는 격자:</h3>
+ * <ul>
+ *   <li><b>내부 격자:</b> 격자 중심점이 폴리곤 내부에 있는 격자 (행 중심 위도에서 ray casting)</li>
+ *   <li><b>경계 격자:</b> 중심점은 밖에 있지만 폴리곤 경계선이 격자 내부를 지나가는 격자</li>
+ * </ul>
+ *
+ * <p>격자 배치(시작점, 간격)는 {@link GridUtil#generateGridForBoundingBox}와 같으므로 기존에 저장된 격자
+ * 식별자와 호환됩니다. 경계선이 격자의 변에 닿기만 하는 경우는 겹치는 것으로 보지 않습니다.</p>
+ */
+final class PolygonGridIterator implements Iterator<double[]> {
+
+	/** 격자 간격 대비 허용 오차 (격자 경계에 정확히 걸친 좌표를 한쪽으로만 포함시키기 위함) */
+	private static final double EPSILON = 1e-9;
+
+	/** 변 i의 시작점 (끝점은 i + 1) */
+	private final double[] lngs;
+	private final double[] lats;
+	/** 최소 위도 순으로 정렬한 변 번호 */
+	private final int[] edgesByMinLat;
+
+	private final double latStart;
+	private final double lngStart;
+	private final double latStep;
+	private final double lngStep;
+	private final int rows;
+	private final int cols;
+
+	private final int[] activeEdges;
+	private int activeCount;
+	private int nextEdge;
+	private double[] crossings = new double[8];
+
+	private final BitSet rowCols;
+	private int row = -1;
+	private int col = -1;
+
+	PolygonGridIterator(List<List<Double>> ring, int gridCellRadiusMeters) {
+		int n = ring == null ? 0 : ring.size();
+		boolean closed = n > 0 && ring.get(0).equals(ring.get(n - 1));
+		int length = n == 0 ? 0 : (closed ? n : n + 1);
+		this.lngs = new double[length];
+		this.lats = new double[length];
+		for (int i = 0; i < n; i++) {
+			lngs[i] = ring.get(i).get(0);
+			lats[i] = ring.get(i).get(1);
+		}
+		if (n > 0 && !closed) {
+			lngs[n] = lngs[0];
+			lats[n] = lats[0];
+		}
+
+		double minLat = Double.POSITIVE_INFINITY;
+		double maxLat = Double.NEGATIVE_INFINITY;
+		double minLng = Double.POSITIVE_INFINITY;
+		double maxLng = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < length; i++) {
+			minLat = Math.min(minLat, lats[i]);
+			maxLat = Math.max(maxLat, lats[i]);
+			minLng = Math.min(minLng, lngs[i]);
+			maxLng = Math.max(maxLng, lngs[i]);
+		}
+
+		this.latStart = minLat;
+		this.lngStart = minLng;
+		this.latStep = gridCellRadiusMeters * 2 * GridUtil.DEGREE_PER_METER;
+		this.lngStep = latStep / Math.cos(Math.toRadians((minLat + maxLat) / 2.0));
+
+		// 꼭짓점이 3개 미만이면 면적이 없으므로 격자도 없음
+		boolean valid = length >= 4 && gridCellRadiusMeters > 0;
+		this.rows = valid ? cellCount(maxLat - minLat, latStep) : 0;
+		this.cols = valid ? cellCount(maxLng - minLng, lngStep) : 0;
+
+		int edgeCount = Math.max(length - 1, 0);
+		this.edgesByMinLat = IntStream.range(0, edgeCount).boxed()
+			.sorted(Comparator.comparingDouble(i -> Math.min(lats[i], lats[i + 1])))
+			.mapToInt(Integer::intValue)
+			.toArray();
+		this.activeEdges = new int[edgeCount];
+		this.rowCols = new BitSet(cols);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (col < 0) {
+			if (row + 1 >= rows) {
+				return false;
+			}
+			rasterizeRow(++row);
+			col = rowCols.nextSetBit(0);
+		}
+		return true;
+	}
+
+	@Override
+	public double[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		double[] center = {latStart + (row + 0.5) * latStep, lngStart + (col + 0.5) * lngStep};
+		col = col + 1 < cols ? rowCols.nextSetBit(col + 1) : -1;
+		return center;
+	}
+
+	/**
+	 * 한 행에서 폴리곤과 겹치는 열을 계산합니다.
+	 */
+	private void rasterizeRow(int rowIndex) {
+		double bandStart = latStart + rowIndex * latStep;
+		double bandEnd = bandStart + latStep;
+		double centerLat = bandStart + latStep / 2;
+
+		// 1. 활성 변 목록 갱신 (이번 행에 새로 걸치는 변 추가, 이미 지나간 변 제거)
+		while (nextEdge < edgesByMinLat.length && minLat(edgesByMinLat[nextEdge]) < bandEnd) {
+			activeEdges[activeCount++] = edgesByMinLat[nextEdge++];
+		}
+		int kept = 0;
+		for (int k = 0; k < activeCount; k++) {
+			if (maxLat(activeEdges[k]) > bandStart) {
+				activeEdges[kept++] = activeEdges[k];
+			}
+		}
+		activeCount = kept;
+
+		rowCols.clear();
+		int crossingCount = 0;
+		for (int k = 0; k < activeCount; k++) {
+			int i = activeEdges[k];
+			int j = i + 1;
+
+			// 2. 경계 격자: 행 안에 들어오는 변의 구간이 지나가는 열 표시
+			double lowLat = Math.max(minLat(i), bandStart);
+			double highLat = Math.min(maxLat(i), bandEnd);
+			if (lats[i] == lats[j]) {
+				if (lats[i] > bandStart && lats[i] < bandEnd) {
+					markSpan(lngs[i], lngs[j]);
+				}
+			} else if (highLat > lowLat) {
+				markSpan(lngAt(i, lowLat), lngAt(i, highLat));
+			}
+
+			// 3. 내부 격자: 행 중심 위도에서 변과의 교차점 수집 (GridUtil.isPointNotInPolygon과 같은 판정식)
+			if ((lats[j] > centerLat) != (lats[i] > centerLat)) {
+				if (crossingCount == crossings.length) {
+					crossings = Arrays.copyOf(crossings, crossingCount * 2);
+				}
+				crossings[crossingCount++] =
+					(lngs[i] - lngs[j]) * (centerLat - lats[j]) / (lats[i] - lats[j]) + lngs[j];
+			}
+		}
+
+		// 4. 교차점을 짝지어 그 사이에 중심점이 있는 열 표시 (짝수-홀수 규칙)
+		Arrays.sort(crossings, 0, crossingCount);
+		for (int k = 0; k + 1 < crossingCount; k += 2) {
+			int from = Math.max(0, (int)Math.ceil((crossings[k] - lngStart) / lngStep - 0.5));
+			int to = Math.min(cols, (int)Math.ceil((crossings[k + 1] - lngStart) / lngStep - 0.5));
+			if (from < to) {
+				rowCols.set(from, to);
+			}
+		}
+	}
+
+	/**
+	 * 경도 구간 (lngA, lngB)가 내부를 지나가는 열을 표시합니다.
+	 */
+	private void markSpan(double lngA, double lngB) {
+		double from = (Math.min(lngA, lngB) - lngStart) / lngStep;
+		double to = (Math.max(lngA, lngB) - lngStart) / lngStep;
+		int first = Math.max(0, (int)Math.floor(from + EPSILON));
+		int last = Math.min(cols - 1, (int)Math.ceil(to - EPSILON) - 1);
+		if (first <= last) {
+			rowCols.set(first, last + 1);
+		}
+	}
+
+	private double lngAt(int edge, double lat) {
+		return lngs[edge] + (lngs[edge + 1] - lngs[edge]) * (lat - lats[edge]) / (lats[edge + 1] - lats[edge]);
+	}
+
+	private double minLat(int edge) {
+		return Math.min(lats[edge], lats[edge + 1]);
+	}
+
+	private double maxLat(int edge) {
+		return Math.max(lats[edge], lats[edge + 1]);
+	}
+
+	private static int cellCount(double extent, double step) {
+		return Math.max(1, (int)Math.ceil(extent / step - EPSILON));
+	}
+}
@@ -0,0 +1,192 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 점-폴리곤 포함 검사를 반복 수행하기 위해 미리 전처리한 폴리곤
+ *
+ * <p>{@link GridUtil#isPointNotInPolygon}은 호출마다 {@code List<List<Double>>}의 모든 꼭짓점을 순회하며
+ * 박싱된 좌표를 꺼내므로, 꼭짓점이 수천 개인 시군구 경계에 대해 격자 중심점/장소마다 호출하면 비용이 큽니다.
+ * 이 클래스는 폴리곤을 한 번만 전처리하여 이후 검사를 빠르게 수행합니다.</p>
+ *
+ * <h3>전처리 내용:</h3>
+ * <ul>
+ *   <li><b>원시 배열:</b> 꼭짓점을 {@code double[]}로 펼쳐 박싱과 리스트 접근을 제거</li>
+ *   <li><b>경계 상자:</b> 경계 상자 밖의 점은 변을 보지 않고 바로 제외</li>
+ *   <li><b>위도 띠 색인:</b> 경계 상자를 위도 방향으로 균등한 띠로 나누고, 띠마다 걸쳐 있는 변 목록을 저장.
+ *   검사 시 점이 속한 띠의 변만 교차 판정하므로 전체 변 수보다 훨씬 적은 변만 확인</li>
+ * </ul>
+ *
+ * <p>판정 결과는 {@link GridUtil#isPointNotInPolygon}과 동일한 ray casting 규칙을 따릅니다.
+ * 생성 이후 변경되지 않으므로 여러 스레드에서 동시에 사용해도 안전합니다.</p>
+ */
+public final class PreparedPolygon {
+
+	/** 띠 하나에 평균적으로 들어가는 변 수의 목표치 */
+	private static final int EDGES_PER_BAND = 4;
+	private static final int MAX_BANDS = 4096;
+
+	/** 변 i의 시작점 (끝점은 i + 1) */
+	private final double[] lngs;
+	private final double[] lats;
+	private final GridUtil.BoundingBox boundingBox;
+	private final int bandCount;
+	private final double bandHeight;
+	/** 띠 b에 속한 변 번호는 bandEdges[bandOffsets[b] .. bandOffsets[b + 1]) */
+	private final int[] bandOffsets;
+	private final int[] bandEdges;
+
+	private PreparedPolygon(double[] lngs, double[] lats) {
+		this.lngs = lngs;
+		this.lats = lats;
+
+		int edgeCount = lngs.length - 1;
+		double minLat = Double.POSITIVE_INFINITY;
+		double maxLat = Double.NEGATIVE_INFINITY;
+		double minLng = Double.POSITIVE_INFINITY;
+		double maxLng = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < lngs.length; i++) {
+			minLat = Math.min(minLat, lats[i]);
+			maxLat = Math.max(maxLat, lats[i]);
+			minLng = Math.min(minLng, lngs[i]);
+			maxLng = Math.max(maxLng, lngs[i]);
+		}
+		this.boundingBox = new GridUtil.BoundingBox(minLat, maxLat, minLng, maxLng);
+
+		this.bandCount = Math.max(1, Math.min(MAX_BANDS, edgeCount / EDGES_PER_BAND));
+		this.bandHeight = (maxLat - minLat) / bandCount;
+
+		// 1차: 띠별 변 개수 집계, 2차: CSR 형태로 변 번호 채우기
+		int[] counts = new int[bandCount + 1];
+		for (int i = 0; i < edgeCount; i++) {
+			int from = band(Math.min(lats[i], lats[i + 1]));
+			int to = band(Math.max(lats[i], lats[i + 1]));
+			for (int b = from; b <= to; b++) {
+				counts[b + 1]++;
+			}
+		}
+		for (int b = 0; b < bandCount; b++) {
+			counts[b + 1] += counts[b];
+		}
+		this.bandOffsets = counts.clone();
+		this.bandEdges = new int[counts[bandCount]];
+		for (int i = 0; i < edgeCount; i++) {
+			int from = band(Math.min(lats[i], lats[i + 1]));
+			int to = band(Math.max(lats[i], lats[i + 1]));
+			for (int b = from; b <= to; b++) {
+				bandEdges[counts[b]++] = i;
+			}
+		}
+	}
+
+	/**
+	 * GeoJSON 형식의 폴리곤 링([경도, 위도] 목록)을 전처리합니다.
+	 *
+	 * @param ring 폴리곤 좌표 리스트 (각 점은 [경도, 위도] 형식)
+	 * @return 전처리된 폴리곤
+	 */
+	public static PreparedPolygon of(List<List<Double>> ring) {
+		if (ring == null || ring.isEmpty()) {
+			return new PreparedPolygon(new double[0], new double[0]);
+		}
+		int n = ring.size();
+		double[] lngs = new double[n];
+		double[] lats = new double[n];
+		for (int i = 0; i < n; i++) {
+			List<Double> point = ring.get(i);
+			lngs[i] = point.get(0);
+			lats[i] = point.get(1);
+		}
+		return of(lngs, lats);
+	}
+
+	/**
+	 * 경도/위도 배열로 펼친 폴리곤 링을 전처리합니다.
+	 *
+	 * @param lngs 꼭짓점 경도 (전달한 배열은 복사하지 않고 그대로 사용할 수 있음)
+	 * @param lats 꼭짓점 위도
+	 * @return 전처리된 폴리곤
+	 */
+	public static PreparedPolygon of(double[] lngs, double[] lats) {
+		int n = lngs.length;
+		if (n == 0) {
+			return new PreparedPolygon(lngs, lats);
+		}
+		if (lngs[0] == lngs[n - 1] && lats[0] == lats[n - 1]) {
+			return new PreparedPolygon(lngs, lats);
+		}
+		// 마지막 변(끝점 → 시작점)도 검사하도록 링을 닫아줌
+		double[] closedLngs = Arrays.copyOf(lngs, n + 1);
+		double[] closedLats = Arrays.copyOf(lats, n + 1);
+		closedLngs[n] = lngs[0];
+		closedLats[n] = lats[0];
+		return new PreparedPolygon(closedLngs, closedLats);
+	}
+
+	/**
+	 * 좌표가 폴리곤 내부에 있는지 판단합니다.
+	 *
+	 * @param lat 위도
+	 * @param lng 경도
+	 * @return 폴리곤 내부 여부
+	 */
+	public boolean contains(double lat, double lng) {
+		if (lngs.length < 4 || lat < boundingBox.getLatStart() || lat > boundingBox.getLatEnd()
+			|| lng < boundingBox.getLngStart() || lng > boundingBox.getLngEnd()) {
+			return false;
+		}
+
+		int b = band(lat);
+		boolean inside = false;
+		for (int k = bandOffsets[b]; k < bandOffsets[b + 1]; k++) {
+			// GridUtil과 부동소수점 결과까지 같도록 변의 끝점(i + 1)을 기준점으로 계산
+			int j = bandEdges[k];
+			int i = j + 1;
+			double latI = lats[i];
+			double latJ = lats[j];
+			if ((latI > lat) != (latJ > lat)
+				&& lng < (lngs[j] - lngs[i]) * (lat - latI) / (latJ - latI) + lngs[i]) {
+				inside = !inside;
+			}
+		}
+		return inside;
+	}
+
+	/**
+	 * 좌표가 폴리곤 외부에 있는지 판단합니다. ({@link GridUtil#isPointNotInPolygon}과 같은 의미)
+	 *
+	 * @param lat 위도
+	 * @param lng 경도
+	 * @return 폴리곤 외부 여부
+	 */
+	public boolean excludes(double lat, double lng) {
+		return !contains(lat, lng);
+	}
+
+	/**
+	 * GeoJSON 형식의 닫힌 링([경도, 위도] 목록)으로 되돌립니다.
+	 *
+	 * @return 폴리곤 좌표 리스트
+	 */
+	public List<List<Double>> toRing() {
+		List<List<Double>> ring = new ArrayList<>(lngs.length);
+		for (int i = 0; i < lngs.length; i++) {
+			ring.add(Arrays.asList(lngs[i], lats[i]));
+		}
+		return ring;
+	}
+
+	public GridUtil.BoundingBox getBoundingBox() {
+		return boundingBox;
+	}
+
+	private int band(double lat) {
+		if (bandHeight <= 0) {
+			return 0;
+		}
+		int b = (int)((lat - boundingBox.getLatStart()) / bandHeight);
+		return Math.min(Math.max(b, 0), bandCount - 1);
+	}
+}
@@ -0,0 +1,35 @@
+package com.livelihoodcoupon.collector.service;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 집합(SADD)으로 발견한 장소 ID를 공유하는 저장소
+ *
+ * <p>분산 수집에서 여러 인스턴스가 같은 키워드를 나누어 수집할 때 사용합니다. SADD는 원자적으로 동작하므로
+ * 같은 장소를 여러 인스턴스가 동시에 발견하더라도 한 곳에서만 처음 발견한 것으로 판단됩니다.</p>
+ */
+public class RedisPlaceIdRegistry implements PlaceIdRegistry {
+
+	private static final String KEY_PREFIX = "collector:place-ids:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final String key;
+
+	public RedisPlaceIdRegistry(StringRedisTemplate redisTemplate, String keyword) {
+		this.redisTemplate = redisTemplate;
+		this.key = KEY_PREFIX + keyword;
+	}
+
+	@Override
+	public boolean register(String placeId) {
+		Long added = redisTemplate.opsForSet().add(key, placeId);
+		return added != null && added > 0;
+	}
+
+	/**
+	 * 공유된 장소 ID를 모두 삭제합니다. (키워드 전체를 처음부터 다시 수집할 때 사용)
+	 */
+	public void clear() {
+		redisTemplate.delete(key);
+	}
+}
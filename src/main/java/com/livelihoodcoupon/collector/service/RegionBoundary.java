@@ -0,0 +1,140 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.livelihoodcoupon.collector.vo.RegionData;
+
+/**
+ * 시군구 하나의 경계 (전처리된 폴리곤 배열로 보관)
+ *
+ * <p>경계 좌표를 중첩 {@code List<Double>} 대신 {@link PreparedPolygon}의 {@code double[]} 배열로 보관하여 메모리를
+ * 줄이고, 점 포함 검사를 바로 할 수 있게 합니다. 기존 수집 코드가 사용하는 {@link RegionData}는 필요할 때
+ * {@link #toRegionData()}로 만듭니다. 생성 이후 변경되지 않으므로 여러 스레드에서 동시에 사용해도 안전합니다.</p>
+ */
+public final class RegionBoundary {
+
+	private final String code;
+	private final String sidoName;
+	private final String sigName;
+	private final String name;
+	/** 폴리곤별 링 목록 (첫 번째는 외곽 링, 나머지는 구멍) */
+	private final PreparedPolygon[][] polygons;
+	/** 폴리곤별 외곽 링 (빈 폴리곤 제외) */
+	private final List<PreparedPolygon> outerRings;
+	private final GridUtil.BoundingBox boundingBox;
+
+	/**
+	 * @param code 시군구 코드 (SIG_CD)
+	 * @param sidoName 시도 전체 이름 (알 수 없으면 null)
+	 * @param sigName 시군구 이름
+	 * @param polygons 폴리곤별 링 목록 (첫 번째는 외곽 링, 나머지는 구멍)
+	 */
+	public RegionBoundary(String code, String sidoName, String sigName, PreparedPolygon[][] polygons) {
+		this.code = code;
+		this.sidoName = sidoName;
+		this.sigName = sigName;
+		this.name = sidoName == null ? sigName : sidoName + " " + sigName;
+		this.polygons = polygons;
+
+		List<PreparedPolygon> rings = new ArrayList<>(polygons.length);
+		for (PreparedPolygon[] polygon : polygons) {
+			if (polygon.length > 0) {
+				rings.add(polygon[0]);
+			}
+		}
+		this.outerRings = List.copyOf(rings);
+
+		double minLat = Double.POSITIVE_INFINITY;
+		double maxLat = Double.NEGATIVE_INFINITY;
+		double minLng = Double.POSITIVE_INFINITY;
+		double maxLng = Double.NEGATIVE_INFINITY;
+		for (PreparedPolygon[] polygon : polygons) {
+			if (polygon.length == 0) {
+				continue;
+			}
+			GridUtil.BoundingBox box = polygon[0].getBoundingBox();
+			minLat = Math.min(minLat, box.getLatStart());
+			maxLat = Math.max(maxLat, box.getLatEnd());
+			minLng = Math.min(minLng, box.getLngStart());
+			maxLng = Math.max(maxLng, box.getLngEnd());
+		}
+		this.boundingBox = new GridUtil.BoundingBox(minLat, maxLat, minLng, maxLng);
+	}
+
+	/**
+	 * 좌표가 이 지역 안에 있는지 판단합니다. (외곽 링 안이면서 구멍 밖)
+	 *
+	 * @param lat 위도
+	 * @param lng 경도
+	 * @return 지역 내부 여부
+	 */
+	public boolean contains(double lat, double lng) {
+		for (PreparedPolygon[] polygon : polygons) {
+			if (polygon.length == 0 || !polygon[0].contains(lat, lng)) {
+				continue;
+			}
+			boolean inHole = false;
+			for (int i = 1; i < polygon.length && !inHole; i++) {
+				inHole = polygon[i].contains(lat, lng);
+			}
+			if (!inHole) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 수집 코드에서 사용하는 GeoJSON 좌표 형식의 지역 데이터를 만듭니다. (호출할 때마다 새로 만듦)
+	 *
+	 * @return 지역 데이터
+	 */
+	public RegionData toRegionData() {
+		List<List<List<List<Double>>>> coordinates = new ArrayList<>(polygons.length);
+		for (PreparedPolygon[] polygon : polygons) {
+			List<List<List<Double>>> rings = new ArrayList<>(polygon.length);
+			for (PreparedPolygon ring : polygon) {
+				rings.add(ring.toRing());
+			}
+			coordinates.add(rings);
+		}
+		RegionData regionData = new RegionData();
+		regionData.setName(name);
+		regionData.setPolygons(coordinates);
+		return regionData;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	/** 시도 전체 이름 (예: "서울특별시") */
+	public String getSidoName() {
+		return sidoName;
+	}
+
+	/** 시군구 이름 (예: "종로구", "창원시 의창구") */
+	public String getSigName() {
+		return sigName;
+	}
+
+	/** 시도와 시군구를 합친 지역 이름 (예: "서울특별시 종로구") */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 폴리곤별 외곽 링 (빈 폴리곤 제외)
+	 *
+	 * <p>순서와 개수는 {@link #toRegionData()}의 좌표에 {@code CouponDataCollector.outerRings}를 적용한 결과와
+	 * 같으므로, 작업 단위의 링 번호로 좌표 변환 없이 전처리된 외곽 링을 찾을 수 있습니다.</p>
+	 */
+	public List<PreparedPolygon> getOuterRings() {
+		return outerRings;
+	}
+
+	public GridUtil.BoundingBox getBoundingBox() {
+		return boundingBox;
+	}
+}
@@ -2,20 +2,26 @@ package com.livelihoodcoupon.collector.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.livelihoodcoupon.collector.dto.GeoJsonFeature;
-import com.livelihoodcoupon.collector.dto.GeoJsonFeatureCollection;
 import com.livelihoodcoupon.collector.vo.RegionData;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 클래스패스의 행정구역 경계 파일(sig.json, sido.json)을 읽는 로더
+ *
+ * <p>경계 좌표는 중첩 리스트로 변환하지 않고 JSON 트리에서 바로 {@code double[]} 배열로 읽어 {@link RegionBoundary}로
+ * 만듭니다. 파일을 매번 다시 읽으므로, 애플리케이션에서는 한 번 읽어 보관하는 {@link RegionStore}를 사용합니다.</p>
+ */
 @Slf4j
 @Component
 public class RegionLoader {
@@ -26,86 +32,101 @@ public class RegionLoader {
 		this.objectMapper = objectMapper;
 	}
 
+	/**
+	 * 모든 시군구 지역 데이터를 읽습니다.
+	 *
+	 * @return 지역 데이터 목록
+	 */
 	public List<RegionData> loadRegions() {
+		return loadBoundaries().stream()
+			.map(RegionBoundary::toRegionData)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 모든 시군구 경계를 읽습니다.
+	 *
+	 * @return 시군구 경계 목록 (sig.json 순서)
+	 */
+	public List<RegionBoundary> loadBoundaries() {
 		try {
 			Map<String, String> sidoMap = loadSidoNames();
+			JsonNode sig = readResource("/sig.json");
 
-			try (InputStream sigIs = getClass().getResourceAsStream("/sig.json")) {
-				if (sigIs == null) {
-					throw new IOException("sig.json not found in classpath");
-				}
-
-				GeoJsonFeatureCollection sigFeatureCollection = objectMapper.readValue(sigIs,
-					GeoJsonFeatureCollection.class);
-
-				return sigFeatureCollection.getFeatures().stream()
-					.map(feature -> convertFeatureToRegionData(feature, sidoMap))
-					.collect(Collectors.toList());
+			List<RegionBoundary> boundaries = new ArrayList<>();
+			for (JsonNode feature : sig.path("features")) {
+				boundaries.add(toBoundary(feature, sidoMap));
 			}
-
+			return boundaries;
 		} catch (IOException e) {
 			throw new RuntimeException("Failed to load region data", e);
 		}
 	}
 
 	private Map<String, String> loadSidoNames() throws IOException {
-		try (InputStream sidoIs = getClass().getResourceAsStream("/sido.json")) {
-			if (sidoIs == null) {
-				throw new IOException("sido.json not found in classpath");
-			}
-
-			GeoJsonFeatureCollection sidoFeatureCollection = objectMapper.readValue(sidoIs,
-				GeoJsonFeatureCollection.class);
-
-			return sidoFeatureCollection.getFeatures().stream()
-				.collect(Collectors.toMap(
-					feature -> feature.getProperties().getCtprvnCd(),
-					feature -> feature.getProperties().getSigKorNm(),
-					(existing, replacement) -> existing // In case of duplicate keys
-				));
+		Map<String, String> sidoMap = new HashMap<>();
+		for (JsonNode feature : readResource("/sido.json").path("features")) {
+			JsonNode properties = feature.path("properties");
+			// In case of duplicate keys
+			sidoMap.putIfAbsent(properties.path("CTPRVN_CD").asText(), properties.path("SIG_KOR_NM").asText());
 		}
+		return sidoMap;
 	}
 
-	private RegionData convertFeatureToRegionData(GeoJsonFeature feature, Map<String, String> sidoMap) {
-		RegionData regionData = new RegionData();
-
-		String sigCd = feature.getProperties().getSigCd();
-		String sigName = feature.getProperties().getSigKorNm();
-		String sidoCd = sigCd.substring(0, 2);
-		String sidoNameAbbr = sidoMap.get(sidoCd);
-
-		if (sidoNameAbbr == null) {
-			regionData.setName(sigName); // Fallback to just sigName if sido is not found
-		} else {
-			String sidoNameFull = expandSidoName(sidoNameAbbr);
-			String fullName = sidoNameFull + " " + sigName;
-			regionData.setName(fullName);
+	private JsonNode readResource(String path) throws IOException {
+		try (InputStream is = getClass().getResourceAsStream(path)) {
+			if (is == null) {
+				throw new IOException(path.substring(1) + " not found in classpath");
+			}
+			return objectMapper.readTree(is);
 		}
+	}
 
-		if (feature.getGeometry() != null && feature.getGeometry().getCoordinates() != null) {
-			String type = feature.getGeometry().getType();
-			Object rawCoordinates = feature.getGeometry().getCoordinates();
-
-			try {
-				if ("Polygon".equals(type)) {
-					List<List<List<Double>>> polygon = objectMapper.convertValue(rawCoordinates, new TypeReference<>() {
-					});
-					regionData.setPolygons(List.of(polygon));
-				} else if ("MultiPolygon".equals(type)) {
-					List<List<List<List<Double>>>> multiPolygon = objectMapper.convertValue(rawCoordinates,
-						new TypeReference<>() {
-						});
-					regionData.setPolygons(multiPolygon);
+	private RegionBoundary toBoundary(JsonNode feature, Map<String, String> sidoMap) {
+		String sigCd = feature.path("properties").path("SIG_CD").asText();
+		String sigName = feature.path("properties").path("SIG_KOR_NM").asText();
+		String sidoNameAbbr = sidoMap.get(sigCd.substring(0, 2));
+		// Fallback to just sigName if sido is not found
+		String sidoName = sidoNameAbbr == null ? null : expandSidoName(sidoNameAbbr);
+
+		PreparedPolygon[][] polygons = new PreparedPolygon[0][];
+		JsonNode geometry = feature.path("geometry");
+		String type = geometry.path("type").asText();
+		JsonNode coordinates = geometry.path("coordinates");
+		try {
+			if ("Polygon".equals(type)) {
+				polygons = new PreparedPolygon[][] {toPolygon(coordinates)};
+			} else if ("MultiPolygon".equals(type)) {
+				polygons = new PreparedPolygon[coordinates.size()][];
+				for (int i = 0; i < polygons.length; i++) {
+					polygons[i] = toPolygon(coordinates.get(i));
 				}
-			} catch (Exception e) {
-				log.error("Could not parse coordinates for region: {}. Type: {}. Error: {}", regionData.getName(), type,
-					e.getMessage());
-				// Set polygons to null or empty list to indicate failure for this specific region
-				regionData.setPolygons(null);
 			}
+		} catch (Exception e) {
+			log.error("Could not parse coordinates for region: {}. Type: {}. Error: {}", sigName, type,
+				e.getMessage());
+			polygons = new PreparedPolygon[0][];
 		}
+		return new RegionBoundary(sigCd, sidoName, sigName, polygons);
+	}
 
-		return regionData;
+	private static PreparedPolygon[] toPolygon(JsonNode rings) {
+		PreparedPolygon[] polygon = new PreparedPolygon[rings.size()];
+		for (int r = 0; r < polygon.length; r++) {
+			JsonNode ring = rings.get(r);
+			double[] lngs = new double[ring.size()];
+			double[] lats = new double[ring.size()];
+			for (int i = 0; i < lngs.length; i++) {
+				JsonNode point = ring.get(i);
+				if (!point.get(0).isNumber() || !point.get(1).isNumber()) {
+					throw new IllegalArgumentException("Invalid coordinate: " + point);
+				}
+				lngs[i] = point.get(0).doubleValue();
+				lats[i] = point.get(1).doubleValue();
+			}
+			polygon[r] = PreparedPolygon.of(lngs, lats);
+		}
+		return polygon;
 	}
 
 	private String expandSidoName(String name) {
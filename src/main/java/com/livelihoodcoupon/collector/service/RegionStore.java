@@ -0,0 +1,137 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.livelihoodcoupon.collector.vo.RegionData;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 한 번 읽어 보관하는 시군구 경계 저장소
+ *
+ * <p>{@link RegionLoader}는 호출할 때마다 경계 파일을 다시 파싱하므로, 요청마다 지역 하나를 찾기 위해 전체 파일을
+ * 읽는 대신 이 저장소를 사용합니다. 경계는 {@link RegionBoundary}의 원시 배열로 보관합니다.</p>
+ *
+ * <h3>색인:</h3>
+ * <ul>
+ *   <li><b>이름 색인:</b> 지역 이름(대소문자 무시) → 경계</li>
+ *   <li><b>R-트리:</b> 경계 상자에 대한 {@link BoundingBoxRTree}. 좌표가 속한 지역을 찾을 때 상자가 겹치는 후보만
+ *   폴리곤 포함 검사</li>
+ * </ul>
+ *
+ * <p>구성 이후 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.</p>
+ */
+@Slf4j
+@Component
+public class RegionStore {
+
+	private final List<RegionBoundary> boundaries;
+	private final Map<String, RegionBoundary> boundariesByName;
+	private final BoundingBoxRTree index;
+
+	public RegionStore(RegionLoader regionLoader) {
+		this(load(regionLoader));
+	}
+
+	private RegionStore(List<RegionBoundary> boundaries) {
+		this.boundaries = Collections.unmodifiableList(new ArrayList<>(boundaries));
+		this.boundariesByName = new HashMap<>();
+		List<GridUtil.BoundingBox> boxes = new ArrayList<>(boundaries.size());
+		for (RegionBoundary boundary : boundaries) {
+			boundariesByName.putIfAbsent(normalize(boundary.getName()), boundary);
+			boxes.add(boundary.getBoundingBox());
+		}
+		this.index = new BoundingBoxRTree(boxes);
+	}
+
+	/**
+	 * 이미 읽은 경계 목록으로 저장소를 만듭니다.
+	 *
+	 * @param boundaries 시군구 경계 목록
+	 * @return 경계 저장소
+	 */
+	public static RegionStore of(List<RegionBoundary> boundaries) {
+		return new RegionStore(boundaries);
+	}
+
+	private static List<RegionBoundary> load(RegionLoader regionLoader) {
+		long startTime = System.currentTimeMillis();
+		List<RegionBoundary> boundaries = regionLoader.loadBoundaries();
+		log.info("시군구 경계 {}개를 읽었습니다. ({}ms)", boundaries.size(), System.currentTimeMillis() - startTime);
+		return boundaries;
+	}
+
+	/**
+	 * 모든 지역 데이터를 반환합니다. (호출할 때마다 새로 만든 목록)
+	 *
+	 * @return 지역 데이터 목록
+	 */
+	public List<RegionData> getRegions() {
+		List<RegionData> regions = new ArrayList<>(boundaries.size());
+		for (RegionBoundary boundary : boundaries) {
+			regions.add(boundary.toRegionData());
+		}
+		return regions;
+	}
+
+	/**
+	 * 이름으로 지역 데이터를 찾습니다. (대소문자 무시)
+	 *
+	 * @param regionName 지역 이름 (예: "서울특별시 종로구")
+	 * @return 지역 데이터
+	 */
+	public Optional<RegionData> findByName(String regionName) {
+		return findBoundaryByName(regionName).map(RegionBoundary::toRegionData);
+	}
+
+	/**
+	 * 이름으로 지역 경계를 찾습니다. (대소문자 무시)
+	 *
+	 * @param regionName 지역 이름 (예: "서울특별시 종로구")
+	 * @return 지역 경계
+	 */
+	public Optional<RegionBoundary> findBoundaryByName(String regionName) {
+		return regionName == null ? Optional.empty() : Optional.ofNullable(boundariesByName.get(normalize(regionName)));
+	}
+
+	/**
+	 * 좌표가 속한 지역을 찾습니다.
+	 *
+	 * @param lat 위도
+	 * @param lng 경도
+	 * @return 좌표를 포함하는 지역 경계 (어느 경계에도 속하지 않으면 빈 값)
+	 */
+	public Optional<RegionBoundary> findRegionAt(double lat, double lng) {
+		RegionBoundary[] found = new RegionBoundary[1];
+		index.visitContaining(lat, lng, id -> {
+			RegionBoundary boundary = boundaries.get(id);
+			if (boundary.contains(lat, lng)) {
+				found[0] = boundary;
+				return false;
+			}
+			return true;
+		});
+		return Optional.ofNullable(found[0]);
+	}
+
+	/**
+	 * 모든 지역 경계를 반환합니다.
+	 *
+	 * @return 읽기 전용 경계 목록
+	 */
+	public List<RegionBoundary> getBoundaries() {
+		return boundaries;
+	}
+
+	private static String normalize(String regionName) {
+		return regionName.trim().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,120 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.livelihoodcoupon.collector.dto.ScannedGridMigrationResult;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 격자 상태 테이블(scanned_grid)에 upsert용 유니크 제약을 추가하는 마이그레이션
+ *
+ * <p>{@link ScannedGridWriter}는 (지역, 키워드, 격자) 유니크 제약으로 격자 상태를 upsert하므로, 제약이 생기기 전에
+ * 쌓인 DB는 수집을 시작하기 전에 이 마이그레이션을 한 번 실행해야 합니다. (관리자 API로 실행하며 수집 경로에서는
+ * 스키마를 바꾸지 않음) 다음 순서로 실행합니다.</p>
+ * <ol>
+ *   <li>격자 식별자(cell_id)가 없는 이전 행에 {@link GridUtil#cellId}로 계산한 값을 채움</li>
+ *   <li>격자별로 가장 최근 행(id가 가장 큰 행)만 남기고 중복 행을 삭제. 남길 행에 없는 총 장소 수와 지문은 중복 행
+ *   중 가장 최근 관측값으로 채움</li>
+ *   <li>cell_id를 NOT NULL로 바꾸고 유니크 제약을 추가</li>
+ * </ol>
+ *
+ * <p>한 트랜잭션에서 테이블을 잠그고(SHARE ROW EXCLUSIVE) 실행하므로 여러 인스턴스가 동시에 실행하거나 실행 중에
+ * 격자 상태가 저장되어도 섞이지 않습니다. 이미 적용된 DB에서 다시 실행하면 아무것도 바꾸지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class ScannedGridMigration {
+
+	private static final int BACKFILL_BATCH_SIZE = 1000;
+	private static final String LOCK_SQL = "LOCK TABLE scanned_grid IN SHARE ROW EXCLUSIVE MODE";
+	private static final String ADD_CELL_ID_COLUMN_SQL =
+		"ALTER TABLE scanned_grid ADD COLUMN IF NOT EXISTS cell_id BIGINT";
+	private static final String SELECT_MISSING_CELL_ID_SQL = """
+		SELECT id, grid_center_lat, grid_center_lng, grid_radius FROM scanned_grid
+		WHERE cell_id IS NULL ORDER BY id LIMIT ?
+		""";
+	private static final String UPDATE_CELL_ID_SQL = "UPDATE scanned_grid SET cell_id = ? WHERE id = ?";
+	private static final String KEEP_OBSERVATIONS_SQL = """
+		UPDATE scanned_grid keep
+		SET total_count = COALESCE(keep.total_count, observed.total_count),
+		    fingerprint = COALESCE(keep.fingerprint, observed.fingerprint)
+		FROM (SELECT MAX(id) AS keep_id,
+		             (ARRAY_AGG(total_count ORDER BY id DESC) FILTER (WHERE total_count IS NOT NULL))[1] AS total_count,
+		             (ARRAY_AGG(fingerprint ORDER BY id DESC) FILTER (WHERE fingerprint IS NOT NULL))[1] AS fingerprint
+		      FROM scanned_grid
+		      GROUP BY region_name, keyword, cell_id
+		      HAVING COUNT(*) > 1) observed
+		WHERE keep.id = observed.keep_id
+		""";
+	private static final String DELETE_DUPLICATES_SQL = """
+		DELETE FROM scanned_grid old USING scanned_grid newer
+		WHERE old.region_name = newer.region_name AND old.keyword = newer.keyword AND old.cell_id = newer.cell_id
+		  AND old.id < newer.id
+		""";
+	private static final String SET_CELL_ID_NOT_NULL_SQL =
+		"ALTER TABLE scanned_grid ALTER COLUMN cell_id SET NOT NULL";
+	private static final String CONSTRAINT_EXISTS_SQL = """
+		SELECT EXISTS (SELECT 1 FROM pg_constraint
+		               WHERE conrelid = 'scanned_grid'::regclass AND conname = ?)
+		""";
+	private static final String ADD_UNIQUE_KEY_SQL =
+		"ALTER TABLE scanned_grid ADD CONSTRAINT " + ScannedGrid.UNIQUE_CELL_CONSTRAINT
+			+ " UNIQUE (region_name, keyword, cell_id)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ScannedGridMigration(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 마이그레이션을 실행합니다.
+	 *
+	 * @return 채운 행 수, 삭제한 중복 행 수, 제약 추가 여부
+	 */
+	@Transactional
+	public ScannedGridMigrationResult migrate() {
+		jdbcTemplate.execute(LOCK_SQL);
+		jdbcTemplate.execute(ADD_CELL_ID_COLUMN_SQL);
+
+		int backfilled = backfillCellIds();
+		jdbcTemplate.update(KEEP_OBSERVATIONS_SQL);
+		int removed = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+		jdbcTemplate.execute(SET_CELL_ID_NOT_NULL_SQL);
+
+		Boolean exists = jdbcTemplate.queryForObject(CONSTRAINT_EXISTS_SQL, Boolean.class,
+			ScannedGrid.UNIQUE_CELL_CONSTRAINT);
+		boolean constraintAdded = !Boolean.TRUE.equals(exists);
+		if (constraintAdded) {
+			jdbcTemplate.execute(ADD_UNIQUE_KEY_SQL);
+		}
+
+		log.info("격자 상태 마이그레이션 완료: 격자 식별자 {}건 채움, 중복 행 {}건 삭제, 유니크 제약 {} {}", backfilled,
+			removed, ScannedGrid.UNIQUE_CELL_CONSTRAINT, constraintAdded ? "추가" : "이미 있음");
+		return new ScannedGridMigrationResult(backfilled, removed, constraintAdded);
+	}
+
+	/**
+	 * cell_id가 없는 행을 배치 단위로 읽어 격자 식별자를 채웁니다. (채운 행은 다음 조회에서 빠지므로 빈 결과까지 반복)
+	 */
+	private int backfillCellIds() {
+		int total = 0;
+		while (true) {
+			List<Object[]> updates = jdbcTemplate.query(SELECT_MISSING_CELL_ID_SQL, (rs, rowNum) -> new Object[] {
+				GridUtil.cellId(rs.getDouble("grid_center_lat"), rs.getDouble("grid_center_lng"),
+					rs.getInt("grid_radius")),
+				rs.getLong("id")}, BACKFILL_BATCH_SIZE);
+			if (updates.isEmpty()) {
+				return total;
+			}
+			jdbcTemplate.batchUpdate(UPDATE_CELL_ID_SQL, updates);
+			total += updates.size();
+		}
+	}
+}
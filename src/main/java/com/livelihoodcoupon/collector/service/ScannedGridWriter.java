@@ -0,0 +1,140 @@
+package com.livelihoodcoupon.collector.service;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 격자 처리 상태(ScannedGrid)를 모아서 저장하는 write-behind 버퍼
+ *
+ * <p>격자마다 {@code save()}를 호출하면 IDENTITY 키 때문에 Hibernate 배치 INSERT가 적용되지 않아
+ * 격자 수만큼 단건 INSERT가 발생합니다. 이 컴포넌트는 격자 상태를 큐에 쌓아두고, 백그라운드 스레드가
+ * 주기적으로(또는 배치 크기가 찰 때마다) JDBC 배치 INSERT로 한 번에 저장합니다.</p>
+ *
+ * <p>격자 상태는 (지역, 키워드, 격자) 유니크 키로 upsert합니다. 재수집이나 증분 수집으로 같은 격자를 다시 처리하면
+ * 새 행을 추가하지 않고 기존 행의 상태·총 장소 수·지문을 갱신합니다. 이번에 관측하지 못한 값(예측만으로 분할한 격자의
+ * 총 장소 수 등)은 null로 덮어쓰지 않고 이전 관측값을 유지하며, 한 번이라도 관측한 격자는 예측 격자로 바뀌지
+ * 않습니다. 유니크 키가 생기기 전의 DB는 수집 전에 {@link ScannedGridMigration}으로 제약을 추가해야 합니다.</p>
+ *
+ * <p>수집 흐름에서 DB 반영이 필요한 시점(지역 수집 완료 후 파일 생성 등)에는 {@link #flush()}를 호출해야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class ScannedGridWriter {
+
+	private static final int BATCH_SIZE = 500;
+	private static final long FLUSH_INTERVAL_MS = 1000;
+	private static final String INSERT_SQL = """
+		INSERT INTO scanned_grid (region_name, keyword, grid_center_lat, grid_center_lng, grid_radius, cell_id,
+		                          total_count, fingerprint, estimated, status, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+		ON CONFLICT (region_name, keyword, cell_id) DO UPDATE
+		SET status = EXCLUDED.status,
+		    total_count = COALESCE(EXCLUDED.total_count, scanned_grid.total_count),
+		    fingerprint = COALESCE(EXCLUDED.fingerprint, scanned_grid.fingerprint),
+		    estimated = EXCLUDED.estimated AND COALESCE(scanned_grid.estimated, FALSE),
+		    updated_at = CURRENT_TIMESTAMP
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final BlockingQueue<ScannedGrid> buffer = new LinkedBlockingQueue<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "scanned-grid-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public ScannedGridWriter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@PostConstruct
+	public void startFlusher() {
+		flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flusher.shutdown();
+		flush();
+	}
+
+	/**
+	 * 격자 상태를 저장 대기열에 추가합니다.
+	 *
+	 * @param grid 저장할 격자 상태
+	 */
+	public void enqueue(ScannedGrid grid) {
+		buffer.add(grid);
+		if (buffer.size() >= BATCH_SIZE) {
+			flusher.execute(this::flushQuietly);
+		}
+	}
+
+	/**
+	 * 대기열에 쌓인 격자 상태를 모두 DB에 저장합니다. (호출 스레드에서 동기 실행)
+	 */
+	public void flush() {
+		flushLock.lock();
+		try {
+			List<ScannedGrid> batch = new ArrayList<>(BATCH_SIZE);
+			while (buffer.drainTo(batch, BATCH_SIZE) > 0) {
+				writeBatch(batch);
+				batch.clear();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 아직 저장되지 않은 격자 상태 수를 반환합니다.
+	 *
+	 * @return 대기 중인 격자 수
+	 */
+	public int pendingCount() {
+		return buffer.size();
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.error("격자 상태 배치 저장 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	private void writeBatch(List<ScannedGrid> batch) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, grid) -> {
+			ps.setString(1, grid.getRegionName());
+			ps.setString(2, grid.getKeyword());
+			ps.setDouble(3, grid.getGridCenterLat());
+			ps.setDouble(4, grid.getGridCenterLng());
+			ps.setInt(5, grid.getGridRadius());
+			ps.setLong(6, grid.getCellId());
+			ps.setObject(7, grid.getTotalCount(), Types.INTEGER);
+			ps.setObject(8, grid.getFingerprint(), Types.BIGINT);
+			ps.setBoolean(9, Boolean.TRUE.equals(grid.getEstimated()));
+			ps.setString(10, grid.getStatus().name());
+		});
+		log.debug("격자 상태 {}건을 배치 저장했습니다.", batch.size());
+	}
+}
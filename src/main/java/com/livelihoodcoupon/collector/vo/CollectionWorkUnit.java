@@ -0,0 +1,82 @@
+package com.livelihoodcoupon.collector.vo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분산 수집 작업 큐(Redis Stream)에 넣는 작업 단위
+ *
+ * <p>지역 폴리곤 하나(RING), 밀집 격자 하나(CELL), 최대 깊이에 도달한 밀집 격자 하나(FORCE)가 각각 작업 단위가
+ * 됩니다. 스트림 항목은 문자열 필드 맵이므로 {@link #toFields()}/{@link #fromFields(Map)}로 변환합니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionWorkUnit {
+
+	public enum Type {
+		/** 지역 폴리곤 전체를 초기 반경으로 탐색 */
+		RING,
+		/** 밀집 격자를 절반 반경의 하위 격자로 탐색 */
+		CELL,
+		/** 최대 깊이에 도달한 밀집 격자의 모든 페이지를 강제 수집 */
+		FORCE
+	}
+
+	private Type type;
+	private String regionName;
+	private String keyword;
+	/** 지역의 몇 번째 폴리곤인지 (CELL/FORCE는 상위 RING에서 물려받아 장소 위치 검증에 사용) */
+	private int ringIndex;
+	/** CELL/FORCE: 밀집 격자 중심 위도 */
+	private double lat;
+	/** CELL/FORCE: 밀집 격자 중심 경도 */
+	private double lng;
+	/** CELL/FORCE: 밀집 격자 반경 (미터) */
+	private int cellRadius;
+	/** 탐색에 사용할 격자 반경 (미터) */
+	private int scanRadius;
+	/** CELL: 밀집 격자에서 관측한 총 장소 수 (하위 격자 밀집도 예측용, 없으면 null) */
+	private Integer parentTotalCount;
+	/** 분할 깊이 (RING = 0) */
+	private int depth;
+
+	public Map<String, String> toFields() {
+		Map<String, String> fields = new HashMap<>();
+		fields.put("type", type.name());
+		fields.put("regionName", regionName);
+		fields.put("keyword", keyword);
+		fields.put("ringIndex", Integer.toString(ringIndex));
+		fields.put("lat", Double.toString(lat));
+		fields.put("lng", Double.toString(lng));
+		fields.put("cellRadius", Integer.toString(cellRadius));
+		fields.put("scanRadius", Integer.toString(scanRadius));
+		if (parentTotalCount != null) {
+			fields.put("parentTotalCount", parentTotalCount.toString());
+		}
+		fields.put("depth", Integer.toString(depth));
+		return fields;
+	}
+
+	public static CollectionWorkUnit fromFields(Map<String, String> fields) {
+		String parentTotalCount = fields.get("parentTotalCount");
+		return CollectionWorkUnit.builder()
+			.type(Type.valueOf(fields.get("type")))
+			.regionName(fields.get("regionName"))
+			.keyword(fields.get("keyword"))
+			.ringIndex(Integer.parseInt(fields.get("ringIndex")))
+			.lat(Double.parseDouble(fields.get("lat")))
+			.lng(Double.parseDouble(fields.get("lng")))
+			.cellRadius(Integer.parseInt(fields.get("cellRadius")))
+			.scanRadius(Integer.parseInt(fields.get("scanRadius")))
+			.parentTotalCount(parentTotalCount == null ? null : Integer.valueOf(parentTotalCount))
+			.depth(Integer.parseInt(fields.get("depth")))
+			.build();
+	}
+}
@@ -0,0 +1,75 @@
+package com.livelihoodcoupon.common.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 소비쿠폰 데이터 수집기 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "collector")
+@Getter
+@Setter
+public class CollectorProperties {
+	/** 동시에 진행할 수 있는 카카오 API 호출 수 (가상 스레드 수집 파이프라인의 상한) */
+	private int maxConcurrentRequests = 16;
+	/**
+	 * true면 이전 실행의 격자 상태로 건너뛰지 않고 전체를 다시 수집 (이전 관측 밀집도는 탐색 단계 예측에만 사용, 다시
+	 * 처리한 격자의 상태는 기존 행을 덮어씀)
+	 */
+	private boolean recollect = false;
+	/**
+	 * true면 증분 수집: 완료 격자는 첫 페이지만 다시 조회해 지문이 바뀐 격자만 전체 수집하고, 지역 전체 파일 대신
+	 * 추가/삭제된 장소의 변경분 CSV를 {@link #deltaDir}에 저장
+	 */
+	private boolean incremental = false;
+	/** 증분 수집 변경분 CSV를 저장할 디렉토리 (증분 배치 작업의 입력 디렉토리, 삭제분은 하위 removed 디렉토리) */
+	private String deltaDir = "data/new-csv";
+	/** 전국 수집 작업에서 동시에 수집할 지역 수 */
+	private int regionParallelism = 4;
+	/** 장소 중복 검사 블룸 필터의 예상 장소 수 (넘으면 오탐이 늘어 DB 확인이 많아짐) */
+	private long dedupExpectedPlaces = 3_000_000;
+	/** 장소 중복 검사 블룸 필터의 목표 오탐률 */
+	private double dedupFalsePositiveRate = 0.01;
+	/** 지역별 CSV 파일과 장소 스냅샷을 저장할 디렉토리 (전체 CSV 배치 작업의 입력 디렉토리) */
+	private String exportDir = "data/csv";
+	/** true면 CSV 파일을 gzip으로 압축하여 저장 (파일명에 .gz 추가, CSV 배치 적재 대상에서는 제외됨) */
+	private boolean exportGzip = false;
+	/** 전체 지역 CSV 내보내기에서 동시에 생성할 파일 수 (작업마다 DB 연결을 하나씩 사용) */
+	private int exportParallelism = 4;
+	/** true면 CSV와 함께 배치 작업용 바이너리 장소 스냅샷(.lcps)도 저장 (있으면 배치 작업이 CSV 대신 읽음) */
+	private boolean exportSnapshot = false;
+	/** true면 GeoJSON 파일을 들여쓰기하여 저장, false면 공백 없이 압축하여 저장 */
+	private boolean geojsonPretty = true;
+	/** GeoJSON 좌표를 반올림할 소수점 아래 자릿수 (음수면 반올림하지 않음) */
+	private int geojsonCoordinateDecimals = -1;
+	/** 여러 인스턴스가 Redis 작업 큐를 나누어 처리하는 분산 수집 설정 */
+	private Distributed distributed = new Distributed();
+	/** 주차장 좌표 백필(주소 → 좌표 변환) 설정 */
+	private Geocode geocode = new Geocode();
+
+	@Getter
+	@Setter
+	public static class Distributed {
+		/** true면 이 인스턴스가 분산 수집 작업 큐의 작업자로 참여 */
+		private boolean enabled = false;
+		/** 이 인스턴스에서 동시에 처리할 작업 단위 수 */
+		private int workerThreads = 4;
+		/** 작업자가 이 시간 넘게 확인(ack)하지 않은 작업 단위는 다른 작업자가 가져가 다시 처리 */
+		private Duration claimTimeout = Duration.ofMinutes(30);
+	}
+
+	@Getter
+	@Setter
+	public static class Geocode {
+		/** 동시에 진행할 주소 검색 API 호출 수 (실제 호출 속도는 카카오 속도 제한기가 제한) */
+		private int concurrency = 8;
+		/** 한 번에 읽어 변환하고 한 트랜잭션으로 저장할 주차장 수 */
+		private int chunkSize = 200;
+	}
+}
@@ -0,0 +1,36 @@
+package com.livelihoodcoupon.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카카오 API 엔드포인트별 호출 속도 제한 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "kakao.rate-limit")
+@Getter
+@Setter
+public class KakaoRateLimitProperties {
+	private Bucket keywordSearch = new Bucket(30, 30);
+	private Bucket addressSearch = new Bucket(20, 20);
+	private Bucket coord2region = new Bucket(20, 20);
+	private Bucket navi = new Bucket(10, 10);
+	/** 429 응답을 받은 엔드포인트의 호출을 잠시 멈추는 시간 (밀리초) */
+	private long throttlePauseMs = 1000;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Bucket {
+		/** 초당 발급되는 토큰 수 (최대 호출 속도) */
+		private double permitsPerSecond;
+		/** 버킷에 쌓아둘 수 있는 최대 토큰 수 (순간 허용량) */
+		private int burst;
+	}
+}
@@ -0,0 +1,23 @@
+package com.livelihoodcoupon.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+
+/**
+ * Komoran 형태소 분석기 설정
+ *
+ * <p>FULL 모델은 메모리를 많이 쓰고 불러오는 데 시간이 걸리므로 애플리케이션 전체에서 인스턴스 하나만 만들어
+ * 공유합니다. 검색 서비스는 이 빈을 직접 쓰지 않고
+ * {@link com.livelihoodcoupon.search.service.MorphemeAnalyzer}를 통해 분석합니다.</p>
+ */
+@Configuration
+public class KomoranConfig {
+
+	@Bean
+	public Komoran komoran() {
+		return new Komoran(DEFAULT_MODEL.FULL);
+	}
+}
@@ -10,6 +10,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -52,6 +53,19 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * Redis Pub/Sub 구독 컨테이너 (단어 사전 변경 알림 등)
+	 *
+	 * @param connectionFactory Redis 연결 팩토리
+	 * @return RedisMessageListenerContainer
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
 	/**
 	 * CacheManager 설정
 	 *
@@ -70,8 +84,6 @@ public class RedisConfig {
 		// 특정 캐시별 설정
 		return RedisCacheManager.builder(connectionFactory)
 			.cacheDefaults(defaultConfig)
-			.withCacheConfiguration("gridCache",
-				defaultConfig.entryTtl(Duration.ofHours(1))) // 격자 캐시: 1시간
 			.withCacheConfiguration("placeDetails",
 				defaultConfig.entryTtl(Duration.ofMinutes(30))) // 장소 상세: 30분
 			.withCacheConfiguration("placeIds",
@@ -13,4 +13,17 @@ import lombok.Setter;
 public class SearchProperties {
 	private int pageSize;
 	private int maxResults;
+	private Analyzer analyzer = new Analyzer();
+
+	/**
+	 * 형태소 분석 결과 캐시 설정
+	 */
+	@Getter
+	@Setter
+	public static class Analyzer {
+		/** 메모리에 보관할 검색어 분석 결과 수 (0이면 캐시 사용 안 함) */
+		private int cacheSize = 10000;
+		/** 시작 시 미리 분석할 인기 검색어 수 (0이면 미리 분석 안 함) */
+		private int warmupSize = 200;
+	}
 }
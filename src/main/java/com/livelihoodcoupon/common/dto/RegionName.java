@@ -0,0 +1,16 @@
+package com.livelihoodcoupon.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좌표를 변환한 행정구역 이름 (카카오 좌표-행정구역 변환 API의 region_1depth_name, region_2depth_name과 같은 형식)
+ */
+@Getter
+@AllArgsConstructor
+public class RegionName {
+	/** 시도 (예: "서울특별시") */
+	private String region1DepthName;
+	/** 시군구 (예: "종로구", 시군구가 없는 세종특별자치시는 빈 문자열) */
+	private String region2DepthName;
+}
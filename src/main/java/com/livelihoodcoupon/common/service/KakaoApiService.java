@@ -10,6 +10,7 @@ import com.livelihoodcoupon.common.dto.Coord2RegionCodeResponse;
 import com.livelihoodcoupon.common.dto.Coordinate;
 import com.livelihoodcoupon.common.dto.KakaoResponse;
 import com.livelihoodcoupon.common.exception.KakaoApiException;
+import com.livelihoodcoupon.common.service.KakaoRateLimiter.Endpoint;
 
 import reactor.core.publisher.Mono;
 
@@ -22,6 +23,7 @@ import reactor.core.publisher.Mono;
  *   <li><b>좌표 변환:</b> 위도/경도 좌표를 행정구역 코드로 변환</li>
  *   <li><b>길찾기:</b> 출발지-도착지 경로 조회</li>
  *   <li><b>에러 처리:</b> API 호출 실패 시 적절한 예외 처리</li>
+ *   <li><b>속도 제한:</b> 모든 호출은 {@link KakaoRateLimiter}의 엔드포인트별 토큰을 발급받은 뒤 실행</li>
  * </ul>
  *
  * <h3>사용되는 카카오 API:</h3>
@@ -40,6 +42,9 @@ public class KakaoApiService {
 	/** 카카오내비 API WebClient */
 	private final WebClient naviWebClient;
 
+	/** 카카오 API 공용 속도 제한기 */
+	private final KakaoRateLimiter rateLimiter;
+
 	/**
 	 * KakaoApiService 생성자
 	 *
@@ -47,8 +52,10 @@ public class KakaoApiService {
 	 * 맵 API와 내비 API 모두 같은 API 키를 사용합니다.</p>
 	 *
 	 * @param apiKey 카카오 API 키 (application.yml에서 주입)
+	 * @param rateLimiter 카카오 API 공용 속도 제한기
 	 */
-	public KakaoApiService(@Value("${kakao.api.key}") String apiKey) {
+	public KakaoApiService(@Value("${kakao.api.key}") String apiKey, KakaoRateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
 		this.mapWebClient = WebClient.builder()
 			.baseUrl("https://dapi.kakao.com")
 			.defaultHeader("Authorization", "KakaoAK " + apiKey)
@@ -75,7 +82,7 @@ public class KakaoApiService {
 	 * @throws KakaoApiException API 호출 실패 시
 	 */
 	public KakaoResponse searchPlaces(String keyword, double lng, double lat, int radius, int page) {
-		return mapWebClient.get()
+		return rateLimiter.limit(Endpoint.KEYWORD_SEARCH, () -> mapWebClient.get()
 			.uri(uriBuilder -> uriBuilder
 				.path("/v2/local/search/keyword.json")
 				.queryParam("query", keyword)
@@ -90,7 +97,7 @@ public class KakaoApiService {
 				.flatMap(errorBody -> Mono.error(
 					new KakaoApiException("Kakao Map API Error: " + response.statusCode() + " - " + errorBody,
 						response.statusCode(), errorBody))))
-			.bodyToMono(KakaoResponse.class)
+			.bodyToMono(KakaoResponse.class))
 			.block(); // 동기 호출 (비동기 처리 시 .subscribe() 사용)
 	}
 
@@ -106,7 +113,7 @@ public class KakaoApiService {
 	 * @throws KakaoApiException API 호출 실패 시
 	 */
 	public Coord2RegionCodeResponse getRegionInfo(double lng, double lat) {
-		return mapWebClient.get()
+		return rateLimiter.limit(Endpoint.COORD2REGION, () -> mapWebClient.get()
 			.uri(uriBuilder -> uriBuilder
 				.path("/v2/local/geo/coord2regioncode.json")
 				.queryParam("x", lng)
@@ -117,7 +124,7 @@ public class KakaoApiService {
 				.flatMap(errorBody -> Mono.error(
 					new KakaoApiException("Kakao Map API Error: " + response.statusCode() + " - " + errorBody,
 						response.statusCode(), errorBody))))
-			.bodyToMono(Coord2RegionCodeResponse.class)
+			.bodyToMono(Coord2RegionCodeResponse.class))
 			.block(); // 동기 호출
 	}
 
@@ -125,27 +132,36 @@ public class KakaoApiService {
 	 * 주소를 좌표로 변환합니다.
 	 *
 	 * @param address 주소 문자열
-	 * @return 좌표 정보 (Mono<Coordinate>)
+	 * @return 좌표 정보 (Mono<Coordinate>, 좌표를 찾지 못하면 에러)
 	 */
 	public Mono<Coordinate> getCoordinatesFromAddress(String address) {
-		return mapWebClient.get()
+		return geocodeAddress(address)
+			.switchIfEmpty(Mono.error(() -> new RuntimeException("주소에 해당하는 좌표를 찾을 수 없습니다.")));
+	}
+
+	/**
+	 * 주소를 좌표로 변환합니다. 좌표를 찾지 못한 경우를 호출 실패와 구분할 수 있도록 빈 값으로 완료합니다.
+	 *
+	 * @param address 주소 문자열
+	 * @return 좌표 정보 (주소에 해당하는 좌표가 없으면 빈 Mono)
+	 */
+	public Mono<Coordinate> geocodeAddress(String address) {
+		return rateLimiter.limit(Endpoint.ADDRESS_SEARCH, () -> mapWebClient.get()
 			.uri(uriBuilder -> uriBuilder
 				.path("/v2/local/search/address.json")
 				.queryParam("query", address)
 				.build())
 			.retrieve()
 			.bodyToMono(JsonNode.class)
-			.handle((response, sink) -> {
+			.<Coordinate>handle((response, sink) -> {
 				JsonNode documents = response.get("documents");
 				if (documents != null && !documents.isEmpty()) {
 					JsonNode location = documents.get(0);
 					double x = location.get("x").asDouble(); // 경도 (longitude)
 					double y = location.get("y").asDouble(); // 위도 (latitude)
 					sink.next(Coordinate.builder().lng(x).lat(y).build());
-				} else {
-					sink.error(new RuntimeException("주소에 해당하는 좌표를 찾을 수 없습니다."));
 				}
-			});
+			}));
 	}
 
 	/**
@@ -159,7 +175,7 @@ public class KakaoApiService {
 	 * @throws KakaoApiException API 호출 실패 시
 	 */
 	public JsonNode getDrivingRoute(double startLng, double startLat, double endLng, double endLat) {
-		return naviWebClient.get()
+		return rateLimiter.limit(Endpoint.NAVI, () -> naviWebClient.get()
 			.uri(uriBuilder -> uriBuilder
 				.path("/v1/directions")
 				.queryParam("origin", startLng + "," + startLat)
@@ -172,7 +188,7 @@ public class KakaoApiService {
 				.flatMap(errorBody -> Mono.error(
 					new KakaoApiException("Kakao Navi API Error: " + response.statusCode() + " - " + errorBody,
 						response.statusCode(), errorBody))))
-			.bodyToMono(JsonNode.class)
+			.bodyToMono(JsonNode.class))
 			.block();
 	}
 
@@ -0,0 +1,245 @@
+package com.livelihoodcoupon.common.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.livelihoodcoupon.common.config.KakaoRateLimitProperties;
+import com.livelihoodcoupon.common.exception.KakaoApiException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오 API 공용 호출 속도 제한기 (토큰 버킷)
+ *
+ * <p>같은 API 키를 사용하는 모든 호출(데이터 수집, 지오코딩, 검색, 길찾기)이 엔드포인트별 버킷에서
+ * 토큰을 발급받은 뒤 호출하도록 하여, 수집 작업과 실시간 트래픽이 동시에 돌아도 429 폭주가 나지 않게 합니다.</p>
+ *
+ * <h3>주요 기능:</h3>
+ * <ul>
+ *   <li><b>토큰 예약:</b> 토큰이 부족하면 다음 토큰이 발급될 때까지의 대기 시간을 돌려줌</li>
+ *   <li><b>적응형 감속:</b> 429 응답 시 해당 엔드포인트 속도를 절반으로 낮추고 잠시 호출을 멈춤</li>
+ *   <li><b>점진적 회복:</b> 성공 응답마다 설정된 최대 속도까지 조금씩 속도를 올림</li>
+ *   <li><b>메트릭:</b> 가용 토큰 수, 현재 속도, 대기 시간, 429 횟수를 Micrometer로 노출</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KakaoRateLimiter {
+
+	/** 성공 응답 한 번마다 회복하는 속도 비율 (최대 속도 대비) */
+	private static final double RECOVERY_STEP_RATIO = 0.05;
+	/** 429가 반복되어도 최대 속도의 이 비율 밑으로는 내려가지 않음 */
+	private static final double MIN_RATE_RATIO = 0.1;
+
+	private final Map<Endpoint, TokenBucket> buckets = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, Timer> waitTimers = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, Counter> throttledCounters = new EnumMap<>(Endpoint.class);
+	private final long throttlePauseNanos;
+
+	public KakaoRateLimiter(KakaoRateLimitProperties properties, MeterRegistry meterRegistry) {
+		this.throttlePauseNanos = TimeUnit.MILLISECONDS.toNanos(properties.getThrottlePauseMs());
+
+		register(Endpoint.KEYWORD_SEARCH, properties.getKeywordSearch(), meterRegistry);
+		register(Endpoint.ADDRESS_SEARCH, properties.getAddressSearch(), meterRegistry);
+		register(Endpoint.COORD2REGION, properties.getCoord2region(), meterRegistry);
+		register(Endpoint.NAVI, properties.getNavi(), meterRegistry);
+	}
+
+	private void register(Endpoint endpoint, KakaoRateLimitProperties.Bucket config, MeterRegistry meterRegistry) {
+		TokenBucket bucket = new TokenBucket(config.getPermitsPerSecond(), config.getBurst());
+		buckets.put(endpoint, bucket);
+
+		Gauge.builder("kakao.ratelimit.tokens.available", bucket, b -> b.available(System.nanoTime()))
+			.tag("endpoint", endpoint.getTag())
+			.description("카카오 API 버킷의 가용 토큰 수")
+			.register(meterRegistry);
+
+		Gauge.builder("kakao.ratelimit.rate", bucket, TokenBucket::currentRate)
+			.tag("endpoint", endpoint.getTag())
+			.description("카카오 API 현재 허용 속도 (초당 호출 수)")
+			.register(meterRegistry);
+
+		waitTimers.put(endpoint, Timer.builder("kakao.ratelimit.wait")
+			.tag("endpoint", endpoint.getTag())
+			.description("카카오 API 토큰 발급 대기 시간")
+			.register(meterRegistry));
+
+		throttledCounters.put(endpoint, Counter.builder("kakao.ratelimit.throttled")
+			.tag("endpoint", endpoint.getTag())
+			.description("카카오 API 429 응답 횟수")
+			.register(meterRegistry));
+	}
+
+	/**
+	 * 토큰 하나를 예약하고, 호출 전에 기다려야 하는 시간을 반환합니다.
+	 *
+	 * @param endpoint 호출할 카카오 API 엔드포인트
+	 * @return 호출 전 대기 시간 (즉시 호출 가능하면 {@link Duration#ZERO})
+	 */
+	public Duration reserve(Endpoint endpoint) {
+		long waitNanos = buckets.get(endpoint).reserve(System.nanoTime());
+		waitTimers.get(endpoint).record(waitNanos, TimeUnit.NANOSECONDS);
+		return Duration.ofNanos(waitNanos);
+	}
+
+	/**
+	 * 토큰이 발급될 때까지 대기한 뒤 API 호출을 실행하고, 응답 결과를 버킷 속도 조절에 반영합니다.
+	 *
+	 * <p>토큰 예약은 구독 시점에 이루어지므로 동기 호출({@code block()})과 비동기 호출 모두에서 사용할 수 있습니다.</p>
+	 *
+	 * @param endpoint 호출할 카카오 API 엔드포인트
+	 * @param call 실제 API 호출을 만드는 함수
+	 * @param <T> 응답 타입
+	 * @return 속도 제한이 적용된 API 호출
+	 */
+	public <T> Mono<T> limit(Endpoint endpoint, Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+				Duration wait = reserve(endpoint);
+				return wait.isZero() ? call.get() : Mono.delay(wait).then(Mono.defer(call));
+			})
+			.doOnSuccess(ignored -> onSuccess(endpoint))
+			.doOnError(e -> {
+				if (isTooManyRequests(e)) {
+					onTooManyRequests(endpoint);
+				}
+			});
+	}
+
+	/**
+	 * 성공 응답을 반영하여 감속된 속도를 조금씩 회복합니다.
+	 *
+	 * @param endpoint 호출한 카카오 API 엔드포인트
+	 */
+	public void onSuccess(Endpoint endpoint) {
+		buckets.get(endpoint).recover();
+	}
+
+	/**
+	 * 429 응답을 반영하여 속도를 절반으로 낮추고 일정 시간 호출을 멈춥니다.
+	 *
+	 * @param endpoint 429를 받은 카카오 API 엔드포인트
+	 */
+	public void onTooManyRequests(Endpoint endpoint) {
+		TokenBucket bucket = buckets.get(endpoint);
+		bucket.throttle(System.nanoTime(), throttlePauseNanos);
+		throttledCounters.get(endpoint).increment();
+		log.warn("카카오 API 429 응답 - [{}] 호출 속도를 초당 {}회로 낮춥니다.", endpoint.getTag(),
+			String.format("%.1f", bucket.currentRate()));
+	}
+
+	/**
+	 * 현재 버킷에 남아있는 토큰 수를 반환합니다.
+	 *
+	 * @param endpoint 카카오 API 엔드포인트
+	 * @return 가용 토큰 수
+	 */
+	public double availableTokens(Endpoint endpoint) {
+		return buckets.get(endpoint).available(System.nanoTime());
+	}
+
+	/**
+	 * 카카오 API가 429(Too Many Requests)로 응답했는지 확인합니다.
+	 *
+	 * @param e 발생한 예외
+	 * @return 429 응답 여부
+	 */
+	public static boolean isTooManyRequests(Throwable e) {
+		if (e instanceof KakaoApiException kakaoApiException) {
+			return kakaoApiException.getStatusCode() != null
+				&& kakaoApiException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+		}
+		if (e instanceof WebClientResponseException webClientResponseException) {
+			return webClientResponseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+		}
+		return false;
+	}
+
+	/**
+	 * 속도 제한이 적용되는 카카오 API 엔드포인트
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public enum Endpoint {
+		KEYWORD_SEARCH("keyword_search"),  // /v2/local/search/keyword.json
+		ADDRESS_SEARCH("address_search"),  // /v2/local/search/address.json
+		COORD2REGION("coord2region"),      // /v2/local/geo/coord2regioncode.json
+		NAVI("navi");                      // /v1/directions
+
+		private final String tag;
+	}
+
+	/**
+	 * 엔드포인트 하나에 대한 토큰 버킷
+	 *
+	 * <p>토큰은 음수까지 예약될 수 있으며, 음수만큼의 토큰이 다시 채워지는 시간이 곧 대기 시간이 됩니다.</p>
+	 */
+	static class TokenBucket {
+		private final double maxRate;
+		private final double minRate;
+		private final double capacity;
+		private double rate;
+		private double tokens;
+		private long lastRefillNanos;
+		private long pausedUntilNanos;
+
+		TokenBucket(double permitsPerSecond, int burst) {
+			this.maxRate = Math.max(permitsPerSecond, 0.1);
+			this.minRate = this.maxRate * MIN_RATE_RATIO;
+			this.capacity = Math.max(burst, 1);
+			this.rate = this.maxRate;
+			this.tokens = this.capacity;
+			this.lastRefillNanos = System.nanoTime();
+		}
+
+		synchronized long reserve(long now) {
+			refill(now);
+			tokens -= 1;
+			long pauseNanos = Math.max(0, pausedUntilNanos - now);
+			long deficitNanos = tokens >= 0 ? 0 : (long)(-tokens / rate * 1_000_000_000L);
+			return pauseNanos + deficitNanos;
+		}
+
+		synchronized void throttle(long now, long pauseNanos) {
+			refill(now);
+			rate = Math.max(minRate, rate / 2);
+			tokens = Math.min(tokens, 0);
+			pausedUntilNanos = Math.max(pausedUntilNanos, now + pauseNanos);
+		}
+
+		synchronized void recover() {
+			if (rate < maxRate) {
+				rate = Math.min(maxRate, rate + maxRate * RECOVERY_STEP_RATIO);
+			}
+		}
+
+		synchronized double available(long now) {
+			refill(now);
+			return Math.max(0, tokens);
+		}
+
+		synchronized double currentRate() {
+			return rate;
+		}
+
+		private void refill(long now) {
+			if (now > lastRefillNanos) {
+				tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * rate / 1_000_000_000L);
+				lastRefillNanos = now;
+			}
+		}
+	}
+}
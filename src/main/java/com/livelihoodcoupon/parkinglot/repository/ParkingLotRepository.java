@@ -35,7 +35,7 @@ public interface ParkingLotRepository extends JpaRepository<ParkingLot, Long> {
 	);
 
 	
-	// 1) 백필 대상: location IS NULL 이고 주소가 하나라도 있는 행 상위 N개
+	// 1) 백필 대상: location IS NULL 이고 주소가 하나라도 있는 행 중 afterId 다음부터 N개 (키셋 페이지)
 	interface ToGeocode {
 		Long getId();
 		String getLotAddress();
@@ -49,10 +49,11 @@ public interface ParkingLotRepository extends JpaRepository<ParkingLot, Long> {
           FROM parking_lot
          WHERE location IS NULL
            AND (lot_address IS NOT NULL OR road_address IS NOT NULL)
+           AND id > :afterId
          ORDER BY id ASC
          LIMIT :limit
         """, nativeQuery = true)
-	List<ToGeocode> findTargets(@Param("limit") int limit);
+	List<ToGeocode> findTargets(@Param("afterId") long afterId, @Param("limit") int limit);
 
 	// 2) 좌표 업데이트 (주의: ST_MakePoint(경도 lng, 위도 lat))
 	@Modifying
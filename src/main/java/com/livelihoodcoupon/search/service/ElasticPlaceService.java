@@ -3,8 +3,9 @@ package com.livelihoodcoupon.search.service;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,7 +32,10 @@ import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +46,11 @@ public class ElasticPlaceService {
 	private static final List<String> ALLOWED_CATEGORIES = List.of(
 		"음식", "음식점", "숙박", "카페", "편의점", "마트", "병원", "약국", "주차장", "주유소", "미용실", "안경"
 	);
+	/** 자동완성 대상 필드 (앞쪽일수록 우선, 각 필드의 .autocomplete 서브필드로 검색) */
+	private static final List<String> AUTOCOMPLETE_FIELDS = List.of(
+		"road_address_sido", "road_address_sigungu", "road_address_dong", "road_address_road",
+		"category_level1", "category_level2", "category_level3", "place_name"
+	);
 	private final String index = "places";
 	private final ElasticsearchClient client;
 
@@ -88,6 +97,8 @@ public class ElasticPlaceService {
 
 	/**
 	 * 필드별 자동완성 호출, 호출후 합쳐서 내보내기
+	 * 필드마다 따로 검색하지 않고 _msearch 한 번으로 모든 필드를 검색 (요청 1회 왕복)
+	 * 결과는 AUTOCOMPLETE_FIELDS 순서(우선순위)대로 합치고, 중복을 제거해 maxSize개까지 반환
 	 * @param dto
 	 * @param maxSize
 	 * @return
@@ -98,54 +109,46 @@ public class ElasticPlaceService {
 
 		String keyword = dto.getWord();
 
-		List<String> results = new ArrayList<>();
-		results.addAll(searchField("road_address_sido.autocomplete", keyword, 8.0f, maxSize));
-		results.addAll(searchField("road_address_sigungu.autocomplete", keyword, 7.0f, maxSize));
-		results.addAll(searchField("road_address_dong.autocomplete", keyword, 6.0f, maxSize));
-		results.addAll(searchField("road_address_road.autocomplete", keyword, 5.0f, maxSize));
-		results.addAll(searchField("category_level1.autocomplete", keyword, 4.0f, maxSize));
-		results.addAll(searchField("category_level2.autocomplete", keyword, 3.0f, maxSize));
-		results.addAll(searchField("category_level3.autocomplete", keyword, 2.0f, maxSize));
-		results.addAll(searchField("place_name.autocomplete", keyword, 1.0f, maxSize));
-
-		// 중복 제거 및 정렬
+		MsearchRequest.Builder request = new MsearchRequest.Builder().index(index);
+		for (String field : AUTOCOMPLETE_FIELDS) {
+			request.searches(item -> item
+				.header(h -> h.index(index))
+				.body(b -> b
+					.query(MatchBoolPrefixQuery.of(m -> m
+						.field(field + ".autocomplete")
+						.query(keyword)
+					)._toQuery())
+					.size(maxSize) // 필드당 최대 결과
+					.source(src -> src.filter(f -> f.includes(field))) // 추출할 필드만 받기
+				)
+			);
+		}
+		MsearchResponse<PlaceDocument> response = client.msearch(request.build(), PlaceDocument.class);
+
+		// 중복 제거 및 우선순위 순 정렬
+		Set<String> results = new LinkedHashSet<>();
+		List<MultiSearchResponseItem<PlaceDocument>> items = response.responses();
+		for (int i = 0; i < items.size() && results.size() < maxSize; i++) {
+			String field = AUTOCOMPLETE_FIELDS.get(i);
+			MultiSearchResponseItem<PlaceDocument> item = items.get(i);
+			if (item.isFailure()) {
+				log.warn("자동완성 검색 실패 field={}: {}", field, item.failure().error().reason());
+				continue;
+			}
+			for (Hit<PlaceDocument> hit : item.result().hits().hits()) {
+				String value = getFieldValue(hit.source(), field);
+				if (value != null) {
+					results.add(value);
+				}
+			}
+		}
+
 		return results.stream()
-			.distinct()
 			.limit(maxSize)
 			.map(AutocompleteResponseDto::new)
 			.toList();
 	}
 
-	/**
-	 * 자동완성 검색하기
-	 * @param field
-	 * @param keyword
-	 * @param maxSize
-	 * @return
-	 * @throws IOException
-	 **/
-	private List<String> searchField(String field,
-		String keyword, float boost, int maxSize) throws IOException {
-
-		Query query = MatchBoolPrefixQuery.of(m -> m
-			.field(field)
-			.query(keyword)
-			.boost(boost)
-		)._toQuery();
-
-		SearchResponse<PlaceDocument> response = client.search(s -> s
-				.index(index)
-				.query(query)
-				.size(maxSize), // 필드당 최대 결과
-			PlaceDocument.class
-		);
-
-		return response.hits().hits().stream()
-			.map(hit -> getFieldValue(hit.source(), field))
-			.filter(Objects::nonNull)
-			.toList();
-	}
-
 	/**
 	 * 자동완성 추출 필드 가져오기
 	 * @param doc
@@ -153,15 +156,18 @@ public class ElasticPlaceService {
 	 * @return
 	 **/
 	private String getFieldValue(PlaceDocument doc, String field) {
+		if (doc == null) {
+			return null;
+		}
 		return switch (field) {
-			case "road_address_sido.autocomplete" -> doc.getRoadAddressSido();
-			case "road_address_sigungu.autocomplete" -> doc.getRoadAddressSigungu();
-			case "road_address_dong.autocomplete" -> doc.getRoadAddressDong();
-			case "road_address_road.autocomplete" -> doc.getRoadAddressRoad();
-			case "category_level1.autocomplete" -> doc.getCategoryLevel1();
-			case "category_level2.autocomplete" -> doc.getCategoryLevel2();
-			case "category_level3.autocomplete" -> doc.getCategoryLevel3();
-			case "place_name.autocomplete" -> doc.getPlaceName();
+			case "road_address_sido" -> doc.getRoadAddressSido();
+			case "road_address_sigungu" -> doc.getRoadAddressSigungu();
+			case "road_address_dong" -> doc.getRoadAddressDong();
+			case "road_address_road" -> doc.getRoadAddressRoad();
+			case "category_level1" -> doc.getCategoryLevel1();
+			case "category_level2" -> doc.getCategoryLevel2();
+			case "category_level3" -> doc.getCategoryLevel3();
+			case "place_name" -> doc.getPlaceName();
 			default -> null;
 		};
 	}
@@ -3,6 +3,7 @@ package com.livelihoodcoupon.search.service;
 
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import com.livelihoodcoupon.common.dto.Coordinate;
+import com.livelihoodcoupon.common.dto.RegionName;
 import com.livelihoodcoupon.common.exception.BusinessException;
 import com.livelihoodcoupon.common.exception.ErrorCode;
 import com.livelihoodcoupon.common.service.KakaoApiService;
@@ -12,9 +13,6 @@ import com.livelihoodcoupon.parkinglot.service.ParkingLotService;
 import com.livelihoodcoupon.search.dto.*;
 import com.livelihoodcoupon.search.entity.ParkingLotDocument;
 import com.livelihoodcoupon.search.entity.PlaceDocument;
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
-import kr.co.shineware.nlp.komoran.core.Komoran;
-import kr.co.shineware.nlp.komoran.model.KomoranResult;
 import kr.co.shineware.nlp.komoran.model.Token;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -30,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,20 +40,23 @@ public class ElasticService {
 	private final SearchService searchService;
 	private final KakaoApiService kakaoApiService;
 	private final AnalyzerTest analyzerTest;
-	private final RedisService redisService;
+	private final WordDictionary wordDictionary;
 	private final ParkingLotService parkingLotService;
-	private final Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
+	private final ReverseGeocoder reverseGeocoder;
+	private final MorphemeAnalyzer morphemeAnalyzer;
 
 	public ElasticService(ElasticPlaceService elasticPlaceService, ElasticParkingLotService elasticParkingLotService, SearchService searchService,
-						KakaoApiService kakaoApiService, AnalyzerTest analyzerTest, RedisService redisService,
-						ParkingLotService parkingLotService) {
+						KakaoApiService kakaoApiService, AnalyzerTest analyzerTest, WordDictionary wordDictionary,
+						ParkingLotService parkingLotService, ReverseGeocoder reverseGeocoder, MorphemeAnalyzer morphemeAnalyzer) {
 		this.elasticPlaceService = elasticPlaceService;
 		this.elasticParkingLotService = elasticParkingLotService;
 		this.searchService = searchService;
 		this.kakaoApiService = kakaoApiService;
 		this.analyzerTest = analyzerTest;
-		this.redisService = redisService;
+		this.wordDictionary = wordDictionary;
 		this.parkingLotService = parkingLotService;
+		this.reverseGeocoder = reverseGeocoder;
+		this.morphemeAnalyzer = morphemeAnalyzer;
 	}
 
 	public SearchServiceResult<ParkingLotSearchResponseDto> elasticSearchParkingLots(SearchRequestDto dto, int pageSize, int maxRecordSize) throws IOException {
@@ -147,14 +149,12 @@ public class ElasticService {
 				searchLng = result.getLng();
 				log.info("엘라스틱 서치 재수정된 검색위치 latitude:{}, longitude:{}", searchLat, searchLng);
 
-				com.livelihoodcoupon.common.dto.Coord2RegionCodeResponse regionInfo = kakaoApiService.getRegionInfo(
-					searchLng, searchLat);
-				if (regionInfo != null && regionInfo.getDocuments() != null && !regionInfo.getDocuments().isEmpty()) {
-					com.livelihoodcoupon.common.dto.Coord2RegionCodeResponse.RegionDocument document = regionInfo.getDocuments()
-						.get(0);
+				// 시군구 경계에서 먼저 찾고, 경계 밖 좌표만 카카오 API 호출
+				Optional<RegionName> regionName = reverseGeocoder.reverseGeocode(searchLng, searchLat);
+				if (regionName.isPresent()) {
 					analyzedAddress = new AnalyzedAddress(analyzedAddress.getFullAddress(),
-						document.getRegion1DepthName(),
-						document.getRegion2DepthName(), analyzedAddress.getResultList());
+						regionName.get().getRegion1DepthName(),
+						regionName.get().getRegion2DepthName(), analyzedAddress.getResultList());
 				}
 			}
 		}
@@ -233,15 +233,7 @@ public class ElasticService {
 	public AnalyzedAddress analysisChat(String keyword) throws IOException {
 		log.info("analysisChat 호출 시작222");
 
-		KomoranResult analyzeResultList = komoran.analyze(keyword);
-
-		List<Token> tokenList;
-		try {
-			tokenList = analyzeResultList.getTokenList();
-		} catch (NullPointerException e) {
-			log.error("형태소 분석 결과 추출 중 오류 발생 - keyword: {}", keyword);
-			return new AnalyzedAddress("", "", "", Collections.emptyList());
-		}
+		List<Token> tokenList = morphemeAnalyzer.analyze(keyword);
 
 		List<SearchToken> list = new ArrayList<>();
 		StringBuilder builder = new StringBuilder();
@@ -273,7 +265,7 @@ public class ElasticService {
 	}
 
 	public String isAddress(String morph) throws IOException {
-		return redisService.getWordInfo(morph);
+		return wordDictionary.fieldOf(morph);
 	}
 
 }
@@ -0,0 +1,214 @@
+package com.livelihoodcoupon.search.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.livelihoodcoupon.common.config.SearchProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.KomoranResult;
+import kr.co.shineware.nlp.komoran.model.Token;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공유 Komoran 인스턴스로 검색어를 형태소 분석하고 결과를 메모리에 캐시하는 컴포넌트
+ *
+ * <h3>주요 기능:</h3>
+ * <ul>
+ *   <li><b>결과 캐시:</b> 검색어 → 토큰 목록을 최근 사용 순(LRU)으로 최대 {@code search.analyzer.cache-size}개
+ *   보관. 자주 들어오는 검색어는 다시 분석하지 않음</li>
+ *   <li><b>지표:</b> {@code search.analyzer.cache} 카운터(result=hit/miss)와 {@code search.analyzer.cache.size}
+ *   게이지</li>
+ *   <li><b>미리 분석:</b> 종료 시 캐시에서 많이 조회된 검색어를 Redis 정렬 집합에 누적하고, 시작 시 상위
+ *   {@code search.analyzer.warmup-size}개를 미리 분석하여 재시작 직후에도 캐시가 채워져 있게 함</li>
+ * </ul>
+ *
+ * <p>캐시하는 것은 형태소 분석 결과뿐이며, 단어 분류(주소/카테고리) 조회는 호출하는 쪽에서 매번 합니다.
+ * 반환하는 토큰은 여러 요청이 공유하므로 수정하면 안 됩니다.</p>
+ */
+@Slf4j
+@Component
+public class MorphemeAnalyzer {
+
+	static final String HOT_QUERIES_KEY = "search:hot-queries";
+	/** 이보다 긴 검색어는 캐시하지 않음 (한 번만 쓰이는 긴 문장이 캐시를 밀어내지 않도록) */
+	private static final int MAX_CACHEABLE_LENGTH = 100;
+
+	private final Komoran komoran;
+	private final StringRedisTemplate redisTemplate;
+	private final int cacheSize;
+	private final int warmupSize;
+	private final Map<String, CachedTokens> cache;
+
+	private final Counter hits;
+	private final Counter misses;
+
+	public MorphemeAnalyzer(Komoran komoran, StringRedisTemplate redisTemplate, SearchProperties searchProperties,
+		MeterRegistry meterRegistry) {
+		this.komoran = komoran;
+		this.redisTemplate = redisTemplate;
+		this.cacheSize = Math.max(0, searchProperties.getAnalyzer().getCacheSize());
+		this.warmupSize = Math.max(0, searchProperties.getAnalyzer().getWarmupSize());
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedTokens> eldest) {
+				return size() > cacheSize;
+			}
+		};
+
+		this.hits = Counter.builder("search.analyzer.cache")
+			.tag("result", "hit")
+			.description("캐시에서 찾은 형태소 분석 결과 수")
+			.register(meterRegistry);
+		this.misses = Counter.builder("search.analyzer.cache")
+			.tag("result", "miss")
+			.description("캐시에 없어 새로 분석한 검색어 수")
+			.register(meterRegistry);
+		Gauge.builder("search.analyzer.cache.size", this, MorphemeAnalyzer::cachedCount)
+			.description("캐시에 보관 중인 형태소 분석 결과 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 검색어를 형태소 단위로 분리합니다.
+	 *
+	 * @param query 검색어
+	 * @return 분석된 토큰 목록 (수정 불가, 검색어가 비어 있거나 분석에 실패하면 빈 목록)
+	 */
+	public List<Token> analyze(String query) {
+		if (query == null || query.isBlank()) {
+			return List.of();
+		}
+		String key = query.trim();
+		if (cacheSize == 0 || key.length() > MAX_CACHEABLE_LENGTH) {
+			misses.increment();
+			return analyzeWithKomoran(key);
+		}
+
+		CachedTokens cached;
+		synchronized (cache) {
+			cached = cache.get(key);
+		}
+		if (cached != null) {
+			cached.hits.incrementAndGet();
+			hits.increment();
+			return cached.tokens;
+		}
+
+		misses.increment();
+		List<Token> tokens = analyzeWithKomoran(key);
+		synchronized (cache) {
+			cache.putIfAbsent(key, new CachedTokens(tokens, 1));
+		}
+		return tokens;
+	}
+
+	/**
+	 * 지난 실행에서 많이 조회된 검색어를 미리 분석하여 캐시에 채웁니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (cacheSize == 0 || warmupSize == 0) {
+			return;
+		}
+		Set<String> hotQueries;
+		try {
+			hotQueries = redisTemplate.opsForZSet().reverseRange(HOT_QUERIES_KEY, 0, warmupSize - 1);
+		} catch (RuntimeException e) {
+			log.warn("인기 검색어를 읽지 못해 형태소 분석 캐시를 미리 채우지 않습니다: {}", e.toString());
+			return;
+		}
+		if (hotQueries == null || hotQueries.isEmpty()) {
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		for (String query : hotQueries) {
+			String key = query.trim();
+			if (key.isEmpty() || key.length() > MAX_CACHEABLE_LENGTH) {
+				continue;
+			}
+			List<Token> tokens = analyzeWithKomoran(key);
+			synchronized (cache) {
+				cache.putIfAbsent(key, new CachedTokens(tokens, 0));
+			}
+		}
+		log.info("형태소 분석 캐시 미리 채움: {}개 ({}ms)", cachedCount(), System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 이번 실행에서 캐시로 조회된 횟수를 인기 검색어 집합에 누적합니다. 다음 시작 시 미리 분석할 대상이 됩니다.
+	 */
+	@PreDestroy
+	public void saveHotQueries() {
+		if (warmupSize == 0) {
+			return;
+		}
+		List<Map.Entry<String, CachedTokens>> entries;
+		synchronized (cache) {
+			entries = new ArrayList<>(cache.entrySet());
+		}
+		entries.removeIf(entry -> entry.getValue().hits.get() == 0);
+		if (entries.isEmpty()) {
+			return;
+		}
+		entries.sort((a, b) -> Integer.compare(b.getValue().hits.get(), a.getValue().hits.get()));
+
+		try {
+			for (Map.Entry<String, CachedTokens> entry : entries.subList(0, Math.min(warmupSize, entries.size()))) {
+				redisTemplate.opsForZSet().incrementScore(HOT_QUERIES_KEY, entry.getKey(), entry.getValue().hits.get());
+			}
+			// 상위 warmupSize의 두 배만 남겨 집합이 계속 커지지 않게 함
+			redisTemplate.opsForZSet().removeRange(HOT_QUERIES_KEY, 0, -(2L * warmupSize) - 1);
+		} catch (RuntimeException e) {
+			log.warn("인기 검색어를 저장하지 못했습니다: {}", e.toString());
+		}
+	}
+
+	/**
+	 * 캐시에 보관 중인 분석 결과 수를 반환합니다.
+	 *
+	 * @return 캐시 항목 수
+	 */
+	public int cachedCount() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	private List<Token> analyzeWithKomoran(String query) {
+		KomoranResult result = komoran.analyze(query);
+		try {
+			return Collections.unmodifiableList(new ArrayList<>(result.getTokenList()));
+		} catch (NullPointerException e) {
+			log.error("형태소 분석 결과 추출 중 오류 발생 - keyword: {}", query, e);
+			return List.of();
+		}
+	}
+
+	/** 분석 결과와 캐시에서 조회된 횟수 */
+	private static final class CachedTokens {
+		final List<Token> tokens;
+		final AtomicInteger hits;
+
+		CachedTokens(List<Token> tokens, int hits) {
+			this.tokens = tokens;
+			this.hits = new AtomicInteger(hits);
+		}
+	}
+}
@@ -1,9 +1,16 @@
 package com.livelihoodcoupon.search.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import lombok.Data;
@@ -14,6 +21,13 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class RedisService {
 
+	/** 단어 사전이 바뀌었음을 알리는 채널 ({@link WordDictionary}가 구독) */
+	public static final String WORDS_CHANGED_CHANNEL = "dict:words-changed";
+	/** 사전 파일별로 마지막으로 등록한 내용의 해시 (dict:version:address 등) */
+	static final String DICT_VERSION_PREFIX = "dict:version:";
+	/** 사전 파일별로 등록한 단어 집합 (dict:words:address 등) */
+	static final String DICT_WORDS_PREFIX = "dict:words:";
+
 	private final String searchPrefix = "word:";
 
 	private final RedisTemplate<String, String> redisTemplate;
@@ -74,4 +88,89 @@ public class RedisService {
 		}
 		return value;  // 해당 단어의 모든 필드 값 반환
 	}
+
+	/**
+	 * 사전 파일을 마지막으로 등록했을 때의 내용 해시를 조회합니다.
+	 *
+	 * @param field 사전 구분 (address, category)
+	 * @return 내용 해시, 등록한 적이 없으면 null
+	 */
+	public String getDictionaryVersion(String field) {
+		return redisTemplate.opsForValue().get(DICT_VERSION_PREFIX + field);
+	}
+
+	/**
+	 * 사전 파일 하나의 단어를 통째로 교체합니다.
+	 *
+	 * <ol>
+	 *   <li>새 단어를 파이프라인 한 번으로 HMSET (단어마다 왕복하지 않음)</li>
+	 *   <li>이전 버전에만 있던 단어 중 아직 이 사전으로 분류된 단어를 찾음</li>
+	 *   <li>MULTI/EXEC 한 번으로 빠진 단어 삭제, 단어 집합 교체, 버전 기록을 함께 반영</li>
+	 * </ol>
+	 *
+	 * <p>버전은 마지막에 기록하므로 중간에 실패하면 다음 시작 때 다시 등록합니다.</p>
+	 *
+	 * @param field 사전 구분 (address, category)
+	 * @param words 사전 파일의 단어
+	 * @param version 사전 파일 내용 해시
+	 */
+	public void replaceDictionary(String field, Collection<String> words, String version) {
+		String wordsKey = DICT_WORDS_PREFIX + field;
+
+		// 1. 새 단어 일괄 저장
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+				for (String word : words) {
+					ops.opsForHash().putAll(searchPrefix + word, Map.of("field", field, "subfield", "", "parent", ""));
+				}
+				return null;
+			}
+		});
+
+		// 2. 이번 파일에서 빠진 단어 (다른 사전으로 다시 분류된 단어는 남김)
+		Set<String> previous = redisTemplate.opsForSet().members(wordsKey);
+		List<String> staleKeys = new ArrayList<>();
+		if (previous != null) {
+			for (String word : previous) {
+				if (!words.contains(word) && field.equals(hashOps().get(searchPrefix + word, "field"))) {
+					staleKeys.add(searchPrefix + word);
+				}
+			}
+		}
+
+		// 3. 삭제 + 단어 집합 교체 + 버전 기록을 원자적으로 반영
+		String stagingKey = wordsKey + ":staging";
+		redisTemplate.execute(new SessionCallback<List<Object>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+				ops.multi();
+				if (!staleKeys.isEmpty()) {
+					ops.delete(staleKeys);
+				}
+				ops.delete(stagingKey);
+				if (!words.isEmpty()) {
+					ops.opsForSet().add(stagingKey, words.toArray(new String[0]));
+					ops.rename(stagingKey, wordsKey);
+				} else {
+					ops.delete(wordsKey);
+				}
+				ops.opsForValue().set(DICT_VERSION_PREFIX + field, version);
+				return ops.exec();
+			}
+		});
+		log.info("Redis 사전 교체: field={}, 단어 {}개, 삭제 {}개", field, words.size(), staleKeys.size());
+	}
+
+	/**
+	 * 단어 사전이 바뀌었음을 모든 인스턴스에 알립니다. 각 인스턴스의 {@link WordDictionary}가 사전을 다시 읽습니다.
+	 * 단어를 여러 개 저장할 때는 모두 저장한 뒤 한 번만 호출합니다.
+	 */
+	public void publishWordsChanged() {
+		redisTemplate.convertAndSend(WORDS_CHANGED_CHANNEL, "reload");
+	}
 }
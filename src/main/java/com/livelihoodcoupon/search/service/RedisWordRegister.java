@@ -1,14 +1,25 @@
 package com.livelihoodcoupon.search.service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 사전 파일(dict/{구분}_dict.txt)의 단어를 Redis에 등록하는 서비스
+ *
+ * <p>파일 내용의 해시를 버전으로 기록해 두고, 시작할 때 파일이 바뀌지 않았으면 Redis를 건드리지 않습니다. 바뀐
+ * 경우에만 {@link RedisService#replaceDictionary}로 단어를 일괄 교체하고 변경을 알립니다.</p>
+ */
 @Slf4j
 @Service
 public class RedisWordRegister {
@@ -24,29 +35,42 @@ public class RedisWordRegister {
 	}
 
 	public void fileWordRegister(String redisKey) throws IOException {
-		// Redis 키
-		String pre = "word:";
 		String filePath = "dict/" + redisKey + "_dict.txt";
 
-		// 이미 초기화된 경우는 건너뜀 (옵션)
-		if (equals(redisService.getRedisTemplate().hasKey(pre + redisKey))) {
-			System.out.println("Redis에 address_dict가 이미 초기화되어 있습니다.");
+		// 파일 읽기
+		byte[] content;
+		try (InputStream in = createResource(filePath).getInputStream()) {
+			content = in.readAllBytes();
+		}
+
+		// 파일이 바뀌지 않았으면 건너뜀
+		String version = versionOf(content);
+		if (version.equals(redisService.getDictionaryVersion(redisKey))) {
+			log.info("Redis에 {} 사전이 이미 최신입니다. (version={})", redisKey, version.substring(0, 12));
 			return;
 		}
 
-		// 파일 읽기
-		ClassPathResource resource = createResource(filePath);
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				// 공백 제거 및 비어있지 않은 단어만
-				String trimmed = line.trim();
-				if (!trimmed.isEmpty()) {
-					redisService.saveWord(trimmed, redisKey, "", "");
-				}
+		// 공백 제거 및 비어있지 않은 단어만
+		Set<String> words = new LinkedHashSet<>();
+		for (String line : new String(content, StandardCharsets.UTF_8).split("\\R")) {
+			String trimmed = line.trim();
+			if (!trimmed.isEmpty()) {
+				words.add(trimmed);
 			}
 		}
-		System.out.println("Redis에 address_dict 초기화 완료!");
+
+		redisService.replaceDictionary(redisKey, words, version);
+		redisService.publishWordsChanged();
+		log.info("Redis에 {} 사전 등록 완료: {}개", redisKey, words.size());
+	}
+
+	/** 사전 파일 내용의 SHA-256 해시 (16진수) */
+	static String versionOf(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
 	}
 
 }
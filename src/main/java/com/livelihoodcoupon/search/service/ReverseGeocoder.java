@@ -0,0 +1,79 @@
+package com.livelihoodcoupon.search.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Service;
+
+import com.livelihoodcoupon.collector.service.RegionBoundary;
+import com.livelihoodcoupon.collector.service.RegionStore;
+import com.livelihoodcoupon.common.dto.Coord2RegionCodeResponse;
+import com.livelihoodcoupon.common.dto.RegionName;
+import com.livelihoodcoupon.common.service.KakaoApiService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌표를 시도/시군구 이름으로 변환하는 역지오코딩 서비스
+ *
+ * <p>애플리케이션이 가진 시군구 경계({@link RegionStore})에서 좌표가 속한 지역을 먼저 찾고, 어느 경계에도 속하지
+ * 않는 좌표(해상, 경계선 데이터의 빈틈 등)만 카카오 좌표-행정구역 변환 API를 호출합니다. 검색 요청마다
+ * 외부 API를 왕복하지 않아도 됩니다.</p>
+ *
+ * <p>경계 데이터의 시도 이름 중 개칭된 이름은 카카오 API와 같은 현재 이름으로 바꾸어 반환합니다. 경계 데이터에
+ * 붙어 있는 일반구 이름("안양시만안구")도 카카오 API처럼 시와 구를 띄어("안양시 만안구") 반환합니다.</p>
+ */
+@Slf4j
+@Service
+public class ReverseGeocoder {
+
+	/** 경계 데이터의 시도 이름 → 카카오 API가 반환하는 현재 이름 */
+	private static final Map<String, String> RENAMED_SIDO = Map.of(
+		"강원도", "강원특별자치도",
+		"전라북도", "전북특별자치도");
+	/** 띄어쓰기 없이 붙은 "시 + 일반구" 이름 (예: 안양시만안구) */
+	private static final Pattern COMPOUND_SIG_NAME = Pattern.compile("^(\\S+?시)(\\S+구)$");
+
+	private final RegionStore regionStore;
+	private final KakaoApiService kakaoApiService;
+
+	public ReverseGeocoder(RegionStore regionStore, KakaoApiService kakaoApiService) {
+		this.regionStore = regionStore;
+		this.kakaoApiService = kakaoApiService;
+	}
+
+	/**
+	 * 좌표가 속한 시도/시군구 이름을 찾습니다.
+	 *
+	 * @param lng 경도
+	 * @param lat 위도
+	 * @return 행정구역 이름 (경계 데이터와 카카오 API 모두에서 찾지 못하면 빈 값)
+	 * @throws com.livelihoodcoupon.common.exception.KakaoApiException 카카오 API 호출 실패 시
+	 */
+	public Optional<RegionName> reverseGeocode(double lng, double lat) {
+		Optional<RegionBoundary> boundary = regionStore.findRegionAt(lat, lng);
+		if (boundary.isPresent()) {
+			return Optional.of(toRegionName(boundary.get()));
+		}
+
+		log.debug("시군구 경계 밖의 좌표이므로 카카오 API로 행정구역을 조회합니다. lat={}, lng={}", lat, lng);
+		Coord2RegionCodeResponse regionInfo = kakaoApiService.getRegionInfo(lng, lat);
+		if (regionInfo == null || regionInfo.getDocuments() == null || regionInfo.getDocuments().isEmpty()) {
+			return Optional.empty();
+		}
+		Coord2RegionCodeResponse.RegionDocument document = regionInfo.getDocuments().get(0);
+		return Optional.of(new RegionName(document.getRegion1DepthName(), document.getRegion2DepthName()));
+	}
+
+	private static RegionName toRegionName(RegionBoundary boundary) {
+		String sidoName = boundary.getSidoName();
+		String sigName = boundary.getSigName();
+		if (sidoName == null) {
+			return new RegionName(sigName, "");
+		}
+		// 세종특별자치시처럼 시군구가 없는 시도는 시군구 이름이 시도 이름과 같음
+		String region2 = sigName.equals(sidoName) ? "" : COMPOUND_SIG_NAME.matcher(sigName).replaceFirst("$1 $2");
+		return new RegionName(RENAMED_SIDO.getOrDefault(sidoName, sidoName), region2);
+	}
+}
@@ -1,7 +1,6 @@
 package com.livelihoodcoupon.search.service;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,14 +16,12 @@ import org.springframework.stereotype.Service;
 import com.livelihoodcoupon.common.dto.Coordinate;
 import com.livelihoodcoupon.common.service.KakaoApiService;
 import com.livelihoodcoupon.place.entity.Place;
+import com.livelihoodcoupon.search.dto.AnalyzedAddress;
 import com.livelihoodcoupon.search.dto.SearchRequestDto;
 import com.livelihoodcoupon.search.dto.SearchResponseDto;
 import com.livelihoodcoupon.search.dto.SearchToken;
 import com.livelihoodcoupon.search.repository.SearchRepository;
 
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
-import kr.co.shineware.nlp.komoran.core.Komoran;
-import kr.co.shineware.nlp.komoran.model.KomoranResult;
 import kr.co.shineware.nlp.komoran.model.Token;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,28 +32,28 @@ import reactor.core.publisher.Mono;
 @AllArgsConstructor
 public class SearchService {
 
-	private static String searchNewAddress;
-	private final RedisService redisService;
+	private final WordDictionary wordDictionary;
 	private final SearchRepository searchRepository;
 	private final KakaoApiService kakaoApiService;
 	private final QueryService queryService;
-	private final Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
+	private final MorphemeAnalyzer morphemeAnalyzer;
 
 	public Page<SearchResponseDto> search(SearchRequestDto request, int pageSize, int maxRecordSize) {
 
 		String query = request.getQuery();
 
 		//자연어 형태소 검색어 없으면 호출안함.
-		List<SearchToken> resultList = analysisChat(query); //자연어 형태소 분리
+		AnalyzedAddress analyzedAddress = analysisChat(query); //자연어 형태소 분리
 
 		//검색어에 주소가 있을 경우 새로운 위치 가져오기
 		log.info("현재 위치 latitude:{}, longitude:{}", request.getLat(), request.getLng());
-		if (searchNewAddress != null && !searchNewAddress.isEmpty()) {
+		String searchNewAddress = analyzedAddress.getFullAddress();
+		if (!searchNewAddress.isEmpty()) {
 			SearchRequestDto result = handleAddressPosition(searchNewAddress, request).block().getBody();
 			log.info("재수정된 검색위치 latitude:{}, longitude:{}", result.getLat(), result.getLng());
 		}
 		//검색 쿼리 만들기
-		Specification<Place> specList = queryService.buildDynamicSpec(resultList, request);
+		Specification<Place> specList = queryService.buildDynamicSpec(analyzedAddress.getResultList(), request);
 
 		Pageable pageable = PageRequest.of(request.getPage() - 1, pageSize, Sort.unsorted());
 		Page<Place> results = searchRepository.findAll(specList, pageable);
@@ -129,22 +126,14 @@ public class SearchService {
 	 * - 강남구 - NNP	고유 명사 (지명)
 	 * - 카페 - NNG	일반 명사 (장소/시설)
 	 * - 맛집 - NNG	일반 명사 (장소/음식점)
+	 *
+	 * 분석 결과는 요청마다 새로 만든 불변 객체로 반환하므로 동시에 들어온 요청끼리 섞이지 않음
+	 * @return 주소 단어를 이은 fullAddress(없으면 빈 문자열)와 형태소 목록(수정 불가)
 	 **/
-	public List<SearchToken> analysisChat(String keyword) {
-
-		//단어 형태 자동 분리
-		KomoranResult analyzeResultList = komoran.analyze(keyword);
-
-		//analyzeResultList try-can처리
-		List<Token> tokenList;
-		try {
-			// 분리된 문자열 token list 생성
-			tokenList = analyzeResultList.getTokenList();
-		} catch (NullPointerException e) {
-			log.error("형태소 분석 결과 추출 중 오류 발생 - keyword: {}", keyword, e);
-			// 문제를 알리고 빈 리스트로 대체
-			return Collections.emptyList();
-		}
+	public AnalyzedAddress analysisChat(String keyword) {
+
+		//단어 형태 자동 분리 (분석 실패 시 빈 리스트)
+		List<Token> tokenList = morphemeAnalyzer.analyze(keyword);
 		List<SearchToken> list = new ArrayList<>();
 		StringBuilder builder = new StringBuilder();
 
@@ -176,13 +165,12 @@ public class SearchService {
 			log.info("형태소 분리 결과 {}, {} {}, {} ", token.getBeginIndex(), token.getEndIndex(), token.getMorph(),
 				token.getPos());
 		}
-		searchNewAddress = builder.toString();
-		return list;
+		return new AnalyzedAddress(builder.toString().trim(), null, null, List.copyOf(list));
 	}
 
 	public String isAddress(String morph, String pos) {
-		//redis에서 address, category 구분
-		return redisService.getWordInfo(morph);
+		//단어 사전(메모리)에서 address, category 구분
+		return wordDictionary.fieldOf(morph);
 	}
 
 }
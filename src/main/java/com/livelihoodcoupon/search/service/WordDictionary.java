@@ -0,0 +1,172 @@
+package com.livelihoodcoupon.search.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단어 분류 사전(주소/카테고리)을 메모리에 보관하는 컴포넌트
+ *
+ * <p>검색어의 형태소마다 Redis를 조회하지 않도록 Redis의 {@code word:*} 해시 전체를 읽어 불변 맵으로 만들어 둡니다.
+ * 검색 중 분류 조회는 네트워크 왕복 없이 메모리에서 끝납니다.</p>
+ *
+ * <h3>갱신:</h3>
+ * <ul>
+ *   <li>애플리케이션 준비 완료 시 한 번 읽음 (단어 등록 러너가 끝난 뒤)</li>
+ *   <li>단어가 바뀌면 {@link RedisService#publishWordsChanged()}가 {@value RedisService#WORDS_CHANGED_CHANNEL}
+ *   채널에 알리고, 모든 인스턴스가 사전을 다시 읽어 통째로 교체. 읽는 쪽은 잠금 없이 교체 전이나 후의 사전 하나를
+ *   보게 됨</li>
+ * </ul>
+ *
+ * <p>사전을 아직 읽지 못한 경우(시작 직후 Redis 장애 등) 분류는 빈 값이 되며 검색은 분류 없이 동작합니다.</p>
+ */
+@Slf4j
+@Component
+public class WordDictionary {
+
+	private static final String KEY_PREFIX = "word:";
+	private static final int SCAN_COUNT = 1000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private volatile Map<String, WordInfo> words = Map.of();
+
+	public WordDictionary(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener((message, pattern) -> reloadQuietly(),
+			new ChannelTopic(RedisService.WORDS_CHANGED_CHANNEL));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		reloadQuietly();
+	}
+
+	/**
+	 * 단어의 분류(address, category 등)를 반환합니다.
+	 *
+	 * @param word 형태소
+	 * @return 분류, 사전에 없거나 분류가 비어 있으면 빈 문자열
+	 */
+	public String fieldOf(String word) {
+		WordInfo info = word == null ? null : words.get(word);
+		return info == null ? "" : info.getField();
+	}
+
+	/**
+	 * 단어의 사전 정보를 반환합니다.
+	 *
+	 * @param word 형태소
+	 * @return 사전 정보, 사전에 없으면 null
+	 */
+	public WordInfo get(String word) {
+		return word == null ? null : words.get(word);
+	}
+
+	/**
+	 * 사전에 들어 있는 단어 수를 반환합니다.
+	 *
+	 * @return 단어 수
+	 */
+	public int size() {
+		return words.size();
+	}
+
+	/**
+	 * Redis의 {@code word:*} 해시를 모두 읽어 사전을 교체합니다. 키는 SCAN으로 찾고, 값은 파이프라인 한 번으로
+	 * 읽습니다.
+	 */
+	public void reload() {
+		long start = System.currentTimeMillis();
+		List<String> keys = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				keys.add(cursor.next());
+			}
+		}
+
+		List<Object> hashes = keys.isEmpty() ? List.of() : redisTemplate.executePipelined(
+			(RedisCallback<Object>)connection -> {
+				readAll(connection, keys);
+				return null;
+			});
+
+		Map<String, WordInfo> loaded = new HashMap<>(keys.size() * 2);
+		for (int i = 0; i < keys.size(); i++) {
+			Object hash = hashes.get(i);
+			if (hash instanceof Map<?, ?> fields && !fields.isEmpty()) {
+				String word = keys.get(i).substring(KEY_PREFIX.length());
+				loaded.put(word, WordInfo.of(fields));
+			}
+		}
+		words = Map.copyOf(loaded);
+		log.info("단어 사전 갱신: {}개 ({}ms)", loaded.size(), System.currentTimeMillis() - start);
+	}
+
+	private void reloadQuietly() {
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			log.warn("단어 사전을 갱신하지 못해 기존 사전({}개)을 유지합니다: {}", words.size(), e.toString());
+		}
+	}
+
+	private static void readAll(RedisConnection connection, List<String> keys) {
+		for (String key : keys) {
+			connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * 사전에 등록된 단어 한 개의 정보
+	 */
+	@Getter
+	public static final class WordInfo {
+		/** 분류 (address, category) */
+		private final String field;
+		/** 주소 단계 (시, 구, 동) */
+		private final String subfield;
+		/** 상위 주소명 */
+		private final String parent;
+
+		WordInfo(String field, String subfield, String parent) {
+			this.field = field;
+			this.subfield = subfield;
+			this.parent = parent;
+		}
+
+		static WordInfo of(Map<?, ?> fields) {
+			return new WordInfo(trimToEmpty(fields.get("field")), trimToEmpty(fields.get("subfield")),
+				trimToEmpty(fields.get("parent")));
+		}
+
+		private static String trimToEmpty(Object value) {
+			return value == null ? "" : value.toString().trim();
+		}
+	}
+}
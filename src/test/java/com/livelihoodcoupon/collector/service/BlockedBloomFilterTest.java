@@ -0,0 +1,50 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BlockedBloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 키는 항상 있다고 판단해야 한다")
+	void mightContain_hasNoFalseNegatives() {
+		BlockedBloomFilter filter = BlockedBloomFilter.create(50_000, 0.01);
+		for (int i = 0; i < 50_000; i++) {
+			filter.put(Integer.toString(10_000_000 + i));
+		}
+
+		for (int i = 0; i < 50_000; i++) {
+			assertThat(filter.mightContain(Integer.toString(10_000_000 + i))).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("예상 키 수만큼 추가해도 오탐률이 목표치 근처여야 한다")
+	void mightContain_keepsFalsePositiveRateNearTarget() {
+		BlockedBloomFilter filter = BlockedBloomFilter.create(50_000, 0.01);
+		for (int i = 0; i < 50_000; i++) {
+			filter.put(Integer.toString(10_000_000 + i));
+		}
+
+		int falsePositives = 0;
+		int trials = 100_000;
+		for (int i = 0; i < trials; i++) {
+			if (filter.mightContain(Integer.toString(20_000_000 + i))) {
+				falsePositives++;
+			}
+		}
+		assertThat((double)falsePositives / trials).isLessThan(0.02);
+	}
+
+	@Test
+	@DisplayName("처음 추가한 키만 put 결과가 true여야 한다")
+	void put_reportsFirstInsertion() {
+		BlockedBloomFilter filter = BlockedBloomFilter.create(1_000, 0.01);
+
+		assertThat(filter.put("26338954")).isTrue();
+		assertThat(filter.put("26338954")).isFalse();
+		assertThat(filter.mightContain("26338954")).isTrue();
+	}
+}
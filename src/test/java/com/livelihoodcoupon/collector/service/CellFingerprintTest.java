@@ -0,0 +1,37 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.livelihoodcoupon.common.dto.KakaoPlace;
+
+class CellFingerprintTest {
+
+	private static KakaoPlace place(String id) {
+		KakaoPlace place = new KakaoPlace();
+		place.setId(id);
+		return place;
+	}
+
+	@Test
+	@DisplayName("응답 순서가 달라도 같은 장소와 총 장소 수면 지문이 같아야 한다")
+	void of_ignoresOrder() {
+		assertThat(CellFingerprint.of(3, List.of(place("1"), place("2"), place("3"))))
+			.isEqualTo(CellFingerprint.of(3, List.of(place("3"), place("1"), place("2"))));
+	}
+
+	@Test
+	@DisplayName("총 장소 수나 장소 ID가 바뀌면 지문이 달라야 한다")
+	void of_changesWithContent() {
+		long base = CellFingerprint.of(2, List.of(place("1"), place("23")));
+
+		assertThat(CellFingerprint.of(3, List.of(place("1"), place("23")))).isNotEqualTo(base);
+		assertThat(CellFingerprint.of(2, List.of(place("1"), place("24")))).isNotEqualTo(base);
+		assertThat(CellFingerprint.of(2, List.of(place("12"), place("3")))).isNotEqualTo(base);
+		assertThat(CellFingerprint.of(0, List.of())).isEqualTo(CellFingerprint.of(0, null));
+	}
+}
@@ -0,0 +1,159 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus;
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus.JobState;
+import com.livelihoodcoupon.collector.dto.CollectionJobStatus.RegionState;
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint;
+import com.livelihoodcoupon.collector.entity.CollectionCheckpoint.CheckpointStatus;
+import com.livelihoodcoupon.collector.repository.CollectionCheckpointRepository;
+import com.livelihoodcoupon.collector.vo.RegionData;
+import com.livelihoodcoupon.common.config.CollectorProperties;
+import com.livelihoodcoupon.common.exception.BusinessException;
+import com.livelihoodcoupon.common.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class CollectionJobServiceTest {
+
+	@Mock
+	private CouponDataCollector collector;
+	@Mock
+	private CollectionCheckpointRepository checkpointRepository;
+
+	private CollectionJobService collectionJobService;
+
+	@BeforeEach
+	void setUp() {
+		CollectorProperties properties = new CollectorProperties();
+		properties.setRegionParallelism(2);
+		collectionJobService = new CollectionJobService(collector, checkpointRepository, properties);
+	}
+
+	private RegionData region(String name) {
+		RegionData region = new RegionData();
+		region.setName(name);
+		return region;
+	}
+
+	private CollectionJobStatus awaitFinished() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		CollectionJobStatus status = collectionJobService.getStatus();
+		while (status.getFinishedAt() == null && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+			status = collectionJobService.getStatus();
+		}
+		return status;
+	}
+
+	@Test
+	@DisplayName("이전 작업에서 완료된 지역은 건너뛰고 나머지 지역만 수집해야 한다")
+	void start_resumesFromCheckpoints() throws Exception {
+		// given
+		CollectionCheckpoint done = new CollectionCheckpoint("서울특별시 종로구", CouponDataCollector.DEFAULT_KEYWORD);
+		done.markFinished(CheckpointStatus.COMPLETED, 1000, null);
+		when(checkpointRepository.findByKeywordAndStatus(CouponDataCollector.DEFAULT_KEYWORD,
+			CheckpointStatus.COMPLETED)).thenReturn(List.of(done));
+
+		// when
+		collectionJobService.start(List.of(region("서울특별시 종로구"), region("서울특별시 중구")), true);
+		CollectionJobStatus status = awaitFinished();
+
+		// then
+		verify(collector, times(1)).collectForSingleRegion(any());
+		assertThat(status.getState()).isEqualTo(JobState.COMPLETED);
+		assertThat(status.getSkippedRegions()).isEqualTo(1);
+		assertThat(status.getCompletedRegions()).isEqualTo(1);
+		assertThat(status.getEtaSeconds()).isZero();
+		assertThat(status.getRegions()).extracting(CollectionJobStatus.RegionProgress::getState)
+			.containsExactly(RegionState.SKIPPED, RegionState.COMPLETED);
+
+		// 수집한 지역은 체크포인트가 COMPLETED로 저장되어야 함
+		verify(checkpointRepository, atLeastOnce()).save(argThat(checkpoint ->
+			checkpoint.getRegionName().equals("서울특별시 중구") && checkpoint.getStatus() == CheckpointStatus.COMPLETED));
+	}
+
+	@Test
+	@DisplayName("지역 수집이 실패하면 해당 지역만 FAILED로 기록하고 나머지 지역은 계속 수집해야 한다")
+	void start_recordsFailedRegionAndContinues() throws Exception {
+		// given
+		RegionData failing = region("실패지역");
+		doAnswer(invocation -> {
+			if (invocation.getArgument(0) == failing) {
+				throw new IllegalStateException("boom");
+			}
+			return null;
+		}).when(collector).collectForSingleRegion(any());
+
+		// when
+		collectionJobService.start(List.of(failing, region("정상지역")), false);
+		CollectionJobStatus status = awaitFinished();
+
+		// then
+		assertThat(status.getFailedRegions()).isEqualTo(1);
+		assertThat(status.getCompletedRegions()).isEqualTo(1);
+		assertThat(status.getRegions().get(0).getErrorMessage()).isEqualTo("boom");
+		verify(checkpointRepository, never()).findByKeywordAndStatus(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("작업이 실행 중이면 새 작업을 시작할 수 없고, 취소하면 남은 지역은 CANCELLED로 기록해야 한다")
+	void start_rejectsConcurrentJobAndCancelStopsRemainingRegions() throws Exception {
+		// given
+		// 첫 번째 지역 수집이 취소(인터럽트)될 때까지 대기하도록 설정
+		CountDownLatch started = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			try {
+				new CountDownLatch(1).await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}).when(collector).collectForSingleRegion(any());
+
+		CollectorProperties properties = new CollectorProperties();
+		properties.setRegionParallelism(1);
+		collectionJobService = new CollectionJobService(collector, checkpointRepository, properties);
+
+		// when
+		collectionJobService.start(List.of(region("A"), region("B"), region("C")), false);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// then
+		assertThatThrownBy(() -> collectionJobService.start(List.of(region("D")), false))
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(ErrorCode.CONFLICT);
+
+		collectionJobService.cancel();
+		CollectionJobStatus status = awaitFinished();
+
+		assertThat(status.getState()).isEqualTo(JobState.CANCELLED);
+		assertThat(status.getRegions()).extracting(CollectionJobStatus.RegionProgress::getState)
+			.containsOnly(RegionState.CANCELLED);
+		verify(collector, times(1)).collectForSingleRegion(any());
+	}
+
+	@Test
+	@DisplayName("실행한 작업이 없으면 상태 조회 시 NOT_FOUND 예외가 발생해야 한다")
+	void getStatus_withoutJob_throwsNotFound() {
+		assertThatThrownBy(() -> collectionJobService.getStatus())
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(ErrorCode.NOT_FOUND);
+	}
+}
@@ -4,8 +4,15 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +24,13 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
 import com.livelihoodcoupon.collector.entity.ScannedGrid;
 import com.livelihoodcoupon.collector.repository.CollectorPlaceRepository;
 import com.livelihoodcoupon.collector.repository.ScannedGridRepository;
 import com.livelihoodcoupon.collector.vo.RegionData;
+import com.livelihoodcoupon.common.config.CollectorProperties;
 import com.livelihoodcoupon.common.dto.KakaoMeta;
 import com.livelihoodcoupon.common.dto.KakaoPlace;
 import com.livelihoodcoupon.common.dto.KakaoResponse;
@@ -36,6 +46,10 @@ class CouponDataCollectorTest {
 	@Mock
 	private KakaoApiService kakaoApiService;
 	@Mock
+	private CollectorPlaceWriter collectorPlaceWriter;
+	@Mock
+	private PlaceDedupService placeDedupService;
+	@Mock
 	private CollectorPlaceRepository collectorPlaceRepository;
 	@Mock
 	private ScannedGridRepository scannedGridRepository;
@@ -43,6 +57,10 @@ class CouponDataCollectorTest {
 	private CsvExportService csvExportService;
 	@Mock
 	private GeoJsonExportService geoJsonExportService;
+	@Mock
+	private ScannedGridWriter scannedGridWriter;
+	@Spy
+	private CollectorProperties collectorProperties = new CollectorProperties();
 
 	private RegionData testRegion;
 
@@ -64,6 +82,34 @@ class CouponDataCollectorTest {
 		testRegion.setPolygons(List.of(polygon));
 	}
 
+	/**
+	 * 지역의 첫 번째 폴리곤을 지정된 반경으로 나눈 모든 격자에 대해 동일한 상태를 만들어 반환합니다.
+	 */
+	private List<GridStateDto> gridStatesFor(RegionData region, int radius, ScannedGrid.GridStatus status) {
+		return gridStatesFor(region, radius, null, status);
+	}
+
+	/**
+	 * 지역의 첫 번째 폴리곤을 지정된 반경으로 나눈 모든 격자에 대해 동일한 상태와 관측 장소 수를 만들어 반환합니다.
+	 */
+	private List<GridStateDto> gridStatesFor(RegionData region, int radius, Integer totalCount,
+		ScannedGrid.GridStatus status) {
+		return GridUtil.streamGridForPolygon(region.getPolygons().get(0).get(0), radius)
+			.map(center -> new GridStateDto(GridUtil.cellId(center[0], center[1], radius), center[0], center[1], radius,
+				totalCount, status))
+			.toList();
+	}
+
+	/**
+	 * 지역의 첫 번째 폴리곤을 지정된 반경으로 나눈 모든 격자를 지정된 지문의 완료 격자로 만들어 반환합니다.
+	 */
+	private List<GridStateDto> completedGridStatesFor(RegionData region, int radius, int totalCount, long fingerprint) {
+		return GridUtil.streamGridForPolygon(region.getPolygons().get(0).get(0), radius)
+			.map(center -> new GridStateDto(GridUtil.cellId(center[0], center[1], radius), center[0], center[1], radius,
+				totalCount, ScannedGrid.GridStatus.COMPLETED, fingerprint))
+			.toList();
+	}
+
 	private KakaoPlace createDummyPlace() {
 		KakaoPlace place = new KakaoPlace();
 		place.setId("1");
@@ -87,23 +133,24 @@ class CouponDataCollectorTest {
 		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), anyInt(),
 			eq(1)))
 			.thenReturn(normalResponse);
-
-		when(scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(anyString(),
-			anyString(), anyDouble(), anyDouble(),
-			anyInt()))
-			.thenReturn(Optional.empty());
+		// 처음 발견한 장소로 판단하도록 설정
+		when(placeDedupService.registerAll(anyCollection()))
+			.thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
 
 		// when
 		couponDataCollector.collectForSingleRegion(testRegion);
 
 		// then
 		// 장소 저장이 호출되었는지 검증
-		verify(collectorPlaceRepository, atLeastOnce()).saveAll(any());
+		verify(collectorPlaceWriter, atLeastOnce()).insertIgnoringDuplicates(anyList());
 
 		// 격자 상태가 COMPLETED로 저장되었는지 검증
 		ArgumentCaptor<ScannedGrid> captor = ArgumentCaptor.forClass(ScannedGrid.class);
-		verify(scannedGridRepository, atLeastOnce()).save(captor.capture());
+		verify(scannedGridWriter, atLeastOnce()).enqueue(captor.capture());
 		assertThat(captor.getValue().getStatus()).isEqualTo(ScannedGrid.GridStatus.COMPLETED);
+
+		// 파일 생성 전에 버퍼에 남은 격자 상태가 반영되어야 함
+		verify(scannedGridWriter).flush();
 	}
 
 	@Test
@@ -130,40 +177,72 @@ class CouponDataCollectorTest {
 			eq(1)))
 			.thenReturn(normalResponse);
 
-		when(scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(anyString(),
-			anyString(), anyDouble(), anyDouble(),
-			anyInt()))
-			.thenReturn(Optional.empty());
-
 		// when
 		couponDataCollector.collectForSingleRegion(testRegion);
 
 		// then
 		// 밀집 지역이므로 최상위 레벨에서는 장소 저장이 호출되지 않아야 함
-		verify(collectorPlaceRepository, never()).saveAll(any());
+		verify(collectorPlaceWriter, never()).insertIgnoringDuplicates(anyList());
 
 		// 512m 격자 상태가 SUBDIVIDED로 저장되었는지 검증
 		ArgumentCaptor<ScannedGrid> captor = ArgumentCaptor.forClass(ScannedGrid.class);
-		verify(scannedGridRepository, atLeastOnce()).save(captor.capture());
+		verify(scannedGridWriter, atLeastOnce()).enqueue(captor.capture());
 
 		assertThat(captor.getAllValues()).anyMatch(grid ->
 			grid.getGridRadius() == 512 && grid.getStatus() == ScannedGrid.GridStatus.SUBDIVIDED);
 	}
 
+	@Test
+	@DisplayName("밀집 격자의 하위 격자에서도 장소 위치는 격자가 아닌 지역 폴리곤으로 검증해야 한다")
+	void collectForSingleRegion_whenCellIsDense_filtersChildPlacesByRegionPolygon() {
+		// given
+		KakaoResponse denseResponse = mock(KakaoResponse.class, "dense");
+		KakaoMeta denseMeta = mock(KakaoMeta.class, "denseMeta");
+		when(denseResponse.getMeta()).thenReturn(denseMeta);
+		when(denseMeta.getTotal_count()).thenReturn(50);
+
+		// 하위 격자는 지역 안의 장소와, 맨 윗줄 격자 안에 있지만 지역 밖(위도 37.1 초과)인 장소를 응답
+		KakaoPlace insideRegion = createDummyPlace();
+		insideRegion.setId("inside");
+		insideRegion.setX("127.05");
+		insideRegion.setY("37.05");
+		KakaoPlace outsideRegion = createDummyPlace();
+		outsideRegion.setId("outside");
+		outsideRegion.setX("127.05");
+		outsideRegion.setY("37.1005");
+		KakaoResponse normalResponse = mock(KakaoResponse.class, "normal");
+		KakaoMeta normalMeta = mock(KakaoMeta.class, "normalMeta");
+		when(normalResponse.getMeta()).thenReturn(normalMeta);
+		when(normalMeta.getTotal_count()).thenReturn(10);
+		when(normalMeta.is_end()).thenReturn(true);
+		when(normalResponse.getDocuments()).thenReturn(List.of(insideRegion, outsideRegion));
+
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenReturn(denseResponse);
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(256),
+			eq(1)))
+			.thenReturn(normalResponse);
+		when(placeDedupService.registerAll(anyCollection()))
+			.thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		verify(collectorPlaceWriter, atLeastOnce()).insertIgnoringDuplicates(
+			argThat((List<PlaceEntity> entities) -> entities.stream().anyMatch(p -> "inside".equals(p.getPlaceId()))));
+		verify(collectorPlaceWriter, never()).insertIgnoringDuplicates(
+			argThat((List<PlaceEntity> entities) -> entities.stream().anyMatch(p -> "outside".equals(p.getPlaceId()))));
+	}
+
 	@Test
 	@DisplayName("SUBDIVIDED로 기록된 격자는 API 호출 없이 하위 탐색을 수행해야 한다")
 	void collectForSingleRegion_whenGridIsSubdivided_resumesFromNextLevel() {
 		// given
 		// 512m 격자는 SUBDIVIDED로, 하위 256m 격자는 신규 격자로 설정
-		ScannedGrid subdividedGrid = ScannedGrid.builder().status(ScannedGrid.GridStatus.SUBDIVIDED).build();
-		when(scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(anyString(),
-			anyString(), anyDouble(), anyDouble(),
-			eq(512)))
-			.thenReturn(Optional.of(subdividedGrid));
-		when(scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(anyString(),
-			anyString(), anyDouble(), anyDouble(),
-			eq(256)))
-			.thenReturn(Optional.empty());
+		when(scannedGridRepository.findGridStates(anyString(), anyString()))
+			.thenReturn(gridStatesFor(testRegion, 512, ScannedGrid.GridStatus.SUBDIVIDED));
 
 		// 하위 256m 격자는 "일반 지역"이라고 응답하도록 설정
 		KakaoResponse subLevelResponse = mock(KakaoResponse.class);
@@ -188,21 +267,108 @@ class CouponDataCollectorTest {
 
 		// 하위 256m 격자는 COMPLETED로 저장되어야 함
 		ArgumentCaptor<ScannedGrid> captor = ArgumentCaptor.forClass(ScannedGrid.class);
-		verify(scannedGridRepository, atLeastOnce()).save(captor.capture());
+		verify(scannedGridWriter, atLeastOnce()).enqueue(captor.capture());
 		assertThat(captor.getAllValues()).anyMatch(grid ->
 			grid.getGridRadius() == 256 && grid.getStatus() == ScannedGrid.GridStatus.COMPLETED);
 	}
 
+	@Test
+	@DisplayName("관측된 장소 수로 하위 격자도 밀집 지역임이 확실하면, 하위 격자 탐색 호출을 생략해야 한다")
+	void collectForSingleRegion_whenParentIsVeryDense_skipsProbeForPredictedDenseChildren() {
+		// given
+		// 512m 격자는 1000개(하위 256m 격자 예상 250개 > 기준의 2배)로, 128m 격자는 "일반 지역"으로 응답하도록 설정
+		KakaoResponse veryDenseResponse = mock(KakaoResponse.class, "veryDense");
+		KakaoMeta veryDenseMeta = mock(KakaoMeta.class, "veryDenseMeta");
+		when(veryDenseResponse.getMeta()).thenReturn(veryDenseMeta);
+		when(veryDenseMeta.getTotal_count()).thenReturn(1000);
+
+		KakaoResponse normalResponse = mock(KakaoResponse.class, "normal");
+		KakaoMeta normalMeta = mock(KakaoMeta.class, "normalMeta");
+		when(normalResponse.getMeta()).thenReturn(normalMeta);
+		when(normalMeta.getTotal_count()).thenReturn(10);
+
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenReturn(veryDenseResponse);
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(128),
+			eq(1)))
+			.thenReturn(normalResponse);
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		// 256m 격자는 예측만으로 분할되어 API 호출이 없어야 함
+		verify(kakaoApiService, never()).searchPlaces(anyString(), anyDouble(), anyDouble(), eq(256), anyInt());
+		verify(kakaoApiService, atLeastOnce()).searchPlaces(anyString(), anyDouble(), anyDouble(), eq(128), anyInt());
+
+		// 예측으로 분할한 256m 격자도 SUBDIVIDED로 기록되어야 함 (관측값은 없음)
+		ArgumentCaptor<ScannedGrid> captor = ArgumentCaptor.forClass(ScannedGrid.class);
+		verify(scannedGridWriter, atLeastOnce()).enqueue(captor.capture());
+		assertThat(captor.getAllValues()).anyMatch(grid -> grid.getGridRadius() == 256
+			&& grid.getStatus() == ScannedGrid.GridStatus.SUBDIVIDED && grid.getTotalCount() == null);
+		assertThat(captor.getAllValues()).anyMatch(grid -> grid.getGridRadius() == 512
+			&& grid.getTotalCount() != null && grid.getTotalCount() == 1000);
+	}
+
+	@Test
+	@DisplayName("재수집 시에는 완료된 격자도 다시 수집하되, 이전에 밀집했던 격자는 탐색 호출 없이 분할해야 한다")
+	void collectForSingleRegion_whenRecollecting_usesObservedDensityInsteadOfStatus() {
+		// given
+		collectorProperties.setRecollect(true);
+		when(scannedGridRepository.findGridStates(anyString(), anyString()))
+			.thenReturn(gridStatesFor(testRegion, 512, 60, ScannedGrid.GridStatus.SUBDIVIDED));
+
+		KakaoResponse normalResponse = mock(KakaoResponse.class);
+		KakaoMeta normalMeta = mock(KakaoMeta.class);
+		when(normalResponse.getMeta()).thenReturn(normalMeta);
+		when(normalMeta.getTotal_count()).thenReturn(10);
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(256),
+			eq(1)))
+			.thenReturn(normalResponse);
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		verify(kakaoApiService, never()).searchPlaces(anyString(), anyDouble(), anyDouble(), eq(512), anyInt());
+		verify(kakaoApiService, atLeastOnce()).searchPlaces(anyString(), anyDouble(), anyDouble(), eq(256), anyInt());
+	}
+
+	@Test
+	@DisplayName("재수집한 격자는 기존 행과 같은 격자 식별자로 한 번씩만 저장되어야 한다")
+	void collectForSingleRegion_whenRecollecting_enqueuesEachExistingCellOnce() {
+		// given
+		collectorProperties.setRecollect(true);
+		List<GridStateDto> history = gridStatesFor(testRegion, 512, 10, ScannedGrid.GridStatus.COMPLETED);
+		when(scannedGridRepository.findGridStates(anyString(), anyString())).thenReturn(history);
+
+		KakaoResponse normalResponse = mock(KakaoResponse.class);
+		KakaoMeta normalMeta = mock(KakaoMeta.class);
+		when(normalResponse.getMeta()).thenReturn(normalMeta);
+		when(normalMeta.getTotal_count()).thenReturn(10);
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenReturn(normalResponse);
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		// 같은 (지역, 키워드, 격자) 키로 저장되므로 ScannedGridWriter의 upsert가 기존 행을 덮어씀
+		ArgumentCaptor<ScannedGrid> captor = ArgumentCaptor.forClass(ScannedGrid.class);
+		verify(scannedGridWriter, atLeastOnce()).enqueue(captor.capture());
+		assertThat(captor.getAllValues()).extracting(ScannedGrid::getCellId)
+			.containsExactlyInAnyOrderElementsOf(history.stream().map(GridStateDto::getCellId).toList());
+	}
+
 	@Test
 	@DisplayName("COMPLETED로 기록된 격자는 API 호출 없이 완전히 건너뛰어야 한다")
 	void collectForSingleRegion_whenGridIsCompleted_skipsProcessing() {
 		// given
-		// Mock a grid cell that is already marked as COMPLETED
-		ScannedGrid completedGrid = ScannedGrid.builder().status(ScannedGrid.GridStatus.COMPLETED).build();
-		when(scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(anyString(),
-			anyString(), anyDouble(), anyDouble(),
-			anyInt()))
-			.thenReturn(Optional.of(completedGrid));
+		// Mock grid cells that are already marked as COMPLETED
+		when(scannedGridRepository.findGridStates(anyString(), anyString()))
+			.thenReturn(gridStatesFor(testRegion, 512, ScannedGrid.GridStatus.COMPLETED));
 
 		// when
 		couponDataCollector.collectForSingleRegion(testRegion);
@@ -212,10 +378,10 @@ class CouponDataCollectorTest {
 		verify(kakaoApiService, never()).searchPlaces(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
 
 		// Verify that no places were saved
-		verify(collectorPlaceRepository, never()).saveAll(any());
+		verify(collectorPlaceWriter, never()).insertIgnoringDuplicates(anyList());
 
 		// Verify that no new progress was saved
-		verify(scannedGridRepository, never()).save(any());
+		verify(scannedGridWriter, never()).enqueue(any());
 	}
 
 	@Test
@@ -246,11 +412,6 @@ class CouponDataCollectorTest {
 		when(kakaoApiService.searchPlaces(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt()))
 			.thenReturn(normalResponse);
 
-		when(scannedGridRepository.findByRegionNameAndKeywordAndGridCenterLatAndGridCenterLngAndGridRadius(anyString(),
-			anyString(), anyDouble(), anyDouble(),
-			anyInt()))
-			.thenReturn(Optional.empty());
-
 		// when
 		couponDataCollector.collectForSingleRegion(smallTestRegion);
 
@@ -293,13 +454,213 @@ class CouponDataCollectorTest {
 		multiPolygonRegion.setPolygons(List.of(List.of(polygonRing1), List.of(polygonRing2)));
 
 		// scanAndCollectForPolygon 메서드가 실제 로직을 실행하지 않도록 스파이 설정
-		doNothing().when(couponDataCollector).scanAndCollectForPolygon(anyList(), anyInt(), anySet(), anyString());
+		doNothing().when(couponDataCollector).scanAndCollectForPolygon(anyList(), anyInt(), any(), any(), any(),
+			anyString(), any());
 
 		// when
 		couponDataCollector.collectForSingleRegion(multiPolygonRegion);
 
 		// then
 		// scanAndCollectForPolygon 메서드가 각 하위 폴리곤에 대해 정확히 2번 호출되었는지 검증
-		verify(couponDataCollector, times(2)).scanAndCollectForPolygon(anyList(), anyInt(), anySet(), anyString());
+		verify(couponDataCollector, times(2)).scanAndCollectForPolygon(anyList(), anyInt(), any(), any(),
+			any(), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("밀집 격자의 하위 격자는 같은 단계의 느린 격자가 끝나기 전에 탐색을 시작해야 한다")
+	void collectForSingleRegion_startsChildScanWithoutWaitingForLevel() {
+		// given
+		// 첫 번째 512m 격자는 하위 256m 격자 탐색이 시작될 때까지 응답하지 않고, 나머지 512m 격자는 "밀집 지역"으로 응답
+		double[] slowCenter = GridUtil.streamGridForPolygon(testRegion.getPolygons().get(0).get(0), 512)
+			.findFirst().orElseThrow();
+		CountDownLatch childScanStarted = new CountDownLatch(1);
+		AtomicBoolean childStartedBeforeSlowCell = new AtomicBoolean();
+
+		KakaoResponse denseResponse = mock(KakaoResponse.class, "dense");
+		KakaoMeta denseMeta = mock(KakaoMeta.class, "denseMeta");
+		when(denseResponse.getMeta()).thenReturn(denseMeta);
+		when(denseMeta.getTotal_count()).thenReturn(50);
+
+		KakaoResponse normalResponse = mock(KakaoResponse.class, "normal");
+		KakaoMeta normalMeta = mock(KakaoMeta.class, "normalMeta");
+		when(normalResponse.getMeta()).thenReturn(normalMeta);
+		when(normalMeta.getTotal_count()).thenReturn(10);
+
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenAnswer(invocation -> {
+				double lng = invocation.getArgument(1);
+				double lat = invocation.getArgument(2);
+				if (lat == slowCenter[0] && lng == slowCenter[1]) {
+					childStartedBeforeSlowCell.set(childScanStarted.await(5, TimeUnit.SECONDS));
+					return normalResponse;
+				}
+				return denseResponse;
+			});
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(256),
+			eq(1)))
+			.thenAnswer(invocation -> {
+				childScanStarted.countDown();
+				return normalResponse;
+			});
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		assertThat(childStartedBeforeSlowCell).isTrue();
+	}
+
+	@Test
+	@DisplayName("여러 지역은 지역 병렬 수만큼 동시에 수집해야 한다")
+	void collectForRegions_runsRegionsConcurrently() {
+		// given
+		collectorProperties.setRegionParallelism(2);
+		RegionData otherRegion = new RegionData();
+		otherRegion.setName("다른테스트지역");
+		otherRegion.setPolygons(testRegion.getPolygons());
+
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		AtomicBoolean ranConcurrently = new AtomicBoolean(true);
+		doAnswer(invocation -> {
+			bothStarted.countDown();
+			if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+				ranConcurrently.set(false);
+			}
+			return null;
+		}).when(couponDataCollector).collectForSingleRegion(any());
+
+		// when
+		couponDataCollector.collectForRegions(List.of(testRegion, otherRegion));
+
+		// then
+		verify(couponDataCollector, times(2)).collectForSingleRegion(any());
+		assertThat(ranConcurrently).isTrue();
+	}
+
+	@Test
+	@DisplayName("증분 수집에서 첫 페이지 지문이 같은 완료 격자는 페이지 수집 없이 건너뛰고 변경분만 내보내야 한다")
+	void collectForSingleRegion_whenIncrementalAndFingerprintUnchanged_skipsPagination() {
+		// given
+		collectorProperties.setIncremental(true);
+		long fingerprint = CellFingerprint.of(10, List.of(createDummyPlace()));
+		when(scannedGridRepository.findGridStates(anyString(), anyString()))
+			.thenReturn(completedGridStatesFor(testRegion, 512, 10, fingerprint));
+
+		KakaoResponse sameResponse = mock(KakaoResponse.class);
+		KakaoMeta sameMeta = mock(KakaoMeta.class);
+		when(sameResponse.getMeta()).thenReturn(sameMeta);
+		when(sameMeta.getTotal_count()).thenReturn(10);
+		when(sameResponse.getDocuments()).thenReturn(List.of(createDummyPlace()));
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenReturn(sameResponse);
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		verify(kakaoApiService, never()).searchPlaces(anyString(), anyDouble(), anyDouble(), anyInt(), eq(2));
+		verify(collectorPlaceWriter, never()).insertIgnoringDuplicates(anyList());
+		verify(scannedGridWriter, never()).enqueue(any());
+
+		ArgumentCaptor<IncrementalDelta> deltaCaptor = ArgumentCaptor.forClass(IncrementalDelta.class);
+		verify(csvExportService).exportDelta(eq("테스트지역"), eq(CouponDataCollector.DEFAULT_KEYWORD),
+			deltaCaptor.capture());
+		assertThat(deltaCaptor.getValue().getUnchangedCells()).isPositive();
+		assertThat(deltaCaptor.getValue().getChangedCells()).isZero();
+		assertThat(deltaCaptor.getValue().isEmpty()).isTrue();
+		verify(csvExportService, never()).exportSingleRegionToCsv(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("증분 수집에서 지문이 바뀐 격자는 다시 수집하고, 응답에서 사라진 저장 장소를 삭제분으로 기록해야 한다")
+	void collectForSingleRegion_whenIncrementalAndFingerprintChanged_recordsRemovedPlaces() {
+		// given
+		collectorProperties.setIncremental(true);
+		when(scannedGridRepository.findGridStates(anyString(), anyString()))
+			.thenReturn(completedGridStatesFor(testRegion, 512, 2, 1L));
+
+		KakaoResponse changedResponse = mock(KakaoResponse.class);
+		KakaoMeta changedMeta = mock(KakaoMeta.class);
+		when(changedResponse.getMeta()).thenReturn(changedMeta);
+		when(changedMeta.getTotal_count()).thenReturn(1);
+		when(changedMeta.is_end()).thenReturn(true);
+		when(changedResponse.getDocuments()).thenReturn(List.of(createDummyPlace()));
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenReturn(changedResponse);
+		when(placeDedupService.registerAll(anyCollection())).thenReturn(Set.of());
+
+		// 격자 중심에 저장되어 있지만 이번 응답에는 없는 장소
+		when(collectorPlaceRepository.findByRegionAndKeywordAndLatBetweenAndLngBetween(anyString(), anyString(),
+			anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+			.thenAnswer(invocation -> {
+				double lat = (invocation.<Double>getArgument(2) + invocation.<Double>getArgument(3)) / 2;
+				double lng = (invocation.<Double>getArgument(4) + invocation.<Double>getArgument(5)) / 2;
+				return List.of(
+					PlaceEntity.builder().placeId("999").lat(lat).lng(lng).build(),
+					PlaceEntity.builder().placeId("1").lat(lat).lng(lng).build());
+			});
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		ArgumentCaptor<IncrementalDelta> deltaCaptor = ArgumentCaptor.forClass(IncrementalDelta.class);
+		verify(csvExportService).exportDelta(eq("테스트지역"), eq(CouponDataCollector.DEFAULT_KEYWORD),
+			deltaCaptor.capture());
+		IncrementalDelta delta = deltaCaptor.getValue();
+		assertThat(delta.getChangedCells()).isPositive();
+		// 겹치는 여러 격자에서 후보가 되어도 한 번만 기록되고, 응답에 나온 장소는 삭제분이 아님
+		assertThat(delta.getRemoved()).extracting(PlaceEntity::getPlaceId).containsExactly("999");
+
+		// 다시 수집한 격자는 새 지문과 함께 완료 상태로 기록되어야 함
+		ArgumentCaptor<ScannedGrid> captor = ArgumentCaptor.forClass(ScannedGrid.class);
+		verify(scannedGridWriter, atLeastOnce()).enqueue(captor.capture());
+		assertThat(captor.getAllValues()).allMatch(grid -> grid.getStatus() == ScannedGrid.GridStatus.COMPLETED
+			&& grid.getFingerprint() != null && grid.getFingerprint() != 1L);
+	}
+
+	@Test
+	@DisplayName("증분 수집의 추가분에는 DB에 실제로 저장된 장소만 기록해야 한다")
+	void collectForSingleRegion_whenIncremental_recordsOnlyInsertedPlacesAsAdded() {
+		// given
+		collectorProperties.setIncremental(true);
+		when(scannedGridRepository.findGridStates(anyString(), anyString()))
+			.thenReturn(completedGridStatesFor(testRegion, 512, 2, 1L));
+
+		KakaoPlace alreadyStored = createDummyPlace();
+		KakaoPlace newPlace = createDummyPlace();
+		newPlace.setId("2");
+		KakaoResponse changedResponse = mock(KakaoResponse.class);
+		KakaoMeta changedMeta = mock(KakaoMeta.class);
+		when(changedResponse.getMeta()).thenReturn(changedMeta);
+		when(changedMeta.getTotal_count()).thenReturn(2);
+		when(changedMeta.is_end()).thenReturn(true);
+		when(changedResponse.getDocuments()).thenReturn(List.of(alreadyStored, newPlace));
+		when(kakaoApiService.searchPlaces(eq(CouponDataCollector.DEFAULT_KEYWORD), anyDouble(), anyDouble(), eq(512),
+			eq(1)))
+			.thenReturn(changedResponse);
+		// 여러 격자에서 응답하더라도 처음 등록한 격자에서만 새 장소로 판단
+		Set<String> registered = ConcurrentHashMap.newKeySet();
+		when(placeDedupService.registerAll(anyCollection()))
+			.thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+				.filter(registered::add)
+				.collect(Collectors.toSet()));
+		// "1"은 다른 작업이 먼저 저장하여 ON CONFLICT로 건너뜀
+		when(collectorPlaceWriter.insertIgnoringDuplicates(anyList()))
+			.thenAnswer(invocation -> invocation.<List<PlaceEntity>>getArgument(0).stream()
+				.filter(place -> !"1".equals(place.getPlaceId()))
+				.toList());
+
+		// when
+		couponDataCollector.collectForSingleRegion(testRegion);
+
+		// then
+		ArgumentCaptor<IncrementalDelta> deltaCaptor = ArgumentCaptor.forClass(IncrementalDelta.class);
+		verify(csvExportService).exportDelta(eq("테스트지역"), eq(CouponDataCollector.DEFAULT_KEYWORD),
+			deltaCaptor.capture());
+		assertThat(deltaCaptor.getValue().getAdded()).extracting(PlaceEntity::getPlaceId).containsExactly("2");
 	}
 }
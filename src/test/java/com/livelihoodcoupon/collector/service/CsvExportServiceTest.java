@@ -0,0 +1,196 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.livelihoodcoupon.batch.PlaceCsvDto;
+import com.livelihoodcoupon.batch.PlaceSnapshotItemReader;
+import com.livelihoodcoupon.collector.dto.RegionKeywordDto;
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
+import com.livelihoodcoupon.collector.repository.CollectorPlaceRepository;
+import com.livelihoodcoupon.common.config.CollectorProperties;
+import com.livelihoodcoupon.parkinglot.repository.ParkingLotRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CsvExportServiceTest {
+
+	private static final String REGION = "서울특별시 종로구";
+	private static final String KEYWORD = "소비쿠폰";
+	private static final String BASE_NAME = "서울특별시_종로구_소비쿠폰_places_data";
+
+	@TempDir
+	Path tempDir;
+
+	@Mock
+	private CollectorPlaceRepository collectorPlaceRepository;
+	@Mock
+	private ParkingLotRepository parkingLotRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private EntityManager entityManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CollectorProperties properties;
+	private CsvExportService csvExportService;
+
+	@BeforeEach
+	void setUp() {
+		properties = new CollectorProperties();
+		properties.setExportDir(tempDir.toString());
+		properties.setExportSnapshot(true);
+		meterRegistry = new SimpleMeterRegistry();
+		csvExportService = new CsvExportService(collectorPlaceRepository, parkingLotRepository, properties,
+			meterRegistry, transactionManager, entityManager);
+	}
+
+	private static PlaceEntity place(String placeId, String region) {
+		return PlaceEntity.builder()
+			.placeId(placeId)
+			.region(region)
+			.placeName("가게 " + placeId)
+			.lat(37.5)
+			.lng(126.9)
+			.category("음식점 > 한식")
+			.keyword(KEYWORD)
+			.build();
+	}
+
+	private Resource[] resolve() throws Exception {
+		return PlaceSnapshotItemReader.resolvePlaceResources(new PathMatchingResourcePatternResolver(),
+			tempDir.toString());
+	}
+
+	private static List<String> readSnapshot(Resource resource) throws Exception {
+		PlaceSnapshotItemReader reader = new PlaceSnapshotItemReader();
+		reader.setResource(resource);
+		reader.open(new ExecutionContext());
+		List<String> placeIds = new ArrayList<>();
+		try {
+			PlaceCsvDto row;
+			while ((row = reader.read()) != null) {
+				placeIds.add(row.getPlaceId());
+			}
+		} finally {
+			reader.close();
+		}
+		return placeIds;
+	}
+
+	private List<String> tempFiles() throws Exception {
+		try (Stream<Path> files = Files.list(tempDir)) {
+			return files.map(path -> path.getFileName().toString())
+				.filter(name -> name.endsWith(CsvExportService.SNAPSHOT_TEMP_SUFFIX))
+				.toList();
+		}
+	}
+
+	@Test
+	@DisplayName("실제 내보내기 후 파일을 고르면 CSV와 같은 내용의 스냅샷을 골라야 한다")
+	void export_thenResolve_picksSnapshotOfSameExport() throws Exception {
+		when(collectorPlaceRepository.streamByRegionAndKeyword(REGION, KEYWORD))
+			.thenReturn(Stream.of(place("1", REGION), place("2", REGION)));
+
+		csvExportService.exportSingleRegionToCsv(REGION, KEYWORD);
+
+		assertThat(tempDir.resolve(BASE_NAME + ".csv")).exists();
+		Resource[] resources = resolve();
+		assertThat(resources).extracting(Resource::getFilename)
+			.containsExactly(BASE_NAME + PlaceSnapshotWriter.EXTENSION);
+		assertThat(readSnapshot(resources[0])).containsExactly("1", "2");
+		assertThat(tempFiles()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("스냅샷 없이 CSV만 다시 만들면 이전 스냅샷을 지우고 CSV를 골라야 한다")
+	void reexportWithoutSnapshot_thenResolve_picksCsv() throws Exception {
+		when(collectorPlaceRepository.streamByRegionAndKeyword(REGION, KEYWORD))
+			.thenReturn(Stream.of(place("1", REGION)), Stream.of(place("1", REGION), place("3", REGION)));
+
+		csvExportService.exportSingleRegionToCsv(REGION, KEYWORD);
+		properties.setExportSnapshot(false);
+		csvExportService.exportSingleRegionToCsv(REGION, KEYWORD);
+
+		assertThat(resolve()).extracting(Resource::getFilename).containsExactly(BASE_NAME + ".csv");
+		assertThat(Files.readAllLines(tempDir.resolve(BASE_NAME + ".csv"))).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("내보내기 도중 실패하면 이전 스냅샷과 임시 스냅샷을 남기지 않아야 한다")
+	void failedExport_leavesNoSnapshot() throws Exception {
+		when(collectorPlaceRepository.streamByRegionAndKeyword(REGION, KEYWORD))
+			.thenReturn(Stream.of(place("1", REGION)),
+				Stream.of(place("1", REGION), place("2", REGION)).peek(place -> {
+					if ("2".equals(place.getPlaceId())) {
+						throw new IllegalStateException("DB 연결이 끊어졌습니다.");
+					}
+				}));
+
+		csvExportService.exportSingleRegionToCsv(REGION, KEYWORD);
+		assertThatThrownBy(() -> csvExportService.exportSingleRegionToCsv(REGION, KEYWORD))
+			.isInstanceOf(IllegalStateException.class);
+
+		assertThat(resolve()).extracting(Resource::getFilename).containsExactly(BASE_NAME + ".csv");
+		assertThat(tempFiles()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("전체 내보내기는 조합별 파일을 작업 스레드에 나누어 만들고, 실패한 조합이 있어도 나머지를 만들어야 한다")
+	void exportAll_fansOutAndIsolatesFailures() throws Exception {
+		properties.setExportParallelism(2);
+		properties.setExportSnapshot(false);
+		when(collectorPlaceRepository.findDistinctRegionAndKeyword()).thenReturn(List.of(
+			new RegionKeywordDto("서울특별시 종로구", KEYWORD),
+			new RegionKeywordDto("서울특별시 중구", KEYWORD),
+			new RegionKeywordDto("부산광역시 중구", KEYWORD)));
+		Set<String> workers = ConcurrentHashMap.newKeySet();
+		when(collectorPlaceRepository.streamByRegionAndKeyword("서울특별시 종로구", KEYWORD)).thenAnswer(invocation -> {
+			workers.add(Thread.currentThread().getName());
+			return Stream.of(place("1", "서울특별시 종로구"), place("2", "서울특별시 종로구"));
+		});
+		when(collectorPlaceRepository.streamByRegionAndKeyword("서울특별시 중구", KEYWORD))
+			.thenThrow(new IllegalStateException("DB 연결이 끊어졌습니다."));
+		when(collectorPlaceRepository.streamByRegionAndKeyword("부산광역시 중구", KEYWORD)).thenAnswer(invocation -> {
+			workers.add(Thread.currentThread().getName());
+			return Stream.of(place("3", "부산광역시 중구"));
+		});
+
+		csvExportService.exportAllRegionsToCsv();
+
+		assertThat(tempDir.resolve(BASE_NAME + ".csv")).exists();
+		assertThat(tempDir.resolve("부산광역시_중구_소비쿠폰_places_data.csv")).exists();
+		assertThat(tempDir.resolve("서울특별시_중구_소비쿠폰_places_data.csv")).doesNotExist();
+		assertThat(workers).allMatch(name -> name.startsWith("csv-export-"));
+		double exportedRows = meterRegistry.find("export.csv.rows").counters().stream()
+			.mapToDouble(Counter::count)
+			.sum();
+		assertThat(exportedRows).isEqualTo(3.0);
+		// 쓴 장소는 모두 영속성 컨텍스트에서 분리
+		verify(entityManager, times(3)).detach(any(PlaceEntity.class));
+	}
+}
@@ -0,0 +1,75 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvWriterTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("문자열 필드는 큰따옴표로 감싸고 값 안의 큰따옴표는 두 번 써야 한다")
+	void quoted_escapesEmbeddedQuotes() throws IOException {
+		StringWriter out = new StringWriter();
+		try (CsvWriter writer = new CsvWriter(out)) {
+			writer.quoted("스타벅스 \"종로점\"").quoted("a,b\nc").quoted(null).endRow();
+		}
+
+		assertThat(out.toString()).isEqualTo("\"스타벅스 \"\"종로점\"\"\",\"a,b\nc\",\"\"\n");
+	}
+
+	@Test
+	@DisplayName("실수 필드는 String.format(\"%f\")와 같은 결과를 내야 한다")
+	void decimal_matchesPrintfFormat() throws IOException {
+		double[] values = {37.5729503, 126.9793578, 0.0, 0.0000004, 0.0000005, 1.5, -127.12345649, 123456.999999999};
+		for (double value : values) {
+			StringWriter out = new StringWriter();
+			try (CsvWriter writer = new CsvWriter(out)) {
+				writer.decimal(value);
+			}
+			assertThat(out.toString()).as("value %s", value).isEqualTo(String.format("%f", value));
+		}
+	}
+
+	@Test
+	@DisplayName("헤더는 특수문자가 있는 이름만 감싸고, 데이터 행 수에서 제외해야 한다")
+	void header_quotesOnlyWhenNeeded() throws IOException {
+		StringWriter out = new StringWriter();
+		CsvWriter writer = new CsvWriter(out);
+		writer.header("placeId", "lat,lng").quoted("1").decimal(null).endRow();
+		writer.close();
+
+		assertThat(out.toString()).isEqualTo("placeId,\"lat,lng\"\n\"1\",\n");
+		assertThat(writer.getRowCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("gzip으로 연 작성기는 압축된 UTF-8 CSV 파일을 만들어야 한다")
+	void open_writesGzipFile() throws IOException {
+		Path path = tempDir.resolve("places.csv.gz");
+		try (CsvWriter writer = CsvWriter.open(path, true)) {
+			writer.header("placeName");
+			for (int i = 0; i < 10_000; i++) {
+				writer.quoted("장소" + i).endRow();
+			}
+		}
+
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+			String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			assertThat(content).startsWith("placeName\n\"장소0\"\n").endsWith("\"장소9999\"\n");
+			assertThat(content.lines()).hasSize(10_001);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+class DensityQuadtreeTest {
+
+	private static final int THRESHOLD = 45;
+
+	private GridStateDto observed(double lat, double lng, int radius, Integer totalCount,
+		ScannedGrid.GridStatus status) {
+		return new GridStateDto(null, lat, lng, radius, totalCount, status);
+	}
+
+	@Test
+	@DisplayName("관측값이 있는 격자는 관측값으로 밀집 여부를 판단해야 한다")
+	void predictsDense_usesObservedCount() {
+		DensityQuadtree model = DensityQuadtree.of(List.of(
+			observed(37.5, 127.0, 512, 120, ScannedGrid.GridStatus.SUBDIVIDED),
+			observed(37.6, 127.0, 512, 10, ScannedGrid.GridStatus.COMPLETED)), THRESHOLD);
+
+		assertThat(model.predictsDense(37.5, 127.0, 512, null)).isTrue();
+		assertThat(model.predictsDense(37.6, 127.0, 512, 10_000)).isFalse();
+		assertThat(model.estimate(37.5, 127.0, 512, null)).isEqualTo(120);
+	}
+
+	@Test
+	@DisplayName("관측값 없이 분할된 격자는 기준값을 넘은 것으로 간주해야 한다")
+	void of_treatsSubdividedWithoutCountAsDense() {
+		DensityQuadtree model = DensityQuadtree.of(List.of(
+			observed(37.5, 127.0, 512, null, ScannedGrid.GridStatus.SUBDIVIDED),
+			observed(37.6, 127.0, 512, null, ScannedGrid.GridStatus.COMPLETED)), THRESHOLD);
+
+		assertThat(model.size()).isEqualTo(1);
+		assertThat(model.estimate(37.5, 127.0, 512, null)).isEqualTo(THRESHOLD + 1);
+	}
+
+	@Test
+	@DisplayName("예측만으로 분할한 격자는 관측값으로 쓰지 않고 부모 격자로 다시 추정해야 한다")
+	void of_ignoresPredictedSubdividedGrids() {
+		DensityQuadtree model = DensityQuadtree.of(List.of(
+			new GridStateDto(null, 37.5, 127.0, 256, null, ScannedGrid.GridStatus.SUBDIVIDED, null, true)), THRESHOLD);
+
+		assertThat(model.size()).isZero();
+		assertThat(model.estimate(37.5, 127.0, 256, 120)).isEqualTo(30);
+		assertThat(model.predictsDense(37.5, 127.0, 256, 120)).isFalse();
+	}
+
+	@Test
+	@DisplayName("관측값이 없는 격자는 부모 격자 장소 수의 1/4로 추정하고, 여유 배수를 넘을 때만 밀집으로 판단해야 한다")
+	void predictsDense_estimatesFromParentWithMargin() {
+		DensityQuadtree model = DensityQuadtree.of(List.of(), THRESHOLD);
+
+		assertThat(model.estimate(37.5, 127.0, 256, 400)).isEqualTo(100);
+		assertThat(model.predictsDense(37.5, 127.0, 256, 400)).isTrue();
+		// 1/4 추정치(50)는 기준값보다 크지만 여유 배수(2배)를 넘지 않으므로 직접 탐색
+		assertThat(model.predictsDense(37.5, 127.0, 256, 200)).isFalse();
+		assertThat(model.predictsDense(37.5, 127.0, 256, null)).isFalse();
+		assertThat(model.estimate(37.5, 127.0, 256, null)).isNull();
+	}
+}
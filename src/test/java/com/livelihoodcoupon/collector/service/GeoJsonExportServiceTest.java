@@ -0,0 +1,79 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+
+class GeoJsonExportServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static GridStateDto cell(double lat, double lng, int radius, ScannedGrid.GridStatus status) {
+		return new GridStateDto(GridUtil.cellId(lat, lng, radius), lat, lng, radius, null, status);
+	}
+
+	private String write(List<GridStateDto> cells, int coordinateDecimals) throws IOException {
+		StringWriter out = new StringWriter();
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			long count = GeoJsonExportService.writeFeatureCollection(generator, cells.iterator(), "소비쿠폰",
+				coordinateDecimals);
+			assertThat(count).isEqualTo(cells.size());
+		}
+		return out.toString();
+	}
+
+	@Test
+	@DisplayName("스트리밍 출력은 기존 Map 기반 출력과 같은 FeatureCollection 구조여야 한다")
+	void writeFeatureCollection_matchesTreeStructure() throws IOException {
+		GridStateDto grid = cell(37.5729503, 126.9793578, 512, ScannedGrid.GridStatus.SUBDIVIDED);
+
+		JsonNode root = objectMapper.readTree(write(List.of(grid), -1));
+
+		assertThat(root.get("type").asText()).isEqualTo("FeatureCollection");
+		assertThat(root.get("features")).hasSize(1);
+		JsonNode feature = root.get("features").get(0);
+		assertThat(feature.get("type").asText()).isEqualTo("Feature");
+		assertThat(feature.at("/geometry/type").asText()).isEqualTo("Polygon");
+		assertThat(feature.at("/properties/radius").asInt()).isEqualTo(512);
+		assertThat(feature.at("/properties/status").asText()).isEqualTo("SUBDIVIDED");
+		assertThat(feature.at("/properties/keyword").asText()).isEqualTo("소비쿠폰");
+
+		JsonNode expected = objectMapper.valueToTree(Collections.singletonList(
+			GridUtil.createPolygonForCell(grid.getGridCenterLat(), grid.getGridCenterLng(), grid.getGridRadius())));
+		assertThat(feature.at("/geometry/coordinates")).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("좌표 자릿수를 지정하면 좌표를 해당 자릿수로 반올림해야 한다")
+	void writeFeatureCollection_roundsCoordinates() throws IOException {
+		JsonNode root = objectMapper.readTree(
+			write(List.of(cell(37.5729503, 126.9793578, 512, ScannedGrid.GridStatus.COMPLETED)), 5));
+
+		JsonNode ring = root.at("/features/0/geometry/coordinates/0");
+		assertThat(ring).hasSize(5);
+		for (JsonNode point : ring) {
+			for (JsonNode value : point) {
+				String text = value.asText();
+				assertThat(text.length() - text.indexOf('.') - 1).isLessThanOrEqualTo(5);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("격자가 없으면 빈 features 배열을 출력해야 한다")
+	void writeFeatureCollection_empty() throws IOException {
+		assertThat(write(List.of(), -1)).isEqualTo("{\"type\":\"FeatureCollection\",\"features\":[]}");
+	}
+}
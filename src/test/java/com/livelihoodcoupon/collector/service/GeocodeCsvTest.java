@@ -0,0 +1,115 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GeocodeCsvTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock(Instant.parse("2025-01-31T23:59:00Z"));
+	private GeocodeCsv geocodeCsv;
+
+	@AfterEach
+	void tearDown() {
+		if (geocodeCsv != null) {
+			geocodeCsv.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("이벤트는 flush 전까지 파일에 쓰지 않고, flush하면 헤더 한 줄과 함께 기록해야 한다")
+	void flush_writesQueuedEvents() throws Exception {
+		geocodeCsv = new GeocodeCsv(tempDir, 100, meterRegistry, clock);
+
+		geocodeCsv.ok(1L, "서울 \"종로\"", 37.5, 126.9, 1.0, "kakao");
+		geocodeCsv.noMatch(2L, "없는 주소", "no_result");
+		assertThat(geocodeCsv.pendingCount()).isEqualTo(2);
+		assertThat(meterRegistry.get("geocode.csv.queue.depth").gauge().value()).isEqualTo(2.0);
+		assertThat(tempDir.resolve("events-202501.csv")).doesNotExist();
+
+		geocodeCsv.flush();
+		geocodeCsv.error(3L, "오류 주소", "timeout");
+		geocodeCsv.flush();
+
+		List<String> lines = Files.readAllLines(tempDir.resolve("events-202501.csv"), StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(4);
+		assertThat(lines.get(0)).startsWith("event_id,parking_lot_id,address");
+		assertThat(lines.get(1)).contains(",1,\"서울 \"\"종로\"\"\",37.500000,126.900000,1.00,\"kakao\",\"OK\",\"\",");
+		assertThat(lines.get(2)).contains(",2,\"없는 주소\",,,0.00,\"kakao\",\"NO_MATCH\",\"no_result\",");
+		assertThat(lines.get(3)).contains(",3,\"오류 주소\",,,0.00,\"kakao\",\"ERROR\",\"timeout\",");
+		assertThat(geocodeCsv.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("이벤트 시각의 월이 바뀌면 새 월 파일에 기록해야 한다")
+	void flush_rotatesFileByMonth() throws Exception {
+		geocodeCsv = new GeocodeCsv(tempDir, 100, meterRegistry, clock);
+
+		geocodeCsv.ok(1L, "주소 A", 37.5, 126.9, 1.0, "kakao");
+		clock.instant = Instant.parse("2025-02-01T00:01:00Z");
+		geocodeCsv.ok(2L, "주소 B", 37.6, 127.0, 1.0, "kakao");
+		geocodeCsv.flush();
+
+		assertThat(Files.readAllLines(tempDir.resolve("events-202501.csv"))).hasSize(2);
+		List<String> february = Files.readAllLines(tempDir.resolve("events-202502.csv"));
+		assertThat(february).hasSize(2);
+		assertThat(february.get(1)).contains("\"주소 B\"");
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 새 이벤트를 버리고 버린 수를 집계해야 한다")
+	void enqueue_dropsEventsWhenFull() throws Exception {
+		geocodeCsv = new GeocodeCsv(tempDir, 2, meterRegistry, clock);
+
+		for (long id = 1; id <= 5; id++) {
+			geocodeCsv.noMatch(id, "주소", "no_result");
+		}
+
+		assertThat(geocodeCsv.pendingCount()).isEqualTo(2);
+		assertThat(meterRegistry.get("geocode.csv.events.dropped").counter().count()).isEqualTo(3.0);
+
+		geocodeCsv.flush();
+		assertThat(Files.readAllLines(tempDir.resolve("events-202501.csv"))).hasSize(3);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.livelihoodcoupon.common.config.CollectorProperties;
+import com.livelihoodcoupon.common.dto.Coordinate;
+import com.livelihoodcoupon.common.service.KakaoApiService;
+import com.livelihoodcoupon.parkinglot.repository.ParkingLotRepository;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodeServiceTest {
+
+	@Mock
+	private ParkingLotRepository parkingLotRepository;
+	@Mock
+	private KakaoApiService kakaoApiService;
+	@Mock
+	private GeocodeCsv geocodeCsv;
+	@Mock
+	private GeocodeCache geocodeCache;
+	@Mock
+	private ParkingLotLocationWriter locationWriter;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Captor
+	private ArgumentCaptor<Map<Long, Coordinate>> locationsCaptor;
+
+	private CollectorProperties collectorProperties;
+	private GeocodeService geocodeService;
+
+	@BeforeEach
+	void setUp() {
+		collectorProperties = new CollectorProperties();
+		geocodeService = new GeocodeService(parkingLotRepository, kakaoApiService, geocodeCsv, geocodeCache,
+			locationWriter, collectorProperties, transactionManager);
+	}
+
+	@Test
+	@DisplayName("같은 주소를 가진 주차장은 주소를 한 번만 검색하고 한 번의 배치로 저장해야 한다")
+	void backfill_geocodesSharedAddressOnce() {
+		when(parkingLotRepository.findTargets(0L, 3)).thenReturn(List.of(
+			target(1L, "서울 종로구 세종로 1", null),
+			target(2L, " 서울 종로구 세종로 1 ", null),
+			target(3L, "서울 종로구 세종로 1", "세종대로 175")));
+		when(geocodeCache.getAll(anyCollection())).thenReturn(Map.of());
+		AtomicInteger calls = new AtomicInteger();
+		when(kakaoApiService.geocodeAddress("서울 종로구 세종로 1")).thenReturn(Mono.fromCallable(() -> {
+			calls.incrementAndGet();
+			return coordinate(37.57, 126.97);
+		}));
+
+		assertThat(geocodeService.backfill(3)).isEqualTo(3);
+
+		assertThat(calls).hasValue(1);
+		verify(kakaoApiService, never()).geocodeAddress("세종대로 175");
+		verify(geocodeCache).putAll(Map.of("서울 종로구 세종로 1", Optional.of(coordinate(37.57, 126.97))));
+		verify(locationWriter).updateLocations(Map.of(
+			1L, coordinate(37.57, 126.97), 2L, coordinate(37.57, 126.97), 3L, coordinate(37.57, 126.97)));
+		verify(transactionManager).commit(any());
+	}
+
+	@Test
+	@DisplayName("캐시된 무매칭 지번 주소는 다시 검색하지 않고 도로명 주소로 변환해야 한다")
+	void backfill_fallsBackToRoadAddressUsingCache() {
+		when(parkingLotRepository.findTargets(0L, 1)).thenReturn(List.of(target(1L, "없는 지번", "세종대로 175")));
+		when(geocodeCache.getAll(anyCollection())).thenAnswer(invocation -> {
+			Collection<?> addresses = invocation.getArgument(0);
+			return addresses.contains("없는 지번") ? Map.of("없는 지번", Optional.<Coordinate>empty()) : Map.of();
+		});
+		when(kakaoApiService.geocodeAddress("세종대로 175")).thenReturn(Mono.just(coordinate(37.5, 127.0)));
+
+		assertThat(geocodeService.backfill(1)).isEqualTo(1);
+
+		verify(kakaoApiService, never()).geocodeAddress("없는 지번");
+		verify(locationWriter).updateLocations(Map.of(1L, coordinate(37.5, 127.0)));
+		verify(geocodeCsv).ok(1L, "세종대로 175", 37.5, 127.0, 1.00, "kakao");
+	}
+
+	@Test
+	@DisplayName("호출 실패는 캐시에 저장하지 않고 오류로 기록하며, 무매칭은 캐시에 저장해야 한다")
+	void backfill_doesNotCacheFailures() {
+		when(parkingLotRepository.findTargets(0L, 2)).thenReturn(List.of(
+			target(1L, "오류 주소", null),
+			target(2L, "무매칭 주소", null)));
+		when(geocodeCache.getAll(anyCollection())).thenReturn(Map.of());
+		when(kakaoApiService.geocodeAddress("오류 주소")).thenReturn(Mono.error(new RuntimeException("429")));
+		when(kakaoApiService.geocodeAddress("무매칭 주소")).thenReturn(Mono.empty());
+
+		assertThat(geocodeService.backfill(2)).isZero();
+
+		verify(geocodeCache).putAll(Map.of("무매칭 주소", Optional.empty()));
+		verify(geocodeCsv).error(1L, "오류 주소", "429");
+		verify(geocodeCsv).noMatch(2L, "무매칭 주소", "no_result");
+	}
+
+	@Test
+	@DisplayName("대상을 청크 크기만큼 id 순으로 나누어 읽고 청크마다 커밋해야 한다")
+	void backfill_commitsPerChunk() {
+		collectorProperties.getGeocode().setChunkSize(2);
+		when(parkingLotRepository.findTargets(0L, 2)).thenReturn(List.of(
+			target(10L, "주소 A", null),
+			target(11L, "주소 B", null)));
+		when(parkingLotRepository.findTargets(11L, 1)).thenReturn(List.of(target(20L, "주소 A", null)));
+		when(geocodeCache.getAll(anyCollection())).thenReturn(Map.of())
+			.thenReturn(Map.of("주소 A", Optional.of(coordinate(35.0, 129.0))));
+		when(kakaoApiService.geocodeAddress("주소 A")).thenReturn(Mono.just(coordinate(35.0, 129.0)));
+		when(kakaoApiService.geocodeAddress("주소 B")).thenReturn(Mono.just(coordinate(35.1, 129.1)));
+
+		assertThat(geocodeService.backfill(3)).isEqualTo(3);
+
+		verify(locationWriter, times(2)).updateLocations(locationsCaptor.capture());
+		assertThat(locationsCaptor.getAllValues().get(0)).containsOnlyKeys(10L, 11L);
+		assertThat(locationsCaptor.getAllValues().get(1)).containsOnlyKeys(20L);
+		verify(transactionManager, times(2)).commit(any());
+		verify(kakaoApiService, times(1)).geocodeAddress("주소 A");
+	}
+
+	private static Coordinate coordinate(double lat, double lng) {
+		return Coordinate.builder().lat(lat).lng(lng).build();
+	}
+
+	private static ParkingLotRepository.ToGeocode target(long id, String lotAddress, String roadAddress) {
+		return new ParkingLotRepository.ToGeocode() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getLotAddress() {
+				return lotAddress;
+			}
+
+			@Override
+			public String getRoadAddress() {
+				return roadAddress;
+			}
+		};
+	}
+}
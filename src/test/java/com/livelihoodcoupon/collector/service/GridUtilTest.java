@@ -0,0 +1,98 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GridUtilTest {
+
+	@Test
+	@DisplayName("같은 격자는 미세한 부동소수점 오차가 있어도 같은 식별자를 가져야 한다")
+	void cellId_isStableAcrossFloatingPointDrift() {
+		long cellId = GridUtil.cellId(37.5665, 126.9780, 512);
+
+		assertThat(GridUtil.cellId(37.5665 + 1e-12, 126.9780 - 1e-12, 512)).isEqualTo(cellId);
+	}
+
+	@Test
+	@DisplayName("좌표나 반경이 다르면 다른 식별자를 가져야 한다")
+	void cellId_differsForDifferentCells() {
+		long cellId = GridUtil.cellId(37.5665, 126.9780, 512);
+
+		// 가장 작은 격자(반경 1m)의 간격인 2m 정도 떨어진 격자
+		assertThat(GridUtil.cellId(37.5665 + 2 * GridUtil.DEGREE_PER_METER, 126.9780, 512)).isNotEqualTo(cellId);
+		assertThat(GridUtil.cellId(37.5665, 126.9780 + 2 * GridUtil.DEGREE_PER_METER, 512)).isNotEqualTo(cellId);
+		assertThat(GridUtil.cellId(37.5665, 126.9780, 256)).isNotEqualTo(cellId);
+	}
+
+	@Test
+	@DisplayName("식별자는 항상 양수이며 반경을 복원할 수 있어야 한다")
+	void cellId_isPositiveAndEncodesRadius() {
+		for (int radius = 1; radius <= 512; radius *= 2) {
+			long cellId = GridUtil.cellId(39.9, 131.9, radius);
+
+			assertThat(cellId).isPositive();
+			assertThat(GridUtil.radiusOfCellId(cellId)).isEqualTo(radius);
+		}
+	}
+
+	@Test
+	@DisplayName("사각형 폴리곤은 경계 상자 기반 격자 중 내부에 있는 격자와 같은 격자를 생성해야 한다")
+	void streamGridForPolygon_matchesBoundingBoxGridForRectangle() {
+		List<List<Double>> square = List.of(
+			List.of(127.0, 37.0), List.of(127.1, 37.0), List.of(127.1, 37.1), List.of(127.0, 37.1), List.of(127.0, 37.0));
+
+		List<Long> expected = GridUtil.generateGridForBoundingBox(37.0, 37.1, 127.0, 127.1, 512).stream()
+			.filter(center -> !GridUtil.isPointNotInPolygon(center[0], center[1], square))
+			.map(center -> GridUtil.cellId(center[0], center[1], 512))
+			.toList();
+
+		assertThat(GridUtil.streamGridForPolygon(square, 512).map(center -> GridUtil.cellId(center[0], center[1], 512)))
+			.containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	@DisplayName("분할된 격자 폴리곤은 정확히 4개의 하위 격자로 나뉘어야 한다")
+	void streamGridForPolygon_splitsCellIntoFourChildren() {
+		List<List<Double>> cell = GridUtil.createPolygonForCell(37.5, 127.0, 512);
+
+		List<double[]> children = GridUtil.streamGridForPolygon(cell, 256).toList();
+
+		assertThat(children).hasSize(4);
+		assertThat(children).allSatisfy(
+			child -> assertThat(GridUtil.isPointNotInPolygon(child[0], child[1], cell)).isFalse());
+	}
+
+	@Test
+	@DisplayName("경계선이 지나가는 격자는 중심점이 폴리곤 밖에 있어도 포함하고, 겹치지 않는 격자는 제외해야 한다")
+	void streamGridForPolygon_includesBoundaryCellsAndSkipsOutsideCells() {
+		// 경계 상자의 대각선 아래쪽 절반만 덮는 삼각형
+		List<List<Double>> triangle = List.of(
+			List.of(127.0, 37.0), List.of(127.1, 37.0), List.of(127.1, 37.1), List.of(127.0, 37.0));
+
+		List<double[]> cells = GridUtil.streamGridForPolygon(triangle, 512).toList();
+		long bboxCellCount = GridUtil.generateGridForBoundingBox(37.0, 37.1, 127.0, 127.1, 512).size();
+
+		// 중심점이 밖에 있는 대각선 위의 격자도 포함됨
+		assertThat(cells).anySatisfy(
+			center -> assertThat(GridUtil.isPointNotInPolygon(center[0], center[1], triangle)).isTrue());
+		// 대각선 위쪽으로 완전히 벗어난 격자는 생성하지 않음
+		assertThat(cells).allSatisfy(center -> assertThat(
+			(center[0] - 37.0) - (center[1] - 127.0)).isLessThan(0.02));
+		assertThat(cells.size()).isLessThan((int)bboxCellCount);
+	}
+
+	@Test
+	@DisplayName("격자는 소비하는 만큼만 생성되고, 유효하지 않은 폴리곤은 빈 스트림을 반환해야 한다")
+	void streamGridForPolygon_isLazyAndHandlesEmptyPolygon() {
+		List<List<Double>> square = List.of(
+			List.of(127.0, 37.0), List.of(127.1, 37.0), List.of(127.1, 37.1), List.of(127.0, 37.1));
+
+		assertThat(GridUtil.streamGridForPolygon(square, 1).limit(3)).hasSize(3);
+		assertThat(GridUtil.streamGridForPolygon(List.of(), 512)).isEmpty();
+		assertThat(GridUtil.streamGridForPolygon(null, 512)).isEmpty();
+	}
+}
@@ -0,0 +1,68 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.livelihoodcoupon.collector.repository.CollectorPlaceRepository;
+import com.livelihoodcoupon.common.config.CollectorProperties;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceDedupServiceTest {
+
+	@Mock
+	private CollectorPlaceRepository collectorPlaceRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private PlaceDedupService placeDedupService;
+
+	@BeforeEach
+	void setUp() {
+		CollectorProperties collectorProperties = new CollectorProperties();
+		collectorProperties.setDedupExpectedPlaces(10_000);
+		placeDedupService = new PlaceDedupService(collectorPlaceRepository, collectorProperties, transactionManager);
+	}
+
+	@Test
+	@DisplayName("필터에 없는 장소는 DB 조회 없이 처음 발견한 장소로 등록해야 한다")
+	void registerAll_skipsDatabaseForNewPlaces() {
+		when(collectorPlaceRepository.streamAllPlaceIds()).thenReturn(Stream.empty());
+
+		assertThat(placeDedupService.registerAll(List.of("100", "200"))).containsExactlyInAnyOrder("100", "200");
+
+		verify(collectorPlaceRepository, never()).findExistingPlaceIds(anyCollection());
+	}
+
+	@Test
+	@DisplayName("DB에 저장된 장소는 필터가 있다고 답한 장소만 DB에서 확인하여 제외해야 한다")
+	void registerAll_confirmsPositivesWithDatabase() {
+		when(collectorPlaceRepository.streamAllPlaceIds()).thenReturn(Stream.of("100", "200"));
+		when(collectorPlaceRepository.findExistingPlaceIds(List.of("100"))).thenReturn(List.of("100"));
+
+		assertThat(placeDedupService.registerAll(List.of("100", "300"))).containsExactly("300");
+
+		verify(collectorPlaceRepository).findExistingPlaceIds(List.of("100"));
+		verify(collectorPlaceRepository, times(1)).streamAllPlaceIds();
+	}
+
+	@Test
+	@DisplayName("필터에는 있지만 DB에 없는 장소(오탐)는 처음 발견한 장소로 등록해야 한다")
+	void registerAll_registersFalsePositives() {
+		when(collectorPlaceRepository.streamAllPlaceIds()).thenReturn(Stream.of("100"));
+		when(collectorPlaceRepository.findExistingPlaceIds(List.of("100"))).thenReturn(List.of());
+
+		assertThat(placeDedupService.register("100")).isTrue();
+	}
+}
@@ -0,0 +1,183 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.MultiResourceItemReader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.livelihoodcoupon.batch.PlaceCsvDto;
+import com.livelihoodcoupon.batch.PlaceFileItemReader;
+import com.livelihoodcoupon.batch.PlaceSnapshotItemReader;
+import com.livelihoodcoupon.collector.entity.PlaceEntity;
+
+class PlaceSnapshotWriterTest {
+
+	@TempDir
+	Path tempDir;
+
+	private static PlaceEntity place(int i) {
+		return PlaceEntity.builder()
+			.placeId(String.valueOf(1000 + i))
+			.region(i % 2 == 0 ? "서울특별시 종로구" : "부산광역시 해운대구")
+			.placeName("가게 \"" + i + "\"")
+			.roadAddress("서울 종로구 세종대로 " + i)
+			.lotAddress(i % 3 == 0 ? null : "서울 종로구 세종로 " + i)
+			.lat(37.5 + i * 1e-6)
+			.lng(126.9 + i * 1e-6)
+			.phone(null)
+			.category("음식점 > 한식")
+			.keyword("소비쿠폰")
+			.categoryGroupCode("FD6")
+			.categoryGroupName("음식점")
+			.placeUrl("http://place.map.kakao.com/" + i)
+			.build();
+	}
+
+	private List<PlaceCsvDto> readAll(Path file) throws Exception {
+		PlaceSnapshotItemReader reader = new PlaceSnapshotItemReader();
+		reader.setResource(new FileSystemResource(file));
+		reader.open(new ExecutionContext());
+		List<PlaceCsvDto> rows = new ArrayList<>();
+		try {
+			PlaceCsvDto row;
+			while ((row = reader.read()) != null) {
+				rows.add(row);
+			}
+		} finally {
+			reader.close();
+		}
+		return rows;
+	}
+
+	@Test
+	@DisplayName("여러 블록에 걸쳐 저장한 장소를 리더가 같은 값으로 복원해야 한다")
+	void roundTrip_acrossBlocks() throws Exception {
+		Path file = tempDir.resolve("places" + PlaceSnapshotWriter.EXTENSION);
+		int count = PlaceSnapshotWriter.BLOCK_ROWS * 2 + 17;
+		try (PlaceSnapshotWriter writer = PlaceSnapshotWriter.open(file)) {
+			for (int i = 0; i < count; i++) {
+				writer.write(place(i));
+			}
+			assertThat(writer.getRowCount()).isEqualTo(count);
+		}
+
+		List<PlaceCsvDto> rows = readAll(file);
+
+		assertThat(rows).hasSize(count);
+		for (int i = 0; i < count; i += 997) {
+			PlaceEntity expected = place(i);
+			PlaceCsvDto actual = rows.get(i);
+			assertThat(actual.getPlaceId()).isEqualTo(expected.getPlaceId());
+			assertThat(actual.getRegion()).isEqualTo(expected.getRegion());
+			assertThat(actual.getPlaceName()).isEqualTo(expected.getPlaceName());
+			assertThat(actual.getRoadAddress()).isEqualTo(expected.getRoadAddress());
+			assertThat(actual.getLotAddress()).isEqualTo(expected.getLotAddress());
+			assertThat(actual.getLat()).isEqualTo(expected.getLat());
+			assertThat(actual.getLng()).isEqualTo(expected.getLng());
+			assertThat(actual.getPhone()).isNull();
+			assertThat(actual.getCategoryName()).isEqualTo(expected.getCategory());
+			assertThat(actual.getKeyword()).isEqualTo(expected.getKeyword());
+			assertThat(actual.getCategoryGroupCode()).isEqualTo(expected.getCategoryGroupCode());
+			assertThat(actual.getCategoryGroupName()).isEqualTo(expected.getCategoryGroupName());
+			assertThat(actual.getPlaceUrl()).isEqualTo(expected.getPlaceUrl());
+		}
+		// 사전 컬럼은 파일 안에서 같은 문자열 인스턴스를 공유
+		assertThat(rows.get(0).getCategoryName()).isSameAs(rows.get(count - 1).getCategoryName());
+	}
+
+	@Test
+	@DisplayName("장소가 없는 스냅샷은 바로 읽기를 끝내야 한다")
+	void roundTrip_empty() throws Exception {
+		Path file = tempDir.resolve("empty" + PlaceSnapshotWriter.EXTENSION);
+		new PlaceSnapshotWriter(Files.newOutputStream(file)).close();
+
+		assertThat(readAll(file)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("스냅샷 형식이 아닌 파일은 열 때 실패해야 한다")
+	void open_rejectsOtherFormats() throws IOException {
+		Path file = tempDir.resolve("places.csv");
+		Files.writeString(file, "placeId,region\n\"1\",\"서울\"\n");
+		PlaceSnapshotItemReader reader = new PlaceSnapshotItemReader();
+		reader.setResource(new FileSystemResource(file));
+
+		assertThatThrownBy(() -> reader.open(new ExecutionContext()))
+			.isInstanceOf(ItemStreamException.class);
+	}
+
+	@Test
+	@DisplayName("지역마다 수정 시각과 관계없이 스냅샷을 고르고, 스냅샷이 없는 CSV도 포함해야 한다")
+	void resolvePlaceResources_prefersSnapshotPerRegion() throws Exception {
+		Instant now = Instant.now();
+		touch("a_places_data.csv", now.minusSeconds(60));
+		touch("a_places_data" + PlaceSnapshotWriter.EXTENSION, now);
+		touch("b_places_data.csv", now);
+		touch("b_places_data" + PlaceSnapshotWriter.EXTENSION, now.minusSeconds(60));
+		touch("c_places_data.csv", now);
+
+		Resource[] resources = PlaceSnapshotItemReader.resolvePlaceResources(new PathMatchingResourcePatternResolver(),
+			tempDir.toString());
+
+		assertThat(resources).extracting(Resource::getFilename).containsExactly(
+			"a_places_data" + PlaceSnapshotWriter.EXTENSION, "b_places_data" + PlaceSnapshotWriter.EXTENSION,
+			"c_places_data.csv");
+	}
+
+	@Test
+	@DisplayName("스냅샷과 CSV가 섞인 파일 목록을 파일마다 맞는 리더로 읽어야 한다")
+	void placeFileItemReader_readsMixedResources() throws Exception {
+		Path snapshot = tempDir.resolve("a_places_data" + PlaceSnapshotWriter.EXTENSION);
+		try (PlaceSnapshotWriter writer = PlaceSnapshotWriter.open(snapshot)) {
+			writer.write(place(1));
+		}
+		Path csv = tempDir.resolve("b_places_data.csv");
+		Files.writeString(csv, "placeId,region\n2000,서울특별시 종로구\n");
+
+		FlatFileItemReader<PlaceCsvDto> csvReader = new FlatFileItemReader<>();
+		csvReader.setLinesToSkip(1);
+		csvReader.setLineMapper((line, lineNumber) -> {
+			PlaceCsvDto dto = new PlaceCsvDto();
+			dto.setPlaceId(line.split(",")[0]);
+			return dto;
+		});
+		MultiResourceItemReader<PlaceCsvDto> reader = new MultiResourceItemReader<>();
+		reader.setResources(new Resource[] {new FileSystemResource(snapshot), new FileSystemResource(csv)});
+		reader.setDelegate(new PlaceFileItemReader(csvReader));
+
+		List<String> placeIds = new ArrayList<>();
+		reader.open(new ExecutionContext());
+		try {
+			PlaceCsvDto row;
+			while ((row = reader.read()) != null) {
+				placeIds.add(row.getPlaceId());
+			}
+		} finally {
+			reader.close();
+		}
+
+		assertThat(placeIds).containsExactly("1001", "2000");
+	}
+
+	private void touch(String filename, Instant modified) throws IOException {
+		Path file = tempDir.resolve(filename);
+		Files.writeString(file, "");
+		Files.setLastModifiedTime(file, FileTime.from(modified));
+	}
+}
@@ -0,0 +1,66 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PreparedPolygonTest {
+
+	/**
+	 * 중심 (127.0, 37.0) 주변에 반지름이 들쭉날쭉한 닫힌 링을 만듭니다. (오목한 부분이 많은 경계 모사)
+	 */
+	private List<List<Double>> jaggedRing(int vertexCount, long seed) {
+		Random random = new Random(seed);
+		List<List<Double>> ring = new ArrayList<>();
+		for (int i = 0; i < vertexCount; i++) {
+			double angle = 2 * Math.PI * i / vertexCount;
+			double r = 0.05 + random.nextDouble() * 0.05;
+			ring.add(List.of(127.0 + r * Math.cos(angle), 37.0 + r * Math.sin(angle)));
+		}
+		ring.add(ring.get(0));
+		return ring;
+	}
+
+	@Test
+	@DisplayName("전처리된 폴리곤의 포함 판정은 기존 ray casting 결과와 같아야 한다")
+	void contains_matchesListBasedRayCasting() {
+		List<List<Double>> ring = jaggedRing(2000, 42L);
+		PreparedPolygon prepared = PreparedPolygon.of(ring);
+		Random random = new Random(7L);
+
+		for (int i = 0; i < 20_000; i++) {
+			double lat = 36.88 + random.nextDouble() * 0.24;
+			double lng = 126.88 + random.nextDouble() * 0.24;
+
+			assertThat(prepared.excludes(lat, lng))
+				.as("(%f, %f)", lat, lng)
+				.isEqualTo(GridUtil.isPointNotInPolygon(lat, lng, ring));
+		}
+	}
+
+	@Test
+	@DisplayName("닫히지 않은 링도 마지막 변을 포함하여 판정해야 한다")
+	void contains_closesOpenRing() {
+		List<List<Double>> openSquare = List.of(
+			List.of(127.0, 37.0), List.of(127.1, 37.0), List.of(127.1, 37.1), List.of(127.0, 37.1));
+
+		PreparedPolygon prepared = PreparedPolygon.of(openSquare);
+
+		assertThat(prepared.contains(37.05, 127.05)).isTrue();
+		assertThat(prepared.contains(37.05, 127.15)).isFalse();
+	}
+
+	@Test
+	@DisplayName("경계 상자 밖의 점과 빈 폴리곤은 항상 외부로 판정해야 한다")
+	void contains_rejectsOutsideBoundingBoxAndEmptyRing() {
+		PreparedPolygon prepared = PreparedPolygon.of(jaggedRing(100, 1L));
+
+		assertThat(prepared.contains(38.0, 127.0)).isFalse();
+		assertThat(PreparedPolygon.of(List.of()).contains(37.0, 127.0)).isFalse();
+	}
+}
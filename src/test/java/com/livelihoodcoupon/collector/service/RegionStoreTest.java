@@ -0,0 +1,121 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.livelihoodcoupon.collector.vo.RegionData;
+
+class RegionStoreTest {
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+	private static RegionStore regionStore;
+
+	@BeforeAll
+	static void setUp() {
+		regionStore = new RegionStore(new RegionLoader(objectMapper));
+	}
+
+	@Test
+	@DisplayName("이름으로 지역을 찾을 때 대소문자와 앞뒤 공백을 무시해야 한다")
+	void findByName_ignoresCaseAndSurroundingSpaces() {
+		assertThat(regionStore.getBoundaries()).hasSize(249);
+		assertThat(regionStore.findByName(" 서울특별시 종로구 ")).get()
+			.extracting(RegionData::getName)
+			.isEqualTo("서울특별시 종로구");
+		assertThat(regionStore.findByName("없는 지역")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("좌표가 속한 시군구를 찾고, 경계 밖 좌표는 빈 값을 반환해야 한다")
+	void findRegionAt_resolvesKnownPoints() {
+		assertThat(regionStore.findRegionAt(37.5729503, 126.9793578)).get()
+			.extracting(RegionBoundary::getName).isEqualTo("서울특별시 종로구");
+		assertThat(regionStore.findRegionAt(35.1798, 129.0750)).get()
+			.extracting(RegionBoundary::getName).isEqualTo("부산광역시 연제구");
+
+		RegionBoundary suwon = regionStore.findRegionAt(37.2636, 127.0286).orElseThrow();
+		assertThat(suwon.getSidoName()).isEqualTo("경기도");
+		assertThat(suwon.getSigName()).isEqualTo("수원시 팔달구");
+		assertThat(suwon.getCode()).isEqualTo("41115");
+
+		assertThat(regionStore.findRegionAt(36.0, 124.0)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("지역 데이터의 좌표는 sig.json의 좌표와 같아야 한다")
+	void getRegions_matchesSourceCoordinates() throws Exception {
+		JsonNode features;
+		try (InputStream is = getClass().getResourceAsStream("/sig.json")) {
+			features = objectMapper.readTree(is).path("features");
+		}
+		List<RegionData> regions = regionStore.getRegions();
+
+		assertThat(regions).hasSize(features.size());
+		for (int i = 0; i < regions.size(); i++) {
+			JsonNode geometry = features.get(i).path("geometry");
+			JsonNode expected = "Polygon".equals(geometry.path("type").asText())
+				? objectMapper.createArrayNode().add(geometry.path("coordinates"))
+				: geometry.path("coordinates");
+			assertThat(objectMapper.valueToTree(regions.get(i).getPolygons()).equals(expected))
+				.as(regions.get(i).getName())
+				.isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("전처리된 외곽 링은 지역 데이터의 외곽 링과 같은 순서와 좌표여야 한다")
+	void getOuterRings_matchesRegionDataRings() {
+		for (RegionBoundary boundary : regionStore.getBoundaries()) {
+			List<List<List<Double>>> expected = CouponDataCollector.outerRings(
+				boundary.toRegionData().getPolygons());
+
+			assertThat(boundary.getOuterRings()).as(boundary.getName()).hasSameSizeAs(expected);
+			for (int i = 0; i < expected.size(); i++) {
+				assertThat(boundary.getOuterRings().get(i).toRing()).as(boundary.getName()).isEqualTo(expected.get(i));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("R-트리 점 질의는 모든 상자를 확인한 결과와 같아야 한다")
+	void rTree_matchesBruteForce() {
+		Random random = new Random(42L);
+		List<GridUtil.BoundingBox> boxes = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			double lat = 33 + random.nextDouble() * 5;
+			double lng = 125 + random.nextDouble() * 5;
+			boxes.add(new GridUtil.BoundingBox(lat, lat + random.nextDouble() * 0.5, lng,
+				lng + random.nextDouble() * 0.5));
+		}
+		BoundingBoxRTree tree = new BoundingBoxRTree(boxes);
+
+		for (int q = 0; q < 2_000; q++) {
+			double lat = 33 + random.nextDouble() * 5.5;
+			double lng = 125 + random.nextDouble() * 5.5;
+			Set<Integer> expected = new HashSet<>();
+			for (int i = 0; i < boxes.size(); i++) {
+				GridUtil.BoundingBox box = boxes.get(i);
+				if (lat >= box.getLatStart() && lat <= box.getLatEnd()
+					&& lng >= box.getLngStart() && lng <= box.getLngEnd()) {
+					expected.add(i);
+				}
+			}
+			Set<Integer> actual = new HashSet<>();
+			tree.visitContaining(lat, lng, actual::add);
+
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+}
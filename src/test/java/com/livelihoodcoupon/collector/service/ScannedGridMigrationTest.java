@@ -0,0 +1,94 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.livelihoodcoupon.collector.dto.ScannedGridMigrationResult;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+import com.livelihoodcoupon.common.test.BaseIntegrationTest;
+import com.livelihoodcoupon.search.service.ElasticService;
+
+import kr.co.shineware.nlp.komoran.core.Komoran;
+
+class ScannedGridMigrationTest extends BaseIntegrationTest {
+
+	private static final String REGION = "테스트지역";
+	private static final String KEYWORD = "소비쿠폰";
+
+	@MockitoBean
+	private Komoran komoran;
+	@MockitoBean
+	private ElasticService elasticService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ScannedGridMigration scannedGridMigration;
+
+	/** 테스트 트랜잭션 안에서 유니크 제약이 없던 이전 스키마로 되돌림 (테스트가 끝나면 롤백) */
+	@BeforeEach
+	void setUpLegacySchema() {
+		jdbcTemplate.execute("ALTER TABLE scanned_grid DROP CONSTRAINT " + ScannedGrid.UNIQUE_CELL_CONSTRAINT);
+		jdbcTemplate.execute("ALTER TABLE scanned_grid ALTER COLUMN cell_id DROP NOT NULL");
+	}
+
+	private void insertLegacy(double lat, double lng, int radius, Integer totalCount, String status) {
+		jdbcTemplate.update("""
+			INSERT INTO scanned_grid (region_name, keyword, grid_center_lat, grid_center_lng, grid_radius, total_count,
+			                          status, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+			""", REGION, KEYWORD, lat, lng, radius, totalCount, status);
+	}
+
+	@Test
+	@DisplayName("격자 식별자가 없는 이전 행을 채우고 중복 행을 정리한 뒤 유니크 제약을 추가해야 한다")
+	void migrate_backfillsDedupesAndAddsConstraint() {
+		// 관측한 분할 격자를 예측만으로 다시 분할한 이전 행 (cell_id 없음)
+		insertLegacy(37.5, 127.0, 512, 2000, "SUBDIVIDED");
+		insertLegacy(37.5, 127.0, 512, null, "SUBDIVIDED");
+		insertLegacy(37.6, 127.1, 512, 10, "COMPLETED");
+
+		ScannedGridMigrationResult result = scannedGridMigration.migrate();
+
+		assertThat(result.getBackfilledRows()).isEqualTo(3);
+		assertThat(result.getRemovedDuplicates()).isEqualTo(1);
+		assertThat(result.isConstraintAdded()).isTrue();
+
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+			"SELECT cell_id, total_count FROM scanned_grid WHERE region_name = ? ORDER BY grid_center_lat", REGION);
+		assertThat(rows).hasSize(2);
+		assertThat(rows.get(0).get("cell_id")).isEqualTo(GridUtil.cellId(37.5, 127.0, 512));
+		assertThat(rows.get(0).get("total_count")).isEqualTo(2000);
+		assertThat(rows.get(1).get("cell_id")).isEqualTo(GridUtil.cellId(37.6, 127.1, 512));
+
+		// 추가한 제약으로 격자 상태 저장의 upsert가 동작해야 함
+		ScannedGridWriter writer = new ScannedGridWriter(jdbcTemplate);
+		writer.enqueue(ScannedGrid.builder().regionName(REGION).keyword(KEYWORD).gridCenterLat(37.6)
+			.gridCenterLng(127.1).gridRadius(512).totalCount(12).status(ScannedGrid.GridStatus.COMPLETED).build());
+		writer.flush();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scanned_grid WHERE region_name = ?",
+			Integer.class, REGION)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("이미 적용된 테이블에서 다시 실행하면 아무것도 바꾸지 않아야 한다")
+	void migrate_isIdempotent() {
+		insertLegacy(37.5, 127.0, 512, 2000, "SUBDIVIDED");
+		scannedGridMigration.migrate();
+
+		ScannedGridMigrationResult again = scannedGridMigration.migrate();
+
+		assertThat(again.getBackfilledRows()).isZero();
+		assertThat(again.getRemovedDuplicates()).isZero();
+		assertThat(again.isConstraintAdded()).isFalse();
+	}
+}
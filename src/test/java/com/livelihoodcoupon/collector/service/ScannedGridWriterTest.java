@@ -0,0 +1,95 @@
+package com.livelihoodcoupon.collector.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.livelihoodcoupon.collector.dto.GridStateDto;
+import com.livelihoodcoupon.collector.entity.ScannedGrid;
+import com.livelihoodcoupon.collector.repository.ScannedGridRepository;
+import com.livelihoodcoupon.common.test.BaseIntegrationTest;
+import com.livelihoodcoupon.search.service.ElasticService;
+
+import kr.co.shineware.nlp.komoran.core.Komoran;
+
+class ScannedGridWriterTest extends BaseIntegrationTest {
+
+	private static final String REGION = "테스트지역";
+	private static final String KEYWORD = "소비쿠폰";
+	private static final int THRESHOLD = 45;
+
+	@MockitoBean
+	private Komoran komoran;
+	@MockitoBean
+	private ElasticService elasticService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ScannedGridRepository scannedGridRepository;
+
+	/** 백그라운드 저장 스레드 없이 테스트 트랜잭션 안에서만 저장하도록 직접 생성 */
+	private ScannedGridWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		writer = new ScannedGridWriter(jdbcTemplate);
+	}
+
+	private static ScannedGrid.ScannedGridBuilder grid(ScannedGrid.GridStatus status) {
+		return ScannedGrid.builder().regionName(REGION).keyword(KEYWORD).gridCenterLat(37.5).gridCenterLng(127.0)
+			.gridRadius(512).status(status);
+	}
+
+	private void save(ScannedGrid grid) {
+		writer.enqueue(grid);
+		writer.flush();
+	}
+
+	@Test
+	@DisplayName("재수집에서 예측만으로 분할한 격자는 이전에 관측한 총 장소 수를 지우지 않아야 한다")
+	void upsert_keepsObservedCountWhenRecollectedByPrediction() {
+		// 첫 실행: 탐색 호출로 2000건을 관측한 밀집 격자
+		save(grid(ScannedGrid.GridStatus.SUBDIVIDED).totalCount(2000).build());
+		// 재수집: 관측값으로 밀집을 예측하여 탐색 호출 없이 분할
+		save(grid(ScannedGrid.GridStatus.SUBDIVIDED).estimated(true).build());
+
+		List<GridStateDto> states = scannedGridRepository.findGridStates(REGION, KEYWORD);
+
+		assertThat(states).singleElement().satisfies(state -> {
+			assertThat(state.getTotalCount()).isEqualTo(2000);
+			assertThat(state.getEstimated()).isFalse();
+		});
+		assertThat(DensityQuadtree.of(states, THRESHOLD).estimate(37.5, 127.0, 512, null)).isEqualTo(2000);
+	}
+
+	@Test
+	@DisplayName("다시 수집한 완료 격자는 새 관측값과 지문으로 기존 행을 갱신해야 한다")
+	void upsert_overwritesWithNewObservation() {
+		save(grid(ScannedGrid.GridStatus.COMPLETED).totalCount(10).fingerprint(1L).build());
+		save(grid(ScannedGrid.GridStatus.COMPLETED).totalCount(12).fingerprint(2L).build());
+
+		assertThat(scannedGridRepository.findGridStates(REGION, KEYWORD)).singleElement().satisfies(state -> {
+			assertThat(state.getTotalCount()).isEqualTo(12);
+			assertThat(state.getFingerprint()).isEqualTo(2L);
+		});
+	}
+
+	@Test
+	@DisplayName("예측만으로 분할한 격자는 밀집도 관측값으로 사용하지 않아야 한다")
+	void predictedGrid_isNotUsedAsObservation() {
+		save(grid(ScannedGrid.GridStatus.SUBDIVIDED).estimated(true).build());
+
+		List<GridStateDto> states = scannedGridRepository.findGridStates(REGION, KEYWORD);
+
+		assertThat(states).singleElement().satisfies(state -> assertThat(state.getEstimated()).isTrue());
+		assertThat(DensityQuadtree.of(states, THRESHOLD).size()).isZero();
+	}
+}
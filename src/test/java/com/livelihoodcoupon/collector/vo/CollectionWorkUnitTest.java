@@ -0,0 +1,49 @@
+package com.livelihoodcoupon.collector.vo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CollectionWorkUnitTest {
+
+	@Test
+	@DisplayName("작업 단위는 스트림 필드로 변환했다가 그대로 복원되어야 한다")
+	void fromFields_restoresUnit() {
+		CollectionWorkUnit unit = CollectionWorkUnit.builder()
+			.type(CollectionWorkUnit.Type.CELL)
+			.regionName("서울특별시 종로구")
+			.keyword("소비쿠폰")
+			.lat(37.573050123456789)
+			.lng(126.979189987654321)
+			.cellRadius(256)
+			.scanRadius(128)
+			.parentTotalCount(320)
+			.depth(2)
+			.build();
+
+		CollectionWorkUnit restored = CollectionWorkUnit.fromFields(unit.toFields());
+
+		assertThat(restored).isEqualTo(unit);
+	}
+
+	@Test
+	@DisplayName("총 장소 수가 없는 작업 단위는 필드를 생략하고 null로 복원되어야 한다")
+	void toFields_omitsMissingParentTotalCount() {
+		CollectionWorkUnit unit = CollectionWorkUnit.builder()
+			.type(CollectionWorkUnit.Type.RING)
+			.regionName("서울특별시 종로구")
+			.keyword("소비쿠폰")
+			.ringIndex(1)
+			.scanRadius(512)
+			.build();
+
+		Map<String, String> fields = unit.toFields();
+
+		assertThat(fields).doesNotContainKey("parentTotalCount");
+		assertThat(CollectionWorkUnit.fromFields(fields).getParentTotalCount()).isNull();
+		assertThat(CollectionWorkUnit.fromFields(fields)).isEqualTo(unit);
+	}
+}
@@ -17,9 +17,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.livelihoodcoupon.common.config.KakaoRateLimitProperties;
 import com.livelihoodcoupon.common.dto.Coord2RegionCodeResponse;
 import com.livelihoodcoupon.common.dto.KakaoResponse;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import reactor.core.publisher.Mono;
 
 public class KakaoApiServiceTest {
@@ -32,9 +35,12 @@ public class KakaoApiServiceTest {
 	@InjectMocks
 	private KakaoApiService service;
 
+	private final KakaoRateLimiter rateLimiter = new KakaoRateLimiter(new KakaoRateLimitProperties(),
+		new SimpleMeterRegistry());
+
 	@BeforeEach
 	void setup() {
-		service = new KakaoApiService(apiKey);
+		service = new KakaoApiService(apiKey, rateLimiter);
 
 		// WebClient mock 생성
 		mapWebClient = Mockito.mock(WebClient.class);
@@ -49,7 +55,7 @@ public class KakaoApiServiceTest {
 		// given
 
 		// when
-		KakaoApiService service = new KakaoApiService(apiKey);
+		KakaoApiService service = new KakaoApiService(apiKey, rateLimiter);
 
 		// then
 		WebClient mapClient = (WebClient)ReflectionTestUtils.getField(service, "mapWebClient");
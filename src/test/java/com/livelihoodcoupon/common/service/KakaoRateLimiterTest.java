@@ -0,0 +1,88 @@
+package com.livelihoodcoupon.common.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.livelihoodcoupon.common.config.KakaoRateLimitProperties;
+import com.livelihoodcoupon.common.exception.KakaoApiException;
+import com.livelihoodcoupon.common.service.KakaoRateLimiter.Endpoint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class KakaoRateLimiterTest {
+
+	private KakaoRateLimiter rateLimiter;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		KakaoRateLimitProperties properties = new KakaoRateLimitProperties();
+		properties.setKeywordSearch(new KakaoRateLimitProperties.Bucket(10, 2));
+		properties.setThrottlePauseMs(500);
+		meterRegistry = new SimpleMeterRegistry();
+		rateLimiter = new KakaoRateLimiter(properties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("버킷 용량만큼은 대기 없이 호출할 수 있고, 그 이후에는 대기 시간이 발생해야 한다")
+	void reserve_whenBurstExhausted_returnsWaitTime() {
+		assertThat(rateLimiter.reserve(Endpoint.KEYWORD_SEARCH)).isEqualTo(Duration.ZERO);
+		assertThat(rateLimiter.reserve(Endpoint.KEYWORD_SEARCH)).isEqualTo(Duration.ZERO);
+
+		Duration wait = rateLimiter.reserve(Endpoint.KEYWORD_SEARCH);
+
+		// 초당 10개 발급이므로 다음 토큰까지 최대 100ms
+		assertThat(wait).isPositive().isLessThanOrEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	@DisplayName("엔드포인트별 버킷은 서로 독립적이어야 한다")
+	void reserve_bucketsAreIndependentPerEndpoint() {
+		rateLimiter.reserve(Endpoint.KEYWORD_SEARCH);
+		rateLimiter.reserve(Endpoint.KEYWORD_SEARCH);
+		rateLimiter.reserve(Endpoint.KEYWORD_SEARCH);
+
+		assertThat(rateLimiter.reserve(Endpoint.COORD2REGION)).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	@DisplayName("429 응답을 받으면 호출을 잠시 멈추고 속도를 낮춰야 한다")
+	void onTooManyRequests_pausesAndSlowsDown() {
+		rateLimiter.onTooManyRequests(Endpoint.KEYWORD_SEARCH);
+
+		assertThat(rateLimiter.reserve(Endpoint.KEYWORD_SEARCH)).isGreaterThan(Duration.ofMillis(400));
+		assertThat(meterRegistry.get("kakao.ratelimit.rate").tag("endpoint", "keyword_search").gauge().value())
+			.isEqualTo(5.0);
+		assertThat(meterRegistry.get("kakao.ratelimit.throttled").tag("endpoint", "keyword_search").counter()
+			.count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("limit()로 감싼 호출이 429로 실패하면 적응형 감속이 적용되어야 한다")
+	void limit_whenCallFailsWith429_throttlesEndpoint() {
+		KakaoApiException tooManyRequests = new KakaoApiException("429", HttpStatus.TOO_MANY_REQUESTS, "");
+
+		assertThatThrownBy(() -> rateLimiter.limit(Endpoint.KEYWORD_SEARCH, () -> Mono.error(tooManyRequests))
+			.block()).isSameAs(tooManyRequests);
+
+		assertThat(meterRegistry.get("kakao.ratelimit.throttled").tag("endpoint", "keyword_search").counter()
+			.count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("429 판별은 KakaoApiException 상태 코드를 기준으로 해야 한다")
+	void isTooManyRequests_checksStatusCode() {
+		assertThat(KakaoRateLimiter.isTooManyRequests(
+			new KakaoApiException("429", HttpStatus.TOO_MANY_REQUESTS, ""))).isTrue();
+		assertThat(KakaoRateLimiter.isTooManyRequests(
+			new KakaoApiException("500", HttpStatus.INTERNAL_SERVER_ERROR, ""))).isFalse();
+		assertThat(KakaoRateLimiter.isTooManyRequests(new RuntimeException())).isFalse();
+	}
+}
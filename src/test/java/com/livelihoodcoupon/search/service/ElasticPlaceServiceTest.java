@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -31,8 +33,12 @@ import co.elastic.clients.elasticsearch.core.GetRequest;
 import co.elastic.clients.elasticsearch.core.GetResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
 import co.elastic.clients.elasticsearch.core.search.TotalHits;
@@ -153,30 +159,60 @@ public class ElasticPlaceServiceTest {
 
 	@Test
 	@DisplayName("자동 완성 테스트 성공")
+	@SuppressWarnings("unchecked")
 	void autocompletePlaceNames() throws IOException {
 		// given
 		AutocompleteDto dto = new AutocompleteDto("강남");
-		PlaceDocument doc = new PlaceDocument();
-		doc.setRoadAddressSido("서울");
-		Hit<PlaceDocument> hit = new Hit.Builder<PlaceDocument>()
-			.index("places")
-			.id("1")
-			.source(doc)
-			.build();
-		HitsMetadata<PlaceDocument> metadata = new HitsMetadata.Builder<PlaceDocument>()
-			.hits(List.of(hit)).build();
-
-		when(mockResponse.hits()).thenReturn(metadata);
-		when(client.search(
-			ArgumentMatchers.<Function<SearchRequest.Builder, co.elastic.clients.util.ObjectBuilder<SearchRequest>>>any(),
-			eq(PlaceDocument.class)
-		)).thenReturn(mockResponse);
+		PlaceDocument sido = new PlaceDocument();
+		sido.setRoadAddressSido("서울");
+		PlaceDocument sigungu = new PlaceDocument();
+		sigungu.setRoadAddressSigungu("강남구");
+		PlaceDocument placeName = new PlaceDocument();
+		placeName.setPlaceName("서울"); // 앞선 필드와 중복
+
+		List<MultiSearchResponseItem<PlaceDocument>> items = new ArrayList<>();
+		items.add(resultItem(sido));
+		items.add(resultItem(sigungu));
+		items.add(failureItem()); // 실패한 필드는 건너뜀
+		for (int i = 0; i < 4; i++) {
+			items.add(resultItem());
+		}
+		items.add(resultItem(placeName));
+		MsearchResponse<PlaceDocument> msearchResponse = mock(MsearchResponse.class);
+		when(msearchResponse.responses()).thenReturn(items);
+		ArgumentCaptor<MsearchRequest> requestCaptor = ArgumentCaptor.forClass(MsearchRequest.class);
+		when(client.msearch(requestCaptor.capture(), eq(PlaceDocument.class))).thenReturn(msearchResponse);
 
 		// when
 		List<AutocompleteResponseDto> results = service.autocompletePlaceNames(dto, 5);
 
 		// then
-		assertThat(results.get(0).getWord()).isEqualTo("서울");
+		// 필드 8개를 한 번의 _msearch로 검색
+		verify(client, times(1)).msearch(any(MsearchRequest.class), eq(PlaceDocument.class));
+		assertThat(requestCaptor.getValue().searches()).hasSize(8);
+		assertThat(results).extracting(AutocompleteResponseDto::getWord).containsExactly("서울", "강남구");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static MultiSearchResponseItem<PlaceDocument> resultItem(PlaceDocument... docs) {
+		List<Hit<PlaceDocument>> hits = new ArrayList<>();
+		for (int i = 0; i < docs.length; i++) {
+			hits.add(new Hit.Builder<PlaceDocument>().index("places").id(String.valueOf(i)).source(docs[i]).build());
+		}
+		MultiSearchItem<PlaceDocument> result = mock(MultiSearchItem.class);
+		when(result.hits()).thenReturn(new HitsMetadata.Builder<PlaceDocument>().hits(hits).build());
+		MultiSearchResponseItem<PlaceDocument> item = mock(MultiSearchResponseItem.class);
+		when(item.isFailure()).thenReturn(false);
+		when(item.result()).thenReturn(result);
+		return item;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static MultiSearchResponseItem<PlaceDocument> failureItem() {
+		MultiSearchResponseItem<PlaceDocument> item = mock(MultiSearchResponseItem.class, RETURNS_DEEP_STUBS);
+		when(item.isFailure()).thenReturn(true);
+		when(item.failure().error().reason()).thenReturn("search_phase_execution_exception");
+		return item;
 	}
 
 	@Test
@@ -7,6 +7,7 @@ import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
 import co.elastic.clients.elasticsearch.core.search.TotalHits;
 import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.livelihoodcoupon.common.config.SearchProperties;
 import com.livelihoodcoupon.common.dto.Coordinate;
 import com.livelihoodcoupon.common.exception.BusinessException;
 import com.livelihoodcoupon.common.exception.ErrorCode;
@@ -16,6 +17,9 @@ import com.livelihoodcoupon.parkinglot.dto.ParkingLotNearbyResponse;
 import com.livelihoodcoupon.parkinglot.service.ParkingLotService;
 import com.livelihoodcoupon.search.dto.*;
 import com.livelihoodcoupon.search.entity.PlaceDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
 import kr.co.shineware.nlp.komoran.model.Token;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,9 +27,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Mono;
 
@@ -45,6 +51,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ElasticServiceTest {
 
+	private static final Komoran KOMORAN = new Komoran(DEFAULT_MODEL.FULL);
+
 	@Mock
 	private ElasticPlaceService elasticPlaceService;
 	@Mock
@@ -56,9 +64,14 @@ class ElasticServiceTest {
 	@Mock
 	private AnalyzerTest analyzerTest;
 	@Mock
-	private RedisService redisService;
+	private WordDictionary wordDictionary;
 	@Mock
 	private ParkingLotService parkingLotService;
+	@Mock
+	private ReverseGeocoder reverseGeocoder;
+	@Spy
+	private MorphemeAnalyzer morphemeAnalyzer = new MorphemeAnalyzer(KOMORAN, mock(StringRedisTemplate.class),
+		new SearchProperties(), new SimpleMeterRegistry());
 
 	@InjectMocks
 	private ElasticService elasticService;
@@ -74,7 +87,7 @@ class ElasticServiceTest {
 		req.setQuery(query);
 		req.initDefaults();
 
-		when(redisService.getWordInfo(anyString())).thenReturn("address");
+		when(wordDictionary.fieldOf(anyString())).thenReturn("address");
 		when(kakaoApiService.getCoordinatesFromAddress(anyString()))
 			.thenReturn(Mono.just(new Coordinate(37.57104033689386, 127.0019782463416)));
 
@@ -115,6 +128,8 @@ class ElasticServiceTest {
 			.extracting(PlaceSearchResponseDto::getPlaceName)
 			.containsExactly("카페1");
 		assertThat(page.getContent().get(0).getDistance()).isEqualTo(1.23);
+		verify(reverseGeocoder).reverseGeocode(anyDouble(), anyDouble());
+		verify(kakaoApiService, never()).getRegionInfo(anyDouble(), anyDouble());
 	}
 
 	@Test
@@ -167,7 +182,7 @@ class ElasticServiceTest {
 		// Given
 		String query = "서울시 강남구 카페";
 
-		when(redisService.getWordInfo(anyString())).thenReturn("address");
+		when(wordDictionary.fieldOf(anyString())).thenReturn("address");
 
 		// When
 		AnalyzedAddress analyzedAddress = elasticService.analysisChat(query);
@@ -183,7 +198,7 @@ class ElasticServiceTest {
 	void searchParkingLotsNearPlace_withQuery_success() throws IOException {
 		// given
 		// 자기 자신의 다른 메소드를 호출하는 경우, spy로 객체를 감싸서 특정 메소드의 행동만 정의한다.
-		ElasticService spiedElasticService = spy(new ElasticService(elasticPlaceService, elasticParkingLotService, searchService, kakaoApiService, analyzerTest, redisService, parkingLotService));
+		ElasticService spiedElasticService = spy(new ElasticService(elasticPlaceService, elasticParkingLotService, searchService, kakaoApiService, analyzerTest, wordDictionary, parkingLotService, reverseGeocoder, morphemeAnalyzer));
 		SearchRequestDto request = new SearchRequestDto();
 		request.setQuery("강남역");
 		request.setLat(null);
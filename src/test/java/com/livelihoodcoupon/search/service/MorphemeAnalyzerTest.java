@@ -0,0 +1,144 @@
+package com.livelihoodcoupon.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.livelihoodcoupon.common.config.SearchProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.KomoranResult;
+import kr.co.shineware.nlp.komoran.model.Token;
+
+@ExtendWith(MockitoExtension.class)
+class MorphemeAnalyzerTest {
+
+	@Mock
+	private Komoran komoran;
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private SearchProperties searchProperties;
+
+	@BeforeEach
+	void setUp() {
+		searchProperties = new SearchProperties();
+	}
+
+	@Test
+	@DisplayName("같은 검색어는 한 번만 분석하고 이후에는 캐시된 결과를 반환해야 한다")
+	void analyze_cachesResult() {
+		stubAnalysis("서울시 카페", "서울시", "카페");
+		MorphemeAnalyzer analyzer = analyzer();
+
+		List<Token> first = analyzer.analyze("서울시 카페");
+		List<Token> second = analyzer.analyze(" 서울시 카페 ");
+
+		assertThat(second).isSameAs(first).extracting(Token::getMorph).containsExactly("서울시", "카페");
+		verify(komoran, times(1)).analyze("서울시 카페");
+		assertThat(meterRegistry.get("search.analyzer.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("search.analyzer.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("search.analyzer.cache.size").gauge().value()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("캐시가 가득 차면 가장 오래 사용하지 않은 검색어부터 제거해야 한다")
+	void analyze_evictsLeastRecentlyUsed() {
+		searchProperties.getAnalyzer().setCacheSize(2);
+		stubAnalysis("카페", "카페");
+		stubAnalysis("식당", "식당");
+		stubAnalysis("약국", "약국");
+		MorphemeAnalyzer analyzer = analyzer();
+
+		analyzer.analyze("카페");
+		analyzer.analyze("식당");
+		analyzer.analyze("카페");
+		analyzer.analyze("약국"); // 식당이 제거됨
+		analyzer.analyze("카페");
+		analyzer.analyze("식당");
+
+		assertThat(analyzer.cachedCount()).isEqualTo(2);
+		verify(komoran, times(1)).analyze("카페");
+		verify(komoran, times(2)).analyze("식당");
+	}
+
+	@Test
+	@DisplayName("빈 검색어는 분석하지 않고 빈 목록을 반환해야 한다")
+	void analyze_returnsEmptyForBlankQuery() {
+		MorphemeAnalyzer analyzer = analyzer();
+
+		assertThat(analyzer.analyze(null)).isEmpty();
+		assertThat(analyzer.analyze("  ")).isEmpty();
+		verifyNoInteractions(komoran);
+	}
+
+	@Test
+	@DisplayName("시작 시 저장된 인기 검색어를 미리 분석하여 첫 요청도 캐시에서 찾아야 한다")
+	void warmUp_preAnalyzesHotQueries() {
+		searchProperties.getAnalyzer().setWarmupSize(2);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.reverseRange(MorphemeAnalyzer.HOT_QUERIES_KEY, 0, 1))
+			.thenReturn(new LinkedHashSet<>(List.of("강남구 맛집", "카페")));
+		stubAnalysis("강남구 맛집", "강남구", "맛집");
+		stubAnalysis("카페", "카페");
+		MorphemeAnalyzer analyzer = analyzer();
+
+		analyzer.warmUp();
+		analyzer.analyze("강남구 맛집");
+
+		verify(komoran, times(1)).analyze("강남구 맛집");
+		assertThat(meterRegistry.get("search.analyzer.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("종료 시 많이 조회된 검색어의 조회 수를 인기 검색어 집합에 누적해야 한다")
+	void saveHotQueries_accumulatesHitCounts() {
+		searchProperties.getAnalyzer().setWarmupSize(1);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		stubAnalysis("카페", "카페");
+		stubAnalysis("식당", "식당");
+		MorphemeAnalyzer analyzer = analyzer();
+		analyzer.analyze("카페");
+		analyzer.analyze("식당");
+		analyzer.analyze("식당");
+
+		analyzer.saveHotQueries();
+
+		verify(zSetOperations).incrementScore(MorphemeAnalyzer.HOT_QUERIES_KEY, "식당", 2);
+		verify(zSetOperations, never()).incrementScore(eq(MorphemeAnalyzer.HOT_QUERIES_KEY), eq("카페"), anyDouble());
+		verify(zSetOperations).removeRange(MorphemeAnalyzer.HOT_QUERIES_KEY, 0, -3);
+	}
+
+	private MorphemeAnalyzer analyzer() {
+		return new MorphemeAnalyzer(komoran, redisTemplate, searchProperties, meterRegistry);
+	}
+
+	private void stubAnalysis(String query, String... morphs) {
+		KomoranResult result = mock(KomoranResult.class);
+		List<Token> tokens = new ArrayList<>();
+		int begin = 0;
+		for (String morph : morphs) {
+			tokens.add(new Token(morph, "NNP", begin, begin + morph.length()));
+			begin += morph.length() + 1;
+		}
+		when(result.getTokenList()).thenReturn(tokens);
+		when(komoran.analyze(query)).thenReturn(result);
+	}
+}
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +15,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
 
 public class RedisServiceTest {
 
@@ -109,4 +115,48 @@ public class RedisServiceTest {
 		assertThat(result).isEmpty();
 		verify(hashOps, times(1)).entries(key);
 	}
+
+	@Test
+	@DisplayName("사전 교체 시 새 단어를 일괄 저장하고, 빠진 단어 삭제와 버전 기록을 한 트랜잭션으로 반영해야 한다")
+	@SuppressWarnings("unchecked")
+	void replaceDictionary_shouldBulkWriteAndSwapAtomically() {
+		// given
+		SetOperations<String, String> setOps = mock(SetOperations.class);
+		when(redisTemplate.opsForSet()).thenReturn(setOps);
+		when(setOps.members("dict:words:address")).thenReturn(Set.of("서울시", "부산시", "카페"));
+		when(hashOps.get("word:부산시", "field")).thenReturn("address");
+		when(hashOps.get("word:카페", "field")).thenReturn("category"); // 다른 사전으로 다시 분류된 단어
+
+		RedisOperations<String, String> operations = mock(RedisOperations.class);
+		HashOperations<String, Object, Object> txHashOps = mock(HashOperations.class);
+		SetOperations<String, String> txSetOps = mock(SetOperations.class);
+		ValueOperations<String, String> txValueOps = mock(ValueOperations.class);
+		when(operations.opsForHash()).thenReturn(txHashOps);
+		when(operations.opsForSet()).thenReturn(txSetOps);
+		when(operations.opsForValue()).thenReturn(txValueOps);
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenAnswer(invocation -> {
+				invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+				return List.of();
+			});
+		when(redisTemplate.execute(any(SessionCallback.class)))
+			.thenAnswer(invocation -> invocation.<SessionCallback<Object>>getArgument(0).execute(operations));
+
+		// when
+		redisService.replaceDictionary("address", List.of("서울시", "강남구"), "v2");
+
+		// then
+		Map<String, String> fields = Map.of("field", "address", "subfield", "", "parent", "");
+		verify(txHashOps).putAll("word:서울시", fields);
+		verify(txHashOps).putAll("word:강남구", fields);
+		verify(hashOps, never()).put(anyString(), anyString(), anyString());
+
+		var inOrder = inOrder(operations, txSetOps, txValueOps);
+		inOrder.verify(operations).multi();
+		inOrder.verify(operations).delete(List.of("word:부산시"));
+		inOrder.verify(txSetOps).add("dict:words:address:staging", "서울시", "강남구");
+		inOrder.verify(operations).rename("dict:words:address:staging", "dict:words:address");
+		inOrder.verify(txValueOps).set("dict:version:address", "v2");
+		inOrder.verify(operations).exec();
+	}
 }
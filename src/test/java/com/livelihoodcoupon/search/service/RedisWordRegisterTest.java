@@ -4,44 +4,35 @@ import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
 
 public class RedisWordRegisterTest {
-	@Mock
-	RedisTemplate<String, String> redisTemplate;
+
+	private static final String FILE_CONTENT = "서울시\n강남구\n\n 서울시 \n";
 
 	@Mock
 	private RedisService redisService;
 
-	@InjectMocks
-	private RedisWordRegister redisWordRegister;
-
-	@Mock
-	private HashOperations<String, String, String> hashOps;
+	private RedisWordRegister spyRegister;
 
 	@BeforeEach
-	void setUp() {
+	void setUp() throws IOException {
 		MockitoAnnotations.openMocks(this);
 
-		redisWordRegister = new RedisWordRegister(redisService);
-
-		// RedisService.getRedisTemplate() mock
-		doReturn(redisTemplate).when(redisService).getRedisTemplate();
-		doReturn(false).when(redisTemplate).hasKey(anyString());
-		doReturn(hashOps).when(redisTemplate).opsForHash();
-
-		// saveWord는 실제로 아무 동작 안 함
-		doNothing().when(redisService).saveWord(anyString(), anyString(), anyString(), anyString());
+		// ClassPathResource를 mock해서 입력 스트림 제공
+		ClassPathResource mockResource = mock(ClassPathResource.class);
+		when(mockResource.getInputStream())
+			.thenReturn(new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+		spyRegister = spy(new RedisWordRegister(redisService));
+		doReturn(mockResource).when(spyRegister).createResource(anyString());
 	}
 
 	@Test
@@ -49,23 +40,32 @@ public class RedisWordRegisterTest {
 	void fileWordRegister_shouldSaveWords_whenFileHasContent() throws IOException, IOException {
 		// given
 		String redisKey = "address";
+		when(redisService.getDictionaryVersion(redisKey)).thenReturn(null);
 
-		// ClassPathResource를 mock해서 입력 스트림 제공
-		String fileContent = "서울시\n강남구\n";
-		InputStream fakeInput = new ByteArrayInputStream(fileContent.getBytes());
+		// when
+		spyRegister.fileWordRegister(redisKey);
 
-		ClassPathResource mockResource = mock(ClassPathResource.class);
-		when(mockResource.getInputStream()).thenReturn(fakeInput);
-		RedisWordRegister spyRegister = spy(redisWordRegister);
-		doReturn(mockResource).when(spyRegister).createResource(anyString());
+		// then
+		// 중복/빈 줄을 제외한 단어를 한 번에 교체하고, 등록을 마친 뒤 사전 변경을 한 번 알림
+		String version = RedisWordRegister.versionOf(FILE_CONTENT.getBytes(StandardCharsets.UTF_8));
+		verify(redisService).replaceDictionary(redisKey, Set.of("서울시", "강남구"), version);
+		verify(redisService).publishWordsChanged();
+	}
+
+	@Test
+	@DisplayName("사전 파일이 바뀌지 않았으면 Redis에 다시 등록하지 않아야 한다")
+	void fileWordRegister_shouldSkip_whenVersionUnchanged() throws IOException {
+		// given
+		String redisKey = "address";
+		when(redisService.getDictionaryVersion(redisKey))
+			.thenReturn(RedisWordRegister.versionOf(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
 
 		// when
 		spyRegister.fileWordRegister(redisKey);
 
 		// then
-		// RedisService.saveWord가 각 단어에 대해 호출됐는지 확인
-		verify(redisService).saveWord("서울시", "address", "", "");
-		verify(redisService).saveWord("강남구", "address", "", "");
+		verify(redisService, never()).replaceDictionary(anyString(), anyCollection(), anyString());
+		verify(redisService, never()).publishWordsChanged();
 	}
 
 }
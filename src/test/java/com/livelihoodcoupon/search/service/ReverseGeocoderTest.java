@@ -0,0 +1,104 @@
+package com.livelihoodcoupon.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.livelihoodcoupon.collector.service.PreparedPolygon;
+import com.livelihoodcoupon.collector.service.RegionBoundary;
+import com.livelihoodcoupon.collector.service.RegionStore;
+import com.livelihoodcoupon.common.dto.Coord2RegionCodeResponse;
+import com.livelihoodcoupon.common.dto.RegionName;
+import com.livelihoodcoupon.common.service.KakaoApiService;
+
+@ExtendWith(MockitoExtension.class)
+class ReverseGeocoderTest {
+
+	@Mock
+	private KakaoApiService kakaoApiService;
+
+	private ReverseGeocoder reverseGeocoder;
+
+	/** (lng, lat)에서 시작하는 0.1도 크기의 정사각형 경계 */
+	private static RegionBoundary square(String code, String sidoName, String sigName, double lng, double lat) {
+		PreparedPolygon ring = PreparedPolygon.of(
+			new double[] {lng, lng + 0.1, lng + 0.1, lng, lng},
+			new double[] {lat, lat, lat + 0.1, lat + 0.1, lat});
+		return new RegionBoundary(code, sidoName, sigName, new PreparedPolygon[][] {{ring}});
+	}
+
+	@BeforeEach
+	void setUp() {
+		RegionStore regionStore = RegionStore.of(List.of(
+			square("11110", "서울특별시", "종로구", 126.9, 37.5),
+			square("42110", "강원도", "춘천시", 127.7, 37.8),
+			square("36110", "세종특별자치시", "세종특별자치시", 127.2, 36.5),
+			square("41171", "경기도", "안양시만안구", 126.9, 37.3),
+			square("41135", "경기도", "성남시 분당구", 127.1, 37.3)));
+		reverseGeocoder = new ReverseGeocoder(regionStore, kakaoApiService);
+	}
+
+	@Test
+	@DisplayName("경계 안의 좌표는 카카오 API를 호출하지 않고 시도/시군구 이름을 반환해야 한다")
+	void reverseGeocode_insideBoundary_resolvesLocally() {
+		RegionName regionName = reverseGeocoder.reverseGeocode(126.95, 37.55).orElseThrow();
+
+		assertThat(regionName.getRegion1DepthName()).isEqualTo("서울특별시");
+		assertThat(regionName.getRegion2DepthName()).isEqualTo("종로구");
+		verifyNoInteractions(kakaoApiService);
+	}
+
+	@Test
+	@DisplayName("개칭된 시도는 현재 이름으로, 시군구가 없는 시도는 빈 시군구로 반환해야 한다")
+	void reverseGeocode_normalizesSidoNames() {
+		assertThat(reverseGeocoder.reverseGeocode(127.75, 37.85)).get()
+			.extracting(RegionName::getRegion1DepthName, RegionName::getRegion2DepthName)
+			.containsExactly("강원특별자치도", "춘천시");
+		assertThat(reverseGeocoder.reverseGeocode(127.25, 36.55)).get()
+			.extracting(RegionName::getRegion1DepthName, RegionName::getRegion2DepthName)
+			.containsExactly("세종특별자치시", "");
+	}
+
+	@Test
+	@DisplayName("붙어 있는 시와 일반구 이름은 띄어 쓰고, 이미 띄어 쓴 이름은 그대로 반환해야 한다")
+	void reverseGeocode_separatesCompoundDistrictNames() {
+		assertThat(reverseGeocoder.reverseGeocode(126.95, 37.35)).get()
+			.extracting(RegionName::getRegion1DepthName, RegionName::getRegion2DepthName)
+			.containsExactly("경기도", "안양시 만안구");
+		assertThat(reverseGeocoder.reverseGeocode(127.15, 37.35)).get()
+			.extracting(RegionName::getRegion1DepthName, RegionName::getRegion2DepthName)
+			.containsExactly("경기도", "성남시 분당구");
+		verifyNoInteractions(kakaoApiService);
+	}
+
+	@Test
+	@DisplayName("경계 밖의 좌표는 카카오 API 결과를 사용해야 한다")
+	void reverseGeocode_outsideBoundary_fallsBackToKakao() {
+		Coord2RegionCodeResponse.RegionDocument document = new Coord2RegionCodeResponse.RegionDocument();
+		document.setRegion1DepthName("인천광역시");
+		document.setRegion2DepthName("옹진군");
+		Coord2RegionCodeResponse response = new Coord2RegionCodeResponse();
+		response.setDocuments(List.of(document));
+		when(kakaoApiService.getRegionInfo(125.0, 37.0)).thenReturn(response);
+
+		assertThat(reverseGeocoder.reverseGeocode(125.0, 37.0)).get()
+			.extracting(RegionName::getRegion1DepthName, RegionName::getRegion2DepthName)
+			.containsExactly("인천광역시", "옹진군");
+	}
+
+	@Test
+	@DisplayName("카카오 API도 결과가 없으면 빈 값을 반환해야 한다")
+	void reverseGeocode_noResult_returnsEmpty() {
+		when(kakaoApiService.getRegionInfo(125.0, 37.0)).thenReturn(new Coord2RegionCodeResponse());
+
+		assertThat(reverseGeocoder.reverseGeocode(125.0, 37.0)).isEmpty();
+	}
+}
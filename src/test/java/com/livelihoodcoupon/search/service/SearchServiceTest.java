@@ -19,15 +19,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import com.livelihoodcoupon.common.config.SearchProperties;
 import com.livelihoodcoupon.common.dto.Coordinate;
 import com.livelihoodcoupon.common.service.KakaoApiService;
 import com.livelihoodcoupon.place.entity.Place;
+import com.livelihoodcoupon.search.dto.AnalyzedAddress;
 import com.livelihoodcoupon.search.dto.SearchRequestDto;
 import com.livelihoodcoupon.search.dto.SearchResponseDto;
 import com.livelihoodcoupon.search.dto.SearchToken;
 import com.livelihoodcoupon.search.repository.SearchRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
 import kr.co.shineware.nlp.komoran.model.Token;
 import reactor.core.publisher.Mono;
 
@@ -35,8 +41,10 @@ import reactor.core.publisher.Mono;
 @ExtendWith(MockitoExtension.class)
 class SearchServiceTest {
 
+	private static final Komoran KOMORAN = new Komoran(DEFAULT_MODEL.FULL);
+
 	@Mock
-	private RedisService redisService;
+	private WordDictionary wordDictionary;
 
 	@Mock
 	private SearchRepository searchRepository;
@@ -52,7 +60,10 @@ class SearchServiceTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		searchService = new SearchService(redisService, searchRepository, kakaoApiService, queryService);
+		MorphemeAnalyzer morphemeAnalyzer = new MorphemeAnalyzer(KOMORAN, mock(StringRedisTemplate.class),
+			new SearchProperties(), new SimpleMeterRegistry());
+		searchService = new SearchService(wordDictionary, searchRepository, kakaoApiService, queryService,
+			morphemeAnalyzer);
 	}
 
 	@Test
@@ -79,7 +90,7 @@ class SearchServiceTest {
 			new Token("카페", "NNG", 8, 10));
 		mockTokens.add(searchToken3);
 
-		when(redisService.getWordInfo(anyString())).thenReturn("address");  // Mock Redis 서비스
+		when(wordDictionary.fieldOf(anyString())).thenReturn("address");  // Mock 단어 사전
 
 		// KakaoMapService mock
 		when(kakaoApiService.getCoordinatesFromAddress(anyString()))
@@ -129,15 +140,39 @@ class SearchServiceTest {
 		// Given
 		String query = "서울시 강남구 카페";
 
-		when(redisService.getWordInfo(anyString())).thenReturn("address");
+		when(wordDictionary.fieldOf(anyString())).thenReturn("address");
 
 		// When
-		List<SearchToken> tokens = searchService.analysisChat(query);
+		AnalyzedAddress analyzedAddress = searchService.analysisChat(query);
+		List<SearchToken> tokens = analyzedAddress.getResultList();
 
 		// Then
 		assertNotNull(tokens);
 		assertEquals(3, tokens.size());
 		assertTrue(tokens.stream().anyMatch(token -> "address".equals(token.getFieldName())));
+		assertEquals("서울시 강남구 카페", analyzedAddress.getFullAddress());
+	}
+
+	@Test
+	@DisplayName("주소가 없는 검색어는 이전 요청의 주소로 좌표를 검색하지 않아야 한다")
+	void testSearch_doesNotReusePreviousAddress() {
+		// Given: 앞선 요청에서 주소가 있는 검색어를 분석
+		when(wordDictionary.fieldOf(anyString())).thenReturn("");
+		when(wordDictionary.fieldOf("서울시")).thenReturn("address");
+		assertEquals("서울시", searchService.analysisChat("서울시 카페").getFullAddress());
+
+		SearchRequestDto req = new SearchRequestDto();
+		req.setQuery("카페");
+		req.initDefaults();
+		Specification<Place> spec = mock(Specification.class);
+		when(queryService.buildDynamicSpec(anyList(), any())).thenReturn(spec);
+		when(searchRepository.findAll(eq(spec), any(Pageable.class))).thenReturn(Page.empty());
+
+		// When
+		searchService.search(req, 10, 10);
+
+		// Then
+		verify(kakaoApiService, never()).getCoordinatesFromAddress(anyString());
 	}
 
 	@Test
@@ -146,7 +181,7 @@ class SearchServiceTest {
 		// Given
 		String morph = "서울시";
 		String pos = "NNP";
-		when(redisService.getWordInfo(morph)).thenReturn("address");
+		when(wordDictionary.fieldOf(morph)).thenReturn("address");
 
 		// When
 		String result = searchService.isAddress(morph, pos);
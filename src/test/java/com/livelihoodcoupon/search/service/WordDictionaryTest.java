@@ -0,0 +1,89 @@
+package com.livelihoodcoupon.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class WordDictionaryTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+	@Mock
+	private Cursor<String> cursor;
+
+	private WordDictionary wordDictionary;
+
+	@BeforeEach
+	void setUp() {
+		wordDictionary = new WordDictionary(redisTemplate, listenerContainer);
+	}
+
+	@Test
+	@DisplayName("Redis의 단어 해시를 한 번에 읽어 메모리에서 분류를 조회해야 한다")
+	void reload_loadsWordsIntoMemory() {
+		stubWords(List.of("word:강남구", "word:카페", "word:빈단어"),
+			List.of(Map.of("field", "address", "subfield", "구", "parent", "서울"), Map.of("field", "category"),
+				Map.of()));
+
+		wordDictionary.reload();
+
+		assertThat(wordDictionary.size()).isEqualTo(2);
+		assertThat(wordDictionary.fieldOf("강남구")).isEqualTo("address");
+		assertThat(wordDictionary.get("강남구").getParent()).isEqualTo("서울");
+		assertThat(wordDictionary.fieldOf("카페")).isEqualTo("category");
+		assertThat(wordDictionary.fieldOf("빈단어")).isEmpty();
+		assertThat(wordDictionary.fieldOf("없는단어")).isEmpty();
+		assertThat(wordDictionary.fieldOf(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("변경 알림을 받으면 사전을 다시 읽고, 읽기에 실패하면 기존 사전을 유지해야 한다")
+	void changeNotification_reloadsAndKeepsPreviousOnFailure() {
+		wordDictionary.subscribe();
+		ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+		verify(listenerContainer).addMessageListener(listener.capture(),
+			eq(new ChannelTopic(RedisService.WORDS_CHANGED_CHANNEL)));
+
+		stubWords(List.of("word:종로구"), List.of(Map.of("field", "address")));
+		listener.getValue().onMessage(null, null);
+		assertThat(wordDictionary.fieldOf("종로구")).isEqualTo("address");
+
+		when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+		listener.getValue().onMessage(null, null);
+		assertThat(wordDictionary.fieldOf("종로구")).isEqualTo("address");
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubWords(List<String> keys, List<Map<String, String>> hashes) {
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+		Boolean[] more = new Boolean[keys.size()];
+		for (int i = 0; i < keys.size(); i++) {
+			more[i] = i + 1 < keys.size();
+		}
+		when(cursor.hasNext()).thenReturn(!keys.isEmpty(), more);
+		when(cursor.next()).thenReturn(keys.get(0), keys.subList(1, keys.size()).toArray(new String[0]));
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.copyOf(hashes));
+	}
+}